@@ -78,6 +78,16 @@ public interface EnvCommonOptions {
                     .withDescription(
                             "The each parallelism bytes limit per second for read data from source.");
 
+    Option<Integer> METRICS_BYTES_SAMPLE_INTERVAL =
+            Options.key("metrics.bytes_sample_interval")
+                    .intType()
+                    .defaultValue(1)
+                    .withDescription(
+                            "Measure the size of every n-th row read from source or written to"
+                                    + " sink only, the bytes metrics of the rows in between are"
+                                    + " extrapolated from the last measured row. 1 measures every"
+                                    + " row.");
+
     Option<Long> CHECKPOINT_TIMEOUT =
             Options.key("checkpoint.timeout")
                     .longType()
@@ -33,6 +33,7 @@ public class EnvOptionRule {
                         EnvCommonOptions.CHECKPOINT_TIMEOUT,
                         EnvCommonOptions.READ_LIMIT_ROW_PER_SECOND,
                         EnvCommonOptions.READ_LIMIT_BYTES_PER_SECOND,
+                        EnvCommonOptions.METRICS_BYTES_SAMPLE_INTERVAL,
                         EnvCommonOptions.SAVEMODE_EXECUTE_LOCATION,
                         EnvCommonOptions.CUSTOM_PARAMETERS)
                 .build();
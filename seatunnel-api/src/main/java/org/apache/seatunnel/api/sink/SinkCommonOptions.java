@@ -29,4 +29,13 @@ public class SinkCommonOptions {
                     .intType()
                     .defaultValue(1)
                     .withDescription("The replica number of multi table sink writer");
+
+    @Experimental
+    public static Option<Boolean> MULTI_TABLE_SINK_VIRTUAL_THREADS =
+            Options.key("multi_table_sink_virtual_threads")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether to run the threads of multi table sink writer on virtual"
+                                    + " threads, only takes effect on JDK 21 or later");
 }
@@ -49,10 +49,13 @@ public class MultiTableSink
 
     @Getter private final Map<String, SeaTunnelSink> sinks;
     private final int replicaNum;
+    private final boolean virtualThreads;
 
     public MultiTableSink(MultiTableFactoryContext context) {
         this.sinks = context.getSinks();
         this.replicaNum = context.getOptions().get(SinkCommonOptions.MULTI_TABLE_SINK_REPLICA);
+        this.virtualThreads =
+                context.getOptions().get(SinkCommonOptions.MULTI_TABLE_SINK_VIRTUAL_THREADS);
     }
 
     @Override
@@ -75,7 +78,7 @@ public class MultiTableSink
                 sinkWritersContext.put(SinkIdentifier.of(tableIdentifier, index), context);
             }
         }
-        return new MultiTableSinkWriter(writers, replicaNum, sinkWritersContext);
+        return new MultiTableSinkWriter(writers, replicaNum, sinkWritersContext, virtualThreads);
     }
 
     @Override
@@ -109,7 +112,7 @@ public class MultiTableSink
                 sinkWritersContext.put(SinkIdentifier.of(tableIdentifier, index), context);
             }
         }
-        return new MultiTableSinkWriter(writers, replicaNum, sinkWritersContext);
+        return new MultiTableSinkWriter(writers, replicaNum, sinkWritersContext, virtualThreads);
     }
 
     @Override
@@ -24,6 +24,7 @@ import org.apache.seatunnel.api.sink.event.WriterCloseEvent;
 import org.apache.seatunnel.api.table.event.SchemaChangeEvent;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.api.tracing.MDCTracer;
+import org.apache.seatunnel.common.utils.VirtualThreads;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -33,56 +34,52 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.Random;
-import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
-import java.util.concurrent.LinkedBlockingQueue;
-import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
 @Slf4j
 public class MultiTableSinkWriter
         implements SinkWriter<SeaTunnelRow, MultiTableCommitInfo, MultiTableState> {
 
+    private static final int QUEUE_CAPACITY = 1024;
+
+    /**
+     * The number of consecutive rows of a table without primary key routed to the same queue, so
+     * that the sink writer of the queue receives them as one batch.
+     */
+    private static final int STICKY_ROWS = 1024;
+
     private final Map<SinkIdentifier, SinkWriter<SeaTunnelRow, ?, ?>> sinkWriters;
     private final Map<SinkIdentifier, SinkWriter.Context> sinkWritersContext;
     private final Map<String, Optional<Integer>> sinkPrimaryKeys = new HashMap<>();
     private final List<Map<SinkIdentifier, SinkWriter<SeaTunnelRow, ?, ?>>> sinkWritersWithIndex;
     private final List<MultiTableWriterRunnable> runnable = new ArrayList<>();
-    private final Random random = new Random();
-    private final List<BlockingQueue<SeaTunnelRow>> blockingQueues = new ArrayList<>();
+    private final Map<String, StickyRoute> stickyRoutes = new HashMap<>();
     private final ExecutorService executorService;
     private MultiTableResourceManager resourceManager;
     private volatile boolean submitted = false;
+    private int nextStickyQueue = 0;
 
     public MultiTableSinkWriter(
             Map<SinkIdentifier, SinkWriter<SeaTunnelRow, ?, ?>> sinkWriters,
             int queueSize,
             Map<SinkIdentifier, SinkWriter.Context> sinkWritersContext) {
+        this(sinkWriters, queueSize, sinkWritersContext, false);
+    }
+
+    public MultiTableSinkWriter(
+            Map<SinkIdentifier, SinkWriter<SeaTunnelRow, ?, ?>> sinkWriters,
+            int queueSize,
+            Map<SinkIdentifier, SinkWriter.Context> sinkWritersContext,
+            boolean virtualThreads) {
         this.sinkWriters = sinkWriters;
         this.sinkWritersContext = sinkWritersContext;
-        AtomicInteger cnt = new AtomicInteger(0);
-        executorService =
-                MDCTracer.tracing(
-                        Executors.newFixedThreadPool(
-                                // we use it in `MultiTableWriterRunnable` and `prepare commit
-                                // task`, so it
-                                // should be double.
-                                queueSize * 2,
-                                runnable -> {
-                                    Thread thread = new Thread(runnable);
-                                    thread.setDaemon(true);
-                                    thread.setName(
-                                            "st-multi-table-sink-writer"
-                                                    + "-"
-                                                    + cnt.incrementAndGet());
-                                    return thread;
-                                }));
+        executorService = MDCTracer.tracing(newExecutorService(queueSize, virtualThreads));
         sinkWritersWithIndex = new ArrayList<>();
         for (int i = 0; i < queueSize; i++) {
-            BlockingQueue<SeaTunnelRow> queue = new LinkedBlockingQueue<>(1024);
             Map<String, SinkWriter<SeaTunnelRow, ?, ?>> tableIdWriterMap = new HashMap<>();
             Map<SinkIdentifier, SinkWriter<SeaTunnelRow, ?, ?>> sinkIdentifierMap = new HashMap<>();
             int queueIndex = i;
@@ -96,14 +93,42 @@ public class MultiTableSinkWriter
                             });
 
             sinkWritersWithIndex.add(sinkIdentifierMap);
-            blockingQueues.add(queue);
-            MultiTableWriterRunnable r = new MultiTableWriterRunnable(tableIdWriterMap, queue);
+            MultiTableWriterRunnable r =
+                    new MultiTableWriterRunnable(
+                            tableIdWriterMap, new ArrayBlockingQueue<>(QUEUE_CAPACITY));
             runnable.add(r);
         }
         log.info("init multi table sink writer, queue size: {}", queueSize);
         initResourceManager(queueSize);
     }
 
+    private static ExecutorService newExecutorService(int queueSize, boolean virtualThreads) {
+        if (virtualThreads) {
+            // at most one `MultiTableWriterRunnable` and one `prepare commit task` run per queue,
+            // so the virtual threads need no bound
+            Optional<ExecutorService> virtualThreadExecutor =
+                    VirtualThreads.newThreadPerTaskExecutor("st-multi-table-sink-writer-virtual-");
+            if (virtualThreadExecutor.isPresent()) {
+                return virtualThreadExecutor.get();
+            }
+            log.warn(
+                    "Virtual threads are not supported by java {}, use platform threads",
+                    System.getProperty("java.version"));
+        }
+        // we use it in `MultiTableWriterRunnable` and `prepare commit task`, so it should be
+        // double.
+        int threads = queueSize * 2;
+        AtomicInteger cnt = new AtomicInteger(0);
+        return Executors.newFixedThreadPool(
+                threads,
+                runnable -> {
+                    Thread thread = new Thread(runnable);
+                    thread.setDaemon(true);
+                    thread.setName("st-multi-table-sink-writer" + "-" + cnt.incrementAndGet());
+                    return thread;
+                });
+    }
+
     private void initResourceManager(int queueSize) {
         for (SinkIdentifier tableIdentifier : sinkWriters.keySet()) {
             SinkWriter<SeaTunnelRow, ?, ?> sink = sinkWriters.get(tableIdentifier);
@@ -160,33 +185,47 @@ public class MultiTableSinkWriter
         }
         subSinkErrorCheck();
         Optional<Integer> primaryKey = sinkPrimaryKeys.get(element.getTableId());
+        int index;
+        if ((primaryKey == null && sinkPrimaryKeys.size() == 1)
+                || (primaryKey != null && !primaryKey.isPresent())) {
+            index = nextStickyQueue(element.getTableId());
+        } else if (primaryKey == null) {
+            throw new RuntimeException(
+                    "multi table sink can not write table: " + element.getTableId());
+        } else {
+            // the rows with the same key must be written by the same queue to keep their order
+            Object object = element.getField(primaryKey.get());
+            index = object == null ? 0 : Math.floorMod(object.hashCode(), runnable.size());
+        }
         try {
-            if ((primaryKey == null && sinkPrimaryKeys.size() == 1)
-                    || (primaryKey != null && !primaryKey.isPresent())) {
-                int index = random.nextInt(blockingQueues.size());
-                BlockingQueue<SeaTunnelRow> queue = blockingQueues.get(index);
-                while (!queue.offer(element, 500, TimeUnit.MILLISECONDS)) {
-                    subSinkErrorCheck();
-                }
-            } else if (primaryKey == null) {
-                throw new RuntimeException(
-                        "multi table sink can not write table: " + element.getTableId());
-            } else {
-                Object object = element.getField(primaryKey.get());
-                int index = 0;
-                if (object != null) {
-                    index = Math.abs(object.hashCode()) % blockingQueues.size();
-                }
-                BlockingQueue<SeaTunnelRow> queue = blockingQueues.get(index);
-                while (!queue.offer(element, 500, TimeUnit.MILLISECONDS)) {
-                    subSinkErrorCheck();
-                }
+            MultiTableWriterRunnable writerRunnable = runnable.get(index);
+            while (!writerRunnable.offer(element, 500)) {
+                subSinkErrorCheck();
             }
         } catch (InterruptedException e) {
             throw new IOException(e);
         }
     }
 
+    /**
+     * Routes the rows of a table without primary key to the same queue for {@link #STICKY_ROWS}
+     * rows, then moves on to the next queue. The tables start from different queues.
+     */
+    private int nextStickyQueue(String tableId) {
+        StickyRoute route = stickyRoutes.get(tableId);
+        if (route == null) {
+            route = new StickyRoute(nextStickyQueue);
+            nextStickyQueue = (nextStickyQueue + 1) % runnable.size();
+            stickyRoutes.put(tableId, route);
+        }
+        if (route.remainingRows == 0) {
+            route.queueIndex = (route.queueIndex + 1) % runnable.size();
+            route.remainingRows = STICKY_ROWS;
+        }
+        route.remainingRows--;
+        return route.queueIndex;
+    }
+
     @Override
     public List<MultiTableState> snapshotState(long checkpointId) throws IOException {
         checkQueueRemain();
@@ -322,14 +361,22 @@ public class MultiTableSinkWriter
 
     private void checkQueueRemain() {
         try {
-            for (BlockingQueue<SeaTunnelRow> blockingQueue : blockingQueues) {
-                while (!blockingQueue.isEmpty()) {
-                    Thread.sleep(100);
-                    subSinkErrorCheck();
-                }
+            for (MultiTableWriterRunnable writerRunnable : runnable) {
+                // wakes up as soon as the rows handed to the runnable are written or it fails
+                writerRunnable.awaitDrained();
+                subSinkErrorCheck();
             }
         } catch (InterruptedException e) {
             throw new RuntimeException(e);
         }
     }
+
+    private static class StickyRoute {
+        private int queueIndex;
+        private int remainingRows = STICKY_ROWS;
+
+        private StickyRoute(int queueIndex) {
+            this.queueIndex = queueIndex;
+        }
+    }
 }
@@ -22,15 +22,24 @@ import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 @Slf4j
 public class MultiTableWriterRunnable implements Runnable {
 
+    /** The max number of rows taken from the queue and written under one lock. */
+    private static final int MAX_BATCH_SIZE = 1024;
+
     private final Map<String, SinkWriter<SeaTunnelRow, ?, ?>> tableIdWriterMap;
     private final BlockingQueue<SeaTunnelRow> queue;
+    // rows handed to this runnable but not written yet, including the rows of the current batch
+    private final AtomicLong pendingRows = new AtomicLong();
+    private final Object drainLock = new Object();
     private volatile Throwable throwable;
 
     public MultiTableWriterRunnable(
@@ -42,36 +51,76 @@ public class MultiTableWriterRunnable implements Runnable {
 
     @Override
     public void run() {
-        while (true) {
-            try {
-                SeaTunnelRow row = queue.poll(100, TimeUnit.MILLISECONDS);
-                if (row == null) {
-                    continue;
-                }
-                SinkWriter<SeaTunnelRow, ?, ?> writer = tableIdWriterMap.get(row.getTableId());
-                if (writer == null) {
-                    if (tableIdWriterMap.size() == 1) {
-                        writer = tableIdWriterMap.values().stream().findFirst().get();
-                    } else {
-                        throw new RuntimeException(
-                                "MultiTableWriterRunnable can't find writer for tableId: "
-                                        + row.getTableId());
+        List<SeaTunnelRow> batch = new ArrayList<>(MAX_BATCH_SIZE);
+        try {
+            while (true) {
+                batch.add(queue.take());
+                queue.drainTo(batch, MAX_BATCH_SIZE - 1);
+                synchronized (this) {
+                    for (SeaTunnelRow row : batch) {
+                        getWriter(row).write(row);
                     }
                 }
-                synchronized (this) {
-                    writer.write(row);
+                if (pendingRows.addAndGet(-batch.size()) == 0) {
+                    signalDrained();
                 }
-            } catch (InterruptedException e) {
-                // When the job finished, the thread will be interrupted, so we ignore this
-                // exception.
-                throwable = e;
-                break;
-            } catch (Throwable e) {
-                log.error("MultiTableWriterRunnable error", e);
-                throwable = e;
-                break;
+                batch.clear();
+            }
+        } catch (InterruptedException e) {
+            // When the job finished, the thread will be interrupted, so we ignore this
+            // exception.
+            throwable = e;
+        } catch (Throwable e) {
+            log.error("MultiTableWriterRunnable error", e);
+            throwable = e;
+        } finally {
+            signalDrained();
+        }
+    }
+
+    private SinkWriter<SeaTunnelRow, ?, ?> getWriter(SeaTunnelRow row) {
+        SinkWriter<SeaTunnelRow, ?, ?> writer = tableIdWriterMap.get(row.getTableId());
+        if (writer == null) {
+            if (tableIdWriterMap.size() == 1) {
+                writer = tableIdWriterMap.values().stream().findFirst().get();
+            } else {
+                throw new RuntimeException(
+                        "MultiTableWriterRunnable can't find writer for tableId: "
+                                + row.getTableId());
             }
         }
+        return writer;
+    }
+
+    /** Hands a row to this runnable, blocks until the queue has room or the timeout elapses. */
+    public boolean offer(SeaTunnelRow row, long timeoutMillis) throws InterruptedException {
+        pendingRows.incrementAndGet();
+        boolean offered = false;
+        try {
+            offered = queue.offer(row, timeoutMillis, TimeUnit.MILLISECONDS);
+            return offered;
+        } finally {
+            if (!offered && pendingRows.decrementAndGet() == 0) {
+                signalDrained();
+            }
+        }
+    }
+
+    /**
+     * Waits until all the rows handed to this runnable are written, or this runnable is failed.
+     */
+    public void awaitDrained() throws InterruptedException {
+        synchronized (drainLock) {
+            while (pendingRows.get() > 0 && throwable == null) {
+                drainLock.wait();
+            }
+        }
+    }
+
+    private void signalDrained() {
+        synchronized (drainLock) {
+            drainLock.notifyAll();
+        }
     }
 
     public Throwable getThrowable() {
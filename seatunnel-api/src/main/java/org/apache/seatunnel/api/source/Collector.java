@@ -19,6 +19,8 @@ package org.apache.seatunnel.api.source;
 
 import org.apache.seatunnel.api.table.event.SchemaChangeEvent;
 
+import java.util.List;
+
 /**
  * A {@link Collector} is used to collect data from {@link SourceReader}.
  *
@@ -28,6 +30,18 @@ public interface Collector<T> {
 
     void collect(T record);
 
+    /**
+     * Collects a batch of records at once. The engine emits the whole batch under a single
+     * acquisition of the checkpoint lock, so no checkpoint barrier is placed inside the batch.
+     *
+     * @param records records to collect, in order.
+     */
+    default void collectBatch(List<T> records) {
+        for (T record : records) {
+            collect(record);
+        }
+    }
+
     default void markSchemaChangeBeforeCheckpoint() {}
 
     default void collect(SchemaChangeEvent event) {}
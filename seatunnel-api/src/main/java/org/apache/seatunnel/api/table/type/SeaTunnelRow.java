@@ -110,6 +110,14 @@ public final class SeaTunnelRow implements Serializable {
         return size;
     }
 
+    /** Same as {@link #getBytesSize(SeaTunnelRowType)}, with the type dispatch done up front. */
+    public int getBytesSize(SeaTunnelRowSizeEstimator estimator) {
+        if (size == 0) {
+            size = estimator.estimate(this);
+        }
+        return size;
+    }
+
     /** faster version of {@link #getBytesSize(SeaTunnelRowType)}. */
     private int getBytesForValue(Object v, SeaTunnelDataType<?> dataType) {
         if (v == null) {
@@ -0,0 +1,201 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.api.table.type;
+
+import java.nio.ByteBuffer;
+import java.util.Map;
+
+/**
+ * Estimates the size in bytes of rows of one {@link SeaTunnelRowType}, with the same result as
+ * {@link SeaTunnelRow#getBytesSize(SeaTunnelRowType)}. The type dispatch is resolved once when the
+ * estimator is built: fixed width fields only cost a null check, variable width fields call a
+ * sizer specialized for their type.
+ */
+public final class SeaTunnelRowSizeEstimator {
+    private static final int VARIABLE_WIDTH = -1;
+
+    /** Width of every fixed width field, {@link #VARIABLE_WIDTH} for the other fields. */
+    private final int[] fixedWidths;
+
+    /** Sizer of every variable width field, null for the other fields. */
+    private final FieldSizer[] sizers;
+
+    private SeaTunnelRowSizeEstimator(SeaTunnelRowType rowType) {
+        SeaTunnelDataType<?>[] fieldTypes = rowType.getFieldTypes();
+        this.fixedWidths = new int[fieldTypes.length];
+        this.sizers = new FieldSizer[fieldTypes.length];
+        for (int i = 0; i < fieldTypes.length; i++) {
+            int width = fixedWidth(fieldTypes[i]);
+            fixedWidths[i] = width;
+            if (width == VARIABLE_WIDTH) {
+                sizers[i] = sizer(fieldTypes[i]);
+            }
+        }
+    }
+
+    public static SeaTunnelRowSizeEstimator of(SeaTunnelRowType rowType) {
+        return new SeaTunnelRowSizeEstimator(rowType);
+    }
+
+    public int estimate(SeaTunnelRow row) {
+        Object[] fields = row.getFields();
+        int size = 0;
+        for (int i = 0; i < fields.length; i++) {
+            Object value = fields[i];
+            if (value != null) {
+                int width = fixedWidths[i];
+                size += width == VARIABLE_WIDTH ? sizers[i].size(value) : width;
+            }
+        }
+        return size;
+    }
+
+    private static int fixedWidth(SeaTunnelDataType<?> dataType) {
+        switch (dataType.getSqlType()) {
+            case NULL:
+                return 0;
+            case BOOLEAN:
+            case TINYINT:
+                return 1;
+            case SMALLINT:
+                return 2;
+            case INT:
+            case FLOAT:
+                return 4;
+            case BIGINT:
+            case DOUBLE:
+                return 8;
+            case TIME:
+                return 12;
+            case DATE:
+                return 24;
+            case DECIMAL:
+                return 36;
+            case TIMESTAMP:
+                return 48;
+            default:
+                return VARIABLE_WIDTH;
+        }
+    }
+
+    private static FieldSizer sizer(SeaTunnelDataType<?> dataType) {
+        SqlType sqlType = dataType.getSqlType();
+        switch (sqlType) {
+            case STRING:
+                return value -> ((String) value).length();
+            case BYTES:
+                return value -> ((byte[]) value).length;
+            case FLOAT_VECTOR:
+            case FLOAT16_VECTOR:
+            case BFLOAT16_VECTOR:
+            case BINARY_VECTOR:
+                return value -> ((ByteBuffer) value).capacity();
+            case SPARSE_FLOAT_VECTOR:
+                return value -> ((Map<?, ?>) value).size() * 8;
+            case ARRAY:
+                return arraySizer(((ArrayType<?, ?>) dataType).getElementType());
+            case MAP:
+                MapType<?, ?> mapType = (MapType<?, ?>) dataType;
+                FieldSizer keySizer = nullableSizer(mapType.getKeyType());
+                FieldSizer valueSizer = nullableSizer(mapType.getValueType());
+                return value -> {
+                    int size = 0;
+                    for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                        size += keySizer.size(entry.getKey()) + valueSizer.size(entry.getValue());
+                    }
+                    return size;
+                };
+            case ROW:
+                SeaTunnelRowSizeEstimator nested = of((SeaTunnelRowType) dataType);
+                return value -> nested.estimate((SeaTunnelRow) value);
+            default:
+                return value -> {
+                    throw new UnsupportedOperationException("Unsupported type: " + sqlType);
+                };
+        }
+    }
+
+    private static FieldSizer nullableSizer(SeaTunnelDataType<?> dataType) {
+        int width = fixedWidth(dataType);
+        if (width != VARIABLE_WIDTH) {
+            return value -> value == null ? 0 : width;
+        }
+        FieldSizer sizer = sizer(dataType);
+        return value -> value == null ? 0 : sizer.size(value);
+    }
+
+    private static FieldSizer arraySizer(SeaTunnelDataType<?> elementType) {
+        if (elementType instanceof DecimalType) {
+            return value -> ((Object[]) value).length * 36;
+        }
+        if (elementType instanceof LocalTimeType) {
+            SqlType elementSqlType = elementType.getSqlType();
+            switch (elementSqlType) {
+                case DATE:
+                    return value -> ((Object[]) value).length * 24;
+                case TIME:
+                    return value -> ((Object[]) value).length * 12;
+                case TIMESTAMP:
+                    return value -> ((Object[]) value).length * 48;
+                default:
+                    return value -> {
+                        throw new UnsupportedOperationException(
+                                "Unsupported type in LocalTimeArrayType: " + elementSqlType);
+                    };
+            }
+        }
+        switch (elementType.getSqlType()) {
+            case STRING:
+                return value -> {
+                    int size = 0;
+                    for (Object element : (Object[]) value) {
+                        size += element == null ? 0 : ((String) element).length();
+                    }
+                    return size;
+                };
+            case BOOLEAN:
+            case TINYINT:
+                return value -> notNullCount((Object[]) value);
+            case SMALLINT:
+                return value -> notNullCount((Object[]) value) * 2;
+            case INT:
+            case FLOAT:
+                return value -> notNullCount((Object[]) value) * 4;
+            case BIGINT:
+            case DOUBLE:
+                return value -> notNullCount((Object[]) value) * 8;
+            default:
+                return value -> 0;
+        }
+    }
+
+    private static int notNullCount(Object[] values) {
+        int count = 0;
+        for (Object value : values) {
+            if (value != null) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @FunctionalInterface
+    private interface FieldSizer {
+        int size(Object value);
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.api.transform;
+
+import java.util.List;
+
+/**
+ * The transforms which can process a batch of rows at once should implement this interface, the
+ * engine then hands them the rows between two barriers in one call.
+ */
+public interface SupportVectorizedTransform<T> {
+
+    /** Whether the batch path is enabled for this transform instance. */
+    default boolean isVectorized() {
+        return true;
+    }
+
+    /**
+     * Transform a batch of rows in order, the rows filtered out by the transform are not part of
+     * the result.
+     *
+     * @param rows the data need be transformed.
+     * @return transformed data.
+     */
+    List<T> mapBatch(List<T> rows);
+}
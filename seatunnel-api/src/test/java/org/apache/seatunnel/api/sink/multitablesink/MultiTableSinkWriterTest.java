@@ -0,0 +1,203 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.seatunnel.api.sink.multitablesink;
+
+import org.apache.seatunnel.api.common.metrics.MetricsContext;
+import org.apache.seatunnel.api.event.EventListener;
+import org.apache.seatunnel.api.sink.SinkWriter;
+import org.apache.seatunnel.api.sink.SupportMultiTableSinkWriter;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+public class MultiTableSinkWriterTest {
+
+    @Test
+    public void testStickyRoutingOfTableWithoutPrimaryKey() throws IOException {
+        Map<SinkIdentifier, RecordingWriter> writers = createWriters("t", 2, null, 0);
+        MultiTableSinkWriter multiTableSinkWriter = createMultiTableSinkWriter(writers, 2);
+        try {
+            for (int i = 0; i < 2048; i++) {
+                multiTableSinkWriter.write(row("t", i));
+            }
+            multiTableSinkWriter.prepareCommit();
+
+            List<Object> ids = ids(writers.get(SinkIdentifier.of("t", 0)).rows);
+            Assertions.assertEquals(1024, ids.size());
+            for (int i = 0; i < 1024; i++) {
+                Assertions.assertEquals(i, ids.get(i));
+            }
+            Assertions.assertEquals(1024, writers.get(SinkIdentifier.of("t", 1)).rows.size());
+        } finally {
+            multiTableSinkWriter.close();
+        }
+    }
+
+    @Test
+    public void testRoutingByPrimaryKey() throws IOException {
+        Map<SinkIdentifier, RecordingWriter> writers = createWriters("t", 3, 1, 0);
+        MultiTableSinkWriter multiTableSinkWriter = createMultiTableSinkWriter(writers, 3);
+        try {
+            for (int i = 0; i < 3000; i++) {
+                multiTableSinkWriter.write(row("t", i, i % 10 - 5));
+            }
+            multiTableSinkWriter.prepareCommit();
+
+            Map<Object, RecordingWriter> keyWriters = new HashMap<>();
+            int total = 0;
+            for (RecordingWriter writer : writers.values()) {
+                int previousId = -1;
+                for (SeaTunnelRow row : writer.rows) {
+                    // the rows of the same key are written by one writer in order
+                    Assertions.assertSame(
+                            writer, keyWriters.computeIfAbsent(row.getField(1), k -> writer));
+                    Assertions.assertTrue((int) row.getField(0) > previousId);
+                    previousId = (int) row.getField(0);
+                }
+                total += writer.rows.size();
+            }
+            Assertions.assertEquals(3000, total);
+        } finally {
+            multiTableSinkWriter.close();
+        }
+    }
+
+    @Test
+    public void testSnapshotStateAfterRowsWritten() throws IOException {
+        Map<SinkIdentifier, RecordingWriter> writers = createWriters("t", 2, null, 1);
+        MultiTableSinkWriter multiTableSinkWriter = createMultiTableSinkWriter(writers, 2);
+        try {
+            for (int i = 0; i < 100; i++) {
+                multiTableSinkWriter.write(row("t", i));
+            }
+            multiTableSinkWriter.snapshotState(1);
+
+            int total = 0;
+            for (RecordingWriter writer : writers.values()) {
+                total += writer.rows.size();
+            }
+            Assertions.assertEquals(100, total);
+        } finally {
+            multiTableSinkWriter.close();
+        }
+    }
+
+    private static Map<SinkIdentifier, RecordingWriter> createWriters(
+            String tableId, int queueSize, Integer primaryKey, long writeDelayMillis) {
+        Map<SinkIdentifier, RecordingWriter> writers = new HashMap<>();
+        for (int i = 0; i < queueSize; i++) {
+            writers.put(
+                    SinkIdentifier.of(tableId, i),
+                    new RecordingWriter(Optional.ofNullable(primaryKey), writeDelayMillis));
+        }
+        return writers;
+    }
+
+    private static MultiTableSinkWriter createMultiTableSinkWriter(
+            Map<SinkIdentifier, RecordingWriter> writers, int queueSize) {
+        Map<SinkIdentifier, SinkWriter<SeaTunnelRow, ?, ?>> sinkWriters = new HashMap<>(writers);
+        Map<SinkIdentifier, SinkWriter.Context> contexts = new HashMap<>();
+        for (SinkIdentifier identifier : writers.keySet()) {
+            contexts.put(identifier, new TestContext());
+        }
+        return new MultiTableSinkWriter(sinkWriters, queueSize, contexts);
+    }
+
+    private static SeaTunnelRow row(String tableId, Object... fields) {
+        SeaTunnelRow row = new SeaTunnelRow(fields);
+        row.setTableId(tableId);
+        return row;
+    }
+
+    private static List<Object> ids(List<SeaTunnelRow> rows) {
+        List<Object> ids = new ArrayList<>();
+        for (SeaTunnelRow row : rows) {
+            ids.add(row.getField(0));
+        }
+        return ids;
+    }
+
+    private static class RecordingWriter
+            implements SinkWriter<SeaTunnelRow, Void, Void>, SupportMultiTableSinkWriter<Void> {
+
+        private final List<SeaTunnelRow> rows = Collections.synchronizedList(new ArrayList<>());
+        private final Optional<Integer> primaryKey;
+        private final long writeDelayMillis;
+
+        private RecordingWriter(Optional<Integer> primaryKey, long writeDelayMillis) {
+            this.primaryKey = primaryKey;
+            this.writeDelayMillis = writeDelayMillis;
+        }
+
+        @Override
+        public void write(SeaTunnelRow element) throws IOException {
+            if (writeDelayMillis > 0) {
+                try {
+                    Thread.sleep(writeDelayMillis);
+                } catch (InterruptedException e) {
+                    throw new IOException(e);
+                }
+            }
+            rows.add(element);
+        }
+
+        @Override
+        public Optional<Integer> primaryKey() {
+            return primaryKey;
+        }
+
+        @Override
+        public Optional<Void> prepareCommit() {
+            return Optional.empty();
+        }
+
+        @Override
+        public void abortPrepare() {}
+
+        @Override
+        public void close() {}
+    }
+
+    private static class TestContext implements SinkWriter.Context {
+
+        @Override
+        public int getIndexOfSubtask() {
+            return 0;
+        }
+
+        @Override
+        public MetricsContext getMetricsContext() {
+            return null;
+        }
+
+        @Override
+        public EventListener getEventListener() {
+            return event -> {};
+        }
+    }
+}
@@ -115,6 +115,11 @@ public class SeaTunnelRowTest {
 
         Assertions.assertEquals(249, row2.getBytesSize(rowType));
         Assertions.assertEquals(249, row2.getBytesSize());
+
+        SeaTunnelRowSizeEstimator estimator = SeaTunnelRowSizeEstimator.of(rowType);
+        Assertions.assertEquals(249, estimator.estimate(row));
+        Assertions.assertEquals(249, estimator.estimate(row2));
+        Assertions.assertEquals(0, estimator.estimate(new SeaTunnelRow(13)));
     }
 
     @Test
@@ -0,0 +1,163 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.task.group.queue;
+
+import org.apache.seatunnel.api.table.type.Record;
+import org.apache.seatunnel.api.transform.Collector;
+import org.apache.seatunnel.engine.common.config.server.QueueType;
+import org.apache.seatunnel.engine.server.execution.TaskGroupLocation;
+import org.apache.seatunnel.engine.server.task.flow.IntermediateQueueFlowLifeCycle;
+import org.apache.seatunnel.engine.server.task.group.AbstractTaskGroupWithIntermediateQueue;
+import org.apache.seatunnel.engine.server.task.group.TaskGroupWithIntermediateBlockingQueue;
+import org.apache.seatunnel.engine.server.task.group.TaskGroupWithIntermediateDisruptor;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Compares the intermediate queues of a task group: the throughput of a burst of records and the
+ * latency of a single record handed from a producer to an otherwise idle consumer.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class IntermediateQueueBenchmark {
+
+    private static final int BURST_SIZE = 10_000;
+
+    @Param({"BLOCKINGQUEUE", "DISRUPTOR", "RINGBUFFER"})
+    private QueueType queueType;
+
+    private final Record<?> record = new Record<>("record");
+
+    private final AtomicLong consumed = new AtomicLong();
+
+    private AbstractIntermediateQueue<?> producer;
+
+    private AbstractIntermediateQueue<?> consumer;
+
+    private Thread consumerThread;
+
+    private volatile boolean running;
+
+    @Setup
+    public void setup() {
+        TaskGroupLocation location = new TaskGroupLocation(1L, 1, 1L);
+        AbstractTaskGroupWithIntermediateQueue taskGroup =
+                queueType == QueueType.DISRUPTOR
+                        ? new TaskGroupWithIntermediateDisruptor(
+                                location, "benchmark", Collections.emptyList())
+                        : new TaskGroupWithIntermediateBlockingQueue(
+                                location, "benchmark", Collections.emptyList(), queueType);
+        taskGroup.init();
+        producer = taskGroup.getQueueCache(1L);
+        consumer = taskGroup.getQueueCache(1L);
+        new IntermediateQueueFlowLifeCycle<>(null, new CompletableFuture<>(), producer);
+        new IntermediateQueueFlowLifeCycle<>(null, new CompletableFuture<>(), consumer);
+
+        Collector<Record<?>> collector =
+                new Collector<Record<?>>() {
+                    @Override
+                    public void collect(Record<?> record) {
+                        consumed.incrementAndGet();
+                    }
+
+                    @Override
+                    public void close() {}
+                };
+        running = true;
+        consumerThread =
+                new Thread(
+                        () -> {
+                            try {
+                                while (running) {
+                                    consumer.collect(collector);
+                                }
+                            } catch (InterruptedException e) {
+                                Thread.currentThread().interrupt();
+                            } catch (Exception e) {
+                                throw new RuntimeException(e);
+                            }
+                        },
+                        "intermediate-queue-consumer");
+        consumerThread.setDaemon(true);
+        consumerThread.start();
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        running = false;
+        consumerThread.interrupt();
+        consumerThread.join(TimeUnit.SECONDS.toMillis(1));
+        consumer.close();
+    }
+
+    @Benchmark
+    public long burst() {
+        long target = consumed.get() + BURST_SIZE;
+        for (int i = 0; i < BURST_SIZE; i++) {
+            producer.received(record);
+        }
+        return awaitConsumed(target);
+    }
+
+    @Benchmark
+    public long singleRecord() {
+        long target = consumed.get() + 1;
+        producer.received(record);
+        return awaitConsumed(target);
+    }
+
+    private long awaitConsumed(long target) {
+        long current;
+        while ((current = consumed.get()) < target) {
+            Thread.yield();
+        }
+        return current;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options =
+                new OptionsBuilder()
+                        .include(IntermediateQueueBenchmark.class.getSimpleName())
+                        .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.common.utils;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Access to the virtual threads of JDK 21+ for code compiled against Java 8. All JDK 21 APIs are
+ * looked up by reflection, callers fall back to platform threads when {@link #isSupported()} is
+ * false.
+ *
+ * <p>The first virtual thread executor also starts a JFR stream of {@code
+ * jdk.VirtualThreadPinned} events, so the number and the total time of virtual threads pinned to
+ * their carrier thread can be reported as metrics.
+ */
+@Slf4j
+public final class VirtualThreads {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    private static final Duration PINNED_THRESHOLD = Duration.ofMillis(20);
+
+    private static final Method OF_VIRTUAL;
+
+    private static final Method BUILDER_NAME;
+
+    private static final Method BUILDER_FACTORY;
+
+    private static final Method NEW_THREAD_PER_TASK_EXECUTOR;
+
+    private static final LongAdder PINNED_COUNT = new LongAdder();
+
+    private static final LongAdder PINNED_NANOS = new LongAdder();
+
+    private static final AtomicBoolean PINNED_MONITOR_STARTED = new AtomicBoolean();
+
+    static {
+        Method ofVirtual = null;
+        Method builderName = null;
+        Method builderFactory = null;
+        Method newThreadPerTaskExecutor = null;
+        try {
+            ofVirtual = Thread.class.getMethod("ofVirtual");
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            builderName = builderClass.getMethod("name", String.class, long.class);
+            builderFactory = builderClass.getMethod("factory");
+            newThreadPerTaskExecutor =
+                    Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+        } catch (ReflectiveOperationException e) {
+            ofVirtual = null;
+        }
+        OF_VIRTUAL = ofVirtual;
+        BUILDER_NAME = builderName;
+        BUILDER_FACTORY = builderFactory;
+        NEW_THREAD_PER_TASK_EXECUTOR = newThreadPerTaskExecutor;
+    }
+
+    private VirtualThreads() {}
+
+    /** Whether the running JDK supports virtual threads. */
+    public static boolean isSupported() {
+        return OF_VIRTUAL != null;
+    }
+
+    /**
+     * Create a factory of virtual threads named {@code namePrefix} followed by a sequence number.
+     *
+     * @return the factory, or empty if the running JDK doesn't support virtual threads
+     */
+    public static Optional<ThreadFactory> newThreadFactory(String namePrefix) {
+        if (!isSupported()) {
+            return Optional.empty();
+        }
+        try {
+            Object builder = BUILDER_NAME.invoke(OF_VIRTUAL.invoke(null), namePrefix, 0L);
+            return Optional.of((ThreadFactory) BUILDER_FACTORY.invoke(builder));
+        } catch (ReflectiveOperationException e) {
+            log.warn("Create virtual thread factory failed, fall back to platform threads", e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Create an executor that starts a new virtual thread for each task.
+     *
+     * @return the executor, or empty if the running JDK doesn't support virtual threads
+     */
+    public static Optional<ExecutorService> newThreadPerTaskExecutor(String namePrefix) {
+        Optional<ThreadFactory> threadFactory = newThreadFactory(namePrefix);
+        if (!threadFactory.isPresent()) {
+            return Optional.empty();
+        }
+        try {
+            ExecutorService executor =
+                    (ExecutorService)
+                            NEW_THREAD_PER_TASK_EXECUTOR.invoke(null, threadFactory.get());
+            startPinnedMonitor();
+            return Optional.of(executor);
+        } catch (ReflectiveOperationException e) {
+            log.warn("Create virtual thread executor failed, fall back to platform threads", e);
+            return Optional.empty();
+        }
+    }
+
+    /** The number of times a virtual thread was pinned longer than 20ms. */
+    public static long getPinnedCount() {
+        return PINNED_COUNT.sum();
+    }
+
+    /** The total time in milliseconds virtual threads were pinned longer than 20ms. */
+    public static long getPinnedMillis() {
+        return PINNED_NANOS.sum() / 1_000_000;
+    }
+
+    private static void startPinnedMonitor() {
+        if (!PINNED_MONITOR_STARTED.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            Class<?> streamClass = Class.forName("jdk.jfr.consumer.RecordingStream");
+            Class<?> settingsClass = Class.forName("jdk.jfr.EventSettings");
+            Method getDuration =
+                    Class.forName("jdk.jfr.consumer.RecordedEvent").getMethod("getDuration");
+            Object stream = streamClass.getConstructor().newInstance();
+            Object settings =
+                    streamClass.getMethod("enable", String.class).invoke(stream, PINNED_EVENT);
+            settingsClass
+                    .getMethod("withThreshold", Duration.class)
+                    .invoke(settings, PINNED_THRESHOLD);
+            Consumer<Object> onPinned =
+                    event -> {
+                        PINNED_COUNT.increment();
+                        try {
+                            PINNED_NANOS.add(((Duration) getDuration.invoke(event)).toNanos());
+                        } catch (ReflectiveOperationException e) {
+                            // only the count is known then
+                        }
+                    };
+            streamClass
+                    .getMethod("onEvent", String.class, Consumer.class)
+                    .invoke(stream, PINNED_EVENT, onPinned);
+            streamClass.getMethod("startAsync").invoke(stream);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            log.warn("Start monitor of pinned virtual threads failed, no pinning metrics", e);
+        }
+    }
+}
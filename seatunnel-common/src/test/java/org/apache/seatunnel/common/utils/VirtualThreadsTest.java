@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.common.utils;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+public class VirtualThreadsTest {
+
+    @Test
+    public void testFallbackMatchesJdkSupport() {
+        boolean supported = isVirtualThreadJdk();
+        Assertions.assertEquals(supported, VirtualThreads.isSupported());
+        Assertions.assertEquals(supported, VirtualThreads.newThreadFactory("test-").isPresent());
+    }
+
+    @Test
+    public void testRunTaskOnVirtualThread() throws Exception {
+        Optional<ExecutorService> executor = VirtualThreads.newThreadPerTaskExecutor("test-");
+        if (!executor.isPresent()) {
+            Assertions.assertFalse(VirtualThreads.isSupported());
+            return;
+        }
+        try {
+            String name = executor.get().submit(() -> Thread.currentThread().getName()).get();
+            Assertions.assertTrue(name.startsWith("test-"));
+        } finally {
+            executor.get().shutdown();
+            executor.get().awaitTermination(10, TimeUnit.SECONDS);
+        }
+        Assertions.assertTrue(VirtualThreads.getPinnedCount() >= 0);
+    }
+
+    @Test
+    public void testThreadFactoryNamesThreads() {
+        Optional<ThreadFactory> threadFactory = VirtualThreads.newThreadFactory("writer-");
+        threadFactory.ifPresent(
+                factory -> {
+                    Thread thread = factory.newThread(() -> {});
+                    Assertions.assertEquals("writer-0", thread.getName());
+                });
+    }
+
+    private static boolean isVirtualThreadJdk() {
+        try {
+            Thread.class.getMethod("ofVirtual");
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+}
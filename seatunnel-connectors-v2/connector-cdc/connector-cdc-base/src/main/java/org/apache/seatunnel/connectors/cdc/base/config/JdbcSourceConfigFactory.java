@@ -57,6 +57,8 @@ public abstract class JdbcSourceConfigFactory implements SourceConfig.Factory<Jd
     protected int connectMaxRetries = JdbcSourceOptions.CONNECT_MAX_RETRIES.defaultValue();
     protected int connectionPoolSize = JdbcSourceOptions.CONNECTION_POOL_SIZE.defaultValue();
     @Setter protected boolean exactlyOnce = JdbcSourceOptions.EXACTLY_ONCE.defaultValue();
+    protected long snapshotBufferMemorySize =
+            SourceOptions.SNAPSHOT_BUFFER_MEMORY_SIZE_MB.defaultValue() * 1024L * 1024L;
     protected Properties dbzProperties;
 
     /** String hostname of the database server. */
@@ -180,6 +182,15 @@ public abstract class JdbcSourceConfigFactory implements SourceConfig.Factory<Jd
         return this;
     }
 
+    /**
+     * The memory budget in bytes of a snapshot split buffered for exactly-once reading, the
+     * records over the budget are spilled to local disk.
+     */
+    public JdbcSourceConfigFactory snapshotBufferMemorySize(long snapshotBufferMemorySize) {
+        this.snapshotBufferMemorySize = snapshotBufferMemorySize;
+        return this;
+    }
+
     /**
      * The maximum time that the connector should wait after trying to connect to the database
      * server before timing out.
@@ -245,6 +256,8 @@ public abstract class JdbcSourceConfigFactory implements SourceConfig.Factory<Jd
         this.connectMaxRetries = config.get(JdbcSourceOptions.CONNECT_MAX_RETRIES);
         this.connectionPoolSize = config.get(JdbcSourceOptions.CONNECTION_POOL_SIZE);
         this.exactlyOnce = config.get(JdbcSourceOptions.EXACTLY_ONCE);
+        this.snapshotBufferMemorySize =
+                config.get(SourceOptions.SNAPSHOT_BUFFER_MEMORY_SIZE_MB) * 1024L * 1024L;
         this.dbzProperties = new Properties();
         config.getOptional(SourceOptions.DEBEZIUM_PROPERTIES)
                 .ifPresent(map -> dbzProperties.putAll(map));
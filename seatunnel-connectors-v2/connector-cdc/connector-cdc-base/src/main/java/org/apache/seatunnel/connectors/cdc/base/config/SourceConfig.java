@@ -30,6 +30,9 @@ public interface SourceConfig extends Serializable {
 
     boolean isExactlyOnce();
 
+    /** The memory budget in bytes of a snapshot split buffered for exactly-once reading. */
+    long getSnapshotBufferMemorySize();
+
     /** Factory for the {@code SourceConfig}. */
     @FunctionalInterface
     interface Factory<C extends SourceConfig> extends Serializable {
@@ -155,4 +155,14 @@ public class JdbcSourceOptions extends SourceOptions {
                                     + "       \"primaryKeys\": [\"key1\",\"key2\"]"
                                     + "   }"
                                     + "]");
+
+    public static final Option<Boolean> SKIP_UPDATE_BEFORE =
+            Options.key("skip-update-before")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether to skip the UPDATE_BEFORE rows of update events, "
+                                    + "only the UPDATE_AFTER rows are emitted. "
+                                    + "Enable it when the sink writes rows by primary key (upsert) "
+                                    + "and doesn't need the rows before update.");
 }
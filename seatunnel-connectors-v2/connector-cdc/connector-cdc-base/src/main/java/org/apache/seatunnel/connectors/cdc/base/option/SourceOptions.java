@@ -44,6 +44,13 @@ public class SourceOptions {
                     .withDescription(
                             "The maximum fetch size for per poll when read table snapshot.");
 
+    public static final Option<Integer> SNAPSHOT_BUFFER_MEMORY_SIZE_MB =
+            Options.key("snapshot.buffer.memory.size.mb")
+                    .intType()
+                    .defaultValue(64)
+                    .withDescription(
+                            "The memory budget (in MB) used to buffer the records of a snapshot split when exactly_once is enabled, records over the budget are spilled to local disk.");
+
     public static final Option<Long> STARTUP_TIMESTAMP =
             Options.key("startup.timestamp")
                     .longType()
@@ -111,7 +118,7 @@ public class SourceOptions {
     public static OptionRule.Builder getBaseRule() {
         return OptionRule.builder()
                 .optional(FORMAT)
-                .optional(SNAPSHOT_SPLIT_SIZE, SNAPSHOT_FETCH_SIZE)
+                .optional(SNAPSHOT_SPLIT_SIZE, SNAPSHOT_FETCH_SIZE, SNAPSHOT_BUFFER_MEMORY_SIZE_MB)
                 .optional(INCREMENTAL_PARALLELISM)
                 .optional(DEBEZIUM_PROPERTIES);
     }
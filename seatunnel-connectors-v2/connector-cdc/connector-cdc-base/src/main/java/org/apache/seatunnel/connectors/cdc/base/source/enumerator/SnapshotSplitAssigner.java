@@ -30,6 +30,7 @@ import org.apache.seatunnel.connectors.cdc.base.source.split.SourceSplitBase;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import io.debezium.relational.TableId;
 
 import java.util.ArrayList;
@@ -38,13 +39,17 @@ import java.util.Collections;
 import java.util.Deque;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Queue;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 
 import static org.apache.seatunnel.shade.com.google.common.base.Preconditions.checkArgument;
@@ -53,6 +58,11 @@ import static org.apache.seatunnel.shade.com.google.common.base.Preconditions.ch
 public class SnapshotSplitAssigner<C extends SourceConfig> implements SplitAssigner {
     private static final Logger LOG = LoggerFactory.getLogger(SnapshotSplitAssigner.class);
 
+    /** The max number of tables split concurrently ahead of the readers. */
+    private static final int MAX_SPLITTING_TABLES = 4;
+
+    private static final int MAX_SPLIT_ATTEMPTS = 3;
+
     private final SplitAssigner.Context<C> context;
 
     private final C sourceConfig;
@@ -68,6 +78,13 @@ public class SnapshotSplitAssigner<C extends SourceConfig> implements SplitAssig
     private ChunkSplitter chunkSplitter;
     private boolean isTableIdCaseSensitive;
 
+    // tables taken from remainingTables which are being split, kept in the checkpoint as remaining
+    // tables until their splits are added to remainingSplits
+    private final Set<TableId> splittingTables = new LinkedHashSet<>();
+    private final int maxSplittingTables;
+    private ExecutorService splittingExecutor;
+    private volatile Throwable splittingException;
+
     private Long checkpointIdToFinish;
     private final DataSourceDialect<C> dialect;
 
@@ -134,6 +151,7 @@ public class SnapshotSplitAssigner<C extends SourceConfig> implements SplitAssig
         this.isRemainingTablesCheckpointed = isRemainingTablesCheckpointed;
         this.isTableIdCaseSensitive = isTableIdCaseSensitive;
         this.dialect = dialect;
+        this.maxSplittingTables = Math.max(1, Math.min(currentParallelism, MAX_SPLITTING_TABLES));
 
         LOG.info("SnapshotSplitAssigner created with remaining tables: {}", this.remainingTables);
         LOG.info(
@@ -149,6 +167,13 @@ public class SnapshotSplitAssigner<C extends SourceConfig> implements SplitAssig
     @Override
     public void open() {
         chunkSplitter = dialect.createChunkSplitter(sourceConfig);
+        splittingExecutor =
+                Executors.newFixedThreadPool(
+                        maxSplittingTables,
+                        new ThreadFactoryBuilder()
+                                .setNameFormat("snapshot-split-assigner-%d")
+                                .setDaemon(true)
+                                .build());
 
         // the legacy state didn't snapshot remaining tables, discovery remaining table here
         if (!isRemainingTablesCheckpointed && !assignerCompleted) {
@@ -165,10 +190,23 @@ public class SnapshotSplitAssigner<C extends SourceConfig> implements SplitAssig
     }
 
     @Override
-    public Optional<SourceSplitBase> getNext() {
+    public synchronized Optional<SourceSplitBase> getNext() {
         if (chunkSplitter == null) {
             return Optional.empty();
         }
+        // keep the next tables splitting while the readers consume the current splits
+        splitRemainingTables();
+        while (remainingSplits.isEmpty() && !splittingTables.isEmpty()) {
+            checkSplittingException();
+            try {
+                // woken up as soon as any splitting table has its splits ready
+                wait();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException("Interrupted while waiting for tables to be split", e);
+            }
+        }
+        checkSplittingException();
         if (!remainingSplits.isEmpty()) {
             // return remaining splits firstly
             Iterator<SnapshotSplit> iterator = remainingSplits.iterator();
@@ -179,19 +217,54 @@ public class SnapshotSplitAssigner<C extends SourceConfig> implements SplitAssig
             context.getAssignedSnapshotSplit().put(split.splitId(), split);
             return Optional.of(split);
         } else {
-            // it's turn for new table
+            return Optional.empty();
+        }
+    }
+
+    /** Submits the remaining tables to be split into chunks, up to the splitting bound. */
+    private void splitRemainingTables() {
+        while (splittingTables.size() < maxSplittingTables && !remainingTables.isEmpty()) {
             TableId nextTable = remainingTables.pollFirst();
-            if (nextTable != null) {
+            splittingTables.add(nextTable);
+            splittingExecutor.execute(() -> splitTable(nextTable));
+        }
+    }
+
+    private void splitTable(TableId tableId) {
+        Collection<SnapshotSplit> splits = null;
+        Throwable failure = null;
+        for (int attempt = 1; splits == null && failure == null; attempt++) {
+            try {
                 // split the given table into chunks (snapshot splits)
-                // 针对每个表生成 分片器， 每个表都要生成， 这里只是生成好分片器  还没有开始读取？
-                Collection<SnapshotSplit> splits = chunkSplitter.generateSplits(nextTable);
-                //准备好的 分割器， 并把已经生成了分割器的表加入到集合中。
+                splits = chunkSplitter.generateSplits(tableId);
+            } catch (Throwable e) {
+                if (attempt >= MAX_SPLIT_ATTEMPTS || Thread.currentThread().isInterrupted()) {
+                    failure = e;
+                } else {
+                    LOG.warn(
+                            "Failed to split table {} at attempt {}, retry it.",
+                            tableId,
+                            attempt,
+                            e);
+                }
+            }
+        }
+        synchronized (this) {
+            if (splits != null) {
+                // the splits are assignable as soon as the table is split
                 remainingSplits.addAll(splits);
-                alreadyProcessedTables.add(nextTable);
-                return getNext();
+                alreadyProcessedTables.add(tableId);
+                splittingTables.remove(tableId);
             } else {
-                return Optional.empty();
+                splittingException = failure;
             }
+            notifyAll();
+        }
+    }
+
+    private void checkSplittingException() {
+        if (splittingException != null) {
+            throw new RuntimeException("Failed to split tables into chunks", splittingException);
         }
     }
 
@@ -219,7 +292,7 @@ public class SnapshotSplitAssigner<C extends SourceConfig> implements SplitAssig
     }
 
     @Override
-    public void addSplits(Collection<SourceSplitBase> splits) {
+    public synchronized void addSplits(Collection<SourceSplitBase> splits) {
         for (SourceSplitBase split : splits) {
             remainingSplits.add(split.asSnapshotSplit());
             // we should remove the add-backed splits from the assigned list, because they are
@@ -227,10 +300,14 @@ public class SnapshotSplitAssigner<C extends SourceConfig> implements SplitAssig
             assignedSplits.remove(split.splitId());
             splitCompletedOffsets.remove(split.splitId());
         }
+        notifyAll();
     }
 
     @Override
-    public SnapshotPhaseState snapshotState(long checkpointId) {
+    public synchronized SnapshotPhaseState snapshotState(long checkpointId) {
+        // the tables being split are restored as remaining tables and split again
+        List<TableId> unsplitTables = new ArrayList<>(splittingTables);
+        unsplitTables.addAll(remainingTables);
         SnapshotPhaseState state =
                 new SnapshotPhaseState(
                         alreadyProcessedTables,
@@ -240,9 +317,7 @@ public class SnapshotSplitAssigner<C extends SourceConfig> implements SplitAssig
                         assignedSplits,
                         splitCompletedOffsets,
                         assignerCompleted,
-                        remainingTables.isEmpty()
-                                ? new ArrayList<>()
-                                : new ArrayList<>(remainingTables),
+                        unsplitTables,
                         isTableIdCaseSensitive,
                         true);
         // we need a complete checkpoint before mark this assigner to be completed, to wait for all
@@ -264,8 +339,8 @@ public class SnapshotSplitAssigner<C extends SourceConfig> implements SplitAssig
     }
 
     /** Indicates there is no more splits available in this assigner. */
-    public boolean noMoreSplits() {
-        return remainingTables.isEmpty() && remainingSplits.isEmpty();
+    public synchronized boolean noMoreSplits() {
+        return remainingTables.isEmpty() && splittingTables.isEmpty() && remainingSplits.isEmpty();
     }
 
     /**
@@ -276,6 +351,13 @@ public class SnapshotSplitAssigner<C extends SourceConfig> implements SplitAssig
         return assignerCompleted;
     }
 
+    @Override
+    public void close() {
+        if (splittingExecutor != null) {
+            splittingExecutor.shutdownNow();
+        }
+    }
+
     // -------------------------------------------------------------------------------------------
 
     /**
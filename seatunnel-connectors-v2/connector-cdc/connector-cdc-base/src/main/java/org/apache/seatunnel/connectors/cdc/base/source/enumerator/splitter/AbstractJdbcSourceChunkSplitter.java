@@ -36,7 +36,9 @@ import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -49,6 +51,21 @@ public abstract class AbstractJdbcSourceChunkSplitter implements JdbcSourceChunk
     private final JdbcSourceConfig sourceConfig;
     private final JdbcDataSourceDialect dialect;
 
+    // the statistics of at most this many tables are cached, the least recently used are dropped
+    private static final int MAX_CACHED_TABLE_STATISTICS = 128;
+
+    // statistics queried to split a table, kept for the lifetime of the splitter so that a
+    // retried or repeated split doesn't need to scan the table again
+    private final Map<TableId, TableStatistics> tableStatistics =
+            Collections.synchronizedMap(
+                    new LinkedHashMap<TableId, TableStatistics>(16, 0.75f, true) {
+                        @Override
+                        protected boolean removeEldestEntry(
+                                Map.Entry<TableId, TableStatistics> eldest) {
+                            return size() > MAX_CACHED_TABLE_STATISTICS;
+                        }
+                    });
+
     public AbstractJdbcSourceChunkSplitter(
             JdbcSourceConfig sourceConfig, JdbcDataSourceDialect dialect) {
         this.sourceConfig = sourceConfig;
@@ -117,7 +134,12 @@ public abstract class AbstractJdbcSourceChunkSplitter implements JdbcSourceChunk
     private List<ChunkRange> splitTableIntoChunks(
             JdbcConnection jdbc, TableId tableId, Column splitColumn) throws Exception {
         final String splitColumnName = splitColumn.name();
-        final Object[] minMax = queryMinMax(jdbc, tableId, splitColumn);
+        final TableStatistics statistics =
+                tableStatistics.computeIfAbsent(tableId, id -> new TableStatistics());
+        if (statistics.minMax == null) {
+            statistics.minMax = queryMinMax(jdbc, tableId, splitColumn);
+        }
+        final Object[] minMax = statistics.minMax;
         final Object min = minMax[0];
         final Object max = minMax[1];
         if (min == null || max == null || min.equals(max)) {
@@ -144,7 +166,10 @@ public abstract class AbstractJdbcSourceChunkSplitter implements JdbcSourceChunk
         //zhoulj 根据分片键获取最大小值， 生成chunk 集合
         if (isEvenlySplitColumn(splitColumn)) {
             //zhoulj 获取数据表中总数据行数（预估值）
-            long approximateRowCnt = queryApproximateRowCnt(jdbc, tableId);
+            if (statistics.approximateRowCnt == null) {
+                statistics.approximateRowCnt = queryApproximateRowCnt(jdbc, tableId);
+            }
+            long approximateRowCnt = statistics.approximateRowCnt;
             double distributionFactor =
                     calculateDistributionFactor(tableId, min, max, approximateRowCnt);
 
@@ -178,8 +203,12 @@ public abstract class AbstractJdbcSourceChunkSplitter implements JdbcSourceChunk
                             "Use sampling sharding for table {}, the sampling rate is {}",
                             tableId,
                             inverseSamplingRate);
-                    Object[] sample =
-                            sampleDataFromColumn(jdbc, tableId, splitColumn, inverseSamplingRate);
+                    if (statistics.sample == null) {
+                        statistics.sample =
+                                sampleDataFromColumn(
+                                        jdbc, tableId, splitColumn, inverseSamplingRate);
+                    }
+                    Object[] sample = statistics.sample;
                     log.info(
                             "Sample data from table {} end, the sample size is {}",
                             tableId,
@@ -387,7 +416,7 @@ public abstract class AbstractJdbcSourceChunkSplitter implements JdbcSourceChunk
         if (primaryKey.isPresent()) {
             List<String> pkColumns = primaryKey.get().getColumnNames();
             // 有设置主键的情况下   只支持数字或字符串格式的主键进行分片处理
-            Table table = dialect.queryTableSchema(jdbc, tableId).getTable();
+            Table table = queryTable(jdbc, dialect, tableId);
             for (String pkColumn : pkColumns) {
                 Column column = table.columnWithName(pkColumn);
                 if (isEvenlySplitColumn(column)) {
@@ -403,7 +432,7 @@ public abstract class AbstractJdbcSourceChunkSplitter implements JdbcSourceChunk
         // 获取唯一键，
         List<ConstraintKey> uniqueKeys = dialect.getUniqueKeys(jdbc, tableId);
         if (!uniqueKeys.isEmpty()) {
-            Table table = dialect.queryTableSchema(jdbc, tableId).getTable();
+            Table table = queryTable(jdbc, dialect, tableId);
             for (ConstraintKey uniqueKey : uniqueKeys) {
                 List<ConstraintKey.ConstraintKeyColumn> uniqueKeyColumns =
                         uniqueKey.getColumnNames();
@@ -428,6 +457,14 @@ public abstract class AbstractJdbcSourceChunkSplitter implements JdbcSourceChunk
         return null;
     }
 
+    private static Table queryTable(
+            JdbcConnection jdbc, JdbcDataSourceDialect dialect, TableId tableId) {
+        // tables are split concurrently, but the schema cache of the dialect isn't thread safe
+        synchronized (dialect) {
+            return dialect.queryTableSchema(jdbc, tableId).getTable();
+        }
+    }
+
     protected String splitId(TableId tableId, int chunkId) {
         return tableId.toString() + ":" + chunkId;
     }
@@ -477,4 +514,11 @@ public abstract class AbstractJdbcSourceChunkSplitter implements JdbcSourceChunk
         }
         return then;
     }
+
+    /** The statistics of a table used to split it into chunks. */
+    private static class TableStatistics {
+        private volatile Object[] minMax;
+        private volatile Long approximateRowCnt;
+        private volatile Object[] sample;
+    }
 }
@@ -128,7 +128,11 @@ public class IncrementalSourceSplitReader<C extends SourceConfig>
                 if (currentFetcher == null) {
                     final FetchTask.Context taskContext =
                             dataSourceDialect.createFetchTaskContext(nextSplit, sourceConfig);
-                    currentFetcher = new IncrementalSourceScanFetcher(taskContext, subtaskId);
+                    currentFetcher =
+                            new IncrementalSourceScanFetcher(
+                                    taskContext,
+                                    subtaskId,
+                                    sourceConfig.getSnapshotBufferMemorySize());
                 }
             } else {
                 // point from snapshot split to incremental split
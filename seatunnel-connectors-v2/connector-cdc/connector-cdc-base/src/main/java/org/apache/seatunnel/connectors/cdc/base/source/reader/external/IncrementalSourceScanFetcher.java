@@ -30,11 +30,13 @@ import io.debezium.connector.base.ChangeEventQueue;
 import io.debezium.pipeline.DataChangeEvent;
 import lombok.extern.slf4j.Slf4j;
 
+import java.io.File;
 import java.util.ArrayList;
 import java.util.Iterator;
-import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadFactory;
@@ -64,10 +66,18 @@ public class IncrementalSourceScanFetcher implements Fetcher<SourceRecords, Sour
     private FetchTask<SourceSplitBase> snapshotSplitReadTask;
     private SnapshotSplit currentSnapshotSplit;
 
+    // the memory budget of the exactly-once output buffer before it spills to local disk
+    private final long outputBufferMemorySize;
+    // output buffers which are not yet fully consumed by the reader
+    private final Set<SnapshotRecordBuffer> outputBuffers = ConcurrentHashMap.newKeySet();
+
     private static final long READER_CLOSE_TIMEOUT_SECONDS = 30L;
+    private static final int NORMALIZED_RECORDS_BATCH_SIZE = 1024;
 
-    public IncrementalSourceScanFetcher(FetchTask.Context taskContext, int subtaskId) {
+    public IncrementalSourceScanFetcher(
+            FetchTask.Context taskContext, int subtaskId, long outputBufferMemorySize) {
         this.taskContext = taskContext;
+        this.outputBufferMemorySize = outputBufferMemorySize;
         ThreadFactory threadFactory =
                 new ThreadFactoryBuilder()
                         .setNameFormat("debezium-snapshot-reader-" + subtaskId)
@@ -153,52 +163,55 @@ public class IncrementalSourceScanFetcher implements Fetcher<SourceRecords, Sour
         boolean reachChangeLogEnd = false;
         SourceRecord lowWatermark = null;
         SourceRecord highWatermark = null;
-        Map<Struct, SourceRecord> outputBuffer = new LinkedHashMap<>();
-        while (!reachChangeLogEnd) {
-            checkReadException();
-            List<DataChangeEvent> batch = queue.poll();
-            for (DataChangeEvent event : batch) {
-                SourceRecord record = event.getRecord();
-                if (lowWatermark == null) {
-                    lowWatermark = record;
-                    assertLowWatermark(lowWatermark);
-                    continue;
-                }
+        SnapshotRecordBuffer outputBuffer =
+                new SnapshotRecordBuffer(
+                        outputBufferMemorySize, new File(System.getProperty("java.io.tmpdir")));
+        outputBuffers.add(outputBuffer);
+        try {
+            while (!reachChangeLogEnd) {
+                checkReadException();
+                List<DataChangeEvent> batch = queue.poll();
+                for (DataChangeEvent event : batch) {
+                    SourceRecord record = event.getRecord();
+                    if (lowWatermark == null) {
+                        lowWatermark = record;
+                        assertLowWatermark(lowWatermark);
+                        continue;
+                    }
 
-                if (highWatermark == null && isHighWatermarkEvent(record)) {
-                    highWatermark = record;
-                    // begin to capture binlog events
-                    reachChangeLogStart = true;
-                    continue;
-                }
+                    if (highWatermark == null && isHighWatermarkEvent(record)) {
+                        highWatermark = record;
+                        // begin to capture binlog events
+                        reachChangeLogStart = true;
+                        continue;
+                    }
 
-                if (reachChangeLogStart && isEndWatermarkEvent(record)) {
-                    // capture to end watermark events, stop the loop
-                    reachChangeLogEnd = true;
-                    break;
-                }
+                    if (reachChangeLogStart && isEndWatermarkEvent(record)) {
+                        // capture to end watermark events, stop the loop
+                        reachChangeLogEnd = true;
+                        break;
+                    }
 
-                if (!reachChangeLogStart) {
-                    outputBuffer.put((Struct) record.key(), record);
-                } else {
-                    if (isChangeRecordInChunkRange(record)) {
-                        // rewrite overlapping snapshot records through the record key
-                        taskContext.rewriteOutputBuffer(outputBuffer, record);
+                    if (!reachChangeLogStart) {
+                        outputBuffer.put((Struct) record.key(), record);
+                    } else {
+                        if (isChangeRecordInChunkRange(record)) {
+                            // rewrite overlapping snapshot records through the record key
+                            taskContext.rewriteOutputBuffer(outputBuffer, record);
+                        }
                     }
                 }
             }
+        } catch (InterruptedException | RuntimeException e) {
+            closeOutputBuffer(outputBuffer);
+            throw e;
         }
         // snapshot split return its data once
         hasNextElement.set(false);
 
-        final List<SourceRecord> normalizedRecords = new ArrayList<>();
-        normalizedRecords.add(lowWatermark);
-        normalizedRecords.addAll(taskContext.formatMessageTimestamp(outputBuffer.values()));
-        normalizedRecords.add(highWatermark);
-
-        final List<SourceRecords> sourceRecordsSet = new ArrayList<>();
-        sourceRecordsSet.add(new SourceRecords(normalizedRecords));
-        return sourceRecordsSet.iterator();
+        // the normalized records are read back lazily while the reader emits them, so a spilled
+        // output buffer is never materialized on heap as a whole
+        return new NormalizedRecordsIterator(lowWatermark, outputBuffer, highWatermark);
     }
 
     private void assertLowWatermark(SourceRecord lowWatermark) {
@@ -228,6 +241,9 @@ public class IncrementalSourceScanFetcher implements Fetcher<SourceRecords, Sour
             if (snapshotSplitReadTask != null) {
                 snapshotSplitReadTask.shutdown();
             }
+            for (SnapshotRecordBuffer outputBuffer : outputBuffers) {
+                closeOutputBuffer(outputBuffer);
+            }
             if (executorService != null) {
                 executorService.shutdown();
                 if (!executorService.awaitTermination(
@@ -253,4 +269,60 @@ public class IncrementalSourceScanFetcher implements Fetcher<SourceRecords, Sour
         }
         return false;
     }
+
+    private void closeOutputBuffer(SnapshotRecordBuffer outputBuffer) {
+        outputBuffer.close();
+        outputBuffers.remove(outputBuffer);
+    }
+
+    /**
+     * Returns [low watermark event][normalized events][high watermark event] of a snapshot split
+     * in batches, and releases the output buffer once the high watermark has been returned.
+     */
+    private class NormalizedRecordsIterator implements Iterator<SourceRecords> {
+
+        private final SnapshotRecordBuffer outputBuffer;
+        private final Iterator<SourceRecord> snapshotRecords;
+        private SourceRecord lowWatermark;
+        private SourceRecord highWatermark;
+
+        private NormalizedRecordsIterator(
+                SourceRecord lowWatermark,
+                SnapshotRecordBuffer outputBuffer,
+                SourceRecord highWatermark) {
+            this.lowWatermark = lowWatermark;
+            this.outputBuffer = outputBuffer;
+            this.snapshotRecords = outputBuffer.values().iterator();
+            this.highWatermark = highWatermark;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return highWatermark != null;
+        }
+
+        @Override
+        public SourceRecords next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            final List<SourceRecord> normalizedRecords = new ArrayList<>();
+            if (lowWatermark != null) {
+                normalizedRecords.add(lowWatermark);
+                lowWatermark = null;
+            }
+            final List<SourceRecord> snapshotBatch = new ArrayList<>();
+            while (snapshotRecords.hasNext()
+                    && snapshotBatch.size() < NORMALIZED_RECORDS_BATCH_SIZE) {
+                snapshotBatch.add(snapshotRecords.next());
+            }
+            normalizedRecords.addAll(taskContext.formatMessageTimestamp(snapshotBatch));
+            if (!snapshotRecords.hasNext()) {
+                normalizedRecords.add(highWatermark);
+                highWatermark = null;
+                closeOutputBuffer(outputBuffer);
+            }
+            return new SourceRecords(normalizedRecords);
+        }
+    }
 }
@@ -0,0 +1,305 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.seatunnel.connectors.cdc.base.source.reader.external;
+
+import org.apache.seatunnel.common.utils.SeaTunnelException;
+
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.source.SourceRecord;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The output buffer used to normalize a snapshot split with the change events of its chunk. It
+ * keeps the insertion order of a {@link LinkedHashMap} keyed by the record key, but only holds the
+ * records on heap until their estimated size exceeds the memory budget, then spills them to a local
+ * file in the binary form of {@link SourceRecordSerializer}. For a spilled record only the encoded
+ * primary key and the position in the spill file stay on heap.
+ */
+@Slf4j
+public class SnapshotRecordBuffer extends AbstractMap<Struct, SourceRecord> implements Closeable {
+
+    private static final int READ_BUFFER_SIZE = 64 * 1024;
+
+    private final long memoryBudget;
+    private final File spillDirectory;
+    private final SourceRecordSerializer serializer = new SourceRecordSerializer();
+    private final Map<ByteBuffer, Slot> slots = new LinkedHashMap<>();
+    // slots holding a spillable record on heap, in the order they were filled
+    private final List<Slot> memorySlots = new ArrayList<>();
+    private long memorySize;
+
+    private File spillFile;
+    private OutputStream spillOutput;
+    private long spillLength;
+    private long flushedLength;
+    private FileChannel spillChannel;
+    private ByteBuffer readBuffer;
+    private long readBufferOffset;
+
+    public SnapshotRecordBuffer(long memoryBudget, File spillDirectory) {
+        this.memoryBudget = memoryBudget;
+        this.spillDirectory = spillDirectory;
+    }
+
+    @Override
+    public int size() {
+        return slots.size();
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return isKey(key) && slots.containsKey(encodeKey((Struct) key));
+    }
+
+    @Override
+    public SourceRecord get(Object key) {
+        Slot slot = isKey(key) ? slots.get(encodeKey((Struct) key)) : null;
+        return slot == null ? null : read(slot);
+    }
+
+    @Override
+    public SourceRecord put(Struct key, SourceRecord record) {
+        ByteBuffer encodedKey = encodeKey(key);
+        Slot slot = slots.get(encodedKey);
+        SourceRecord previous = null;
+        if (slot == null) {
+            slot = new Slot();
+            slots.put(encodedKey, slot);
+        } else {
+            previous = read(slot);
+            release(slot);
+        }
+        slot.record = record;
+        if (serializer.isSerializable(record)) {
+            slot.size = serializer.estimateSize(record);
+            memorySlots.add(slot);
+            memorySize += slot.size;
+            if (memorySize > memoryBudget) {
+                spill();
+            }
+        }
+        return previous;
+    }
+
+    @Override
+    public SourceRecord remove(Object key) {
+        Slot slot = isKey(key) ? slots.remove(encodeKey((Struct) key)) : null;
+        if (slot == null) {
+            return null;
+        }
+        SourceRecord previous = read(slot);
+        release(slot);
+        return previous;
+    }
+
+    @Override
+    public void clear() {
+        slots.clear();
+        memorySlots.clear();
+        memorySize = 0;
+    }
+
+    @Override
+    public Set<Entry<Struct, SourceRecord>> entrySet() {
+        return new AbstractSet<Entry<Struct, SourceRecord>>() {
+            @Override
+            public Iterator<Entry<Struct, SourceRecord>> iterator() {
+                Iterator<Slot> iterator = slots.values().iterator();
+                return new Iterator<Entry<Struct, SourceRecord>>() {
+                    @Override
+                    public boolean hasNext() {
+                        return iterator.hasNext();
+                    }
+
+                    @Override
+                    public Entry<Struct, SourceRecord> next() {
+                        SourceRecord record = read(iterator.next());
+                        return new SimpleImmutableEntry<>((Struct) record.key(), record);
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return slots.size();
+            }
+        };
+    }
+
+    /** Returns whether any record of this buffer has been written to the spill file. */
+    public boolean isSpilled() {
+        return spillFile != null;
+    }
+
+    @Override
+    public synchronized void close() {
+        clear();
+        try {
+            if (spillOutput != null) {
+                spillOutput.close();
+            }
+            if (spillChannel != null) {
+                spillChannel.close();
+            }
+        } catch (IOException e) {
+            log.warn("Close snapshot spill file {} error", spillFile, e);
+        } finally {
+            spillOutput = null;
+            spillChannel = null;
+            readBuffer = null;
+            if (spillFile != null) {
+                try {
+                    Files.deleteIfExists(spillFile.toPath());
+                } catch (IOException e) {
+                    log.warn("Delete snapshot spill file {} error", spillFile, e);
+                }
+            }
+        }
+    }
+
+    private void spill() {
+        try {
+            if (spillOutput == null) {
+                spillFile =
+                        File.createTempFile("seatunnel-cdc-snapshot-", ".spill", spillDirectory);
+                spillOutput = new BufferedOutputStream(new FileOutputStream(spillFile));
+                log.info(
+                        "Snapshot records exceed the memory budget {} bytes, spill to {}",
+                        memoryBudget,
+                        spillFile);
+            }
+            for (Slot slot : memorySlots) {
+                if (slot.record == null || slot.size == 0) {
+                    // released or replaced by a record which can't be spilled
+                    continue;
+                }
+                byte[] bytes = serializer.serialize(slot.record);
+                spillOutput.write(bytes);
+                slot.offset = spillLength;
+                slot.length = bytes.length;
+                slot.record = null;
+                slot.size = 0;
+                spillLength += bytes.length;
+            }
+        } catch (IOException e) {
+            throw new SeaTunnelException(
+                    String.format("Spill snapshot records to %s error.", spillFile), e);
+        }
+        memorySlots.clear();
+        memorySize = 0;
+    }
+
+    private SourceRecord read(Slot slot) {
+        if (slot.record != null) {
+            return slot.record;
+        }
+        try {
+            return serializer.deserialize(readSpilled(slot.offset, slot.length));
+        } catch (IOException e) {
+            throw new SeaTunnelException(
+                    String.format("Read snapshot records from %s error.", spillFile), e);
+        }
+    }
+
+    private byte[] readSpilled(long offset, int length) throws IOException {
+        if (offset + length > flushedLength) {
+            spillOutput.flush();
+            flushedLength = spillLength;
+        }
+        if (spillChannel == null) {
+            spillChannel = FileChannel.open(spillFile.toPath(), StandardOpenOption.READ);
+            readBuffer = ByteBuffer.allocate(READ_BUFFER_SIZE);
+            readBuffer.limit(0);
+        }
+        byte[] bytes = new byte[length];
+        if (length > readBuffer.capacity()) {
+            readFully(ByteBuffer.wrap(bytes), offset);
+            return bytes;
+        }
+        if (offset < readBufferOffset || offset + length > readBufferOffset + readBuffer.limit()) {
+            readBuffer.clear();
+            readBuffer.limit((int) Math.min(readBuffer.capacity(), flushedLength - offset));
+            readFully(readBuffer, offset);
+            readBuffer.flip();
+            readBufferOffset = offset;
+        }
+        readBuffer.position((int) (offset - readBufferOffset));
+        readBuffer.get(bytes);
+        return bytes;
+    }
+
+    private void readFully(ByteBuffer buffer, long offset) throws IOException {
+        long position = offset;
+        while (buffer.hasRemaining()) {
+            int read = spillChannel.read(buffer, position);
+            if (read < 0) {
+                throw new IOException("Unexpected end of spill file " + spillFile);
+            }
+            position += read;
+        }
+    }
+
+    private void release(Slot slot) {
+        memorySize -= slot.size;
+        slot.record = null;
+        slot.size = 0;
+        slot.offset = -1;
+        slot.length = 0;
+    }
+
+    private ByteBuffer encodeKey(Struct key) {
+        try {
+            return ByteBuffer.wrap(serializer.serializeKey(key));
+        } catch (IOException e) {
+            throw new SeaTunnelException("Encode snapshot record key error.", e);
+        }
+    }
+
+    private static boolean isKey(Object key) {
+        return key == null || key instanceof Struct;
+    }
+
+    /** The position of a record, either on heap or in the spill file. */
+    private static class Slot {
+        private SourceRecord record;
+        private long size;
+        private long offset = -1;
+        private int length;
+    }
+}
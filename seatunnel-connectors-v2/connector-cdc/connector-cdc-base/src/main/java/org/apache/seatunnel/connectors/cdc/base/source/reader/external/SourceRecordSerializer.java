@@ -0,0 +1,458 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.seatunnel.connectors.cdc.base.source.reader.external;
+
+import org.apache.kafka.connect.data.Decimal;
+import org.apache.kafka.connect.data.Field;
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.data.Time;
+import org.apache.kafka.connect.data.Timestamp;
+import org.apache.kafka.connect.source.SourceRecord;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Encodes {@link SourceRecord}s of a snapshot split into a compact binary form. The key and value
+ * schemas are not written with the record, they are registered once in a schema table owned by
+ * the serializer and referenced by index, so a serializer can only decode what it has encoded.
+ */
+class SourceRecordSerializer {
+
+    private static final int ESTIMATED_OBJECT_OVERHEAD = 16;
+
+    private static final byte NULL_TAG = 0;
+    private static final byte STRING_TAG = 1;
+    private static final byte LONG_TAG = 2;
+    private static final byte INTEGER_TAG = 3;
+    private static final byte BOOLEAN_TAG = 4;
+    private static final byte DOUBLE_TAG = 5;
+
+    private static final byte BYTE_ARRAY = 0;
+    private static final byte BYTE_BUFFER = 1;
+
+    private final Map<Schema, Map<Schema, Integer>> schemaIndexes = new IdentityHashMap<>();
+    private final List<Schema[]> schemas = new ArrayList<>();
+    private final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+    private final DataOutputStream output = new DataOutputStream(buffer);
+
+    /** Returns whether the record only carries values this serializer is able to encode. */
+    public boolean isSerializable(SourceRecord record) {
+        return record.headers().isEmpty()
+                && isSerializable(record.sourcePartition())
+                && isSerializable(record.sourceOffset());
+    }
+
+    public byte[] serializeKey(Struct key) throws IOException {
+        buffer.reset();
+        if (key != null) {
+            writeValue(output, key.schema(), key);
+        }
+        return buffer.toByteArray();
+    }
+
+    public byte[] serialize(SourceRecord record) throws IOException {
+        buffer.reset();
+        output.writeInt(schemaIndex(record.keySchema(), record.valueSchema()));
+        output.writeUTF(record.topic());
+        writeNullableInt(output, record.kafkaPartition());
+        writeNullableLong(output, record.timestamp());
+        writeMap(output, record.sourcePartition());
+        writeMap(output, record.sourceOffset());
+        writeNullableValue(output, record.keySchema(), record.key());
+        writeNullableValue(output, record.valueSchema(), record.value());
+        return buffer.toByteArray();
+    }
+
+    public SourceRecord deserialize(byte[] bytes) throws IOException {
+        DataInputStream input = new DataInputStream(new ByteArrayInputStream(bytes));
+        Schema[] recordSchemas = schemas.get(input.readInt());
+        String topic = input.readUTF();
+        Integer kafkaPartition = readNullableInt(input);
+        Long timestamp = readNullableLong(input);
+        Map<String, Object> sourcePartition = readMap(input);
+        Map<String, Object> sourceOffset = readMap(input);
+        Object key = readNullableValue(input, recordSchemas[0]);
+        Object value = readNullableValue(input, recordSchemas[1]);
+        return new SourceRecord(
+                sourcePartition,
+                sourceOffset,
+                topic,
+                kafkaPartition,
+                recordSchemas[0],
+                key,
+                recordSchemas[1],
+                value,
+                timestamp);
+    }
+
+    /** Roughly estimates the heap used by the key and value of the record. */
+    public long estimateSize(SourceRecord record) {
+        return ESTIMATED_OBJECT_OVERHEAD * 4
+                + estimateSize(record.keySchema(), record.key())
+                + estimateSize(record.valueSchema(), record.value());
+    }
+
+    private int schemaIndex(Schema keySchema, Schema valueSchema) {
+        Map<Schema, Integer> valueSchemaIndexes =
+                schemaIndexes.computeIfAbsent(keySchema, k -> new IdentityHashMap<>());
+        Integer index = valueSchemaIndexes.get(valueSchema);
+        if (index == null) {
+            index = schemas.size();
+            schemas.add(new Schema[] {keySchema, valueSchema});
+            valueSchemaIndexes.put(valueSchema, index);
+        }
+        return index;
+    }
+
+    private static boolean isSerializable(Map<String, ?> map) {
+        if (map == null) {
+            return true;
+        }
+        for (Object value : map.values()) {
+            if (value != null
+                    && !(value instanceof String)
+                    && !(value instanceof Long)
+                    && !(value instanceof Integer)
+                    && !(value instanceof Boolean)
+                    && !(value instanceof Double)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void writeMap(DataOutput out, Map<String, ?> map) throws IOException {
+        if (map == null) {
+            out.writeInt(-1);
+            return;
+        }
+        out.writeInt(map.size());
+        for (Map.Entry<String, ?> entry : map.entrySet()) {
+            out.writeUTF(entry.getKey());
+            Object value = entry.getValue();
+            if (value == null) {
+                out.writeByte(NULL_TAG);
+            } else if (value instanceof String) {
+                out.writeByte(STRING_TAG);
+                writeString(out, (String) value);
+            } else if (value instanceof Long) {
+                out.writeByte(LONG_TAG);
+                out.writeLong((Long) value);
+            } else if (value instanceof Integer) {
+                out.writeByte(INTEGER_TAG);
+                out.writeInt((Integer) value);
+            } else if (value instanceof Boolean) {
+                out.writeByte(BOOLEAN_TAG);
+                out.writeBoolean((Boolean) value);
+            } else if (value instanceof Double) {
+                out.writeByte(DOUBLE_TAG);
+                out.writeDouble((Double) value);
+            } else {
+                throw new IllegalArgumentException(
+                        "Unsupported offset value type: " + value.getClass().getName());
+            }
+        }
+    }
+
+    private static Map<String, Object> readMap(DataInput in) throws IOException {
+        int size = in.readInt();
+        if (size < 0) {
+            return null;
+        }
+        Map<String, Object> map = new HashMap<>(size * 2);
+        for (int i = 0; i < size; i++) {
+            String key = in.readUTF();
+            byte tag = in.readByte();
+            switch (tag) {
+                case NULL_TAG:
+                    map.put(key, null);
+                    break;
+                case STRING_TAG:
+                    map.put(key, readString(in));
+                    break;
+                case LONG_TAG:
+                    map.put(key, in.readLong());
+                    break;
+                case INTEGER_TAG:
+                    map.put(key, in.readInt());
+                    break;
+                case BOOLEAN_TAG:
+                    map.put(key, in.readBoolean());
+                    break;
+                case DOUBLE_TAG:
+                    map.put(key, in.readDouble());
+                    break;
+                default:
+                    throw new IOException("Unknown offset value tag: " + tag);
+            }
+        }
+        return map;
+    }
+
+    private static void writeNullableValue(DataOutput out, Schema schema, Object value)
+            throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            writeValue(out, schema, value);
+        }
+    }
+
+    private static Object readNullableValue(DataInput in, Schema schema) throws IOException {
+        return in.readBoolean() ? readValue(in, schema) : null;
+    }
+
+    private static void writeValue(DataOutput out, Schema schema, Object value)
+            throws IOException {
+        if (Decimal.LOGICAL_NAME.equals(schema.name())) {
+            BigDecimal decimal = (BigDecimal) value;
+            out.writeInt(decimal.scale());
+            writeBytes(out, decimal.unscaledValue().toByteArray());
+            return;
+        }
+        if (value instanceof java.util.Date) {
+            // connect Date, Time and Timestamp logical types
+            out.writeLong(((java.util.Date) value).getTime());
+            return;
+        }
+        switch (schema.type()) {
+            case INT8:
+                out.writeByte((Byte) value);
+                break;
+            case INT16:
+                out.writeShort((Short) value);
+                break;
+            case INT32:
+                out.writeInt((Integer) value);
+                break;
+            case INT64:
+                out.writeLong((Long) value);
+                break;
+            case FLOAT32:
+                out.writeFloat((Float) value);
+                break;
+            case FLOAT64:
+                out.writeDouble((Double) value);
+                break;
+            case BOOLEAN:
+                out.writeBoolean((Boolean) value);
+                break;
+            case STRING:
+                writeString(out, (String) value);
+                break;
+            case BYTES:
+                if (value instanceof ByteBuffer) {
+                    ByteBuffer byteBuffer = ((ByteBuffer) value).duplicate();
+                    byte[] bytes = new byte[byteBuffer.remaining()];
+                    byteBuffer.get(bytes);
+                    out.writeByte(BYTE_BUFFER);
+                    writeBytes(out, bytes);
+                } else {
+                    out.writeByte(BYTE_ARRAY);
+                    writeBytes(out, (byte[]) value);
+                }
+                break;
+            case ARRAY:
+                List<?> list = (List<?>) value;
+                out.writeInt(list.size());
+                for (Object element : list) {
+                    writeNullableValue(out, schema.valueSchema(), element);
+                }
+                break;
+            case MAP:
+                Map<?, ?> map = (Map<?, ?>) value;
+                out.writeInt(map.size());
+                for (Map.Entry<?, ?> entry : map.entrySet()) {
+                    writeNullableValue(out, schema.keySchema(), entry.getKey());
+                    writeNullableValue(out, schema.valueSchema(), entry.getValue());
+                }
+                break;
+            case STRUCT:
+                Struct struct = (Struct) value;
+                for (Field field : schema.fields()) {
+                    writeNullableValue(out, field.schema(), struct.getWithoutDefault(field.name()));
+                }
+                break;
+            default:
+                throw new IllegalArgumentException("Unsupported schema type: " + schema.type());
+        }
+    }
+
+    private static Object readValue(DataInput in, Schema schema) throws IOException {
+        if (Decimal.LOGICAL_NAME.equals(schema.name())) {
+            int scale = in.readInt();
+            return new BigDecimal(new BigInteger(readBytes(in)), scale);
+        }
+        if (isDateLogicalType(schema)) {
+            return new java.util.Date(in.readLong());
+        }
+        switch (schema.type()) {
+            case INT8:
+                return in.readByte();
+            case INT16:
+                return in.readShort();
+            case INT32:
+                return in.readInt();
+            case INT64:
+                return in.readLong();
+            case FLOAT32:
+                return in.readFloat();
+            case FLOAT64:
+                return in.readDouble();
+            case BOOLEAN:
+                return in.readBoolean();
+            case STRING:
+                return readString(in);
+            case BYTES:
+                byte kind = in.readByte();
+                byte[] bytes = readBytes(in);
+                return kind == BYTE_BUFFER ? ByteBuffer.wrap(bytes) : bytes;
+            case ARRAY:
+                int length = in.readInt();
+                List<Object> list = new ArrayList<>(length);
+                for (int i = 0; i < length; i++) {
+                    list.add(readNullableValue(in, schema.valueSchema()));
+                }
+                return list;
+            case MAP:
+                int size = in.readInt();
+                Map<Object, Object> map = new LinkedHashMap<>(size * 2);
+                for (int i = 0; i < size; i++) {
+                    Object key = readNullableValue(in, schema.keySchema());
+                    map.put(key, readNullableValue(in, schema.valueSchema()));
+                }
+                return map;
+            case STRUCT:
+                Struct struct = new Struct(schema);
+                for (Field field : schema.fields()) {
+                    struct.put(field, readNullableValue(in, field.schema()));
+                }
+                return struct;
+            default:
+                throw new IOException("Unsupported schema type: " + schema.type());
+        }
+    }
+
+    private static boolean isDateLogicalType(Schema schema) {
+        return org.apache.kafka.connect.data.Date.LOGICAL_NAME.equals(schema.name())
+                || Time.LOGICAL_NAME.equals(schema.name())
+                || Timestamp.LOGICAL_NAME.equals(schema.name());
+    }
+
+    private static long estimateSize(Schema schema, Object value) {
+        if (value == null) {
+            return 0;
+        }
+        if (value instanceof String) {
+            return ESTIMATED_OBJECT_OVERHEAD * 2 + ((String) value).length();
+        }
+        if (value instanceof byte[]) {
+            return ESTIMATED_OBJECT_OVERHEAD + ((byte[]) value).length;
+        }
+        if (value instanceof ByteBuffer) {
+            return ESTIMATED_OBJECT_OVERHEAD * 2 + ((ByteBuffer) value).capacity();
+        }
+        if (value instanceof BigDecimal) {
+            return ESTIMATED_OBJECT_OVERHEAD * 3 + ((BigDecimal) value).unscaledValue().bitLength();
+        }
+        if (value instanceof Struct) {
+            long size = ESTIMATED_OBJECT_OVERHEAD * 2;
+            Struct struct = (Struct) value;
+            for (Field field : schema.fields()) {
+                size += 8 + estimateSize(field.schema(), struct.getWithoutDefault(field.name()));
+            }
+            return size;
+        }
+        if (value instanceof List) {
+            long size = ESTIMATED_OBJECT_OVERHEAD * 2;
+            for (Object element : (List<?>) value) {
+                size += 8 + estimateSize(schema.valueSchema(), element);
+            }
+            return size;
+        }
+        if (value instanceof Map) {
+            long size = ESTIMATED_OBJECT_OVERHEAD * 4;
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                size +=
+                        ESTIMATED_OBJECT_OVERHEAD * 2
+                                + estimateSize(schema.keySchema(), entry.getKey())
+                                + estimateSize(schema.valueSchema(), entry.getValue());
+            }
+            return size;
+        }
+        return ESTIMATED_OBJECT_OVERHEAD;
+    }
+
+    private static void writeNullableInt(DataOutput out, Integer value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeInt(value);
+        }
+    }
+
+    private static Integer readNullableInt(DataInput in) throws IOException {
+        return in.readBoolean() ? in.readInt() : null;
+    }
+
+    private static void writeNullableLong(DataOutput out, Long value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeLong(value);
+        }
+    }
+
+    private static Long readNullableLong(DataInput in) throws IOException {
+        return in.readBoolean() ? in.readLong() : null;
+    }
+
+    private static void writeString(DataOutput out, String value) throws IOException {
+        writeBytes(out, value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String readString(DataInput in) throws IOException {
+        return new String(readBytes(in), StandardCharsets.UTF_8);
+    }
+
+    private static void writeBytes(DataOutput out, byte[] bytes) throws IOException {
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static byte[] readBytes(DataInput in) throws IOException {
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return bytes;
+    }
+}
@@ -66,6 +66,12 @@ public class SeaTunnelRowDebeziumDeserializationConverters implements Serializab
     protected final MetadataConverter[] metadataConverters;
     protected final String[] fieldNames;
 
+    /**
+     * The fields of the last converted Debezium row schema, indexed by the physical field. The
+     * records of a table share the same row schema instance until the table schema changes.
+     */
+    private transient volatile CompiledSchema compiledSchema;
+
     public SeaTunnelRowDebeziumDeserializationConverters(
             SeaTunnelRowType physicalDataType,
             MetadataConverter[] metadataConverters,
@@ -85,16 +91,16 @@ public class SeaTunnelRowDebeziumDeserializationConverters implements Serializab
 
     public SeaTunnelRow convert(SourceRecord record, Struct struct, Schema schema)
             throws Exception {
+        Field[] fields = compile(schema);
         int arity = physicalConverters.length + metadataConverters.length;
         SeaTunnelRow row = new SeaTunnelRow(arity);
         // physical column
         for (int i = 0; i < physicalConverters.length; i++) {
-            String fieldName = fieldNames[i];
-            Field field = schema.field(fieldName);
+            Field field = fields[i];
             if (field == null) {
                 row.setField(i, null);
             } else {
-                Object fieldValue = struct.get(fieldName);
+                Object fieldValue = struct.get(field);
                 Schema fieldSchema = field.schema();
                 Object convertedField =
                         SeaTunnelRowDebeziumDeserializationConverters.convertField(
@@ -109,6 +115,20 @@ public class SeaTunnelRowDebeziumDeserializationConverters implements Serializab
         return row;
     }
 
+    /** Resolves the fields of the given row schema by index, reusing the last resolved ones. */
+    private Field[] compile(Schema schema) {
+        CompiledSchema compiled = compiledSchema;
+        if (compiled == null || compiled.schema != schema) {
+            Field[] fields = new Field[fieldNames.length];
+            for (int i = 0; i < fieldNames.length; i++) {
+                fields[i] = schema.field(fieldNames[i]);
+            }
+            compiled = new CompiledSchema(schema, fields);
+            compiledSchema = compiled;
+        }
+        return compiled.fields;
+    }
+
     public SeaTunnelRow convertChangeLog(SourceRecord record, Struct struct, Schema schema)
             throws Exception {
         int arity = physicalConverters.length + metadataConverters.length;
@@ -656,4 +676,14 @@ public class SeaTunnelRowDebeziumDeserializationConverters implements Serializab
             }
         };
     }
+
+    private static final class CompiledSchema {
+        private final Schema schema;
+        private final Field[] fields;
+
+        private CompiledSchema(Schema schema, Field[] fields) {
+            this.schema = schema;
+            this.fields = fields;
+        }
+    }
 }
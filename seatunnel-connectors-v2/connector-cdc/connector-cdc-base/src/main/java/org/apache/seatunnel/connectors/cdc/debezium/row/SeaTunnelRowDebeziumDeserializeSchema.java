@@ -18,7 +18,6 @@
 package org.apache.seatunnel.connectors.cdc.debezium.row;
 
 import org.apache.seatunnel.api.source.Collector;
-import org.apache.seatunnel.api.table.catalog.TablePath;
 import org.apache.seatunnel.api.table.event.SchemaChangeEvent;
 import org.apache.seatunnel.api.table.event.handler.DataTypeChangeEventDispatcher;
 import org.apache.seatunnel.api.table.event.handler.DataTypeChangeEventHandler;
@@ -47,6 +46,7 @@ import lombok.extern.slf4j.Slf4j;
 
 import java.time.ZoneId;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Map;
 
 import static com.google.common.base.Preconditions.checkNotNull;
@@ -61,28 +61,39 @@ public final class SeaTunnelRowDebeziumDeserializeSchema
         implements DebeziumDeserializationSchema<SeaTunnelRow> {
     private static final long serialVersionUID = 1L;
     private static final String DEFAULT_TABLE_NAME_KEY = null;
+    private static final int MAX_CACHED_TABLE_SCHEMAS = 1024;
 
     private final MetadataConverter[] metadataConverters;
     private final ZoneId serverTimeZone;
     private final DebeziumDeserializationConverterFactory userDefinedConverterFactory;
     private final SchemaChangeResolver schemaChangeResolver;
     private final DataTypeChangeEventHandler dataTypeChangeEventHandler;
+    private final boolean skipUpdateBefore;
     private SeaTunnelDataType<SeaTunnelRow> resultTypeInfo;
     private Map<String, SeaTunnelRowDebeziumDeserializationConverters> tableRowConverters;
 
+    /**
+     * The converters of the tables keyed by the identity of their Debezium value schema, which is
+     * shared by all the records of a table until its schema changes, so that the hot tables don't
+     * resolve their table path and converters for each record.
+     */
+    private transient Map<Schema, TableRowConverter> valueSchemaConverters;
+
     SeaTunnelRowDebeziumDeserializeSchema(
             SeaTunnelDataType<SeaTunnelRow> physicalDataType,
             MetadataConverter[] metadataConverters,
             SeaTunnelDataType<SeaTunnelRow> resultType,
             ZoneId serverTimeZone,
             DebeziumDeserializationConverterFactory userDefinedConverterFactory,
-            SchemaChangeResolver schemaChangeResolver) {
+            SchemaChangeResolver schemaChangeResolver,
+            boolean skipUpdateBefore) {
         this.metadataConverters = metadataConverters;
         this.serverTimeZone = serverTimeZone;
         this.userDefinedConverterFactory = userDefinedConverterFactory;
         this.resultTypeInfo = checkNotNull(resultType);
         this.schemaChangeResolver = schemaChangeResolver;
         this.dataTypeChangeEventHandler = new DataTypeChangeEventDispatcher();
+        this.skipUpdateBefore = skipUpdateBefore;
         this.tableRowConverters =
                 createTableRowConverters(
                         resultType,
@@ -152,6 +163,7 @@ public final class SeaTunnelRowDebeziumDeserializeSchema
                         metadataConverters,
                         serverTimeZone,
                         userDefinedConverterFactory);
+        valueSchemaConverters = null;
 
         collector.collect(schemaChangeEvent);
     }
@@ -161,17 +173,12 @@ public final class SeaTunnelRowDebeziumDeserializeSchema
         Envelope.Operation operation = Envelope.operationFor(record);
         Struct messageStruct = (Struct) record.value();
         Schema valueSchema = record.valueSchema();
-        TablePath tablePath = SourceRecordUtils.getTablePath(record);
-        String tableId = tablePath.toString();
-        SeaTunnelRowDebeziumDeserializationConverters converters;
-        if (resultTypeInfo instanceof MultipleRowType) {
-            converters = tableRowConverters.get(tableId);
-            if (converters == null) {
-                log.debug("Ignore newly added table {}", tableId);
-                return;
-            }
-        } else {
-            converters = tableRowConverters.get(DEFAULT_TABLE_NAME_KEY);
+        TableRowConverter tableRowConverter = getTableRowConverter(record, valueSchema);
+        String tableId = tableRowConverter.tableId;
+        SeaTunnelRowDebeziumDeserializationConverters converters = tableRowConverter.converters;
+        if (converters == null) {
+            log.debug("Ignore newly added table {}", tableId);
+            return;
         }
 
         if (operation == Envelope.Operation.CREATE || operation == Envelope.Operation.READ) {
@@ -185,10 +192,13 @@ public final class SeaTunnelRowDebeziumDeserializeSchema
             delete.setTableId(tableId);
             collector.collect(delete);
         } else if (operation == Envelope.Operation.UPDATE) {
-            SeaTunnelRow before = extractBeforeRow(converters, record, messageStruct, valueSchema);
-            before.setRowKind(RowKind.UPDATE_BEFORE);
-            before.setTableId(tableId);
-            collector.collect(before);
+            if (!skipUpdateBefore) {
+                SeaTunnelRow before =
+                        extractBeforeRow(converters, record, messageStruct, valueSchema);
+                before.setRowKind(RowKind.UPDATE_BEFORE);
+                before.setTableId(tableId);
+                collector.collect(before);
+            }
 
             SeaTunnelRow after = extractAfterRow(converters, record, messageStruct, valueSchema);
             after.setRowKind(RowKind.UPDATE_AFTER);
@@ -199,6 +209,27 @@ public final class SeaTunnelRowDebeziumDeserializeSchema
         }
     }
 
+    private TableRowConverter getTableRowConverter(SourceRecord record, Schema valueSchema) {
+        if (valueSchemaConverters == null) {
+            valueSchemaConverters = new IdentityHashMap<>();
+        }
+        TableRowConverter tableRowConverter = valueSchemaConverters.get(valueSchema);
+        if (tableRowConverter == null) {
+            String tableId = SourceRecordUtils.getTablePath(record).toString();
+            SeaTunnelRowDebeziumDeserializationConverters converters =
+                    tableRowConverters.get(
+                            resultTypeInfo instanceof MultipleRowType
+                                    ? tableId
+                                    : DEFAULT_TABLE_NAME_KEY);
+            tableRowConverter = new TableRowConverter(tableId, converters);
+            if (valueSchemaConverters.size() >= MAX_CACHED_TABLE_SCHEMAS) {
+                valueSchemaConverters.clear();
+            }
+            valueSchemaConverters.put(valueSchema, tableRowConverter);
+        }
+        return tableRowConverter;
+    }
+
     private SeaTunnelRow extractAfterRow(
             SeaTunnelRowDebeziumDeserializationConverters runtimeConverter,
             SourceRecord record,
@@ -279,6 +310,7 @@ public final class SeaTunnelRowDebeziumDeserializeSchema
                         metadataConverters,
                         serverTimeZone,
                         userDefinedConverterFactory);
+        valueSchemaConverters = null;
     }
 
     private static Map<String, SeaTunnelRowDebeziumDeserializationConverters>
@@ -327,6 +359,7 @@ public final class SeaTunnelRowDebeziumDeserializeSchema
         private DebeziumDeserializationConverterFactory userDefinedConverterFactory =
                 DebeziumDeserializationConverterFactory.DEFAULT;
         private SchemaChangeResolver schemaChangeResolver;
+        private boolean skipUpdateBefore;
 
         public SeaTunnelRowDebeziumDeserializeSchema build() {
             return new SeaTunnelRowDebeziumDeserializeSchema(
@@ -335,7 +368,19 @@ public final class SeaTunnelRowDebeziumDeserializeSchema
                     resultTypeInfo,
                     serverTimeZone,
                     userDefinedConverterFactory,
-                    schemaChangeResolver);
+                    schemaChangeResolver,
+                    skipUpdateBefore);
+        }
+    }
+
+    private static final class TableRowConverter {
+        private final String tableId;
+        private final SeaTunnelRowDebeziumDeserializationConverters converters;
+
+        private TableRowConverter(
+                String tableId, SeaTunnelRowDebeziumDeserializationConverters converters) {
+            this.tableId = tableId;
+            this.converters = converters;
         }
     }
 }
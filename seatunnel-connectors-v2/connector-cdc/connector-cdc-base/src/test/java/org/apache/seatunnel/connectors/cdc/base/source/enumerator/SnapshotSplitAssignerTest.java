@@ -0,0 +1,167 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.seatunnel.connectors.cdc.base.source.enumerator;
+
+import org.apache.seatunnel.connectors.cdc.base.config.SourceConfig;
+import org.apache.seatunnel.connectors.cdc.base.dialect.DataSourceDialect;
+import org.apache.seatunnel.connectors.cdc.base.source.enumerator.splitter.ChunkSplitter;
+import org.apache.seatunnel.connectors.cdc.base.source.enumerator.state.SnapshotPhaseState;
+import org.apache.seatunnel.connectors.cdc.base.source.split.SnapshotSplit;
+import org.apache.seatunnel.connectors.cdc.base.source.split.SourceSplitBase;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.debezium.relational.TableId;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class SnapshotSplitAssignerTest {
+
+    @Test
+    public void testAssignSplitsOfAllTables() {
+        List<TableId> tables = createTables(10);
+        SnapshotSplitAssigner<SourceConfig> assigner =
+                createAssigner(4, tables, tableId -> createSplits(tableId, 3));
+        assigner.open();
+
+        Set<String> splitIds = new HashSet<>();
+        Optional<SourceSplitBase> split;
+        while ((split = assigner.getNext()).isPresent()) {
+            splitIds.add(split.get().splitId());
+        }
+        assigner.close();
+
+        Assertions.assertEquals(30, splitIds.size());
+        Assertions.assertTrue(assigner.noMoreSplits());
+        SnapshotPhaseState state = assigner.snapshotState(1);
+        Assertions.assertTrue(state.getRemainingTables().isEmpty());
+        Assertions.assertTrue(state.getRemainingSplits().isEmpty());
+        Assertions.assertEquals(
+                new HashSet<>(tables), new HashSet<>(state.getAlreadyProcessedTables()));
+    }
+
+    @Test
+    public void testRetrySplitTable() {
+        List<TableId> tables = createTables(2);
+        AtomicInteger attempts = new AtomicInteger();
+        SnapshotSplitAssigner<SourceConfig> assigner =
+                createAssigner(
+                        1,
+                        tables,
+                        tableId -> {
+                            if (tableId.equals(tables.get(1)) && attempts.incrementAndGet() < 3) {
+                                throw new RuntimeException("Connection reset");
+                            }
+                            return createSplits(tableId, 1);
+                        });
+        assigner.open();
+
+        List<String> splitIds = new ArrayList<>();
+        Optional<SourceSplitBase> split;
+        while ((split = assigner.getNext()).isPresent()) {
+            splitIds.add(split.get().splitId());
+        }
+        assigner.close();
+
+        Assertions.assertEquals(3, attempts.get());
+        Assertions.assertEquals(Arrays.asList("db.table0:0", "db.table1:0"), splitIds);
+    }
+
+    @Test
+    public void testSplittingTablesRemainInCheckpoint() {
+        List<TableId> tables = createTables(3);
+        CountDownLatch blockedTable = new CountDownLatch(1);
+        SnapshotSplitAssigner<SourceConfig> assigner =
+                createAssigner(
+                        2,
+                        tables,
+                        tableId -> {
+                            if (tableId.equals(tables.get(1))) {
+                                try {
+                                    blockedTable.await();
+                                } catch (InterruptedException e) {
+                                    throw new RuntimeException(e);
+                                }
+                            }
+                            return createSplits(tableId, 1);
+                        });
+        assigner.open();
+
+        // table0 is split and assigned while table1 is still being split
+        Assertions.assertEquals("db.table0:0", assigner.getNext().get().splitId());
+        SnapshotPhaseState state = assigner.snapshotState(1);
+        Assertions.assertEquals(
+                Arrays.asList(tables.get(1), tables.get(2)), state.getRemainingTables());
+        Assertions.assertEquals(Arrays.asList(tables.get(0)), state.getAlreadyProcessedTables());
+        Assertions.assertFalse(assigner.noMoreSplits());
+
+        blockedTable.countDown();
+        List<String> splitIds = new ArrayList<>();
+        Optional<SourceSplitBase> split;
+        while ((split = assigner.getNext()).isPresent()) {
+            splitIds.add(split.get().splitId());
+        }
+        assigner.close();
+        Assertions.assertEquals(
+                new HashSet<>(Arrays.asList("db.table1:0", "db.table2:0")),
+                new HashSet<>(splitIds));
+        Assertions.assertTrue(assigner.noMoreSplits());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static SnapshotSplitAssigner<SourceConfig> createAssigner(
+            int parallelism, List<TableId> tables, ChunkSplitter chunkSplitter) {
+        DataSourceDialect<SourceConfig> dialect = mock(DataSourceDialect.class);
+        when(dialect.createChunkSplitter(any())).thenReturn(chunkSplitter);
+        SplitAssigner.Context<SourceConfig> context =
+                new SplitAssigner.Context<>(
+                        null, new HashSet<>(tables), new HashMap<>(), new HashMap<>());
+        return new SnapshotSplitAssigner<>(context, parallelism, tables, true, dialect);
+    }
+
+    private static List<TableId> createTables(int count) {
+        List<TableId> tables = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            tables.add(TableId.parse("db.table" + i));
+        }
+        return tables;
+    }
+
+    private static Collection<SnapshotSplit> createSplits(TableId tableId, int count) {
+        List<SnapshotSplit> splits = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            splits.add(new SnapshotSplit(tableId + ":" + i, tableId, null, null, null));
+        }
+        return splits;
+    }
+}
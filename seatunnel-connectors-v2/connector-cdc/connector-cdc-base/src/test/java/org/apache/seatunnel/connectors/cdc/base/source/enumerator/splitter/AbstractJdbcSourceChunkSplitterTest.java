@@ -19,6 +19,8 @@ package org.apache.seatunnel.connectors.cdc.base.source.enumerator.splitter;
 
 import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
 import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.connectors.cdc.base.config.JdbcSourceConfig;
+import org.apache.seatunnel.connectors.cdc.base.dialect.JdbcDataSourceDialect;
 
 import org.junit.jupiter.api.Test;
 
@@ -28,12 +30,17 @@ import io.debezium.relational.Table;
 import io.debezium.relational.TableId;
 
 import java.sql.SQLException;
+import java.sql.Types;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 public class AbstractJdbcSourceChunkSplitterTest {
 
@@ -173,12 +180,59 @@ public class AbstractJdbcSourceChunkSplitterTest {
         }
     }
 
+    @Test
+    public void testTableStatisticsCachedAcrossSplits() {
+        JdbcDataSourceDialect dialect = mock(JdbcDataSourceDialect.class);
+        when(dialect.openJdbcConnection(any())).thenReturn(mock(JdbcConnection.class));
+        CountingJdbcSourceChunkSplitter splitter =
+                new CountingJdbcSourceChunkSplitter(mock(JdbcSourceConfig.class), dialect);
+        TableId table = TableId.parse("db.table");
+
+        assertEquals(1, splitter.generateSplits(table).size());
+        assertEquals(1, splitter.generateSplits(table).size());
+        assertEquals(1, splitter.minMaxQueries.get());
+
+        // the least recently used statistics are dropped beyond the bound
+        for (int i = 0; i < 128; i++) {
+            splitter.generateSplits(TableId.parse("db.other" + i));
+        }
+        assertEquals(129, splitter.minMaxQueries.get());
+        splitter.generateSplits(table);
+        assertEquals(130, splitter.minMaxQueries.get());
+    }
+
+    private static class CountingJdbcSourceChunkSplitter extends UtJdbcSourceChunkSplitter {
+
+        private final AtomicInteger minMaxQueries = new AtomicInteger();
+
+        CountingJdbcSourceChunkSplitter(
+                JdbcSourceConfig sourceConfig, JdbcDataSourceDialect dialect) {
+            super(sourceConfig, dialect);
+        }
+
+        @Override
+        protected Column getSplitColumn(
+                JdbcConnection jdbc, JdbcDataSourceDialect dialect, TableId tableId) {
+            return Column.editor().name("id").jdbcType(Types.INTEGER).create();
+        }
+
+        @Override
+        public Object[] queryMinMax(JdbcConnection jdbc, TableId tableId, String columnName) {
+            minMaxQueries.incrementAndGet();
+            return new Object[] {1, 1};
+        }
+    }
+
     public static class UtJdbcSourceChunkSplitter extends AbstractJdbcSourceChunkSplitter {
 
         public UtJdbcSourceChunkSplitter() {
             super(null, null);
         }
 
+        UtJdbcSourceChunkSplitter(JdbcSourceConfig sourceConfig, JdbcDataSourceDialect dialect) {
+            super(sourceConfig, dialect);
+        }
+
         @Override
         public Object[] queryMinMax(JdbcConnection jdbc, TableId tableId, String columnName)
                 throws SQLException {
@@ -0,0 +1,157 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.seatunnel.connectors.cdc.base.source.reader.external;
+
+import org.apache.kafka.connect.data.Decimal;
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.SchemaBuilder;
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.data.Timestamp;
+import org.apache.kafka.connect.source.SourceRecord;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class SnapshotRecordBufferTest {
+
+    private static final Schema KEY_SCHEMA =
+            SchemaBuilder.struct().name("key").field("id", Schema.INT64_SCHEMA).build();
+    private static final Schema ADDRESS_SCHEMA =
+            SchemaBuilder.struct()
+                    .name("address")
+                    .optional()
+                    .field("city", Schema.STRING_SCHEMA)
+                    .field("tags", SchemaBuilder.array(Schema.OPTIONAL_STRING_SCHEMA).build())
+                    .build();
+    private static final Schema VALUE_SCHEMA =
+            SchemaBuilder.struct()
+                    .name("value")
+                    .field("id", Schema.INT64_SCHEMA)
+                    .field("name", Schema.OPTIONAL_STRING_SCHEMA)
+                    .field("price", Decimal.builder(2).optional().build())
+                    .field("updated", Timestamp.builder().optional().build())
+                    .field("payload", Schema.OPTIONAL_BYTES_SCHEMA)
+                    .field("flag", Schema.OPTIONAL_BOOLEAN_SCHEMA)
+                    .field("address", ADDRESS_SCHEMA)
+                    .build();
+
+    @TempDir File spillDirectory;
+
+    @Test
+    public void testSpilledBufferBehavesLikeLinkedHashMap() {
+        Map<Struct, SourceRecord> expected = new LinkedHashMap<>();
+        SnapshotRecordBuffer buffer = new SnapshotRecordBuffer(1024, spillDirectory);
+        for (long id = 0; id < 100; id++) {
+            SourceRecord record = createRecord(id, "name-" + id);
+            expected.put((Struct) record.key(), record);
+            buffer.put((Struct) record.key(), record);
+        }
+        Assertions.assertTrue(buffer.isSpilled());
+
+        // rewrite and delete both spilled and in-memory records
+        for (long id : new long[] {3, 50, 99}) {
+            SourceRecord record = createRecord(id, "updated-" + id);
+            Assertions.assertEquals(
+                    expected.put((Struct) record.key(), record),
+                    buffer.put((Struct) record.key(), record));
+        }
+        for (long id : new long[] {0, 42, 98}) {
+            Struct key = createKey(id);
+            Assertions.assertEquals(expected.remove(key), buffer.remove(key));
+        }
+        Assertions.assertNull(buffer.remove(createKey(1000)));
+
+        Assertions.assertEquals(expected.size(), buffer.size());
+        Assertions.assertEquals(expected.get(createKey(50)), buffer.get(createKey(50)));
+        Assertions.assertTrue(buffer.containsKey(createKey(99)));
+        Assertions.assertFalse(buffer.containsKey(createKey(42)));
+        Assertions.assertEquals(
+                new ArrayList<>(expected.values()), new ArrayList<>(buffer.values()));
+
+        buffer.close();
+        Assertions.assertEquals(0, spillDirectory.listFiles().length);
+    }
+
+    @Test
+    public void testBufferWithinBudgetDoesNotSpill() {
+        SnapshotRecordBuffer buffer = new SnapshotRecordBuffer(Long.MAX_VALUE, spillDirectory);
+        List<SourceRecord> expected = new ArrayList<>();
+        for (long id = 0; id < 10; id++) {
+            SourceRecord record = createRecord(id, "name-" + id);
+            expected.add(record);
+            buffer.put((Struct) record.key(), record);
+        }
+        Assertions.assertFalse(buffer.isSpilled());
+        List<SourceRecord> actual = new ArrayList<>(buffer.values());
+        Assertions.assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            Assertions.assertSame(expected.get(i), actual.get(i));
+        }
+        buffer.close();
+        Assertions.assertEquals(0, spillDirectory.listFiles().length);
+    }
+
+    private static Struct createKey(long id) {
+        return new Struct(KEY_SCHEMA).put("id", id);
+    }
+
+    private static SourceRecord createRecord(long id, String name) {
+        Struct address =
+                new Struct(ADDRESS_SCHEMA)
+                        .put("city", "city-" + id)
+                        .put("tags", Arrays.asList("a", null, "b"));
+        Struct value =
+                new Struct(VALUE_SCHEMA)
+                        .put("id", id)
+                        .put("name", name)
+                        .put("price", new BigDecimal("12.34").add(BigDecimal.valueOf(id)))
+                        .put("updated", new Date(1700000000000L + id))
+                        .put("payload", id % 2 == 0 ? new byte[] {1, 2, (byte) id} : null)
+                        .put("flag", id % 3 == 0 ? null : Boolean.TRUE)
+                        .put("address", id % 5 == 0 ? null : address);
+        Map<String, Object> offset = new HashMap<>();
+        offset.put("file", "mysql-bin.000001");
+        offset.put("pos", 4L + id);
+        offset.put("row", (int) id);
+        offset.put("snapshot", true);
+        offset.put("gtids", null);
+        return new SourceRecord(
+                Collections.singletonMap("server", "mysql_binlog_source"),
+                offset,
+                "test.db.table",
+                null,
+                KEY_SCHEMA,
+                createKey(id),
+                VALUE_SCHEMA,
+                value,
+                1700000000000L);
+    }
+}
@@ -0,0 +1,179 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.seatunnel.connectors.cdc.debezium.row;
+
+import org.apache.seatunnel.api.source.Collector;
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.RowKind;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.SchemaBuilder;
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.source.SourceRecord;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.debezium.connector.AbstractSourceInfo;
+import io.debezium.data.Envelope;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+public class SeaTunnelRowDebeziumDeserializeSchemaTest {
+
+    private static final SeaTunnelRowType ROW_TYPE =
+            new SeaTunnelRowType(
+                    new String[] {"id", "name"},
+                    new SeaTunnelDataType[] {BasicType.INT_TYPE, BasicType.STRING_TYPE});
+
+    private static final Schema SOURCE_SCHEMA =
+            SchemaBuilder.struct()
+                    .field(AbstractSourceInfo.DATABASE_NAME_KEY, Schema.STRING_SCHEMA)
+                    .field(AbstractSourceInfo.TABLE_NAME_KEY, Schema.STRING_SCHEMA)
+                    .build();
+
+    private static final Schema ROW_SCHEMA_V1 =
+            SchemaBuilder.struct()
+                    .name("db.t.Value")
+                    .field("id", Schema.INT32_SCHEMA)
+                    .field("name", Schema.OPTIONAL_STRING_SCHEMA)
+                    .optional()
+                    .build();
+
+    private static final Schema ROW_SCHEMA_V2 =
+            SchemaBuilder.struct()
+                    .name("db.t.Value")
+                    .field("extra", Schema.INT64_SCHEMA)
+                    .field("name", Schema.OPTIONAL_STRING_SCHEMA)
+                    .field("id", Schema.INT32_SCHEMA)
+                    .optional()
+                    .build();
+
+    @Test
+    public void testDeserializeUpdate() throws Exception {
+        Envelope envelope = createEnvelope(ROW_SCHEMA_V1);
+        SourceRecord update =
+                createRecord(
+                        envelope.update(
+                                rowV1(1, "before"), rowV1(1, "after"), source(), Instant.now()));
+
+        List<SeaTunnelRow> rows = deserialize(createSchema(false), update);
+        Assertions.assertEquals(2, rows.size());
+        Assertions.assertEquals(RowKind.UPDATE_BEFORE, rows.get(0).getRowKind());
+        Assertions.assertArrayEquals(new Object[] {1, "before"}, rows.get(0).getFields());
+        Assertions.assertEquals(RowKind.UPDATE_AFTER, rows.get(1).getRowKind());
+        Assertions.assertArrayEquals(new Object[] {1, "after"}, rows.get(1).getFields());
+        Assertions.assertEquals("db.t", rows.get(1).getTableId());
+
+        rows = deserialize(createSchema(true), update);
+        Assertions.assertEquals(1, rows.size());
+        Assertions.assertEquals(RowKind.UPDATE_AFTER, rows.get(0).getRowKind());
+        Assertions.assertArrayEquals(new Object[] {1, "after"}, rows.get(0).getFields());
+    }
+
+    @Test
+    public void testDeserializeChangedRowSchema() throws Exception {
+        SeaTunnelRowDebeziumDeserializeSchema schema = createSchema(false);
+        SourceRecord insertV1 =
+                createRecord(
+                        createEnvelope(ROW_SCHEMA_V1)
+                                .create(rowV1(1, "a"), source(), Instant.now()));
+        // the fields are reordered and a new field is added in the second version of the schema
+        Struct rowV2 =
+                new Struct(ROW_SCHEMA_V2).put("extra", 0L).put("name", "b").put("id", 2);
+        SourceRecord insertV2 =
+                createRecord(
+                        createEnvelope(ROW_SCHEMA_V2).create(rowV2, source(), Instant.now()));
+
+        List<SeaTunnelRow> rows = deserialize(schema, insertV1, insertV2, insertV1);
+        Assertions.assertEquals(3, rows.size());
+        Assertions.assertArrayEquals(new Object[] {1, "a"}, rows.get(0).getFields());
+        Assertions.assertArrayEquals(new Object[] {2, "b"}, rows.get(1).getFields());
+        Assertions.assertArrayEquals(new Object[] {1, "a"}, rows.get(2).getFields());
+        for (SeaTunnelRow row : rows) {
+            Assertions.assertEquals(RowKind.INSERT, row.getRowKind());
+            Assertions.assertEquals("db.t", row.getTableId());
+        }
+    }
+
+    private static SeaTunnelRowDebeziumDeserializeSchema createSchema(boolean skipUpdateBefore) {
+        return SeaTunnelRowDebeziumDeserializeSchema.builder()
+                .setPhysicalRowType(ROW_TYPE)
+                .setResultTypeInfo(ROW_TYPE)
+                .setSkipUpdateBefore(skipUpdateBefore)
+                .build();
+    }
+
+    private static Envelope createEnvelope(Schema rowSchema) {
+        return Envelope.defineSchema()
+                .withName("db.t.Envelope")
+                .withRecord(rowSchema)
+                .withSource(SOURCE_SCHEMA)
+                .build();
+    }
+
+    private static Struct rowV1(int id, String name) {
+        return new Struct(ROW_SCHEMA_V1).put("id", id).put("name", name);
+    }
+
+    private static Struct source() {
+        return new Struct(SOURCE_SCHEMA)
+                .put(AbstractSourceInfo.DATABASE_NAME_KEY, "db")
+                .put(AbstractSourceInfo.TABLE_NAME_KEY, "t");
+    }
+
+    private static SourceRecord createRecord(Struct value) {
+        return new SourceRecord(
+                Collections.emptyMap(),
+                Collections.emptyMap(),
+                "db.t",
+                null,
+                null,
+                value.schema(),
+                value);
+    }
+
+    private static List<SeaTunnelRow> deserialize(
+            SeaTunnelRowDebeziumDeserializeSchema schema, SourceRecord... records)
+            throws Exception {
+        List<SeaTunnelRow> rows = new ArrayList<>();
+        Collector<SeaTunnelRow> collector =
+                new Collector<SeaTunnelRow>() {
+                    @Override
+                    public void collect(SeaTunnelRow record) {
+                        rows.add(record);
+                    }
+
+                    @Override
+                    public Object getCheckpointLock() {
+                        return null;
+                    }
+                };
+        for (SourceRecord record : records) {
+            schema.deserialize(record, collector);
+        }
+        return rows;
+    }
+}
@@ -33,6 +33,7 @@ import static org.apache.seatunnel.connectors.seatunnel.cdc.mongodb.config.Mongo
 import static org.apache.seatunnel.connectors.seatunnel.cdc.mongodb.config.MongodbSourceOptions.INCREMENTAL_SNAPSHOT_CHUNK_SIZE_MB;
 import static org.apache.seatunnel.connectors.seatunnel.cdc.mongodb.config.MongodbSourceOptions.POLL_AWAIT_TIME_MILLIS;
 import static org.apache.seatunnel.connectors.seatunnel.cdc.mongodb.config.MongodbSourceOptions.POLL_MAX_BATCH_SIZE;
+import static org.apache.seatunnel.connectors.seatunnel.cdc.mongodb.config.MongodbSourceOptions.SNAPSHOT_BUFFER_MEMORY_SIZE_MB;
 import static org.apache.seatunnel.shade.com.google.common.base.Preconditions.checkArgument;
 import static org.apache.seatunnel.shade.com.google.common.base.Preconditions.checkNotNull;
 
@@ -59,6 +60,8 @@ public class MongodbSourceConfigProvider {
         private int heartbeatIntervalMillis = HEARTBEAT_INTERVAL_MILLIS.defaultValue();
         private int splitMetaGroupSize = 2;
         private int splitSizeMB = INCREMENTAL_SNAPSHOT_CHUNK_SIZE_MB.defaultValue();
+        private long snapshotBufferMemorySize =
+                SNAPSHOT_BUFFER_MEMORY_SIZE_MB.defaultValue() * 1024L * 1024L;
 
         public Builder hosts(String hosts) {
             this.hosts = hosts;
@@ -141,6 +144,12 @@ public class MongodbSourceConfigProvider {
             return this;
         }
 
+        public Builder snapshotBufferMemorySizeMB(int snapshotBufferMemorySizeMB) {
+            checkArgument(snapshotBufferMemorySizeMB > 0);
+            this.snapshotBufferMemorySize = snapshotBufferMemorySizeMB * 1024L * 1024L;
+            return this;
+        }
+
         public Builder splitMetaGroupSize(int splitMetaGroupSize) {
             this.splitMetaGroupSize = splitMetaGroupSize;
             return this;
@@ -169,7 +178,8 @@ public class MongodbSourceConfigProvider {
                     stopOptions,
                     heartbeatIntervalMillis,
                     splitMetaGroupSize,
-                    splitSizeMB);
+                    splitSizeMB,
+                    snapshotBufferMemorySize);
         }
     }
 }
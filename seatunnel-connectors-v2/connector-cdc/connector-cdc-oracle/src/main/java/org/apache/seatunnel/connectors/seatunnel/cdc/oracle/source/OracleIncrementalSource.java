@@ -114,6 +114,7 @@ public class OracleIncrementalSource<T> extends IncrementalSource<T, JdbcSourceC
                         .setPhysicalRowType(physicalRowType)
                         .setResultTypeInfo(physicalRowType)
                         .setServerTimeZone(ZoneId.of(zoneId))
+                        .setSkipUpdateBefore(config.get(JdbcSourceOptions.SKIP_UPDATE_BEFORE))
                         .build();
     }
 
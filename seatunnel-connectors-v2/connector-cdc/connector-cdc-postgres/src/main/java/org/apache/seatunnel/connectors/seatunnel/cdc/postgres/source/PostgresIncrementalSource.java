@@ -105,6 +105,7 @@ public class PostgresIncrementalSource<T> extends IncrementalSource<T, JdbcSourc
                         .setPhysicalRowType(physicalRowType)
                         .setResultTypeInfo(physicalRowType)
                         .setServerTimeZone(ZoneId.of(zoneId))
+                        .setSkipUpdateBefore(config.get(JdbcSourceOptions.SKIP_UPDATE_BEFORE))
                         .build();
     }
 
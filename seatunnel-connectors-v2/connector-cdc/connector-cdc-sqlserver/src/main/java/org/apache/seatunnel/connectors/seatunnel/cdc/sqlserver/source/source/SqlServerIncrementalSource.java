@@ -103,6 +103,7 @@ public class SqlServerIncrementalSource<T> extends IncrementalSource<T, JdbcSour
                         .setPhysicalRowType(physicalRowType)
                         .setResultTypeInfo(physicalRowType)
                         .setServerTimeZone(ZoneId.of(zoneId))
+                        .setSkipUpdateBefore(config.get(JdbcSourceOptions.SKIP_UPDATE_BEFORE))
                         .build();
     }
 
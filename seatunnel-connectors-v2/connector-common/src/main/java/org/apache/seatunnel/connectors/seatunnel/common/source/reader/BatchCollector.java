@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.common.source.reader;
+
+import org.apache.seatunnel.api.source.Collector;
+import org.apache.seatunnel.api.table.event.SchemaChangeEvent;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Buffers the records emitted during one {@link SourceReaderBase#pollNext} and hands them to the
+ * output with one {@link Collector#collectBatch}. Schema changes flush the buffer first, so the
+ * order of records and events is kept.
+ */
+class BatchCollector<T> implements Collector<T> {
+    private final Collector<T> output;
+    private List<T> batch = new ArrayList<>();
+
+    BatchCollector(Collector<T> output) {
+        this.output = output;
+    }
+
+    @Override
+    public void collect(T record) {
+        batch.add(record);
+    }
+
+    @Override
+    public void markSchemaChangeBeforeCheckpoint() {
+        flush();
+        output.markSchemaChangeBeforeCheckpoint();
+    }
+
+    @Override
+    public void collect(SchemaChangeEvent event) {
+        flush();
+        output.collect(event);
+    }
+
+    @Override
+    public void markSchemaChangeAfterCheckpoint() {
+        flush();
+        output.markSchemaChangeAfterCheckpoint();
+    }
+
+    @Override
+    public Object getCheckpointLock() {
+        return output.getCheckpointLock();
+    }
+
+    @Override
+    public boolean isEmptyThisPollNext() {
+        return output.isEmptyThisPollNext();
+    }
+
+    @Override
+    public void resetEmptyThisPollNext() {
+        output.resetEmptyThisPollNext();
+    }
+
+    void flush() {
+        if (!batch.isEmpty()) {
+            output.collectBatch(batch);
+            batch = new ArrayList<>();
+        }
+    }
+}
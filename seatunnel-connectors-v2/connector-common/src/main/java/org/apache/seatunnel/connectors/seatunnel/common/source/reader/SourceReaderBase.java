@@ -106,15 +106,46 @@ public abstract class SourceReaderBase<E, T, SplitT extends SourceSplit, SplitSt
 
         E record = recordsWithSplitId.nextRecordFromSplit();
         if (record != null) {
+            int maxRecords = maxRecordsPerPoll();
             synchronized (output.getCheckpointLock()) {
-                recordEmitter.emitRecord(record, currentSplitOutput, currentSplitContext.state);
+                if (maxRecords <= 1) {
+                    recordEmitter.emitRecord(record, currentSplitOutput, currentSplitContext.state);
+                    log.trace("Emitted record: {}", record);
+                } else {
+                    emitRecords(recordsWithSplitId, record, maxRecords);
+                }
             }
-            log.trace("Emitted record: {}", record);
         } else if (!moveToNextSplit(recordsWithSplitId, output)) {
             pollNext(output);
         }
     }
 
+    /**
+     * Emit up to {@code maxRecords} records of the current split as one batch. The split state
+     * moves on together with the batch, both happen under the checkpoint lock.
+     */
+    private void emitRecords(RecordsWithSplitIds<E> recordsWithSplitId, E first, int maxRecords)
+            throws Exception {
+        BatchCollector<T> batch = new BatchCollector<>(currentSplitOutput);
+        E record = first;
+        int emitted = 0;
+        do {
+            recordEmitter.emitRecord(record, batch, currentSplitContext.state);
+            emitted++;
+        } while (emitted < maxRecords
+                && (record = recordsWithSplitId.nextRecordFromSplit()) != null);
+        batch.flush();
+        log.trace("Emitted {} records", emitted);
+    }
+
+    /**
+     * The most records of the current split emitted by one {@link #pollNext}. With more than one,
+     * the emitted rows are handed over with {@link Collector#collectBatch}.
+     */
+    protected int maxRecordsPerPoll() {
+        return 1;
+    }
+
     @Override
     public List<SplitT> snapshotState(long checkpointId) {
         List<SplitT> splits = new ArrayList<>();
@@ -44,6 +44,8 @@ import org.apache.http.auth.UsernamePasswordCredentials;
 import org.apache.http.client.CredentialsProvider;
 import org.apache.http.conn.ssl.NoopHostnameVerifier;
 import org.apache.http.conn.ssl.TrustAllStrategy;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.entity.ContentType;
 import org.apache.http.impl.client.BasicCredentialsProvider;
 import org.apache.http.ssl.SSLContexts;
 import org.apache.http.util.Asserts;
@@ -60,6 +62,7 @@ import javax.net.ssl.SSLContext;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -207,6 +210,29 @@ public class EsRestClient implements Closeable {
     public BulkResponse bulk(String requestBody) {
         Request request = new Request("POST", "/_bulk");
         request.setJsonEntity(requestBody);
+        return bulk(request, requestBody);
+    }
+
+    /**
+     * Sends the first {@code length} bytes of the given bulk body, which is gzip compressed if
+     * {@code compressed} is true. The error status of each item is parsed if any item failed.
+     */
+    public BulkResponse bulk(byte[] requestBody, int length, boolean compressed) {
+        Request request = new Request("POST", "/_bulk");
+        ByteArrayEntity entity =
+                new ByteArrayEntity(requestBody, 0, length, ContentType.APPLICATION_JSON);
+        if (compressed) {
+            entity.setContentEncoding("gzip");
+        }
+        request.setEntity(entity);
+        return bulk(
+                request,
+                compressed
+                        ? "<gzip compressed>"
+                        : new String(requestBody, 0, length, StandardCharsets.UTF_8));
+    }
+
+    private BulkResponse bulk(Request request, String requestBody) {
         try {
             Response response = restClient.performRequest(request);
             if (response == null) {
@@ -220,7 +246,10 @@ public class EsRestClient implements Closeable {
                 JsonNode json = objectMapper.readTree(entity);
                 int took = json.get("took").asInt();
                 boolean errors = json.get("errors").asBoolean();
-                return new BulkResponse(errors, took, entity);
+                if (!errors) {
+                    return new BulkResponse(false, took, entity);
+                }
+                return new BulkResponse(true, took, entity, getItemErrorStatuses(json));
             } else {
                 throw new ElasticsearchConnectorException(
                         ElasticsearchConnectorErrorCode.BULK_RESPONSE_ERROR,
@@ -236,6 +265,25 @@ public class EsRestClient implements Closeable {
         }
     }
 
+    private static int[] getItemErrorStatuses(JsonNode json) {
+        JsonNode items = json.get("items");
+        if (items == null) {
+            return new int[0];
+        }
+        int[] statuses = new int[items.size()];
+        for (int i = 0; i < items.size(); i++) {
+            // each item is an object with the action name as the only key, e.g. {"index": {...}}
+            Iterator<JsonNode> actions = items.get(i).elements();
+            if (actions.hasNext()) {
+                JsonNode result = actions.next();
+                if (result.has("error")) {
+                    statuses[i] = result.path("status").asInt();
+                }
+            }
+        }
+        return statuses;
+    }
+
     public ElasticsearchClusterInfo getClusterInfo() {
         Request request = new Request("GET", "/");
         try {
@@ -74,6 +74,26 @@ public class SinkConfig {
                     .defaultValue(3)
                     .withDescription("one bulk request max try count");
 
+    public static final Option<Long> MAX_BATCH_BYTES =
+            Options.key("max_batch_bytes")
+                    .longType()
+                    .defaultValue(5L * 1024 * 1024)
+                    .withDescription(
+                            "batch bulk request max size in bytes, a bulk request is sent when either max_batch_size or max_batch_bytes is reached");
+
+    public static final Option<Integer> MAX_CONCURRENT_REQUESTS =
+            Options.key("max_concurrent_requests")
+                    .intType()
+                    .defaultValue(1)
+                    .withDescription(
+                            "max number of bulk requests in flight while the writer keeps collecting the next batch. The writes of the same document may be reordered when it is greater than 1");
+
+    public static final Option<Boolean> BULK_COMPRESSION =
+            Options.key("bulk_compression")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription("whether to gzip compress the bulk request body");
+
     public static final Option<SchemaSaveMode> SCHEMA_SAVE_MODE =
             Options.key("schema_save_mode")
                     .enumType(SchemaSaveMode.class)
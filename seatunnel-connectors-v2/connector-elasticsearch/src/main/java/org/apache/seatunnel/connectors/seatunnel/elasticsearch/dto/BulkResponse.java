@@ -23,6 +23,8 @@ public class BulkResponse {
     private boolean errors;
     private int took;
     private String response;
+    /** The status of each failed item by the item order, or 0 if the item succeeded. */
+    private int[] itemErrorStatuses;
 
     public BulkResponse() {}
 
@@ -32,6 +34,11 @@ public class BulkResponse {
         this.response = response;
     }
 
+    public BulkResponse(boolean errors, int took, String response, int[] itemErrorStatuses) {
+        this(errors, took, response);
+        this.itemErrorStatuses = itemErrorStatuses;
+    }
+
     public boolean isErrors() {
         return errors;
     }
@@ -55,4 +62,12 @@ public class BulkResponse {
     public void setResponse(String response) {
         this.response = response;
     }
+
+    public int[] getItemErrorStatuses() {
+        return itemErrorStatuses;
+    }
+
+    public void setItemErrorStatuses(int[] itemErrorStatuses) {
+        this.itemErrorStatuses = itemErrorStatuses;
+    }
 }
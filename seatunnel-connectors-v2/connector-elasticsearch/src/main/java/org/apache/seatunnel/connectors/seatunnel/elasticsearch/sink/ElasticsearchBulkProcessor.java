@@ -0,0 +1,308 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.elasticsearch.sink;
+
+import org.apache.seatunnel.common.utils.RetryUtils.RetryMaterial;
+import org.apache.seatunnel.connectors.seatunnel.elasticsearch.dto.BulkResponse;
+import org.apache.seatunnel.connectors.seatunnel.elasticsearch.exception.ElasticsearchConnectorErrorCode;
+import org.apache.seatunnel.connectors.seatunnel.elasticsearch.exception.ElasticsearchConnectorException;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Collects the bulk actions written by {@link ElasticsearchSinkWriter} into bulk requests capped
+ * by action count and bytes, and sends them in the background while the writer keeps collecting
+ * the next request. At most {@code maxConcurrentRequests} requests are in flight. Only the items
+ * rejected by Elasticsearch (429 or 503) are retried, with exponential backoff.
+ */
+@Slf4j
+public class ElasticsearchBulkProcessor implements Closeable {
+
+    private static final long RETRY_BACKOFF_MS = 200L;
+
+    private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+
+    private final BulkRequestSender sender;
+    private final int maxBatchSize;
+    private final long maxBatchBytes;
+    private final int maxConcurrentRequests;
+    private final boolean compression;
+    private final RetryMaterial retryMaterial;
+    private final ExecutorService executor;
+    private final Semaphore inFlightRequests;
+    private final Queue<BulkBuffer> freeBuffers = new ConcurrentLinkedQueue<>();
+    private BulkBuffer currentBuffer = new BulkBuffer();
+    private volatile Throwable failure;
+
+    public ElasticsearchBulkProcessor(
+            BulkRequestSender sender,
+            int maxBatchSize,
+            long maxBatchBytes,
+            int maxConcurrentRequests,
+            int maxRetryCount,
+            boolean compression) {
+        this.sender = sender;
+        this.maxBatchSize = maxBatchSize;
+        this.maxBatchBytes = maxBatchBytes;
+        this.maxConcurrentRequests = Math.max(1, maxConcurrentRequests);
+        this.compression = compression;
+        this.retryMaterial =
+                new RetryMaterial(maxRetryCount, true, exception -> true, RETRY_BACKOFF_MS, true);
+        this.inFlightRequests = new Semaphore(this.maxConcurrentRequests);
+        this.executor =
+                Executors.newFixedThreadPool(
+                        this.maxConcurrentRequests,
+                        runnable -> {
+                            Thread thread = new Thread(runnable);
+                            thread.setDaemon(true);
+                            thread.setName("es-bulk-processor-" + THREAD_COUNT.incrementAndGet());
+                            return thread;
+                        });
+    }
+
+    /** Adds a serialized bulk action, sends the current request when it is full. */
+    public void add(String action) {
+        checkFailure();
+        currentBuffer.addItem(action);
+        if (currentBuffer.getItemCount() >= maxBatchSize
+                || currentBuffer.size() >= maxBatchBytes) {
+            send();
+        }
+    }
+
+    /** Sends the current request and waits for all the in-flight requests to complete. */
+    public void flush() {
+        send();
+        try {
+            inFlightRequests.acquire(maxConcurrentRequests);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ElasticsearchConnectorException(
+                    ElasticsearchConnectorErrorCode.BULK_RESPONSE_ERROR,
+                    "Interrupted while waiting for the bulk requests",
+                    e);
+        }
+        inFlightRequests.release(maxConcurrentRequests);
+        checkFailure();
+    }
+
+    private void send() {
+        checkFailure();
+        if (currentBuffer.getItemCount() == 0) {
+            return;
+        }
+        try {
+            // blocks while maxConcurrentRequests requests are in flight
+            inFlightRequests.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ElasticsearchConnectorException(
+                    ElasticsearchConnectorErrorCode.BULK_RESPONSE_ERROR,
+                    "Interrupted while waiting for the bulk requests",
+                    e);
+        }
+        BulkBuffer buffer = currentBuffer;
+        BulkBuffer nextBuffer = freeBuffers.poll();
+        currentBuffer = nextBuffer == null ? new BulkBuffer() : nextBuffer;
+        executor.execute(
+                () -> {
+                    try {
+                        sendWithRetry(buffer);
+                    } catch (Throwable e) {
+                        log.error("Failed to send bulk request", e);
+                        if (failure == null) {
+                            failure = e;
+                        }
+                    } finally {
+                        buffer.reset();
+                        freeBuffers.offer(buffer);
+                        inFlightRequests.release();
+                    }
+                });
+    }
+
+    private void sendWithRetry(BulkBuffer buffer) throws Exception {
+        int attempts = 0;
+        while (true) {
+            attempts++;
+            BulkResponse response;
+            try {
+                if (compression) {
+                    CompressedBuffer compressed = buffer.compress();
+                    response = sender.bulk(compressed.bytes(), compressed.size(), true);
+                } else {
+                    response = sender.bulk(buffer.bytes(), buffer.size(), false);
+                }
+            } catch (Exception e) {
+                if (attempts >= retryMaterial.getRetryTimes()) {
+                    throw e;
+                }
+                backoff(attempts, e.getMessage());
+                continue;
+            }
+            if (!response.isErrors()) {
+                return;
+            }
+            int[] statuses = response.getItemErrorStatuses();
+            if (statuses == null || statuses.length != buffer.getItemCount()) {
+                throw new ElasticsearchConnectorException(
+                        ElasticsearchConnectorErrorCode.BULK_RESPONSE_ERROR,
+                        "bulk es error: " + response.getResponse());
+            }
+            for (int status : statuses) {
+                if (status != 0 && !isRetryable(status)) {
+                    throw new ElasticsearchConnectorException(
+                            ElasticsearchConnectorErrorCode.BULK_RESPONSE_ERROR,
+                            "bulk es error: " + response.getResponse());
+                }
+            }
+            if (attempts >= retryMaterial.getRetryTimes()) {
+                throw new ElasticsearchConnectorException(
+                        ElasticsearchConnectorErrorCode.BULK_RESPONSE_ERROR,
+                        String.format(
+                                "bulk es error after %d attempts: %s",
+                                attempts, response.getResponse()));
+            }
+            int itemCount = buffer.getItemCount();
+            buffer.retainRejectedItems(statuses);
+            backoff(
+                    attempts,
+                    String.format(
+                            "%d of %d items are rejected", buffer.getItemCount(), itemCount));
+        }
+    }
+
+    private void backoff(int attempts, String reason) throws InterruptedException {
+        long backoff = retryMaterial.computeRetryWaitTimeMillis(attempts);
+        log.warn(
+                "Bulk request failed due to {}, retry attempt ({}/{}) after backoff of {} ms",
+                reason,
+                attempts,
+                retryMaterial.getRetryTimes(),
+                backoff);
+        Thread.sleep(backoff);
+    }
+
+    private static boolean isRetryable(int status) {
+        // 429 Too Many Requests and 503 Service Unavailable are returned for rejected items
+        return status == 429 || status == 503;
+    }
+
+    private void checkFailure() {
+        if (failure != null) {
+            throw new ElasticsearchConnectorException(
+                    ElasticsearchConnectorErrorCode.BULK_RESPONSE_ERROR,
+                    "ElasticSearch execute batch statement error",
+                    failure);
+        }
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    /** Sends a bulk request body of the given length. */
+    @FunctionalInterface
+    public interface BulkRequestSender {
+        BulkResponse bulk(byte[] requestBody, int length, boolean compressed);
+    }
+
+    /** The reusable buffer of a bulk request body, with the end offset of each item. */
+    private static class BulkBuffer extends ByteArrayOutputStream {
+        private int[] itemEnds = new int[16];
+        private int itemCount;
+        private CompressedBuffer compressed;
+
+        private BulkBuffer() {
+            super(8192);
+        }
+
+        private void addItem(String action) {
+            byte[] bytes = action.getBytes(StandardCharsets.UTF_8);
+            write(bytes, 0, bytes.length);
+            write('\n');
+            if (itemCount == itemEnds.length) {
+                itemEnds = Arrays.copyOf(itemEnds, itemCount * 2);
+            }
+            itemEnds[itemCount++] = count;
+        }
+
+        private int getItemCount() {
+            return itemCount;
+        }
+
+        private byte[] bytes() {
+            return buf;
+        }
+
+        /** Keeps only the items rejected with a retryable status, in their original order. */
+        private void retainRejectedItems(int[] statuses) {
+            int retainedBytes = 0;
+            int retainedItems = 0;
+            int start = 0;
+            for (int i = 0; i < itemCount; i++) {
+                int end = itemEnds[i];
+                if (isRetryable(statuses[i])) {
+                    System.arraycopy(buf, start, buf, retainedBytes, end - start);
+                    retainedBytes += end - start;
+                    itemEnds[retainedItems++] = retainedBytes;
+                }
+                start = end;
+            }
+            count = retainedBytes;
+            itemCount = retainedItems;
+        }
+
+        private CompressedBuffer compress() throws IOException {
+            if (compressed == null) {
+                compressed = new CompressedBuffer();
+            }
+            compressed.reset();
+            try (GZIPOutputStream gzip = new GZIPOutputStream(compressed, 8192)) {
+                gzip.write(buf, 0, count);
+            }
+            return compressed;
+        }
+
+        @Override
+        public synchronized void reset() {
+            super.reset();
+            itemCount = 0;
+        }
+    }
+
+    private static class CompressedBuffer extends ByteArrayOutputStream {
+        private byte[] bytes() {
+            return buf;
+        }
+    }
+}
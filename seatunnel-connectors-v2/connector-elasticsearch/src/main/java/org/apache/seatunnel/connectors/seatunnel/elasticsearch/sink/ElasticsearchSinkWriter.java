@@ -23,14 +23,9 @@ import org.apache.seatunnel.api.sink.SupportMultiTableSinkWriter;
 import org.apache.seatunnel.api.table.catalog.CatalogTable;
 import org.apache.seatunnel.api.table.type.RowKind;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
-import org.apache.seatunnel.common.exception.CommonErrorCodeDeprecated;
-import org.apache.seatunnel.common.utils.RetryUtils;
-import org.apache.seatunnel.common.utils.RetryUtils.RetryMaterial;
 import org.apache.seatunnel.connectors.seatunnel.elasticsearch.client.EsRestClient;
-import org.apache.seatunnel.connectors.seatunnel.elasticsearch.dto.BulkResponse;
+import org.apache.seatunnel.connectors.seatunnel.elasticsearch.config.SinkConfig;
 import org.apache.seatunnel.connectors.seatunnel.elasticsearch.dto.IndexInfo;
-import org.apache.seatunnel.connectors.seatunnel.elasticsearch.exception.ElasticsearchConnectorErrorCode;
-import org.apache.seatunnel.connectors.seatunnel.elasticsearch.exception.ElasticsearchConnectorException;
 import org.apache.seatunnel.connectors.seatunnel.elasticsearch.serialize.ElasticsearchRowSerializer;
 import org.apache.seatunnel.connectors.seatunnel.elasticsearch.serialize.SeaTunnelRowSerializer;
 import org.apache.seatunnel.connectors.seatunnel.elasticsearch.state.ElasticsearchCommitInfo;
@@ -39,8 +34,6 @@ import org.apache.seatunnel.connectors.seatunnel.elasticsearch.state.Elasticsear
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Optional;
 
 /**
@@ -53,13 +46,9 @@ public class ElasticsearchSinkWriter
 
     private final Context context;
 
-    private final int maxBatchSize;
-
     private final SeaTunnelRowSerializer seaTunnelRowSerializer;
-    private final List<String> requestEsList;
+    private final ElasticsearchBulkProcessor bulkProcessor;
     private EsRestClient esRestClient;
-    private RetryMaterial retryMaterial;
-    private static final long DEFAULT_SLEEP_TIME_MS = 200L;
 
     public ElasticsearchSinkWriter(
             Context context,
@@ -68,7 +57,6 @@ public class ElasticsearchSinkWriter
             int maxBatchSize,
             int maxRetryCount) {
         this.context = context;
-        this.maxBatchSize = maxBatchSize;
 
         IndexInfo indexInfo = new IndexInfo(catalogTable.getTableId().getTableName(), config);
         esRestClient = EsRestClient.createInstance(config);
@@ -78,9 +66,14 @@ public class ElasticsearchSinkWriter
                         indexInfo,
                         catalogTable.getSeaTunnelRowType());
 
-        this.requestEsList = new ArrayList<>(maxBatchSize);
-        this.retryMaterial =
-                new RetryMaterial(maxRetryCount, true, exception -> true, DEFAULT_SLEEP_TIME_MS);
+        this.bulkProcessor =
+                new ElasticsearchBulkProcessor(
+                        esRestClient::bulk,
+                        maxBatchSize,
+                        config.get(SinkConfig.MAX_BATCH_BYTES),
+                        config.get(SinkConfig.MAX_CONCURRENT_REQUESTS),
+                        maxRetryCount,
+                        config.get(SinkConfig.BULK_COMPRESSION));
     }
 
     @Override
@@ -90,51 +83,29 @@ public class ElasticsearchSinkWriter
         }
 
         String indexRequestRow = seaTunnelRowSerializer.serializeRow(element);
-        requestEsList.add(indexRequestRow);
-        if (requestEsList.size() >= maxBatchSize) {
-            bulkEsWithRetry(this.esRestClient, this.requestEsList);
+        if (indexRequestRow == null) {
+            // the row has no document id to delete
+            return;
         }
+        bulkProcessor.add(indexRequestRow);
     }
 
     @Override
     public Optional<ElasticsearchCommitInfo> prepareCommit() {
-        bulkEsWithRetry(this.esRestClient, this.requestEsList);
+        bulkProcessor.flush();
         return Optional.empty();
     }
 
     @Override
     public void abortPrepare() {}
 
-    public synchronized void bulkEsWithRetry(
-            EsRestClient esRestClient, List<String> requestEsList) {
-        try {
-            RetryUtils.retryWithException(
-                    () -> {
-                        if (requestEsList.size() > 0) {
-                            String requestBody = String.join("\n", requestEsList) + "\n";
-                            BulkResponse bulkResponse = esRestClient.bulk(requestBody);
-                            if (bulkResponse.isErrors()) {
-                                throw new ElasticsearchConnectorException(
-                                        ElasticsearchConnectorErrorCode.BULK_RESPONSE_ERROR,
-                                        "bulk es error: " + bulkResponse.getResponse());
-                            }
-                            return bulkResponse;
-                        }
-                        return null;
-                    },
-                    retryMaterial);
-            requestEsList.clear();
-        } catch (Exception e) {
-            throw new ElasticsearchConnectorException(
-                    CommonErrorCodeDeprecated.SQL_OPERATION_FAILED,
-                    "ElasticSearch execute batch statement error",
-                    e);
-        }
-    }
-
     @Override
     public void close() throws IOException {
-        bulkEsWithRetry(this.esRestClient, this.requestEsList);
-        esRestClient.close();
+        try {
+            bulkProcessor.flush();
+        } finally {
+            bulkProcessor.close();
+            esRestClient.close();
+        }
     }
 }
@@ -0,0 +1,194 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.elasticsearch.sink;
+
+import org.apache.seatunnel.connectors.seatunnel.elasticsearch.dto.BulkResponse;
+import org.apache.seatunnel.connectors.seatunnel.elasticsearch.exception.ElasticsearchConnectorException;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.zip.GZIPInputStream;
+
+public class ElasticsearchBulkProcessorTest {
+
+    @Test
+    public void testBatchesCappedByCountAndBytes() {
+        List<String> requests = Collections.synchronizedList(new ArrayList<>());
+        try (ElasticsearchBulkProcessor processor =
+                new ElasticsearchBulkProcessor(record(requests), 3, 1024, 2, 3, false)) {
+            for (int i = 0; i < 7; i++) {
+                processor.add("action" + i);
+            }
+            processor.flush();
+        }
+        Assertions.assertEquals(
+                Arrays.asList(
+                        "action0\naction1\naction2\n",
+                        "action3\naction4\naction5\n",
+                        "action6\n"),
+                sorted(requests));
+
+        requests.clear();
+        // each action takes 8 bytes with the line separator
+        try (ElasticsearchBulkProcessor processor =
+                new ElasticsearchBulkProcessor(record(requests), 100, 16, 1, 3, false)) {
+            for (int i = 0; i < 5; i++) {
+                processor.add("action" + i);
+            }
+            processor.flush();
+        }
+        Assertions.assertEquals(
+                Arrays.asList("action0\naction1\n", "action2\naction3\n", "action4\n"),
+                requests);
+    }
+
+    @Test
+    public void testRetryRejectedItems() {
+        List<String> requests = Collections.synchronizedList(new ArrayList<>());
+        Deque<int[]> statuses = new ConcurrentLinkedDeque<>();
+        statuses.add(new int[] {0, 429, 0, 503});
+        statuses.add(new int[] {429, 0});
+        try (ElasticsearchBulkProcessor processor =
+                new ElasticsearchBulkProcessor(
+                        respond(requests, statuses), 100, 1024, 1, 3, false)) {
+            for (int i = 0; i < 4; i++) {
+                processor.add("action" + i);
+            }
+            processor.flush();
+        }
+        Assertions.assertEquals(
+                Arrays.asList(
+                        "action0\naction1\naction2\naction3\n",
+                        "action1\naction3\n",
+                        "action1\n"),
+                requests);
+    }
+
+    @Test
+    public void testFailOnRejectedItemsAfterMaxRetries() {
+        List<String> requests = Collections.synchronizedList(new ArrayList<>());
+        Deque<int[]> statuses = new ConcurrentLinkedDeque<>();
+        statuses.add(new int[] {429});
+        statuses.add(new int[] {429});
+        ElasticsearchBulkProcessor processor =
+                new ElasticsearchBulkProcessor(respond(requests, statuses), 100, 1024, 1, 2, false);
+        try {
+            processor.add("action0");
+            Assertions.assertThrows(ElasticsearchConnectorException.class, processor::flush);
+            Assertions.assertEquals(2, requests.size());
+        } finally {
+            processor.close();
+        }
+    }
+
+    @Test
+    public void testFailOnNonRetryableItems() {
+        List<String> requests = Collections.synchronizedList(new ArrayList<>());
+        Deque<int[]> statuses = new ConcurrentLinkedDeque<>();
+        statuses.add(new int[] {0, 400});
+        ElasticsearchBulkProcessor processor =
+                new ElasticsearchBulkProcessor(respond(requests, statuses), 100, 1024, 1, 3, false);
+        try {
+            processor.add("action0");
+            processor.add("action1");
+            Assertions.assertThrows(ElasticsearchConnectorException.class, processor::flush);
+            Assertions.assertEquals(1, requests.size());
+            // the failure is thrown to the writer until the processor is closed
+            Assertions.assertThrows(
+                    ElasticsearchConnectorException.class, () -> processor.add("action2"));
+        } finally {
+            processor.close();
+        }
+    }
+
+    @Test
+    public void testCompressedRequest() {
+        List<String> requests = Collections.synchronizedList(new ArrayList<>());
+        try (ElasticsearchBulkProcessor processor =
+                new ElasticsearchBulkProcessor(
+                        (body, length, compressed) -> {
+                            Assertions.assertTrue(compressed);
+                            requests.add(gunzip(body, length));
+                            return new BulkResponse(false, 1, "{}");
+                        },
+                        100,
+                        1024,
+                        1,
+                        3,
+                        true)) {
+            processor.add("action0");
+            processor.add("action1");
+            processor.flush();
+            processor.add("action2");
+            processor.flush();
+        }
+        Assertions.assertEquals(Arrays.asList("action0\naction1\n", "action2\n"), requests);
+    }
+
+    private static ElasticsearchBulkProcessor.BulkRequestSender record(List<String> requests) {
+        return (body, length, compressed) -> {
+            requests.add(new String(body, 0, length, StandardCharsets.UTF_8));
+            return new BulkResponse(false, 1, "{}");
+        };
+    }
+
+    private static ElasticsearchBulkProcessor.BulkRequestSender respond(
+            List<String> requests, Deque<int[]> statuses) {
+        return (body, length, compressed) -> {
+            requests.add(new String(body, 0, length, StandardCharsets.UTF_8));
+            int[] itemStatuses = statuses.poll();
+            if (itemStatuses == null) {
+                return new BulkResponse(false, 1, "{}");
+            }
+            return new BulkResponse(true, 1, "{\"errors\":true}", itemStatuses);
+        };
+    }
+
+    private static List<String> sorted(List<String> requests) {
+        List<String> sorted = new ArrayList<>(requests);
+        Collections.sort(sorted);
+        return sorted;
+    }
+
+    private static String gunzip(byte[] body, int length) {
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(body, 0, length))) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[1024];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+            return new String(out.toByteArray(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
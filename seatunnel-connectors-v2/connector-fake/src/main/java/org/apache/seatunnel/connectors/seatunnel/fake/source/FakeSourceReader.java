@@ -91,7 +91,7 @@ public class FakeSourceReader implements SourceReader<SeaTunnelRow, FakeSourceSp
                 // Randomly generated data are sent directly to the downstream operator
                 List<SeaTunnelRow> seaTunnelRows =
                         fakeDataGenerator.generateFakedRows(split.getRowNum());
-                seaTunnelRows.forEach(output::collect);
+                output.collectBatch(seaTunnelRows);
                 log.info(
                         "{} rows of data have been generated in split({}) for table {}. Generation time: {}",
                         seaTunnelRows.size(),
@@ -81,6 +81,27 @@ public interface JdbcOptions {
     Option<Integer> BATCH_SIZE =
             Options.key("batch_size").intType().defaultValue(1000).withDescription("batch size");
 
+    Option<Boolean> ASYNC_FLUSH =
+            Options.key("async_flush")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Execute full batches on background connections while the writer keeps filling the next batch");
+
+    Option<Integer> ASYNC_FLUSH_CONNECTIONS =
+            Options.key("async_flush_connections")
+                    .intType()
+                    .defaultValue(1)
+                    .withDescription(
+                            "The number of background connections used by async flush, rows with the same primary key are always written by the same connection");
+
+    Option<Integer> MAX_IN_FLIGHT_BATCHES =
+            Options.key("max_in_flight_batches")
+                    .intType()
+                    .defaultValue(2)
+                    .withDescription(
+                            "The maximum number of batches submitted to the background connections but not yet executed, the writer blocks when it is reached");
+
     Option<Integer> FETCH_SIZE =
             Options.key("fetch_size")
                     .intType()
@@ -164,6 +185,20 @@ public interface JdbcOptions {
                     .defaultValue(false)
                     .withDescription("support copy in statement (postgresql)");
 
+    Option<Boolean> USE_MULTI_ROW_STATEMENT =
+            Options.key("use_multi_row_statement")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Write the rows of a batch with multi-row INSERT ... VALUES (...), (...) statements");
+
+    Option<Boolean> USE_STAGING_TABLE =
+            Options.key("use_staging_table")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Load each upsert batch into a temporary staging table and apply it with set-based MERGE/UPSERT and DELETE statements");
+
     /** source config */
     Option<String> PARTITION_COLUMN =
             Options.key("partition_column")
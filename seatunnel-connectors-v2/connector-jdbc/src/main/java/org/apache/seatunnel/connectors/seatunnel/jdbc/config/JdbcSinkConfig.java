@@ -45,7 +45,12 @@ public class JdbcSinkConfig implements Serializable {
     @Builder.Default private boolean isPrimaryKeyUpdated = true;
     private boolean supportUpsertByInsertOnly;
     private boolean useCopyStatement;
+    private boolean useMultiRowStatement;
+    private boolean useStagingTable;
     @Builder.Default private boolean createIndex = true;
+    private boolean asyncFlush;
+    @Builder.Default private int asyncFlushConnections = 1;
+    @Builder.Default private int maxInFlightBatches = 2;
 
     public static JdbcSinkConfig of(ReadonlyConfig config) {
         JdbcSinkConfigBuilder builder = JdbcSinkConfig.builder();
@@ -59,7 +64,12 @@ public class JdbcSinkConfig implements Serializable {
         builder.supportUpsertByInsertOnly(config.get(SUPPORT_UPSERT_BY_INSERT_ONLY));
         builder.simpleSql(config.get(JdbcOptions.QUERY));
         builder.useCopyStatement(config.get(JdbcOptions.USE_COPY_STATEMENT));
+        builder.useMultiRowStatement(config.get(JdbcOptions.USE_MULTI_ROW_STATEMENT));
+        builder.useStagingTable(config.get(JdbcOptions.USE_STAGING_TABLE));
         builder.createIndex(config.get(JdbcCatalogOptions.CREATE_INDEX));
+        builder.asyncFlush(config.get(JdbcOptions.ASYNC_FLUSH));
+        builder.asyncFlushConnections(config.get(JdbcOptions.ASYNC_FLUSH_CONNECTIONS));
+        builder.maxInFlightBatches(config.get(JdbcOptions.MAX_IN_FLIGHT_BATCHES));
         return builder.build();
     }
 }
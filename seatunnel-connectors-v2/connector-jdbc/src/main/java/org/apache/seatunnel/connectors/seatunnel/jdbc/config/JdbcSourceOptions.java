@@ -94,6 +94,22 @@ public interface JdbcSourceOptions {
                                     + "For example, a value of 1000 means a sampling rate of 1/1000. "
                                     + "This parameter is used when the sample sharding strategy is triggered.");
 
+    Option<Boolean> SPLIT_RESUMABLE =
+            Options.key("split.resumable")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Read the splits with a numeric or date split key range in split key order and emit them in "
+                                    + "bounded batches, so checkpoints can happen in the middle of a split and a restored split "
+                                    + "continues after the last split key it emitted.");
+
+    Option<Boolean> SPLIT_PREFETCH =
+            Options.key("split.prefetch")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Execute the query of the next split on a second connection while the current split is read.");
+
     Option<Boolean> USE_SELECT_COUNT =
             Options.key("use_select_count")
                     .booleanType()
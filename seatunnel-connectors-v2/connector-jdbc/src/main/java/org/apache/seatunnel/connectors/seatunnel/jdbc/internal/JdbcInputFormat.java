@@ -36,12 +36,19 @@ import org.apache.seatunnel.connectors.seatunnel.jdbc.source.JdbcSourceSplit;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import lombok.AllArgsConstructor;
+
 import java.io.IOException;
 import java.io.Serializable;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 /**
  * InputFormat to read data from a database and generate Rows. The InputFormat has to be configured
@@ -56,31 +63,58 @@ public class JdbcInputFormat implements Serializable {
     private final JdbcDialect jdbcDialect;
     private final JdbcRowConverter jdbcRowConverter;
     private final Map<TablePath, CatalogTable> tables;
-    private final ChunkSplitter chunkSplitter;
+    private ChunkSplitter chunkSplitter;
+    /** Runs the query of the next split on its own connection, null if prefetch is disabled. */
+    private ChunkSplitter prefetchSplitter;
 
     private transient String splitTableId;
     private transient TableSchema splitTableSchema;
+    private transient int splitKeyIndex;
     private transient PreparedStatement statement;
     private transient ResultSet resultSet;
     private volatile boolean hasNext;
 
+    private transient ExecutorService prefetchExecutor;
+    private transient JdbcSourceSplit prefetchedSplit;
+    private transient Future<PrefetchedResult> prefetchedResult;
+
     public JdbcInputFormat(JdbcSourceConfig config, Map<TablePath, CatalogTable> tables) {
         this.jdbcDialect =
                 JdbcDialectLoader.load(
                         config.getJdbcConnectionConfig().getUrl(), config.getCompatibleMode());
         this.chunkSplitter = ChunkSplitter.create(config);
+        if (config.isSplitPrefetch()) {
+            this.prefetchSplitter = ChunkSplitter.create(config);
+        }
         this.jdbcRowConverter = jdbcDialect.getRowConverter();
         this.tables = tables;
     }
 
-    public void openInputFormat() {}
+    public void openInputFormat() {
+        if (prefetchSplitter != null) {
+            prefetchExecutor =
+                    Executors.newSingleThreadExecutor(
+                            new ThreadFactoryBuilder()
+                                    .setNameFormat("jdbc-split-prefetch-%d")
+                                    .setDaemon(true)
+                                    .build());
+        }
+    }
 
     public void closeInputFormat() throws IOException {
         close();
+        discardPrefetchedSplit();
+        if (prefetchExecutor != null) {
+            prefetchExecutor.shutdownNow();
+            prefetchExecutor = null;
+        }
 
         if (chunkSplitter != null) {
             chunkSplitter.close();
         }
+        if (prefetchSplitter != null) {
+            prefetchSplitter.close();
+        }
     }
 
     /**
@@ -94,6 +128,23 @@ public class JdbcInputFormat implements Serializable {
         try {
             splitTableSchema = tables.get(inputSplit.getTablePath()).getTableSchema();
             splitTableId = inputSplit.getTablePath().toString();
+            splitKeyIndex =
+                    chunkSplitter.isResumable(inputSplit)
+                            ? splitTableSchema
+                                    .toPhysicalRowDataType()
+                                    .indexOf(inputSplit.getSplitKeyName(), false)
+                            : -1;
+            PrefetchedResult prefetched = takePrefetchedResult(inputSplit);
+            if (prefetched != null) {
+                // the prefetch connection now serves the open split, prefetch on the other one
+                ChunkSplitter openSplitter = prefetchSplitter;
+                prefetchSplitter = chunkSplitter;
+                chunkSplitter = openSplitter;
+                statement = prefetched.statement;
+                resultSet = prefetched.resultSet;
+                hasNext = prefetched.hasNext;
+                return;
+            }
             //zhoulj 分片查询？？？
             statement = chunkSplitter.generateSplitStatement(inputSplit, splitTableSchema);
             resultSet = statement.executeQuery();
@@ -106,6 +157,74 @@ public class JdbcInputFormat implements Serializable {
         }
     }
 
+    /**
+     * Executes the query of the split which is read next in the background, on another connection
+     * than the open split. Does nothing if prefetch is disabled or a split is already prefetched.
+     */
+    public void prefetch(JdbcSourceSplit nextSplit) {
+        if (prefetchExecutor == null || nextSplit == null || prefetchedResult != null) {
+            return;
+        }
+        TableSchema schema = tables.get(nextSplit.getTablePath()).getTableSchema();
+        ChunkSplitter splitter = prefetchSplitter;
+        prefetchedSplit = nextSplit;
+        prefetchedResult =
+                prefetchExecutor.submit(
+                        () -> {
+                            PreparedStatement prefetchStatement =
+                                    splitter.generateSplitStatement(nextSplit, schema);
+                            try {
+                                ResultSet prefetchResultSet = prefetchStatement.executeQuery();
+                                return new PrefetchedResult(
+                                        prefetchStatement,
+                                        prefetchResultSet,
+                                        prefetchResultSet.next());
+                            } catch (SQLException e) {
+                                prefetchStatement.close();
+                                throw e;
+                            }
+                        });
+    }
+
+    private PrefetchedResult takePrefetchedResult(JdbcSourceSplit split) throws SQLException {
+        if (prefetchedResult == null) {
+            return null;
+        }
+        if (prefetchedSplit != split) {
+            discardPrefetchedSplit();
+            return null;
+        }
+        Future<PrefetchedResult> result = prefetchedResult;
+        prefetchedSplit = null;
+        prefetchedResult = null;
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while prefetching split " + split.splitId(), e);
+        } catch (ExecutionException e) {
+            throw new SQLException("Failed to prefetch split " + split.splitId(), e.getCause());
+        }
+    }
+
+    private void discardPrefetchedSplit() {
+        if (prefetchedResult == null) {
+            return;
+        }
+        Future<PrefetchedResult> result = prefetchedResult;
+        prefetchedSplit = null;
+        prefetchedResult = null;
+        try {
+            PrefetchedResult prefetched = result.get();
+            prefetched.resultSet.close();
+            prefetched.statement.close();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | SQLException e) {
+            LOG.info("Discarded prefetched split couldn't be closed - " + e.getMessage());
+        }
+    }
+
     /**
      * Closes all resources used.
      *
@@ -137,6 +256,16 @@ public class JdbcInputFormat implements Serializable {
         return !hasNext;
     }
 
+    /** Whether the open split is read in split key order and can resume after a split key. */
+    public boolean isSplitResumable() {
+        return splitKeyIndex >= 0;
+    }
+
+    /** The split key of a record of the open split, null if the split is not resumable. */
+    public Object getSplitKey(SeaTunnelRow record) {
+        return splitKeyIndex >= 0 ? record.getField(splitKeyIndex) : null;
+    }
+
     /** Convert a row of data to seatunnelRow */
     public SeaTunnelRow nextRecord() {
         try {
@@ -162,4 +291,11 @@ public class JdbcInputFormat implements Serializable {
                     npe);
         }
     }
+
+    @AllArgsConstructor
+    private static class PrefetchedResult {
+        private final PreparedStatement statement;
+        private final ResultSet resultSet;
+        private final boolean hasNext;
+    }
 }
@@ -28,11 +28,25 @@ import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor.JdbcBatc
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
 import java.io.IOException;
 import java.io.Serializable;
+import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 
 /** A JDBC outputFormat */
@@ -46,8 +60,10 @@ public class JdbcOutputFormat<I, E extends JdbcBatchStatementExecutor<I>> implem
 
     private final JdbcConnectionConfig jdbcConnectionConfig;
     private final StatementExecutorFactory<E> statementExecutorFactory;
+    private final AsyncFlushOptions<I> asyncFlushOptions;
 
     private transient E jdbcStatementExecutor;
+    private transient AsyncFlushPipeline asyncFlushPipeline;
     private transient int batchCount = 0;
     private transient volatile boolean closed = false;
     private transient volatile Exception flushException;
@@ -56,9 +72,18 @@ public class JdbcOutputFormat<I, E extends JdbcBatchStatementExecutor<I>> implem
             JdbcConnectionProvider connectionProvider,
             JdbcConnectionConfig jdbcConnectionConfig,
             StatementExecutorFactory<E> statementExecutorFactory) {
+        this(connectionProvider, jdbcConnectionConfig, statementExecutorFactory, null);
+    }
+
+    public JdbcOutputFormat(
+            JdbcConnectionProvider connectionProvider,
+            JdbcConnectionConfig jdbcConnectionConfig,
+            StatementExecutorFactory<E> statementExecutorFactory,
+            AsyncFlushOptions<I> asyncFlushOptions) {
         this.connectionProvider = checkNotNull(connectionProvider);
         this.jdbcConnectionConfig = checkNotNull(jdbcConnectionConfig);
         this.statementExecutorFactory = checkNotNull(statementExecutorFactory);
+        this.asyncFlushOptions = asyncFlushOptions;
     }
 
     /** Connects to the target database and initializes the prepared statement. */
@@ -71,10 +96,13 @@ public class JdbcOutputFormat<I, E extends JdbcBatchStatementExecutor<I>> implem
                     "unable to open JDBC writer",
                     e);
         }
-        jdbcStatementExecutor = createAndOpenStatementExecutor(statementExecutorFactory);
+        jdbcStatementExecutor = createAndOpenStatementExecutor(connectionProvider);
+        if (asyncFlushOptions != null) {
+            asyncFlushPipeline = new AsyncFlushPipeline(asyncFlushOptions);
+        }
     }
 
-    private E createAndOpenStatementExecutor(StatementExecutorFactory<E> statementExecutorFactory) {
+    private E createAndOpenStatementExecutor(JdbcConnectionProvider connectionProvider) {
         E exec = statementExecutorFactory.get();
         try {
             exec.prepareStatements(connectionProvider.getConnection());
@@ -101,7 +129,8 @@ public class JdbcOutputFormat<I, E extends JdbcBatchStatementExecutor<I>> implem
         try {
             addToBatch(record);
             batchCount++;
-            if (jdbcConnectionConfig.getBatchSize() > 0
+            if (asyncFlushPipeline == null
+                    && jdbcConnectionConfig.getBatchSize() > 0
                     && batchCount >= jdbcConnectionConfig.getBatchSize()) {
                 flush();
             }
@@ -113,8 +142,12 @@ public class JdbcOutputFormat<I, E extends JdbcBatchStatementExecutor<I>> implem
         }
     }
 
-    protected void addToBatch(I record) throws SQLException {
-        jdbcStatementExecutor.addToBatch(record);
+    protected void addToBatch(I record) throws SQLException, InterruptedException {
+        if (asyncFlushPipeline != null) {
+            asyncFlushPipeline.add(record);
+        } else {
+            jdbcStatementExecutor.addToBatch(record);
+        }
     }
 
     public synchronized void flush() throws IOException {
@@ -129,12 +162,20 @@ public class JdbcOutputFormat<I, E extends JdbcBatchStatementExecutor<I>> implem
             LOG.debug("No data to flush.");
             return;
         }
+        if (asyncFlushPipeline != null) {
+            asyncFlushPipeline.awaitInFlightBatches();
+            batchCount = 0;
+            return;
+        }
+        executeBatchWithRetries(connectionProvider, jdbcStatementExecutor);
+        batchCount = 0;
+    }
 
+    private void executeBatchWithRetries(JdbcConnectionProvider connectionProvider, E executor) {
         final int sleepMs = 1000;
         for (int i = 0; i <= jdbcConnectionConfig.getMaxRetries(); i++) {
             try {
-                attemptFlush();
-                batchCount = 0;
+                attemptFlush(executor);
                 break;
             } catch (SQLException e) {
                 LOG.error("JDBC executeBatch error, retry times = {}", i, e);
@@ -144,7 +185,7 @@ public class JdbcOutputFormat<I, E extends JdbcBatchStatementExecutor<I>> implem
                 }
                 try {
                     if (!connectionProvider.isConnectionValid()) {
-                        updateExecutor(true);
+                        updateExecutor(connectionProvider, executor, true);
                     }
                 } catch (Exception exception) {
                     LOG.error(
@@ -168,8 +209,8 @@ public class JdbcOutputFormat<I, E extends JdbcBatchStatementExecutor<I>> implem
         }
     }
 
-    protected void attemptFlush() throws SQLException {
-        jdbcStatementExecutor.executeBatch();
+    protected void attemptFlush(E executor) throws SQLException {
+        executor.executeBatch();
     }
 
     /** Executes prepared statement and closes all resources of this instance. */
@@ -190,6 +231,7 @@ public class JdbcOutputFormat<I, E extends JdbcBatchStatementExecutor<I>> implem
                 }
             }
 
+            closeAsyncFlushPipeline();
             try {
                 if (jdbcStatementExecutor != null) {
                     jdbcStatementExecutor.closeStatements();
@@ -202,21 +244,247 @@ public class JdbcOutputFormat<I, E extends JdbcBatchStatementExecutor<I>> implem
         checkFlushException();
     }
 
+    /**
+     * Stops the background connections of the async flush mode, the pending batches must have been
+     * flushed before. The main connection stays open, so the connection provider can be reused by
+     * another output format.
+     */
+    public synchronized void closeAsyncFlushPipeline() {
+        if (asyncFlushPipeline != null) {
+            asyncFlushPipeline.close();
+            asyncFlushPipeline = null;
+        }
+    }
+
     public void updateExecutor(boolean reconnect) throws SQLException, ClassNotFoundException {
+        updateExecutor(connectionProvider, jdbcStatementExecutor, reconnect);
+    }
+
+    private void updateExecutor(
+            JdbcConnectionProvider connectionProvider, E executor, boolean reconnect)
+            throws SQLException, ClassNotFoundException {
         try {
-            jdbcStatementExecutor.closeStatements();
+            executor.closeStatements();
         } catch (SQLException e) {
             if (!reconnect) {
                 throw e;
             }
             LOG.error("Close JDBC statement failed on reconnect.", e);
         }
-        jdbcStatementExecutor.prepareStatements(
+        executor.prepareStatements(
                 reconnect
                         ? connectionProvider.reestablishConnection()
                         : connectionProvider.getConnection());
     }
 
+    /**
+     * Executes full batches on background threads while the writer keeps filling the next batch.
+     *
+     * <p>Records are routed to a fixed number of lanes, each lane owns a connection, a statement
+     * executor and a single thread, so the batches of a lane are executed in submission order. The
+     * first lane reuses the connection of the output format, which keeps the commit of the sink
+     * writer meaningful. Records with the same key always go to the same lane, records without a
+     * key go to the lanes in turn, batch by batch.
+     */
+    private class AsyncFlushPipeline {
+        private final Function<I, Object> keySelector;
+        private final int maxInFlightBatches;
+        private final Semaphore inFlightBatches;
+        private final List<Lane> lanes = new ArrayList<>();
+        private int nextLane = 0;
+
+        AsyncFlushPipeline(AsyncFlushOptions<I> options) {
+            checkArgument(options.getConnections() > 0, "async flush connections must be > 0");
+            checkArgument(
+                    options.getMaxInFlightBatches() > 0, "max in-flight batches must be > 0");
+            this.keySelector = options.getKeySelector();
+            this.maxInFlightBatches = options.getMaxInFlightBatches();
+            this.inFlightBatches = new Semaphore(maxInFlightBatches);
+            lanes.add(new Lane(0, connectionProvider, jdbcStatementExecutor));
+            try {
+                for (int i = 1; i < options.getConnections(); i++) {
+                    JdbcConnectionProvider provider =
+                            options.getConnectionProviderFactory().get();
+                    provider.getOrEstablishConnection();
+                    lanes.add(new Lane(i, provider, createAndOpenStatementExecutor(provider)));
+                }
+            } catch (Exception e) {
+                close();
+                throw new JdbcConnectorException(
+                        JdbcConnectorErrorCode.CONNECT_DATABASE_FAILED,
+                        "unable to open JDBC async flush connection",
+                        e);
+            }
+        }
+
+        void add(I record) throws InterruptedException {
+            Lane lane;
+            if (keySelector == null) {
+                lane = lanes.get(nextLane);
+            } else {
+                lane = lanes.get(Math.floorMod(keySelector.apply(record).hashCode(), lanes.size()));
+            }
+            lane.buffer.add(record);
+            if (jdbcConnectionConfig.getBatchSize() > 0
+                    && lane.buffer.size() >= jdbcConnectionConfig.getBatchSize()) {
+                submit(lane);
+            }
+        }
+
+        private void submit(Lane lane) throws InterruptedException {
+            if (lane.buffer.isEmpty()) {
+                return;
+            }
+            List<I> batch = lane.buffer;
+            lane.buffer = new ArrayList<>(batch.size());
+            // blocks the writer once too many batches wait for a connection
+            inFlightBatches.acquire();
+            try {
+                lane.worker.execute(() -> lane.execute(batch));
+            } catch (RejectedExecutionException e) {
+                inFlightBatches.release();
+                throw e;
+            }
+            if (keySelector == null && lane.index == nextLane) {
+                nextLane = (nextLane + 1) % lanes.size();
+            }
+        }
+
+        /**
+         * Submits the partially filled batches and waits until every batch has been executed, then
+         * commits the background connections. It is the barrier of {@link #flush()}, nothing is
+         * committed if a batch failed.
+         */
+        void awaitInFlightBatches() {
+            try {
+                for (Lane lane : lanes) {
+                    submit(lane);
+                }
+                inFlightBatches.acquire(maxInFlightBatches);
+                inFlightBatches.release(maxInFlightBatches);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new JdbcConnectorException(
+                        CommonErrorCodeDeprecated.FLUSH_DATA_FAILED,
+                        "unable to flush; interrupted while waiting for in-flight batches",
+                        e);
+            }
+            checkFlushException();
+            for (Lane lane : lanes) {
+                if (lane.index > 0) {
+                    lane.commit();
+                }
+            }
+        }
+
+        void close() {
+            for (Lane lane : lanes) {
+                lane.worker.shutdown();
+            }
+            for (Lane lane : lanes) {
+                try {
+                    if (!lane.worker.awaitTermination(1, TimeUnit.MINUTES)) {
+                        lane.worker.shutdownNow();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    lane.worker.shutdownNow();
+                }
+                if (lane.index > 0) {
+                    try {
+                        lane.executor.closeStatements();
+                    } catch (SQLException e) {
+                        LOG.warn("Close JDBC async flush statement failed.", e);
+                    }
+                    lane.connectionProvider.closeConnection();
+                }
+            }
+            lanes.clear();
+        }
+
+        private class Lane {
+            private final int index;
+            private final JdbcConnectionProvider connectionProvider;
+            private final E executor;
+            private final ExecutorService worker;
+            private List<I> buffer = new ArrayList<>();
+
+            Lane(int index, JdbcConnectionProvider connectionProvider, E executor) {
+                this.index = index;
+                this.connectionProvider = connectionProvider;
+                this.executor = executor;
+                this.worker =
+                        Executors.newSingleThreadExecutor(
+                                new ThreadFactoryBuilder()
+                                        .setNameFormat("jdbc-async-flush-" + index)
+                                        .setDaemon(true)
+                                        .build());
+            }
+
+            private void execute(List<I> batch) {
+                try {
+                    // the batches behind a failed one are dropped, the writer fails anyway
+                    if (flushException == null) {
+                        for (I record : batch) {
+                            executor.addToBatch(record);
+                        }
+                        executeBatchWithRetries(connectionProvider, executor);
+                    }
+                } catch (Exception e) {
+                    LOG.error("JDBC async flush failed.", e);
+                    if (flushException == null) {
+                        flushException = e;
+                    }
+                } finally {
+                    inFlightBatches.release();
+                }
+            }
+
+            private void commit() {
+                try {
+                    Connection connection = connectionProvider.getConnection();
+                    if (!connection.getAutoCommit()) {
+                        connection.commit();
+                    }
+                } catch (SQLException e) {
+                    throw new JdbcConnectorException(
+                            JdbcConnectorErrorCode.TRANSACTION_OPERATION_FAILED,
+                            "commit failed," + e.getMessage(),
+                            e);
+                }
+            }
+        }
+    }
+
+    /**
+     * The settings of the async flush mode.
+     *
+     * @param <I> The type of the records.
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class AsyncFlushOptions<I> implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        private final int connections;
+        private final int maxInFlightBatches;
+        /** Extracts the routing key of a record, {@code null} if records have no key. */
+        private final RecordKeySelector<I> keySelector;
+        /** Creates the connections of the lanes except the first one. */
+        private final ConnectionProviderFactory connectionProviderFactory;
+    }
+
+    /**
+     * Extracts the key that decides which connection writes a record.
+     *
+     * @param <T> The type of the records.
+     */
+    public interface RecordKeySelector<T> extends Function<T, Object>, Serializable {}
+
+    /** A factory for creating the background {@link JdbcConnectionProvider} instances. */
+    public interface ConnectionProviderFactory
+            extends Supplier<JdbcConnectionProvider>, Serializable {}
+
     /**
      * A factory for creating {@link JdbcBatchStatementExecutor} instance.
      *
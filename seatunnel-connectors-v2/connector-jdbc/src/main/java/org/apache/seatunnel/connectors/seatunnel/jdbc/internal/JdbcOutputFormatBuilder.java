@@ -21,6 +21,7 @@ import org.apache.seatunnel.api.table.catalog.Column;
 import org.apache.seatunnel.api.table.catalog.TablePath;
 import org.apache.seatunnel.api.table.catalog.TableSchema;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.config.JdbcSinkConfig;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.connection.JdbcConnectionProvider;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.converter.JdbcRowConverter;
@@ -31,7 +32,9 @@ import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor.CopyMana
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor.FieldNamedPreparedStatement;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor.InsertOrUpdateBatchStatementExecutor;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor.JdbcBatchStatementExecutor;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor.MultiRowBatchStatementExecutor;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor.SimpleBatchStatementExecutor;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor.StagingMergeBatchStatementExecutor;
 
 import org.apache.commons.lang3.StringUtils;
 
@@ -64,6 +67,7 @@ public class JdbcOutputFormatBuilder {
                                 jdbcSinkConfig.getDatabase() + "." + jdbcSinkConfig.getTable()));
 
         final List<String> primaryKeys = jdbcSinkConfig.getPrimaryKeys();
+        JdbcOutputFormat.RecordKeySelector<SeaTunnelRow> keySelector = null;
         if (jdbcSinkConfig.isUseCopyStatement()) {
             statementExecutorFactory =
                     () ->
@@ -78,30 +82,90 @@ public class JdbcOutputFormatBuilder {
                                     tableSchema,
                                     dialect.getRowConverter());
         } else if (primaryKeys == null || primaryKeys.isEmpty()) {
-            statementExecutorFactory =
-                    () -> createSimpleBufferedExecutor(dialect, database, table, tableSchema);
-        } else {
             statementExecutorFactory =
                     () ->
-                            createUpsertBufferedExecutor(
+                            createSimpleBufferedExecutor(
                                     dialect,
                                     database,
                                     table,
                                     tableSchema,
-                                    primaryKeys.toArray(new String[0]),
-                                    jdbcSinkConfig.isEnableUpsert(),
-                                    jdbcSinkConfig.isPrimaryKeyUpdated(),
-                                    jdbcSinkConfig.isSupportUpsertByInsertOnly());
+                                    jdbcSinkConfig.isUseMultiRowStatement());
+        } else {
+            Function<SeaTunnelRow, SeaTunnelRow> keyExtractor =
+                    createKeyExtractor(
+                            primaryKeys.stream()
+                                    .mapToInt(tableSchema.toPhysicalRowDataType()::indexOf)
+                                    .toArray());
+            keySelector = keyExtractor::apply;
+            String[] pkNames = primaryKeys.toArray(new String[0]);
+            boolean useStagingTable = jdbcSinkConfig.isUseStagingTable();
+            if (useStagingTable && jdbcSinkConfig.isExactlyOnce()) {
+                log.warn(
+                        "The staging table mode doesn't support is_exactly_once, write {} row by row",
+                        table);
+                useStagingTable = false;
+            }
+            if (useStagingTable
+                    && supportsStagingTable(dialect, database, table, tableSchema, pkNames)) {
+                statementExecutorFactory =
+                        () ->
+                                createStagingMergeExecutor(
+                                        dialect, database, table, tableSchema, pkNames);
+            } else {
+                if (useStagingTable) {
+                    log.warn(
+                            "The {} dialect does not support staging tables, write {} row by row",
+                            dialect.dialectName(),
+                            table);
+                }
+                statementExecutorFactory =
+                        () ->
+                                createUpsertBufferedExecutor(
+                                        dialect,
+                                        database,
+                                        table,
+                                        tableSchema,
+                                        pkNames,
+                                        jdbcSinkConfig.isEnableUpsert(),
+                                        jdbcSinkConfig.isPrimaryKeyUpdated(),
+                                        jdbcSinkConfig.isSupportUpsertByInsertOnly(),
+                                        jdbcSinkConfig.isUseMultiRowStatement());
+            }
+        }
+
+        JdbcOutputFormat.AsyncFlushOptions<SeaTunnelRow> asyncFlushOptions = null;
+        if (jdbcSinkConfig.isAsyncFlush() && !jdbcSinkConfig.isExactlyOnce()) {
+            asyncFlushOptions =
+                    new JdbcOutputFormat.AsyncFlushOptions<>(
+                            jdbcSinkConfig.getAsyncFlushConnections(),
+                            jdbcSinkConfig.getMaxInFlightBatches(),
+                            keySelector,
+                            () ->
+                                    dialect.getJdbcConnectionProvider(
+                                            jdbcSinkConfig.getJdbcConnectionConfig()));
         }
 
         return new JdbcOutputFormat(
                 connectionProvider,
                 jdbcSinkConfig.getJdbcConnectionConfig(),
-                statementExecutorFactory);
+                statementExecutorFactory,
+                asyncFlushOptions);
     }
 
     private static JdbcBatchStatementExecutor<SeaTunnelRow> createSimpleBufferedExecutor(
-            JdbcDialect dialect, String database, String table, TableSchema tableSchema) {
+            JdbcDialect dialect,
+            String database,
+            String table,
+            TableSchema tableSchema,
+            boolean useMultiRowStatement) {
+        if (useMultiRowStatement) {
+            Optional<JdbcBatchStatementExecutor<SeaTunnelRow>> multiRowExecutor =
+                    createMultiRowInsertExecutor(dialect, database, table, tableSchema);
+            if (multiRowExecutor.isPresent()) {
+                return new BufferedBatchStatementExecutor(
+                        multiRowExecutor.get(), Function.identity());
+            }
+        }
         String insertSQL =
                 dialect.getInsertIntoStatement(database, table, tableSchema.getFieldNames());
         return createSimpleBufferedExecutor(insertSQL, tableSchema, dialect.getRowConverter());
@@ -122,20 +186,14 @@ public class JdbcOutputFormatBuilder {
             String[] pkNames,
             boolean enableUpsert,
             boolean isPrimaryKeyUpdated,
-            boolean supportUpsertByInsertOnly) {
+            boolean supportUpsertByInsertOnly,
+            boolean useMultiRowStatement) {
         int[] pkFields =
                 Arrays.stream(pkNames)
                         .mapToInt(tableSchema.toPhysicalRowDataType()::indexOf)
                         .toArray();
 
-        TableSchema pkSchema =
-                TableSchema.builder()
-                        .columns(
-                                Arrays.stream(pkFields)
-                                        .mapToObj(
-                                                (IntFunction<Column>) tableSchema.getColumns()::get)
-                                        .collect(Collectors.toList()))
-                        .build();
+        TableSchema pkSchema = createKeySchema(tableSchema, pkFields);
 
         Function<SeaTunnelRow, SeaTunnelRow> keyExtractor = createKeyExtractor(pkFields);
         JdbcBatchStatementExecutor<SeaTunnelRow> deleteExecutor =
@@ -151,11 +209,101 @@ public class JdbcOutputFormatBuilder {
                         keyExtractor,
                         enableUpsert,
                         isPrimaryKeyUpdated,
-                        supportUpsertByInsertOnly);
+                        supportUpsertByInsertOnly,
+                        useMultiRowStatement);
         return new BufferReducedBatchStatementExecutor(
                 upsertExecutor, deleteExecutor, keyExtractor, Function.identity());
     }
 
+    private static boolean supportsStagingTable(
+            JdbcDialect dialect,
+            String database,
+            String table,
+            TableSchema tableSchema,
+            String[] pkNames) {
+        String stagingTable = stagingTableName(database, table);
+        return dialect.getCreateStagingTableStatement(
+                                database, table, stagingTable, tableSchema.getFieldNames())
+                        .isPresent()
+                && dialect.getStagingUpsertStatement(
+                                database, table, stagingTable, tableSchema.getFieldNames(), pkNames)
+                        .isPresent()
+                && dialect.getStagingDeleteStatement(database, table, stagingTable, pkNames)
+                        .isPresent();
+    }
+
+    private static JdbcBatchStatementExecutor<SeaTunnelRow> createStagingMergeExecutor(
+            JdbcDialect dialect,
+            String database,
+            String table,
+            TableSchema tableSchema,
+            String[] pkNames) {
+        int[] pkFields =
+                Arrays.stream(pkNames)
+                        .mapToInt(tableSchema.toPhysicalRowDataType()::indexOf)
+                        .toArray();
+        TableSchema pkSchema = createKeySchema(tableSchema, pkFields);
+        String[] fieldNames = tableSchema.getFieldNames();
+        String upsertStagingTable = stagingTableName(database, table) + "_upsert";
+        String deleteStagingTable = stagingTableName(database, table) + "_delete";
+        return new StagingMergeBatchStatementExecutor(
+                Arrays.asList(
+                        dialect.getCreateStagingTableStatement(
+                                        database, table, upsertStagingTable, fieldNames)
+                                .get(),
+                        dialect.getCreateStagingTableStatement(
+                                        database, table, deleteStagingTable, pkNames)
+                                .get()),
+                Arrays.asList(
+                        dialect.getTruncateStagingTableStatement(database, upsertStagingTable),
+                        dialect.getTruncateStagingTableStatement(database, deleteStagingTable)),
+                createStagingLoadExecutor(dialect, database, upsertStagingTable, tableSchema),
+                createStagingLoadExecutor(dialect, database, deleteStagingTable, pkSchema),
+                dialect.getStagingUpsertStatement(
+                                database, table, upsertStagingTable, fieldNames, pkNames)
+                        .get(),
+                dialect.getStagingDeleteStatement(database, table, deleteStagingTable, pkNames)
+                        .get(),
+                createKeyExtractor(pkFields));
+    }
+
+    private static JdbcBatchStatementExecutor<SeaTunnelRow> createStagingLoadExecutor(
+            JdbcDialect dialect, String database, String stagingTable, TableSchema tableSchema) {
+        String[] fieldNames = tableSchema.getFieldNames();
+        Optional<String> copySQL =
+                dialect.getStagingCopyStatement(database, stagingTable, fieldNames);
+        if (copySQL.isPresent() && isCsvCopySupported(tableSchema)) {
+            return new CopyManagerBatchStatementExecutor(copySQL.get(), tableSchema);
+        }
+        return new MultiRowBatchStatementExecutor(
+                rows -> dialect.getStagingInsertStatement(database, stagingTable, fieldNames, rows),
+                tableSchema,
+                dialect.getRowConverter(),
+                dialect.getMaxStatementParameters());
+    }
+
+    /** Binary and nested values have no lossless CSV form for {@code COPY}. */
+    private static boolean isCsvCopySupported(TableSchema tableSchema) {
+        SeaTunnelRowType rowType = tableSchema.toPhysicalRowDataType();
+        for (int i = 0; i < rowType.getTotalFields(); i++) {
+            switch (rowType.getFieldType(i).getSqlType()) {
+                case BYTES:
+                case MAP:
+                case ARRAY:
+                case ROW:
+                    return false;
+                default:
+                    break;
+            }
+        }
+        return true;
+    }
+
+    /** Session scoped staging tables only need to be distinct per target table. */
+    private static String stagingTableName(String database, String table) {
+        return String.format("st_staging_%08x", (database + "." + table).hashCode());
+    }
+
     private static JdbcBatchStatementExecutor<SeaTunnelRow> createUpsertExecutor(
             JdbcDialect dialect,
             String database,
@@ -166,14 +314,30 @@ public class JdbcOutputFormatBuilder {
             Function<SeaTunnelRow, SeaTunnelRow> keyExtractor,
             boolean enableUpsert,
             boolean isPrimaryKeyUpdated,
-            boolean supportUpsertByInsertOnly) {
+            boolean supportUpsertByInsertOnly,
+            boolean useMultiRowStatement) {
         if (supportUpsertByInsertOnly) {
+            if (useMultiRowStatement) {
+                Optional<JdbcBatchStatementExecutor<SeaTunnelRow>> multiRowExecutor =
+                        createMultiRowInsertExecutor(dialect, database, table, tableSchema);
+                if (multiRowExecutor.isPresent()) {
+                    return multiRowExecutor.get();
+                }
+            }
             return createInsertOnlyExecutor(dialect, database, table, tableSchema);
         }
         if (enableUpsert) {
             Optional<String> upsertSQL =
                     dialect.getUpsertStatement(
                             database, table, tableSchema.getFieldNames(), pkNames);
+            if (upsertSQL.isPresent() && useMultiRowStatement) {
+                Optional<JdbcBatchStatementExecutor<SeaTunnelRow>> multiRowExecutor =
+                        createMultiRowUpsertExecutor(
+                                dialect, database, table, tableSchema, pkNames);
+                if (multiRowExecutor.isPresent()) {
+                    return multiRowExecutor.get();
+                }
+            }
             if (upsertSQL.isPresent()) {
                 return createSimpleExecutor(
                         upsertSQL.get(), tableSchema, dialect.getRowConverter());
@@ -222,6 +386,45 @@ public class JdbcOutputFormatBuilder {
                 dialect.getRowConverter());
     }
 
+    private static Optional<JdbcBatchStatementExecutor<SeaTunnelRow>> createMultiRowInsertExecutor(
+            JdbcDialect dialect, String database, String table, TableSchema tableSchema) {
+        String[] fieldNames = tableSchema.getFieldNames();
+        if (!dialect.getMultiRowInsertIntoStatement(database, table, fieldNames, 1).isPresent()) {
+            return Optional.empty();
+        }
+        return Optional.of(
+                new MultiRowBatchStatementExecutor(
+                        rows ->
+                                dialect.getMultiRowInsertIntoStatement(
+                                                database, table, fieldNames, rows)
+                                        .get(),
+                        tableSchema,
+                        dialect.getRowConverter(),
+                        dialect.getMaxStatementParameters()));
+    }
+
+    private static Optional<JdbcBatchStatementExecutor<SeaTunnelRow>> createMultiRowUpsertExecutor(
+            JdbcDialect dialect,
+            String database,
+            String table,
+            TableSchema tableSchema,
+            String[] pkNames) {
+        String[] fieldNames = tableSchema.getFieldNames();
+        if (!dialect.getMultiRowUpsertStatement(database, table, fieldNames, pkNames, 1)
+                .isPresent()) {
+            return Optional.empty();
+        }
+        return Optional.of(
+                new MultiRowBatchStatementExecutor(
+                        rows ->
+                                dialect.getMultiRowUpsertStatement(
+                                                database, table, fieldNames, pkNames, rows)
+                                        .get(),
+                        tableSchema,
+                        dialect.getRowConverter(),
+                        dialect.getMaxStatementParameters()));
+    }
+
     private static JdbcBatchStatementExecutor<SeaTunnelRow> createInsertOrUpdateExecutor(
             JdbcDialect dialect,
             String database,
@@ -308,6 +511,15 @@ public class JdbcOutputFormatBuilder {
                 rowConverter);
     }
 
+    private static TableSchema createKeySchema(TableSchema tableSchema, int[] pkFields) {
+        return TableSchema.builder()
+                .columns(
+                        Arrays.stream(pkFields)
+                                .mapToObj((IntFunction<Column>) tableSchema.getColumns()::get)
+                                .collect(Collectors.toList()))
+                .build();
+    }
+
     static Function<SeaTunnelRow, SeaTunnelRow> createKeyExtractor(int[] pkFields) {
         return row -> {
             Object[] fields = new Object[pkFields.length];
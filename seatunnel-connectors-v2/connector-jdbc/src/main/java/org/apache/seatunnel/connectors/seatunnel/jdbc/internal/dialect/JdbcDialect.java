@@ -48,6 +48,7 @@ import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -228,6 +229,139 @@ public interface JdbcDialect extends Serializable {
     Optional<String> getUpsertStatement(
             String database, String tableName, String[] fieldNames, String[] uniqueKeyFields);
 
+    /**
+     * Constructs the dialects insert statement for {@code rows} rows. The returned string will be
+     * used as a {@link java.sql.PreparedStatement} with positional parameters, the parameters of
+     * each row follow the order of the {@code fieldNames} parameter and the rows follow each other.
+     *
+     * <pre>{@code
+     * INSERT INTO table_name (column_name [, ...]) VALUES (? [, ...]) [, ...]
+     * }</pre>
+     *
+     * @return the dialects multi-row {@code INSERT INTO} statement or {@link Optional#empty()} if
+     *     the database does not support multi-row {@code VALUES}.
+     */
+    default Optional<String> getMultiRowInsertIntoStatement(
+            String database, String tableName, String[] fieldNames, int rows) {
+        return Optional.of(
+                buildMultiRowInsertIntoStatement(
+                        tableIdentifier(database, tableName), fieldNames, rows));
+    }
+
+    /** Builds a multi-row {@code INSERT INTO} statement for an already quoted table identifier. */
+    default String buildMultiRowInsertIntoStatement(
+            String tableIdentifier, String[] fieldNames, int rows) {
+        String columns =
+                Arrays.stream(fieldNames)
+                        .map(this::quoteIdentifier)
+                        .collect(Collectors.joining(", "));
+        String row =
+                Arrays.stream(fieldNames)
+                        .map(fieldName -> "?")
+                        .collect(Collectors.joining(", ", "(", ")"));
+        return String.format(
+                "INSERT INTO %s (%s) VALUES %s",
+                tableIdentifier,
+                columns,
+                String.join(", ", Collections.nCopies(rows, row)));
+    }
+
+    /**
+     * Constructs the dialects upsert statement for {@code rows} rows if supported, the parameters
+     * are laid out like in {@link #getMultiRowInsertIntoStatement(String, String, String[], int)}.
+     * The rows of one statement never share a unique key.
+     *
+     * @return the dialects multi-row {@code UPSERT} statement or {@link Optional#empty()}.
+     */
+    default Optional<String> getMultiRowUpsertStatement(
+            String database,
+            String tableName,
+            String[] fieldNames,
+            String[] uniqueKeyFields,
+            int rows) {
+        return Optional.empty();
+    }
+
+    /**
+     * The maximum number of parameters of a single statement, it limits the number of rows of the
+     * multi-row statements.
+     */
+    default int getMaxStatementParameters() {
+        return 32767;
+    }
+
+    /**
+     * Constructs the statement creating the session scoped staging table {@code stagingTableName}
+     * of the staging table mode, with the columns {@code fieldNames} of the target table and
+     * without its constraints. The statement must succeed if the staging table already exists.
+     *
+     * @return the dialects create staging table statement or {@link Optional#empty()} if the
+     *     dialect does not support the staging table mode.
+     */
+    default Optional<String> getCreateStagingTableStatement(
+            String database, String tableName, String stagingTableName, String[] fieldNames) {
+        return Optional.empty();
+    }
+
+    /** The identifier the statements of the staging table mode refer to a staging table with. */
+    default String stagingTableIdentifier(String database, String stagingTableName) {
+        return tableIdentifier(database, stagingTableName);
+    }
+
+    /** Constructs the statement removing all rows of a staging table. */
+    default String getTruncateStagingTableStatement(String database, String stagingTableName) {
+        return "TRUNCATE TABLE " + stagingTableIdentifier(database, stagingTableName);
+    }
+
+    /**
+     * Constructs the {@code COPY ... FROM STDIN WITH CSV} statement loading a staging table if the
+     * database supports it, the staging table is loaded with multi-row inserts otherwise.
+     *
+     * @return the dialects staging table copy statement or {@link Optional#empty()}.
+     */
+    default Optional<String> getStagingCopyStatement(
+            String database, String stagingTableName, String[] fieldNames) {
+        return Optional.empty();
+    }
+
+    /**
+     * Constructs the multi-row insert statement loading a staging table, the parameters are laid
+     * out like in {@link #getMultiRowInsertIntoStatement(String, String, String[], int)}.
+     */
+    default String getStagingInsertStatement(
+            String database, String stagingTableName, String[] fieldNames, int rows) {
+        return buildMultiRowInsertIntoStatement(
+                stagingTableIdentifier(database, stagingTableName), fieldNames, rows);
+    }
+
+    /**
+     * Constructs the set-based statement upserting all rows of a staging table into the target
+     * table; such as {@code MERGE INTO ... USING}, or {@code INSERT INTO ... SELECT ... ON
+     * CONFLICT}.
+     * The rows of the staging table never share a unique key.
+     *
+     * @return the dialects staging table upsert statement or {@link Optional#empty()}.
+     */
+    default Optional<String> getStagingUpsertStatement(
+            String database,
+            String tableName,
+            String stagingTableName,
+            String[] fieldNames,
+            String[] uniqueKeyFields) {
+        return Optional.empty();
+    }
+
+    /**
+     * Constructs the set-based statement deleting the rows of the target table whose unique key is
+     * in a staging table; such as {@code DELETE FROM ... USING}.
+     *
+     * @return the dialects staging table delete statement or {@link Optional#empty()}.
+     */
+    default Optional<String> getStagingDeleteStatement(
+            String database, String tableName, String stagingTableName, String[] uniqueKeyFields) {
+        return Optional.empty();
+    }
+
     /**
      * Different dialects optimize their PreparedStatement
      *
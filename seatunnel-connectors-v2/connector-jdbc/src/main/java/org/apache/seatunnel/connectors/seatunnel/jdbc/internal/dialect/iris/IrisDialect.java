@@ -112,6 +112,12 @@ public class IrisDialect implements JdbcDialect {
         return Optional.of(insertIntoStatement);
     }
 
+    @Override
+    public Optional<String> getMultiRowInsertIntoStatement(
+            String database, String tableName, String[] fieldNames, int rows) {
+        return Optional.empty();
+    }
+
     @Override
     public String getInsertIntoStatement(String database, String tableName, String[] fieldNames) {
         String columns =
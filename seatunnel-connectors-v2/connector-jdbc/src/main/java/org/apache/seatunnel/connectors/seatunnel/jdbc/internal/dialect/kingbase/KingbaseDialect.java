@@ -47,6 +47,24 @@ public class KingbaseDialect implements JdbcDialect {
     @Override
     public Optional<String> getUpsertStatement(
             String database, String tableName, String[] fieldNames, String[] uniqueKeyFields) {
+        String upsertSQL =
+                getInsertIntoStatement(database, tableName, fieldNames)
+                        + getUpsertClause(fieldNames, uniqueKeyFields);
+        return Optional.of(upsertSQL);
+    }
+
+    @Override
+    public Optional<String> getMultiRowUpsertStatement(
+            String database,
+            String tableName,
+            String[] fieldNames,
+            String[] uniqueKeyFields,
+            int rows) {
+        return getMultiRowInsertIntoStatement(database, tableName, fieldNames, rows)
+                .map(insertSQL -> insertSQL + getUpsertClause(fieldNames, uniqueKeyFields));
+    }
+
+    private String getUpsertClause(String[] fieldNames, String[] uniqueKeyFields) {
         String uniqueColumns =
                 Arrays.stream(uniqueKeyFields)
                         .map(this::quoteIdentifier)
@@ -59,13 +77,7 @@ public class KingbaseDialect implements JdbcDialect {
                                                 + "=EXCLUDED."
                                                 + quoteIdentifier(fieldName))
                         .collect(Collectors.joining(", "));
-        String upsertSQL =
-                String.format(
-                        "%s ON CONFLICT (%s) DO UPDATE SET %s",
-                        getInsertIntoStatement(database, tableName, fieldNames),
-                        uniqueColumns,
-                        updateClause);
-        return Optional.of(upsertSQL);
+        return String.format(" ON CONFLICT (%s) DO UPDATE SET %s", uniqueColumns, updateClause);
     }
 
     @Override
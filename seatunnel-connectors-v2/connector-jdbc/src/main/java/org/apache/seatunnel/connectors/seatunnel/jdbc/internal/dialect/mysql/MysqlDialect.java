@@ -92,6 +92,24 @@ public class MysqlDialect implements JdbcDialect {
     @Override
     public Optional<String> getUpsertStatement(
             String database, String tableName, String[] fieldNames, String[] uniqueKeyFields) {
+        String upsertSQL =
+                getInsertIntoStatement(database, tableName, fieldNames)
+                        + getUpsertClause(fieldNames);
+        return Optional.of(upsertSQL);
+    }
+
+    @Override
+    public Optional<String> getMultiRowUpsertStatement(
+            String database,
+            String tableName,
+            String[] fieldNames,
+            String[] uniqueKeyFields,
+            int rows) {
+        return getMultiRowInsertIntoStatement(database, tableName, fieldNames, rows)
+                .map(insertSQL -> insertSQL + getUpsertClause(fieldNames));
+    }
+
+    private String getUpsertClause(String[] fieldNames) {
         String updateClause =
                 Arrays.stream(fieldNames)
                         .map(
@@ -101,11 +119,77 @@ public class MysqlDialect implements JdbcDialect {
                                                 + quoteIdentifier(fieldName)
                                                 + ")")
                         .collect(Collectors.joining(", "));
-        String upsertSQL =
-                getInsertIntoStatement(database, tableName, fieldNames)
-                        + " ON DUPLICATE KEY UPDATE "
-                        + updateClause;
-        return Optional.of(upsertSQL);
+        return " ON DUPLICATE KEY UPDATE " + updateClause;
+    }
+
+    @Override
+    public int getMaxStatementParameters() {
+        return 65535;
+    }
+
+    @Override
+    public Optional<String> getCreateStagingTableStatement(
+            String database, String tableName, String stagingTableName, String[] fieldNames) {
+        String columns =
+                Arrays.stream(fieldNames)
+                        .map(this::quoteIdentifier)
+                        .collect(Collectors.joining(", "));
+        return Optional.of(
+                String.format(
+                        "CREATE TEMPORARY TABLE IF NOT EXISTS %s AS SELECT %s FROM %s WHERE 1 = 0",
+                        stagingTableIdentifier(database, stagingTableName),
+                        columns,
+                        tableIdentifier(database, tableName)));
+    }
+
+    /**
+     * TRUNCATE is DDL in MySQL, it can commit the open transaction implicitly and fails inside an
+     * XA branch.
+     */
+    @Override
+    public String getTruncateStagingTableStatement(String database, String stagingTableName) {
+        return "DELETE FROM " + stagingTableIdentifier(database, stagingTableName);
+    }
+
+    @Override
+    public Optional<String> getStagingUpsertStatement(
+            String database,
+            String tableName,
+            String stagingTableName,
+            String[] fieldNames,
+            String[] uniqueKeyFields) {
+        String columns =
+                Arrays.stream(fieldNames)
+                        .map(this::quoteIdentifier)
+                        .collect(Collectors.joining(", "));
+        return Optional.of(
+                String.format(
+                        "INSERT INTO %s (%s) SELECT %s FROM %s",
+                        tableIdentifier(database, tableName),
+                        columns,
+                        columns,
+                        stagingTableIdentifier(database, stagingTableName))
+                        + getUpsertClause(fieldNames));
+    }
+
+    @Override
+    public Optional<String> getStagingDeleteStatement(
+            String database, String tableName, String stagingTableName, String[] uniqueKeyFields) {
+        String conditions =
+                Arrays.stream(uniqueKeyFields)
+                        .map(
+                                fieldName ->
+                                        String.format(
+                                                "t.%s = s.%s",
+                                                quoteIdentifier(fieldName),
+                                                quoteIdentifier(fieldName)))
+                        .collect(Collectors.joining(" AND "));
+        return Optional.of(
+                String.format(
+                        "DELETE t FROM %s AS t INNER JOIN %s AS s ON %s",
+                        tableIdentifier(database, tableName),
+                        stagingTableIdentifier(database, stagingTableName),
+                        conditions));
     }
 
     @Override
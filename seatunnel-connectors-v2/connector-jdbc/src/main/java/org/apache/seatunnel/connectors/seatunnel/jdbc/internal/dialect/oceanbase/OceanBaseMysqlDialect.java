@@ -95,6 +95,24 @@ public class OceanBaseMysqlDialect implements JdbcDialect {
     @Override
     public Optional<String> getUpsertStatement(
             String database, String tableName, String[] fieldNames, String[] uniqueKeyFields) {
+        String upsertSQL =
+                getInsertIntoStatement(database, tableName, fieldNames)
+                        + getUpsertClause(fieldNames);
+        return Optional.of(upsertSQL);
+    }
+
+    @Override
+    public Optional<String> getMultiRowUpsertStatement(
+            String database,
+            String tableName,
+            String[] fieldNames,
+            String[] uniqueKeyFields,
+            int rows) {
+        return getMultiRowInsertIntoStatement(database, tableName, fieldNames, rows)
+                .map(insertSQL -> insertSQL + getUpsertClause(fieldNames));
+    }
+
+    private String getUpsertClause(String[] fieldNames) {
         String updateClause =
                 Arrays.stream(fieldNames)
                         .map(
@@ -104,11 +122,12 @@ public class OceanBaseMysqlDialect implements JdbcDialect {
                                                 + quoteIdentifier(fieldName)
                                                 + ")")
                         .collect(Collectors.joining(", "));
-        String upsertSQL =
-                getInsertIntoStatement(database, tableName, fieldNames)
-                        + " ON DUPLICATE KEY UPDATE "
-                        + updateClause;
-        return Optional.of(upsertSQL);
+        return " ON DUPLICATE KEY UPDATE " + updateClause;
+    }
+
+    @Override
+    public int getMaxStatementParameters() {
+        return 65535;
     }
 
     @Override
@@ -153,6 +153,12 @@ public class OracleDialect implements JdbcDialect {
         return Optional.of(upsertSQL);
     }
 
+    @Override
+    public Optional<String> getMultiRowInsertIntoStatement(
+            String database, String tableName, String[] fieldNames, int rows) {
+        return Optional.empty();
+    }
+
     @Override
     public PreparedStatement creatPreparedStatement(
             Connection connection, String queryTemplate, int fetchSize) throws SQLException {
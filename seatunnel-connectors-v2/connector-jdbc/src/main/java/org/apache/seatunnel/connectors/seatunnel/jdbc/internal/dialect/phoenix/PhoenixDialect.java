@@ -45,4 +45,10 @@ public class PhoenixDialect implements JdbcDialect {
             String database, String tableName, String[] fieldNames, String[] uniqueKeyFields) {
         return Optional.empty();
     }
+
+    @Override
+    public Optional<String> getMultiRowInsertIntoStatement(
+            String database, String tableName, String[] fieldNames, int rows) {
+        return Optional.empty();
+    }
 }
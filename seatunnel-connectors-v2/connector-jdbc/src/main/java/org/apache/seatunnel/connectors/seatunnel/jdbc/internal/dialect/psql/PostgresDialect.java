@@ -142,6 +142,24 @@ public class PostgresDialect implements JdbcDialect {
     @Override
     public Optional<String> getUpsertStatement(
             String database, String tableName, String[] fieldNames, String[] uniqueKeyFields) {
+        String upsertSQL =
+                getInsertIntoStatement(database, tableName, fieldNames)
+                        + getUpsertClause(fieldNames, uniqueKeyFields);
+        return Optional.of(upsertSQL);
+    }
+
+    @Override
+    public Optional<String> getMultiRowUpsertStatement(
+            String database,
+            String tableName,
+            String[] fieldNames,
+            String[] uniqueKeyFields,
+            int rows) {
+        return getMultiRowInsertIntoStatement(database, tableName, fieldNames, rows)
+                .map(insertSQL -> insertSQL + getUpsertClause(fieldNames, uniqueKeyFields));
+    }
+
+    private String getUpsertClause(String[] fieldNames, String[] uniqueKeyFields) {
         String uniqueColumns =
                 Arrays.stream(uniqueKeyFields)
                         .map(this::quoteIdentifier)
@@ -154,13 +172,88 @@ public class PostgresDialect implements JdbcDialect {
                                                 + "=EXCLUDED."
                                                 + quoteIdentifier(fieldName))
                         .collect(Collectors.joining(", "));
-        String upsertSQL =
+        return String.format(" ON CONFLICT (%s) DO UPDATE SET %s", uniqueColumns, updateClause);
+    }
+
+    @Override
+    public int getMaxStatementParameters() {
+        return 65535;
+    }
+
+    @Override
+    public Optional<String> getCreateStagingTableStatement(
+            String database, String tableName, String stagingTableName, String[] fieldNames) {
+        String columns =
+                Arrays.stream(fieldNames)
+                        .map(this::quoteIdentifier)
+                        .collect(Collectors.joining(", "));
+        return Optional.of(
                 String.format(
-                        "%s ON CONFLICT (%s) DO UPDATE SET %s",
-                        getInsertIntoStatement(database, tableName, fieldNames),
-                        uniqueColumns,
-                        updateClause);
-        return Optional.of(upsertSQL);
+                        "CREATE TEMPORARY TABLE IF NOT EXISTS %s AS SELECT %s FROM %s WITH NO DATA",
+                        stagingTableIdentifier(database, stagingTableName),
+                        columns,
+                        tableIdentifier(database, tableName)));
+    }
+
+    @Override
+    public String stagingTableIdentifier(String database, String stagingTableName) {
+        // temporary tables live in the session's own schema
+        return quoteIdentifier("pg_temp." + stagingTableName);
+    }
+
+    @Override
+    public Optional<String> getStagingCopyStatement(
+            String database, String stagingTableName, String[] fieldNames) {
+        String columns =
+                Arrays.stream(fieldNames)
+                        .map(this::quoteIdentifier)
+                        .collect(Collectors.joining(", "));
+        return Optional.of(
+                String.format(
+                        "COPY %s (%s) FROM STDIN WITH CSV",
+                        stagingTableIdentifier(database, stagingTableName),
+                        columns));
+    }
+
+    @Override
+    public Optional<String> getStagingUpsertStatement(
+            String database,
+            String tableName,
+            String stagingTableName,
+            String[] fieldNames,
+            String[] uniqueKeyFields) {
+        String columns =
+                Arrays.stream(fieldNames)
+                        .map(this::quoteIdentifier)
+                        .collect(Collectors.joining(", "));
+        return Optional.of(
+                String.format(
+                        "INSERT INTO %s (%s) SELECT %s FROM %s",
+                        tableIdentifier(database, tableName),
+                        columns,
+                        columns,
+                        stagingTableIdentifier(database, stagingTableName))
+                        + getUpsertClause(fieldNames, uniqueKeyFields));
+    }
+
+    @Override
+    public Optional<String> getStagingDeleteStatement(
+            String database, String tableName, String stagingTableName, String[] uniqueKeyFields) {
+        String conditions =
+                Arrays.stream(uniqueKeyFields)
+                        .map(
+                                fieldName ->
+                                        String.format(
+                                                "t.%s = s.%s",
+                                                quoteIdentifier(fieldName),
+                                                quoteIdentifier(fieldName)))
+                        .collect(Collectors.joining(" AND "));
+        return Optional.of(
+                String.format(
+                        "DELETE FROM %s AS t USING %s AS s WHERE %s",
+                        tableIdentifier(database, tableName),
+                        stagingTableIdentifier(database, stagingTableName),
+                        conditions));
     }
 
     @Override
@@ -32,4 +32,24 @@ public class PostgresLowDialect extends PostgresDialect {
             String database, String tableName, String[] fieldNames, String[] uniqueKeyFields) {
         return Optional.empty();
     }
+
+    @Override
+    public Optional<String> getMultiRowUpsertStatement(
+            String database,
+            String tableName,
+            String[] fieldNames,
+            String[] uniqueKeyFields,
+            int rows) {
+        return Optional.empty();
+    }
+
+    @Override
+    public Optional<String> getStagingUpsertStatement(
+            String database,
+            String tableName,
+            String stagingTableName,
+            String[] fieldNames,
+            String[] uniqueKeyFields) {
+        return Optional.empty();
+    }
 }
@@ -120,4 +120,10 @@ public class SapHanaDialect implements JdbcDialect {
 
         return Optional.of(upsertSQL);
     }
+
+    @Override
+    public Optional<String> getMultiRowInsertIntoStatement(
+            String database, String tableName, String[] fieldNames, int rows) {
+        return Optional.empty();
+    }
 }
@@ -73,4 +73,10 @@ public class SqliteDialect implements JdbcDialect {
                         + updateClause;
         return Optional.of(upsertSQL);
     }
+
+    @Override
+    public int getMaxStatementParameters() {
+        // the default SQLITE_MAX_VARIABLE_NUMBER before SQLite 3.32.0
+        return 999;
+    }
 }
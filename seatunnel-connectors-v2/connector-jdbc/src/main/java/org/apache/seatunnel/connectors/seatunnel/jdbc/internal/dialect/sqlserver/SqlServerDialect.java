@@ -130,6 +130,112 @@ public class SqlServerDialect implements JdbcDialect {
         return Optional.of(upsertSQL);
     }
 
+    @Override
+    public Optional<String> getCreateStagingTableStatement(
+            String database, String tableName, String stagingTableName, String[] fieldNames) {
+        String columns =
+                Arrays.stream(fieldNames)
+                        .map(this::quoteIdentifier)
+                        .collect(Collectors.joining(", "));
+        String targetTable = quoteDatabaseIdentifier(database) + "." + quoteIdentifier(tableName);
+        // the UNION keeps SELECT INTO from copying the IDENTITY property of the target columns
+        return Optional.of(
+                String.format(
+                        "IF OBJECT_ID('tempdb..#%s') IS NULL"
+                                + " SELECT %s INTO %s FROM %s WHERE 1 = 0"
+                                + " UNION ALL SELECT %s FROM %s WHERE 1 = 0",
+                        stagingTableName,
+                        columns,
+                        stagingTableIdentifier(database, stagingTableName),
+                        targetTable,
+                        columns,
+                        targetTable));
+    }
+
+    @Override
+    public String stagingTableIdentifier(String database, String stagingTableName) {
+        return quoteIdentifier("#" + stagingTableName);
+    }
+
+    @Override
+    public Optional<String> getStagingUpsertStatement(
+            String database,
+            String tableName,
+            String stagingTableName,
+            String[] fieldNames,
+            String[] uniqueKeyFields) {
+        List<String> nonUniqueKeyFields =
+                Arrays.stream(fieldNames)
+                        .filter(fieldName -> !Arrays.asList(uniqueKeyFields).contains(fieldName))
+                        .collect(Collectors.toList());
+        String updateSetClause =
+                nonUniqueKeyFields.stream()
+                        .map(
+                                fieldName ->
+                                        String.format(
+                                                "[TARGET].%s=[SOURCE].%s",
+                                                quoteIdentifier(fieldName),
+                                                quoteIdentifier(fieldName)))
+                        .collect(Collectors.joining(", "));
+        String insertFields =
+                Arrays.stream(fieldNames)
+                        .map(this::quoteIdentifier)
+                        .collect(Collectors.joining(", "));
+        String insertValues =
+                Arrays.stream(fieldNames)
+                        .map(fieldName -> "[SOURCE]." + quoteIdentifier(fieldName))
+                        .collect(Collectors.joining(", "));
+        String matchedClause =
+                nonUniqueKeyFields.isEmpty()
+                        ? ""
+                        : " WHEN MATCHED THEN UPDATE SET " + updateSetClause;
+        return Optional.of(
+                String.format(
+                        "MERGE INTO %s.%s AS [TARGET]"
+                                + " USING %s AS [SOURCE]"
+                                + " ON (%s)"
+                                + "%s"
+                                + " WHEN NOT MATCHED THEN"
+                                + " INSERT (%s) VALUES (%s);",
+                        quoteDatabaseIdentifier(database),
+                        quoteIdentifier(tableName),
+                        stagingTableIdentifier(database, stagingTableName),
+                        getStagingOnConditions(uniqueKeyFields),
+                        matchedClause,
+                        insertFields,
+                        insertValues));
+    }
+
+    @Override
+    public Optional<String> getStagingDeleteStatement(
+            String database, String tableName, String stagingTableName, String[] uniqueKeyFields) {
+        return Optional.of(
+                String.format(
+                        "DELETE [TARGET] FROM %s.%s AS [TARGET]"
+                                + " INNER JOIN %s AS [SOURCE] ON (%s)",
+                        quoteDatabaseIdentifier(database),
+                        quoteIdentifier(tableName),
+                        stagingTableIdentifier(database, stagingTableName),
+                        getStagingOnConditions(uniqueKeyFields)));
+    }
+
+    private String getStagingOnConditions(String[] uniqueKeyFields) {
+        return Arrays.stream(uniqueKeyFields)
+                .map(
+                        fieldName ->
+                                String.format(
+                                        "[TARGET].%s=[SOURCE].%s",
+                                        quoteIdentifier(fieldName),
+                                        quoteIdentifier(fieldName)))
+                .collect(Collectors.joining(" AND "));
+    }
+
+    @Override
+    public int getMaxStatementParameters() {
+        // a request may carry at most 2100 parameters, leave some for the driver
+        return 2000;
+    }
+
     @Override
     public String quoteIdentifier(String identifier) {
         if (identifier.contains(".")) {
@@ -20,6 +20,8 @@ package org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.starrock
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.DatabaseIdentifier;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.mysql.MysqlDialect;
 
+import java.util.Optional;
+
 public class StarRocksDialect extends MysqlDialect {
 
     public StarRocksDialect() {}
@@ -37,4 +39,11 @@ public class StarRocksDialect extends MysqlDialect {
     public String hashModForField(String fieldName, int mod) {
         return "ABS(md5sum_numeric(" + quoteIdentifier(fieldName) + ") % " + mod + ")";
     }
+
+    @Override
+    public Optional<String> getCreateStagingTableStatement(
+            String database, String tableName, String stagingTableName, String[] fieldNames) {
+        // StarRocks has no session scoped temporary tables
+        return Optional.empty();
+    }
 }
@@ -51,6 +51,12 @@ public class TablestoreDialect implements JdbcDialect {
         return Optional.empty();
     }
 
+    @Override
+    public Optional<String> getMultiRowInsertIntoStatement(
+            String database, String tableName, String[] fieldNames, int rows) {
+        return Optional.empty();
+    }
+
     @Override
     public PreparedStatement creatPreparedStatement(
             Connection connection, String queryTemplate, int fetchSize) throws SQLException {
@@ -0,0 +1,172 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor;
+
+import org.apache.seatunnel.api.table.catalog.TableSchema;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.converter.JdbcRowConverter;
+
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.IntFunction;
+
+/**
+ * Writes the rows of a batch with multi-row statements such as {@code INSERT INTO t (a, b) VALUES
+ * (?, ?), (?, ?)}, so a batch needs few round trips even if the driver does not rewrite batches.
+ *
+ * <p>A statement holds as many rows as the parameter limit of the database allows. The rows which
+ * do not fill a whole statement are written with statements of power of two sizes, so at most a
+ * logarithmic number of prepared statements is cached per executor.
+ */
+@Slf4j
+public class MultiRowBatchStatementExecutor implements JdbcBatchStatementExecutor<SeaTunnelRow> {
+    /** Keeps the statements of wide batches at a reasonable size. */
+    private static final int MAX_ROWS_PER_STATEMENT = 1000;
+
+    private final IntFunction<String> statementSql;
+    private final TableSchema tableSchema;
+    private final JdbcRowConverter converter;
+    private final int fieldCount;
+    private final int maxRowsPerStatement;
+    private final List<SeaTunnelRow> buffer = new ArrayList<>();
+    private final Map<Integer, ChunkStatement> statements = new HashMap<>();
+    private transient Connection connection;
+
+    public MultiRowBatchStatementExecutor(
+            @NonNull IntFunction<String> statementSql,
+            @NonNull TableSchema tableSchema,
+            @NonNull JdbcRowConverter converter,
+            int maxStatementParameters) {
+        this.statementSql = statementSql;
+        this.tableSchema = tableSchema;
+        this.converter = converter;
+        this.fieldCount = tableSchema.toPhysicalRowDataType().getTotalFields();
+        this.maxRowsPerStatement =
+                Math.max(1, Math.min(MAX_ROWS_PER_STATEMENT, maxStatementParameters / fieldCount));
+    }
+
+    @Override
+    public void prepareStatements(Connection connection) throws SQLException {
+        closeCachedStatements();
+        this.connection = connection;
+    }
+
+    @Override
+    public void addToBatch(SeaTunnelRow record) throws SQLException {
+        buffer.add(record);
+    }
+
+    @Override
+    public void executeBatch() throws SQLException {
+        Set<ChunkStatement> pending = new LinkedHashSet<>();
+        try {
+            int offset = 0;
+            while (offset < buffer.size()) {
+                int remaining = buffer.size() - offset;
+                int rows =
+                        remaining >= maxRowsPerStatement
+                                ? maxRowsPerStatement
+                                : Integer.highestOneBit(remaining);
+                ChunkStatement chunk = getOrPrepareStatement(rows);
+                for (int i = 0; i < rows; i++) {
+                    converter.toExternal(tableSchema, buffer.get(offset + i), chunk.rowSlots[i]);
+                }
+                chunk.statement.addBatch();
+                pending.add(chunk);
+                offset += rows;
+            }
+            for (ChunkStatement chunk : pending) {
+                chunk.statement.executeBatch();
+            }
+        } finally {
+            // the caller keeps its own buffer and adds the rows again on retry
+            buffer.clear();
+            for (ChunkStatement chunk : pending) {
+                chunk.statement.clearBatch();
+            }
+        }
+    }
+
+    @Override
+    public void closeStatements() throws SQLException {
+        buffer.clear();
+        closeCachedStatements();
+    }
+
+    private ChunkStatement getOrPrepareStatement(int rows) throws SQLException {
+        ChunkStatement chunk = statements.get(rows);
+        if (chunk == null) {
+            String sql = statementSql.apply(rows);
+            log.debug("Prepare multi-row statement for {} rows", rows);
+            chunk = new ChunkStatement(connection.prepareStatement(sql), rows);
+            statements.put(rows, chunk);
+        }
+        return chunk;
+    }
+
+    private void closeCachedStatements() throws SQLException {
+        SQLException failure = null;
+        for (ChunkStatement chunk : statements.values()) {
+            try {
+                chunk.statement.close();
+            } catch (SQLException e) {
+                if (failure == null) {
+                    failure = e;
+                } else {
+                    failure.addSuppressed(e);
+                }
+            }
+        }
+        statements.clear();
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * A prepared multi-row statement together with one view per row, each view shifts the
+     * parameter indexes of the row converter to the parameters of its row.
+     */
+    private class ChunkStatement {
+        private final PreparedStatement statement;
+        private final PreparedStatement[] rowSlots;
+
+        ChunkStatement(PreparedStatement statement, int rows) {
+            this.statement = statement;
+            this.rowSlots = new PreparedStatement[rows];
+            for (int row = 0; row < rows; row++) {
+                int[][] indexMapping = new int[fieldCount][];
+                for (int field = 0; field < fieldCount; field++) {
+                    indexMapping[field] = new int[] {row * fieldCount + field + 1};
+                }
+                rowSlots[row] = new FieldNamedPreparedStatement(statement, indexMapping);
+            }
+        }
+    }
+}
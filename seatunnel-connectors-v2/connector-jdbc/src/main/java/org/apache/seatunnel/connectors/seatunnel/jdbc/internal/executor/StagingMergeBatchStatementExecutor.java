@@ -0,0 +1,157 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor;
+
+import org.apache.seatunnel.api.table.type.RowKind;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.common.exception.CommonErrorCodeDeprecated;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.exception.JdbcConnectorException;
+
+import org.apache.commons.lang3.tuple.Pair;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Applies a batch through session scoped staging tables instead of one statement per row. The
+ * batch is reduced by key like in {@link BufferReducedBatchStatementExecutor}, the upserted rows
+ * are bulk loaded into one staging table and the keys of the deleted rows into another, and each
+ * staging table is then applied to the target table by a single set-based statement.
+ *
+ * <p>The staging tables are emptied before they are loaded, so rows left behind by a failed flush
+ * are never applied twice.
+ */
+@RequiredArgsConstructor
+public class StagingMergeBatchStatementExecutor
+        implements JdbcBatchStatementExecutor<SeaTunnelRow> {
+    @NonNull private final List<String> createStagingTableStatements;
+    @NonNull private final List<String> truncateStagingTableStatements;
+    @NonNull private final JdbcBatchStatementExecutor<SeaTunnelRow> upsertLoadExecutor;
+    @NonNull private final JdbcBatchStatementExecutor<SeaTunnelRow> deleteLoadExecutor;
+    @NonNull private final String upsertFromStagingStatement;
+    @NonNull private final String deleteFromStagingStatement;
+    @NonNull private final Function<SeaTunnelRow, SeaTunnelRow> keyExtractor;
+
+    @NonNull private final LinkedHashMap<SeaTunnelRow, Pair<Boolean, SeaTunnelRow>> buffer =
+            new LinkedHashMap<>();
+
+    private transient Statement statement;
+
+    @Override
+    public void prepareStatements(Connection connection) throws SQLException {
+        closeStatement();
+        statement = connection.createStatement();
+        for (String createStagingTableStatement : createStagingTableStatements) {
+            statement.execute(createStagingTableStatement);
+        }
+        upsertLoadExecutor.prepareStatements(connection);
+        deleteLoadExecutor.prepareStatements(connection);
+    }
+
+    @Override
+    public void addToBatch(SeaTunnelRow record) throws SQLException {
+        if (RowKind.UPDATE_BEFORE.equals(record.getRowKind())) {
+            // do nothing
+            return;
+        }
+
+        SeaTunnelRow key = keyExtractor.apply(record);
+        buffer.put(key, Pair.of(changeFlag(record.getRowKind()), record));
+    }
+
+    @Override
+    public void executeBatch() throws SQLException {
+        if (buffer.isEmpty()) {
+            return;
+        }
+        for (String truncateStagingTableStatement : truncateStagingTableStatements) {
+            statement.execute(truncateStagingTableStatement);
+        }
+
+        // the buffer holds a single change per key, so the order of the two statements is free
+        if (loadStagingTable(deleteLoadExecutor, false)) {
+            statement.executeUpdate(deleteFromStagingStatement);
+        }
+        if (loadStagingTable(upsertLoadExecutor, true)) {
+            statement.executeUpdate(upsertFromStagingStatement);
+        }
+        buffer.clear();
+    }
+
+    @Override
+    public void closeStatements() throws SQLException {
+        try {
+            if (!buffer.isEmpty()) {
+                executeBatch();
+            }
+        } finally {
+            if (!buffer.isEmpty()) {
+                buffer.clear();
+            }
+            upsertLoadExecutor.closeStatements();
+            deleteLoadExecutor.closeStatements();
+            closeStatement();
+        }
+    }
+
+    private boolean loadStagingTable(
+            JdbcBatchStatementExecutor<SeaTunnelRow> loadExecutor, boolean changeFlag)
+            throws SQLException {
+        boolean loaded = false;
+        for (Map.Entry<SeaTunnelRow, Pair<Boolean, SeaTunnelRow>> entry : buffer.entrySet()) {
+            if (entry.getValue().getKey() == changeFlag) {
+                loadExecutor.addToBatch(changeFlag ? entry.getValue().getValue() : entry.getKey());
+                loaded = true;
+            }
+        }
+        if (loaded) {
+            loadExecutor.executeBatch();
+        }
+        return loaded;
+    }
+
+    private void closeStatement() throws SQLException {
+        if (statement != null) {
+            statement.close();
+            statement = null;
+        }
+    }
+
+    private boolean changeFlag(RowKind rowKind) {
+        switch (rowKind) {
+            case INSERT:
+            case UPDATE_AFTER:
+                return true;
+            case DELETE:
+                return false;
+            default:
+                throw new JdbcConnectorException(
+                        CommonErrorCodeDeprecated.UNSUPPORTED_OPERATION,
+                        "Unsupported rowKind: " + rowKind);
+        }
+    }
+}
@@ -115,6 +115,7 @@ public abstract class AbstractJdbcSinkWriter<ResourceT>
     protected void reOpenOutputFormat(AlterTableColumnEvent event, String sourceDialectName)
             throws IOException {
         this.prepareCommit();
+        this.outputFormat.closeAsyncFlushPipeline();
         try {
             JdbcConnectionProvider refreshTableSchemaConnectionProvider =
                     dialect.getJdbcConnectionProvider(jdbcSinkConfig.getJdbcConnectionConfig());
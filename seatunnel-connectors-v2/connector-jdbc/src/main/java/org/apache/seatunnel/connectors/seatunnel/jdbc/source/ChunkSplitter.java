@@ -38,10 +38,12 @@ import lombok.extern.slf4j.Slf4j;
 
 import java.io.Serializable;
 import java.sql.Connection;
+import java.sql.Date;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.time.LocalDate;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -124,7 +126,45 @@ public abstract class ChunkSplitter implements AutoCloseable, Serializable {
     protected abstract PreparedStatement createSplitStatement(
             JdbcSourceSplit split, TableSchema schema) throws SQLException;
 
+    /**
+     * Whether the split is read in split key order and can continue after the last split key it
+     * emitted. Splits without a split key range may hold NULL split keys, which can't be resumed.
+     * String split keys can't be resumed either, under a case insensitive or PAD SPACE collation
+     * the database treats keys as equal that Java doesn't, and "key > ?" would skip them.
+     */
+    public boolean isResumable(JdbcSourceSplit split) {
+        return config.isSplitResumable()
+                && split.getSplitKeyName() != null
+                && (split.getSplitStart() != null || split.getSplitEnd() != null)
+                && isResumableSplitKeyType(split.getSplitKeyType());
+    }
+
+    private static boolean isResumableSplitKeyType(SeaTunnelDataType<?> splitKeyType) {
+        if (splitKeyType == null) {
+            return false;
+        }
+        switch (splitKeyType.getSqlType()) {
+            case TINYINT:
+            case SMALLINT:
+            case INT:
+            case BIGINT:
+            case DOUBLE:
+            case FLOAT:
+            case DECIMAL:
+            case DATE:
+            case TIMESTAMP:
+                return true;
+            default:
+                return false;
+        }
+    }
+
     protected PreparedStatement createPreparedStatement(String sql) throws SQLException {
+        return createPreparedStatement(sql, null);
+    }
+
+    protected PreparedStatement createPreparedStatement(String sql, JdbcSourceSplit split)
+            throws SQLException {
         Connection connection = getOrEstablishConnection();
         // set autoCommit mode only if it was explicitly configured.
         // keep connection default otherwise.
@@ -134,10 +174,38 @@ public abstract class ChunkSplitter implements AutoCloseable, Serializable {
         if (StringUtils.isNotBlank(config.getWhereConditionClause())) {
             sql = String.format("SELECT * FROM (%s) tmp %s", sql, config.getWhereConditionClause());
         }
+        if (split != null && isResumable(split)) {
+            sql = createResumableSplitQuery(sql, split);
+        }
         log.debug("Prepared statement: {}", sql);
         return jdbcDialect.creatPreparedStatement(connection, sql, fetchSize);
     }
 
+    String createResumableSplitQuery(String sql, JdbcSourceSplit split) {
+        String splitKeyName = jdbcDialect.quoteIdentifier(split.getSplitKeyName());
+        if (split.getResumeKey() == null) {
+            return String.format(
+                    "SELECT * FROM (%s) st_jdbc_resume ORDER BY %s", sql, splitKeyName);
+        }
+        return String.format(
+                "SELECT * FROM (%s) st_jdbc_resume WHERE %s > ? ORDER BY %s",
+                sql, splitKeyName, splitKeyName);
+    }
+
+    /** Binds the resume key of a restored split after the parameters of its split query. */
+    protected void setResumeKey(PreparedStatement statement, JdbcSourceSplit split, int index)
+            throws SQLException {
+        if (!isResumable(split) || split.getResumeKey() == null) {
+            return;
+        }
+        Object resumeKey = split.getResumeKey();
+        if (resumeKey instanceof LocalDate) {
+            statement.setDate(index, Date.valueOf((LocalDate) resumeKey));
+        } else {
+            statement.setObject(index, resumeKey);
+        }
+    }
+
     protected Connection getOrEstablishConnection() throws SQLException {
         try {
             return connectionProvider.getOrEstablishConnection();
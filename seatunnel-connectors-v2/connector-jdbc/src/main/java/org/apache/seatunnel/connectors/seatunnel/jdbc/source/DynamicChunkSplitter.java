@@ -98,8 +98,9 @@ public class DynamicChunkSplitter extends ChunkSplitter {
     private PreparedStatement createDynamicSplitStatement(JdbcSourceSplit split, TableSchema schema)
             throws SQLException {
         String splitQuery = createDynamicSplitQuerySQL(split, schema);
-        PreparedStatement statement = createPreparedStatement(splitQuery);
-        prepareDynamicSplitStatement(statement, split);
+        PreparedStatement statement = createPreparedStatement(splitQuery, split);
+        int parameters = prepareDynamicSplitStatement(statement, split);
+        setResumeKey(statement, split, parameters + 1);
         return statement;
     }
 
@@ -521,12 +522,13 @@ public class DynamicChunkSplitter extends ChunkSplitter {
         }
     }
 
-    private static void prepareDynamicSplitStatement(
+    /** Binds the split key range of the split and returns the number of bound parameters. */
+    private static int prepareDynamicSplitStatement(
             PreparedStatement statement, JdbcSourceSplit split) throws SQLException {
         boolean isFirstSplit = split.getSplitStart() == null;
         boolean isLastSplit = split.getSplitEnd() == null;
         if (isFirstSplit && isLastSplit) {
-            return;
+            return 0;
         }
 
         Object[] splitStart = new Object[] {split.getSplitStart()};
@@ -548,6 +550,10 @@ public class DynamicChunkSplitter extends ChunkSplitter {
                 statement.setObject(i + 1 + 2 * splitKeyNumbers, splitEnd[i]);
             }
         }
+        if (isFirstSplit) {
+            return 2 * splitKeyNumbers;
+        }
+        return isLastSplit ? splitKeyNumbers : 3 * splitKeyNumbers;
     }
 
     @Data
@@ -149,8 +149,9 @@ public class FixedChunkSplitter extends ChunkSplitter {
 
     private PreparedStatement createStringColumnSplitStatement(JdbcSourceSplit split)
             throws SQLException {
-        PreparedStatement statement = createPreparedStatement(split.getSplitQuery());
+        PreparedStatement statement = createPreparedStatement(split.getSplitQuery(), split);
         statement.setInt(1, (Integer) split.getSplitStart());
+        setResumeKey(statement, split, 2);
         return statement;
     }
 
@@ -198,7 +199,7 @@ public class FixedChunkSplitter extends ChunkSplitter {
                             splitKeyName,
                             splitKeyName);
         }
-        PreparedStatement statement = createPreparedStatement(splitQuery);
+        PreparedStatement statement = createPreparedStatement(splitQuery, split);
 
         Object[] parameterValues = new Object[] {split.getSplitStart(), split.getSplitEnd()};
         for (int i = 0; i < parameterValues.length; i++) {
@@ -240,6 +241,7 @@ public class FixedChunkSplitter extends ChunkSplitter {
                                 + " is not handled (yet).");
             }
         }
+        setResumeKey(statement, split, parameterValues.length + 1);
 
         return statement;
     }
@@ -17,6 +17,8 @@
 
 package org.apache.seatunnel.connectors.seatunnel.jdbc.source;
 
+import org.apache.seatunnel.shade.com.google.common.annotations.VisibleForTesting;
+
 import org.apache.seatunnel.api.source.Collector;
 import org.apache.seatunnel.api.source.SourceReader;
 import org.apache.seatunnel.api.table.catalog.CatalogTable;
@@ -28,6 +30,7 @@ import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.JdbcInputFormat;
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
+import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.Deque;
 import java.util.List;
@@ -36,14 +39,29 @@ import java.util.concurrent.ConcurrentLinkedDeque;
 
 @Slf4j
 public class JdbcSourceReader implements SourceReader<SeaTunnelRow, JdbcSourceSplit> {
+    /** The rows a resumable split emits per poll before it gives the checkpoint lock back. */
+    private static final int MAX_ROWS_PER_POLL = 1024;
+
     private final Context context;
     private final JdbcInputFormat inputFormat;
     private final Deque<JdbcSourceSplit> splits = new ConcurrentLinkedDeque<>();
     private volatile boolean noMoreSplit;
 
+    /** The resumable split which is read across polls, with the last split key it emitted. */
+    private JdbcSourceSplit currentSplit;
+
+    private Object currentSplitKey;
+    /** The first row of the next split key, read but not emitted by the previous poll. */
+    private SeaTunnelRow pendingRecord;
+
     public JdbcSourceReader(
             Context context, JdbcSourceConfig config, Map<TablePath, CatalogTable> tables) {
-        this.inputFormat = new JdbcInputFormat(config, tables);
+        this(context, new JdbcInputFormat(config, tables));
+    }
+
+    @VisibleForTesting
+    JdbcSourceReader(Context context, JdbcInputFormat inputFormat) {
+        this.inputFormat = inputFormat;
         this.context = context;
     }
 
@@ -61,16 +79,24 @@ public class JdbcSourceReader implements SourceReader<SeaTunnelRow, JdbcSourceSp
     @SuppressWarnings("magicnumber")
     public void pollNext(Collector<SeaTunnelRow> output) throws Exception {
         synchronized (output.getCheckpointLock()) {
-            JdbcSourceSplit split = splits.poll();
+            JdbcSourceSplit split = currentSplit != null ? currentSplit : splits.poll();
             if (null != split) {
+                boolean splitFinished = true;
                 try {
-                    inputFormat.open(split);
-                    while (!inputFormat.reachedEnd()) {
-                        SeaTunnelRow seaTunnelRow = inputFormat.nextRecord();
-                        output.collect(seaTunnelRow);
+                    if (currentSplit == null) {
+                        inputFormat.open(split);
+                        inputFormat.prefetch(splits.peek());
+                        currentSplit = split;
+                        currentSplitKey = split.getResumeKey();
                     }
+                    splitFinished = collectRecords(output);
                 } finally {
-                    inputFormat.close();
+                    if (splitFinished) {
+                        currentSplit = null;
+                        currentSplitKey = null;
+                        pendingRecord = null;
+                        inputFormat.close();
+                    }
                 }
             } else if (noMoreSplit && splits.isEmpty()) {
                 // signal to the source that we have reached the end of the data.
@@ -82,9 +108,52 @@ public class JdbcSourceReader implements SourceReader<SeaTunnelRow, JdbcSourceSp
         }
     }
 
+    /**
+     * Emits the records of the current split. A resumable split stops after {@link
+     * #MAX_ROWS_PER_POLL} rows at the next split key change, so the split key alone marks how far
+     * it was read.
+     *
+     * @return whether the split reached its end.
+     */
+    private boolean collectRecords(Collector<SeaTunnelRow> output) {
+        boolean resumable = inputFormat.isSplitResumable();
+        int rows = 0;
+        while (pendingRecord != null || !inputFormat.reachedEnd()) {
+            SeaTunnelRow record = pendingRecord != null ? pendingRecord : inputFormat.nextRecord();
+            pendingRecord = null;
+            if (resumable) {
+                Object splitKey = inputFormat.getSplitKey(record);
+                if (rows >= MAX_ROWS_PER_POLL
+                        && splitKey != null
+                        && !isSameSplitKey(splitKey, currentSplitKey)) {
+                    pendingRecord = record;
+                    return false;
+                }
+                if (splitKey != null) {
+                    currentSplitKey = splitKey;
+                }
+            }
+            output.collect(record);
+            rows++;
+        }
+        return true;
+    }
+
+    private static boolean isSameSplitKey(Object splitKey, Object other) {
+        if (splitKey instanceof BigDecimal && other instanceof BigDecimal) {
+            return ((BigDecimal) splitKey).compareTo((BigDecimal) other) == 0;
+        }
+        return splitKey.equals(other);
+    }
+
     @Override
     public List<JdbcSourceSplit> snapshotState(long checkpointId) throws Exception {
-        return new ArrayList<>(splits);
+        List<JdbcSourceSplit> state = new ArrayList<>(splits.size() + 1);
+        if (currentSplit != null) {
+            state.add(currentSplit.resumeAfter(currentSplitKey));
+        }
+        state.addAll(splits);
+        return state;
     }
 
     @Override
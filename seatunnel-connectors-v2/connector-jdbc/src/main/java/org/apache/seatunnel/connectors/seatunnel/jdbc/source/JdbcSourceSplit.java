@@ -21,14 +21,17 @@ import org.apache.seatunnel.api.source.SourceSplit;
 import org.apache.seatunnel.api.table.catalog.TablePath;
 import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
 
-import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 
 @Data
 @ToString
-@AllArgsConstructor
+@RequiredArgsConstructor
 public class JdbcSourceSplit implements SourceSplit {
+    /** Fixed to the computed value of the splits without resume key, to restore their state. */
+    private static final long serialVersionUID = -815542654355310611L;
+
     private final TablePath tablePath;
     private final String splitId;
     private final String splitQuery;
@@ -36,9 +39,25 @@ public class JdbcSourceSplit implements SourceSplit {
     private final SeaTunnelDataType splitKeyType;
     private final Object splitStart;
     private final Object splitEnd;
+    /** The last split key the split emitted, a restored split continues after it. */
+    private Object resumeKey;
 
     @Override
     public String splitId() {
         return splitId;
     }
+
+    public JdbcSourceSplit resumeAfter(Object splitKey) {
+        JdbcSourceSplit split =
+                new JdbcSourceSplit(
+                        tablePath,
+                        splitId,
+                        splitQuery,
+                        splitKeyName,
+                        splitKeyType,
+                        splitStart,
+                        splitEnd);
+        split.setResumeKey(splitKey);
+        return split;
+    }
 }
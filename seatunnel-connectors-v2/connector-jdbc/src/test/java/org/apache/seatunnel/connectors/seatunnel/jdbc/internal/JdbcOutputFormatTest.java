@@ -0,0 +1,163 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.seatunnel.connectors.seatunnel.jdbc.internal;
+
+import org.apache.seatunnel.connectors.seatunnel.jdbc.config.JdbcConnectionConfig;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.exception.JdbcConnectorException;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.connection.JdbcConnectionProvider;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor.JdbcBatchStatementExecutor;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+public class JdbcOutputFormatTest {
+
+    private final List<Executed> executed = new ArrayList<>();
+
+    @Test
+    public void testAsyncFlushKeepsOrderPerKey() throws Exception {
+        JdbcOutputFormat<int[], RecordingExecutor> outputFormat = createOutputFormat(false, 3);
+        outputFormat.open();
+        for (int version = 0; version < 20; version++) {
+            for (int key = 0; key < 10; key++) {
+                outputFormat.writeRecord(new int[] {key, version});
+            }
+        }
+        outputFormat.flush();
+
+        Map<Integer, List<Integer>> versionsByKey = new HashMap<>();
+        Map<Integer, Connection> connectionByKey = new HashMap<>();
+        synchronized (executed) {
+            for (Executed batch : executed) {
+                for (int[] record : batch.records) {
+                    versionsByKey.computeIfAbsent(record[0], k -> new ArrayList<>()).add(record[1]);
+                    Connection previous = connectionByKey.put(record[0], batch.connection);
+                    Assertions.assertTrue(previous == null || previous == batch.connection);
+                }
+            }
+        }
+        List<Integer> expected = IntStream.range(0, 20).boxed().collect(Collectors.toList());
+        Assertions.assertEquals(10, versionsByKey.size());
+        versionsByKey.values().forEach(versions -> Assertions.assertEquals(expected, versions));
+        Assertions.assertTrue(connectionByKey.values().stream().distinct().count() > 1);
+        outputFormat.close();
+    }
+
+    @Test
+    public void testAsyncFlushFailureFailsTheBarrier() throws Exception {
+        JdbcOutputFormat<int[], RecordingExecutor> outputFormat = createOutputFormat(true, 2);
+        outputFormat.open();
+        for (int i = 0; i < 8; i++) {
+            outputFormat.writeRecord(new int[] {i, 0});
+        }
+        // the same sequence as the prepareCommit of the sink writer
+        Assertions.assertThrows(
+                JdbcConnectorException.class,
+                () -> {
+                    outputFormat.checkFlushException();
+                    outputFormat.flush();
+                });
+        Assertions.assertThrows(
+                JdbcConnectorException.class, () -> outputFormat.writeRecord(new int[] {0, 1}));
+        Assertions.assertThrows(JdbcConnectorException.class, outputFormat::close);
+    }
+
+    private JdbcOutputFormat<int[], RecordingExecutor> createOutputFormat(
+            boolean failing, int connections) {
+        JdbcConnectionConfig config =
+                JdbcConnectionConfig.builder().url("jdbc:test").batchSize(4).build();
+        return new JdbcOutputFormat<>(
+                mockConnectionProvider(),
+                config,
+                () -> new RecordingExecutor(failing),
+                new JdbcOutputFormat.AsyncFlushOptions<>(
+                        connections, 2, record -> record[0], this::mockConnectionProvider));
+    }
+
+    private JdbcConnectionProvider mockConnectionProvider() {
+        try {
+            Connection connection = Mockito.mock(Connection.class);
+            Mockito.when(connection.getAutoCommit()).thenReturn(true);
+            JdbcConnectionProvider provider = Mockito.mock(JdbcConnectionProvider.class);
+            Mockito.when(provider.getConnection()).thenReturn(connection);
+            Mockito.when(provider.getOrEstablishConnection()).thenReturn(connection);
+            Mockito.when(provider.isConnectionValid()).thenReturn(true);
+            return provider;
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static class Executed {
+        private final Connection connection;
+        private final List<int[]> records;
+
+        Executed(Connection connection, List<int[]> records) {
+            this.connection = connection;
+            this.records = records;
+        }
+    }
+
+    private class RecordingExecutor implements JdbcBatchStatementExecutor<int[]> {
+        private final boolean failing;
+        private final List<int[]> buffer = new ArrayList<>();
+        private Connection connection;
+
+        RecordingExecutor(boolean failing) {
+            this.failing = failing;
+        }
+
+        @Override
+        public void prepareStatements(Connection connection) {
+            this.connection = connection;
+        }
+
+        @Override
+        public void addToBatch(int[] record) {
+            buffer.add(record);
+        }
+
+        @Override
+        public void executeBatch() throws SQLException {
+            if (buffer.isEmpty()) {
+                return;
+            }
+            if (failing) {
+                throw new SQLException("mock failure");
+            }
+            synchronized (executed) {
+                executed.add(new Executed(connection, new ArrayList<>(buffer)));
+            }
+            buffer.clear();
+        }
+
+        @Override
+        public void closeStatements() {}
+    }
+}
@@ -36,5 +36,9 @@ public class PostgresDialectFactoryTest {
         Optional<String> upsertStatement =
                 postgresLow.getUpsertStatement("test", "test_a", fields, uniqueKeyField);
         Assertions.assertFalse(upsertStatement.isPresent());
+        Assertions.assertFalse(
+                postgresLow
+                        .getMultiRowUpsertStatement("test", "test_a", fields, uniqueKeyField, 2)
+                        .isPresent());
     }
 }
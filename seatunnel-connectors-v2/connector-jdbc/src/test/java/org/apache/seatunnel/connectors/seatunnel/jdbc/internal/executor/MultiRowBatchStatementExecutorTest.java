@@ -0,0 +1,136 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor;
+
+import org.apache.seatunnel.api.table.catalog.PhysicalColumn;
+import org.apache.seatunnel.api.table.catalog.TableSchema;
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.JdbcDialect;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.mysql.MysqlDialect;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+public class MultiRowBatchStatementExecutorTest {
+
+    private static final TableSchema TABLE_SCHEMA =
+            TableSchema.builder()
+                    .columns(
+                            Arrays.asList(
+                                    PhysicalColumn.of(
+                                            "id", BasicType.INT_TYPE, (Long) null, false, null, ""),
+                                    PhysicalColumn.of(
+                                            "name",
+                                            BasicType.STRING_TYPE,
+                                            (Long) null,
+                                            true,
+                                            null,
+                                            "")))
+                    .build();
+
+    private final JdbcDialect dialect = new MysqlDialect();
+    private final Map<String, PreparedStatement> statements = new HashMap<>();
+
+    @Test
+    public void testMultiRowStatements() {
+        Assertions.assertEquals(
+                "INSERT INTO `db`.`t` (`id`, `name`) VALUES (?, ?), (?, ?)",
+                dialect.getMultiRowInsertIntoStatement("db", "t", TABLE_SCHEMA.getFieldNames(), 2)
+                        .get());
+        Assertions.assertEquals(
+                "INSERT INTO `db`.`t` (`id`, `name`) VALUES (?, ?)"
+                        + " ON DUPLICATE KEY UPDATE `id`=VALUES(`id`), `name`=VALUES(`name`)",
+                dialect.getMultiRowUpsertStatement(
+                                "db", "t", TABLE_SCHEMA.getFieldNames(), new String[] {"id"}, 1)
+                        .get());
+    }
+
+    @Test
+    public void testChunkRowsByParameterLimit() throws Exception {
+        // 10 parameters and 2 fields, so a statement holds at most 5 rows
+        MultiRowBatchStatementExecutor executor =
+                new MultiRowBatchStatementExecutor(
+                        rows ->
+                                dialect.getMultiRowInsertIntoStatement(
+                                                "db", "t", TABLE_SCHEMA.getFieldNames(), rows)
+                                        .get(),
+                        TABLE_SCHEMA,
+                        dialect.getRowConverter(),
+                        10);
+        executor.prepareStatements(mockConnection());
+        for (int i = 0; i < 13; i++) {
+            executor.addToBatch(new SeaTunnelRow(new Object[] {i, "name" + i}));
+        }
+        executor.executeBatch();
+
+        // 13 rows are written as 5 + 5 + 2 + 1
+        Assertions.assertEquals(3, statements.size());
+        PreparedStatement fiveRows = statement(5);
+        Mockito.verify(fiveRows, Mockito.times(2)).addBatch();
+        Mockito.verify(fiveRows).executeBatch();
+        Mockito.verify(fiveRows).setInt(1, 0);
+        Mockito.verify(fiveRows).setString(2, "name0");
+        Mockito.verify(fiveRows).setInt(9, 4);
+        Mockito.verify(fiveRows).setInt(1, 5);
+        Mockito.verify(fiveRows).setString(10, "name9");
+        Mockito.verify(statement(2)).setInt(3, 11);
+        Mockito.verify(statement(1)).setString(2, "name12");
+
+        // the statements are cached per row count
+        for (int i = 0; i < 3; i++) {
+            executor.addToBatch(new SeaTunnelRow(new Object[] {i, "name" + i}));
+        }
+        executor.executeBatch();
+        Assertions.assertEquals(3, statements.size());
+        Mockito.verify(statement(2), Mockito.times(2)).executeBatch();
+        Mockito.verify(statement(1), Mockito.times(2)).executeBatch();
+
+        executor.closeStatements();
+        for (PreparedStatement statement : statements.values()) {
+            Mockito.verify(statement).close();
+        }
+    }
+
+    private PreparedStatement statement(int rows) {
+        String sql =
+                dialect.getMultiRowInsertIntoStatement(
+                                "db", "t", TABLE_SCHEMA.getFieldNames(), rows)
+                        .get();
+        return statements.get(sql);
+    }
+
+    private Connection mockConnection() throws Exception {
+        Connection connection = Mockito.mock(Connection.class);
+        Mockito.when(connection.prepareStatement(Mockito.anyString()))
+                .thenAnswer(
+                        invocation ->
+                                statements.computeIfAbsent(
+                                        invocation.getArgument(0),
+                                        sql -> Mockito.mock(PreparedStatement.class)));
+        return connection;
+    }
+}
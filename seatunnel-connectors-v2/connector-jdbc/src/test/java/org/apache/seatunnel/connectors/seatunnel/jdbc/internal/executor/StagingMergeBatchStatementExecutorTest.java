@@ -0,0 +1,137 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor;
+
+import org.apache.seatunnel.api.table.type.RowKind;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.JdbcDialect;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.mysql.MysqlDialect;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.psql.PostgresDialect;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.mockito.Mockito;
+
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Collections;
+
+public class StagingMergeBatchStatementExecutorTest {
+
+    private static final String[] FIELD_NAMES = new String[] {"id", "name"};
+    private static final String[] KEY_NAMES = new String[] {"id"};
+
+    @Test
+    public void testPostgresStagingStatements() {
+        JdbcDialect dialect = new PostgresDialect();
+        Assertions.assertEquals(
+                "CREATE TEMPORARY TABLE IF NOT EXISTS \"pg_temp\".\"s\""
+                        + " AS SELECT \"id\", \"name\" FROM \"db\".\"public\".\"t\" WITH NO DATA",
+                dialect.getCreateStagingTableStatement("db", "public.t", "s", FIELD_NAMES).get());
+        Assertions.assertEquals(
+                "COPY \"pg_temp\".\"s\" (\"id\", \"name\") FROM STDIN WITH CSV",
+                dialect.getStagingCopyStatement("db", "s", FIELD_NAMES).get());
+        Assertions.assertEquals(
+                "TRUNCATE TABLE \"pg_temp\".\"s\"",
+                dialect.getTruncateStagingTableStatement("db", "s"));
+        Assertions.assertEquals(
+                "INSERT INTO \"db\".\"public\".\"t\" (\"id\", \"name\")"
+                        + " SELECT \"id\", \"name\" FROM \"pg_temp\".\"s\""
+                        + " ON CONFLICT (\"id\") DO UPDATE SET"
+                        + " \"id\"=EXCLUDED.\"id\", \"name\"=EXCLUDED.\"name\"",
+                dialect.getStagingUpsertStatement("db", "public.t", "s", FIELD_NAMES, KEY_NAMES)
+                        .get());
+        Assertions.assertEquals(
+                "DELETE FROM \"db\".\"public\".\"t\" AS t USING \"pg_temp\".\"s\" AS s"
+                        + " WHERE t.\"id\" = s.\"id\"",
+                dialect.getStagingDeleteStatement("db", "public.t", "s", KEY_NAMES).get());
+    }
+
+    @Test
+    public void testMysqlStagingStatements() {
+        JdbcDialect dialect = new MysqlDialect();
+        Assertions.assertEquals(
+                "CREATE TEMPORARY TABLE IF NOT EXISTS `db`.`s`"
+                        + " AS SELECT `id`, `name` FROM `db`.`t` WHERE 1 = 0",
+                dialect.getCreateStagingTableStatement("db", "t", "s", FIELD_NAMES).get());
+        // TRUNCATE would commit implicitly
+        Assertions.assertEquals(
+                "DELETE FROM `db`.`s`", dialect.getTruncateStagingTableStatement("db", "s"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testApplyReducedBatchThroughStagingTables() throws Exception {
+        Connection connection = Mockito.mock(Connection.class);
+        Statement statement = Mockito.mock(Statement.class);
+        Mockito.when(connection.createStatement()).thenReturn(statement);
+        JdbcBatchStatementExecutor<SeaTunnelRow> upsertLoadExecutor =
+                Mockito.mock(JdbcBatchStatementExecutor.class);
+        JdbcBatchStatementExecutor<SeaTunnelRow> deleteLoadExecutor =
+                Mockito.mock(JdbcBatchStatementExecutor.class);
+        StagingMergeBatchStatementExecutor executor =
+                new StagingMergeBatchStatementExecutor(
+                        Collections.singletonList("create"),
+                        Arrays.asList("truncate upsert", "truncate delete"),
+                        upsertLoadExecutor,
+                        deleteLoadExecutor,
+                        "upsert",
+                        "delete",
+                        row -> new SeaTunnelRow(new Object[] {row.getField(0)}));
+
+        executor.prepareStatements(connection);
+        Mockito.verify(statement).execute("create");
+
+        executor.addToBatch(row(RowKind.INSERT, 1, "a"));
+        executor.addToBatch(row(RowKind.INSERT, 2, "b"));
+        executor.addToBatch(row(RowKind.UPDATE_BEFORE, 1, "a"));
+        executor.addToBatch(row(RowKind.UPDATE_AFTER, 1, "c"));
+        executor.addToBatch(row(RowKind.DELETE, 2, "b"));
+        executor.executeBatch();
+
+        InOrder inOrder = Mockito.inOrder(statement, upsertLoadExecutor, deleteLoadExecutor);
+        inOrder.verify(statement).execute("truncate upsert");
+        inOrder.verify(statement).execute("truncate delete");
+        inOrder.verify(deleteLoadExecutor).addToBatch(new SeaTunnelRow(new Object[] {2}));
+        inOrder.verify(deleteLoadExecutor).executeBatch();
+        inOrder.verify(statement).executeUpdate("delete");
+        inOrder.verify(upsertLoadExecutor).addToBatch(row(RowKind.UPDATE_AFTER, 1, "c"));
+        inOrder.verify(upsertLoadExecutor).executeBatch();
+        inOrder.verify(statement).executeUpdate("upsert");
+        Mockito.verify(upsertLoadExecutor, Mockito.times(1)).addToBatch(Mockito.any());
+        Mockito.verify(deleteLoadExecutor, Mockito.times(1)).addToBatch(Mockito.any());
+
+        // an empty batch does not touch the staging tables
+        executor.executeBatch();
+        Mockito.verify(statement, Mockito.times(1)).execute("truncate upsert");
+
+        executor.closeStatements();
+        Mockito.verify(upsertLoadExecutor).closeStatements();
+        Mockito.verify(deleteLoadExecutor).closeStatements();
+        Mockito.verify(statement).close();
+    }
+
+    private static SeaTunnelRow row(RowKind rowKind, int id, String name) {
+        SeaTunnelRow row = new SeaTunnelRow(new Object[] {id, name});
+        row.setRowKind(rowKind);
+        return row;
+    }
+}
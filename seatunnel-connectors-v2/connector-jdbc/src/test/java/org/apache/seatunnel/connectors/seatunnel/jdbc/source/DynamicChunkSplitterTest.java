@@ -112,6 +112,54 @@ public class DynamicChunkSplitterTest {
                 splitQuerySQL);
     }
 
+    @Test
+    public void testResumableSplitQuerySQL() {
+        JdbcSourceConfig config =
+                JdbcSourceConfig.builder()
+                        .jdbcConnectionConfig(
+                                JdbcConnectionConfig.builder()
+                                        .url("jdbc:postgresql://localhost:5432/test")
+                                        .driverName("org.postgresql.Driver")
+                                        .build())
+                        .splitResumable(true)
+                        .build();
+        DynamicChunkSplitter splitter = new DynamicChunkSplitter(config);
+        TablePath tablePath = TablePath.of("db1", "schema1", "table1");
+
+        JdbcSourceSplit split =
+                new JdbcSourceSplit(tablePath, "split1", null, "id", BasicType.INT_TYPE, 1, 10);
+        assertTrue(splitter.isResumable(split));
+        assertEquals(
+                "SELECT * FROM (SELECT * FROM t) st_jdbc_resume ORDER BY \"id\"",
+                splitter.createResumableSplitQuery("SELECT * FROM t", split));
+
+        JdbcSourceSplit restored = split.resumeAfter(5);
+        assertEquals(split.getSplitStart(), restored.getSplitStart());
+        assertEquals(split.getSplitEnd(), restored.getSplitEnd());
+        assertNull(split.getResumeKey());
+        assertEquals(5, restored.getResumeKey());
+        assertEquals(
+                "SELECT * FROM (SELECT * FROM t) st_jdbc_resume WHERE \"id\" > ? ORDER BY \"id\"",
+                splitter.createResumableSplitQuery("SELECT * FROM t", restored));
+
+        // a full table split may hold NULL split keys
+        Assertions.assertFalse(
+                splitter.isResumable(
+                        new JdbcSourceSplit(
+                                tablePath, "split2", null, "id", BasicType.INT_TYPE, null, null)));
+        // the database may treat string keys as equal that Java doesn't
+        Assertions.assertFalse(
+                splitter.isResumable(
+                        new JdbcSourceSplit(
+                                tablePath, "split3", null, "name", BasicType.STRING_TYPE, 0, 4)));
+        // resumable splits are opt-in
+        JdbcSourceConfig defaultConfig =
+                JdbcSourceConfig.builder()
+                        .jdbcConnectionConfig(config.getJdbcConnectionConfig())
+                        .build();
+        Assertions.assertFalse(new DynamicChunkSplitter(defaultConfig).isResumable(split));
+    }
+
     @Test
     public void testEfficientShardingThroughSampling() throws NoSuchMethodException {
         TablePath tablePath = new TablePath("db", "xe", "table");
@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.jdbc.source;
+
+import org.apache.seatunnel.api.source.Collector;
+import org.apache.seatunnel.api.source.SourceReader;
+import org.apache.seatunnel.api.table.catalog.TablePath;
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.JdbcInputFormat;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+public class JdbcSourceReaderTest {
+
+    private static final TablePath TABLE_PATH = TablePath.of("db1", "schema1", "table1");
+
+    /** Every split key appears three times, so a poll must not stop inside one key. */
+    private static final List<SeaTunnelRow> TABLE =
+            IntStream.range(0, 3000)
+                    .mapToObj(i -> new SeaTunnelRow(new Object[] {i / 3, i}))
+                    .collect(Collectors.toList());
+
+    @Test
+    public void testRestoreSplitFromMiddle() throws Exception {
+        JdbcSourceSplit split =
+                new JdbcSourceSplit(TABLE_PATH, "split1", null, "id", BasicType.INT_TYPE, 0, 1000);
+
+        JdbcSourceReader reader =
+                new JdbcSourceReader(Mockito.mock(SourceReader.Context.class), tableFormat());
+        reader.addSplits(Collections.singletonList(split));
+        ListCollector beforeSnapshot = new ListCollector();
+        reader.pollNext(beforeSnapshot);
+        List<JdbcSourceSplit> state = reader.snapshotState(1);
+
+        Assertions.assertTrue(beforeSnapshot.rows.size() > 0);
+        Assertions.assertTrue(beforeSnapshot.rows.size() < TABLE.size());
+        Assertions.assertEquals(1, state.size());
+        Assertions.assertEquals(
+                beforeSnapshot.rows.get(beforeSnapshot.rows.size() - 1).getField(0),
+                state.get(0).getResumeKey());
+
+        // fail over: the rows emitted after the snapshot are lost, a new reader restores
+        reader.pollNext(new ListCollector());
+        SourceReader.Context context = Mockito.mock(SourceReader.Context.class);
+        JdbcSourceReader restored = new JdbcSourceReader(context, tableFormat());
+        restored.addSplits(state);
+        restored.handleNoMoreSplits();
+        ListCollector afterRestore = new ListCollector();
+        for (int i = 0; i < 10; i++) {
+            restored.pollNext(afterRestore);
+        }
+        Mockito.verify(context, Mockito.atLeastOnce()).signalNoMoreElement();
+
+        List<Object> emitted = new ArrayList<>();
+        beforeSnapshot.rows.forEach(row -> emitted.add(row.getField(1)));
+        afterRestore.rows.forEach(row -> emitted.add(row.getField(1)));
+        Assertions.assertEquals(
+                TABLE.stream().map(row -> row.getField(1)).collect(Collectors.toList()), emitted);
+    }
+
+    /** An input format over {@link #TABLE} which honors the resume key like the split query. */
+    private static JdbcInputFormat tableFormat() throws Exception {
+        JdbcInputFormat inputFormat = Mockito.mock(JdbcInputFormat.class);
+        List<Iterator<SeaTunnelRow>> cursor = new ArrayList<>();
+        Mockito.doAnswer(
+                        invocation -> {
+                            JdbcSourceSplit split = invocation.getArgument(0);
+                            Integer resumeKey = (Integer) split.getResumeKey();
+                            cursor.clear();
+                            cursor.add(
+                                    TABLE.stream()
+                                            .filter(
+                                                    row ->
+                                                            resumeKey == null
+                                                                    || (Integer) row.getField(0)
+                                                                            > resumeKey)
+                                            .iterator());
+                            return null;
+                        })
+                .when(inputFormat)
+                .open(Mockito.any());
+        Mockito.when(inputFormat.reachedEnd()).thenAnswer(invocation -> !cursor.get(0).hasNext());
+        Mockito.when(inputFormat.nextRecord()).thenAnswer(invocation -> cursor.get(0).next());
+        Mockito.when(inputFormat.isSplitResumable()).thenReturn(true);
+        Mockito.when(inputFormat.getSplitKey(Mockito.any()))
+                .thenAnswer(invocation -> ((SeaTunnelRow) invocation.getArgument(0)).getField(0));
+        return inputFormat;
+    }
+
+    private static class ListCollector implements Collector<SeaTunnelRow> {
+
+        private final List<SeaTunnelRow> rows = new ArrayList<>();
+
+        @Override
+        public void collect(SeaTunnelRow record) {
+            rows.add(record);
+        }
+
+        @Override
+        public Object getCheckpointLock() {
+            return this;
+        }
+    }
+}
@@ -0,0 +1,238 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.kafka.source;
+
+import org.apache.seatunnel.api.table.catalog.TablePath;
+import org.apache.seatunnel.connectors.seatunnel.common.source.reader.RecordsBySplits;
+import org.apache.seatunnel.connectors.seatunnel.common.source.reader.RecordsWithSplitIds;
+import org.apache.seatunnel.connectors.seatunnel.common.source.reader.splitreader.SplitReader;
+import org.apache.seatunnel.connectors.seatunnel.common.source.reader.splitreader.SplitsAddition;
+import org.apache.seatunnel.connectors.seatunnel.common.source.reader.splitreader.SplitsChange;
+import org.apache.seatunnel.connectors.seatunnel.kafka.exception.KafkaConnectorErrorCode;
+import org.apache.seatunnel.connectors.seatunnel.kafka.exception.KafkaConnectorException;
+
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.errors.WakeupException;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * A {@link SplitReader} that reads all the partitions of one table with a single long-lived
+ * {@link KafkaConsumer}. Partitions stay assigned between fetches and are only re-assigned when
+ * splits are added or finished.
+ */
+@Slf4j
+public class KafkaPartitionSplitReader
+        implements SplitReader<ConsumerRecord<byte[], byte[]>, KafkaSourceSplit> {
+
+    private static final String CLIENT_ID_PREFIX = "seatunnel";
+    private static final long POLL_TIMEOUT = 1000L;
+
+    private final KafkaSourceConfig kafkaSourceConfig;
+    private final boolean bounded;
+    private final Map<TopicPartition, KafkaSourceSplit> assignedSplits;
+    private final Set<String> emptySplits;
+
+    private volatile Consumer<byte[], byte[]> consumer;
+
+    public KafkaPartitionSplitReader(KafkaSourceConfig kafkaSourceConfig, boolean bounded) {
+        this(kafkaSourceConfig, null, bounded);
+    }
+
+    KafkaPartitionSplitReader(
+            KafkaSourceConfig kafkaSourceConfig,
+            Consumer<byte[], byte[]> consumer,
+            boolean bounded) {
+        this.kafkaSourceConfig = kafkaSourceConfig;
+        this.consumer = consumer;
+        this.bounded = bounded;
+        this.assignedSplits = new LinkedHashMap<>();
+        this.emptySplits = new HashSet<>();
+    }
+
+    @Override
+    public RecordsWithSplitIds<ConsumerRecord<byte[], byte[]>> fetch() {
+        Map<String, Collection<ConsumerRecord<byte[], byte[]>>> recordsBySplit =
+                new LinkedHashMap<>();
+        Set<String> finishedSplits = new HashSet<>(emptySplits);
+        emptySplits.clear();
+        if (assignedSplits.isEmpty()) {
+            return new RecordsBySplits<>(recordsBySplit, finishedSplits);
+        }
+
+        ConsumerRecords<byte[], byte[]> consumerRecords;
+        try {
+            consumerRecords = consumer.poll(Duration.ofMillis(POLL_TIMEOUT));
+        } catch (WakeupException e) {
+            log.debug("The kafka consumer was woken up while polling.");
+            return new RecordsBySplits<>(recordsBySplit, finishedSplits);
+        } catch (Exception e) {
+            throw new KafkaConnectorException(KafkaConnectorErrorCode.CONSUME_DATA_FAILED, e);
+        }
+
+        List<TopicPartition> finishedPartitions = new ArrayList<>();
+        for (Map.Entry<TopicPartition, KafkaSourceSplit> entry : assignedSplits.entrySet()) {
+            TopicPartition partition = entry.getKey();
+            KafkaSourceSplit split = entry.getValue();
+            List<ConsumerRecord<byte[], byte[]>> partitionRecords =
+                    consumerRecords.records(partition);
+            if (bounded) {
+                long stoppingOffset = split.getEndOffset();
+                if (stoppingOffset < 0) {
+                    // without a known end offset the split ends at the first empty poll
+                    if (partitionRecords.isEmpty()) {
+                        finishedPartitions.add(partition);
+                    }
+                } else {
+                    partitionRecords =
+                            partitionRecords.stream()
+                                    .filter(record -> record.offset() < stoppingOffset)
+                                    .collect(Collectors.toList());
+                    if (consumer.position(partition) >= stoppingOffset) {
+                        finishedPartitions.add(partition);
+                    }
+                }
+            }
+            if (!partitionRecords.isEmpty()) {
+                recordsBySplit.put(split.splitId(), partitionRecords);
+            }
+        }
+
+        if (!finishedPartitions.isEmpty()) {
+            for (TopicPartition partition : finishedPartitions) {
+                finishedSplits.add(assignedSplits.remove(partition).splitId());
+            }
+            consumer.assign(new ArrayList<>(assignedSplits.keySet()));
+        }
+        return new RecordsBySplits<>(recordsBySplit, finishedSplits);
+    }
+
+    @Override
+    public void handleSplitsChanges(SplitsChange<KafkaSourceSplit> splitsChanges) {
+        if (!(splitsChanges instanceof SplitsAddition)) {
+            throw new UnsupportedOperationException(
+                    String.format(
+                            "The SplitChange type of %s is not supported.",
+                            splitsChanges.getClass()));
+        }
+
+        List<KafkaSourceSplit> newSplits = new ArrayList<>();
+        for (KafkaSourceSplit split : splitsChanges.splits()) {
+            if (bounded
+                    && split.getEndOffset() >= 0
+                    && split.getStartOffset() >= split.getEndOffset()) {
+                emptySplits.add(split.splitId());
+                continue;
+            }
+            assignedSplits.put(split.getTopicPartition(), split);
+            newSplits.add(split);
+        }
+        if (newSplits.isEmpty()) {
+            return;
+        }
+
+        if (consumer == null) {
+            consumer = createConsumer(newSplits.get(0).getTablePath());
+        }
+        consumer.assign(new ArrayList<>(assignedSplits.keySet()));
+        for (KafkaSourceSplit split : newSplits) {
+            if (split.getStartOffset() >= 0) {
+                consumer.seek(split.getTopicPartition(), split.getStartOffset());
+            }
+        }
+        log.info("Kafka consumer is assigned to partitions {}", assignedSplits.keySet());
+    }
+
+    public void commitOffsets(Map<TopicPartition, OffsetAndMetadata> offsets) {
+        if (consumer != null && !offsets.isEmpty()) {
+            consumer.commitSync(offsets);
+        }
+    }
+
+    @Override
+    public void wakeUp() {
+        if (consumer != null) {
+            consumer.wakeup();
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            if (consumer != null) {
+                consumer.close();
+            }
+        } catch (Throwable t) {
+            throw new KafkaConnectorException(KafkaConnectorErrorCode.CONSUMER_CLOSE_FAILED, t);
+        }
+    }
+
+    private Consumer<byte[], byte[]> createConsumer(TablePath tablePath) {
+        ConsumerMetadata metadata = kafkaSourceConfig.getMapMetadata().get(tablePath);
+        Properties props = new Properties();
+        kafkaSourceConfig
+                .getProperties()
+                .forEach(
+                        (key, value) ->
+                                props.setProperty(String.valueOf(key), String.valueOf(value)));
+        props.setProperty(ConsumerConfig.GROUP_ID_CONFIG, metadata.getConsumerGroup());
+        props.setProperty(
+                ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, kafkaSourceConfig.getBootstrap());
+        if (metadata.getProperties().get("client.id") == null) {
+            props.setProperty(
+                    ConsumerConfig.CLIENT_ID_CONFIG,
+                    CLIENT_ID_PREFIX + "-consumer-" + this.hashCode());
+        } else {
+            props.setProperty(
+                    ConsumerConfig.CLIENT_ID_CONFIG,
+                    metadata.getProperties().get("client.id").toString());
+        }
+        props.setProperty(
+                ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG,
+                ByteArrayDeserializer.class.getName());
+        props.setProperty(
+                ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG,
+                ByteArrayDeserializer.class.getName());
+        props.setProperty(
+                ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG,
+                String.valueOf(!kafkaSourceConfig.isCommitOnCheckpoint()));
+
+        // Disable auto create topics feature
+        props.setProperty(ConsumerConfig.ALLOW_AUTO_CREATE_TOPICS_CONFIG, "false");
+        return new KafkaConsumer<>(props);
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.kafka.source;
+
+import org.apache.seatunnel.api.serialization.DeserializationSchema;
+import org.apache.seatunnel.api.source.Collector;
+import org.apache.seatunnel.api.table.catalog.TablePath;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.connectors.seatunnel.common.source.reader.RecordEmitter;
+import org.apache.seatunnel.connectors.seatunnel.kafka.config.MessageFormatErrorHandleWay;
+import org.apache.seatunnel.format.compatible.kafka.connect.json.CompatibleKafkaConnectDeserializationSchema;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.util.Map;
+
+/** Deserializes the fetched kafka records and tracks the next offset to read of each split. */
+@Slf4j
+@RequiredArgsConstructor
+public class KafkaRecordEmitter
+        implements RecordEmitter<ConsumerRecord<byte[], byte[]>, SeaTunnelRow, KafkaSourceSplit> {
+
+    private final Map<TablePath, ConsumerMetadata> tablePathMetadataMap;
+    private final MessageFormatErrorHandleWay messageFormatErrorHandleWay;
+
+    @Override
+    public void emitRecord(
+            ConsumerRecord<byte[], byte[]> record,
+            Collector<SeaTunnelRow> collector,
+            KafkaSourceSplit splitState)
+            throws Exception {
+        DeserializationSchema<SeaTunnelRow> deserializationSchema =
+                tablePathMetadataMap.get(splitState.getTablePath()).getDeserializationSchema();
+        try {
+            if (deserializationSchema instanceof CompatibleKafkaConnectDeserializationSchema) {
+                ((CompatibleKafkaConnectDeserializationSchema) deserializationSchema)
+                        .deserialize(record, collector);
+            } else {
+                deserializationSchema.deserialize(record.value(), collector);
+            }
+        } catch (IOException e) {
+            if (this.messageFormatErrorHandleWay != MessageFormatErrorHandleWay.SKIP) {
+                throw e;
+            }
+            log.warn(
+                    "Deserialize message failed, skip this message, message: {}",
+                    new String(record.value()));
+        }
+        splitState.setStartOffset(record.offset() + 1);
+        if (record.offset() >= splitState.getEndOffset()) {
+            splitState.setEndOffset(record.offset());
+        }
+    }
+}
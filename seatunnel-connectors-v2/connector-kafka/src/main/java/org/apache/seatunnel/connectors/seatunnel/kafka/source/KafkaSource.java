@@ -27,6 +27,7 @@ import org.apache.seatunnel.api.source.SupportParallelism;
 import org.apache.seatunnel.api.table.catalog.CatalogTable;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.common.constants.JobMode;
+import org.apache.seatunnel.connectors.seatunnel.common.source.reader.SourceReaderOptions;
 import org.apache.seatunnel.connectors.seatunnel.kafka.state.KafkaSourceState;
 
 import java.util.List;
@@ -38,9 +39,12 @@ public class KafkaSource
 
     private JobContext jobContext;
 
+    private final ReadonlyConfig readonlyConfig;
+
     private final KafkaSourceConfig kafkaSourceConfig;
 
     public KafkaSource(ReadonlyConfig readonlyConfig) {
+        this.readonlyConfig = readonlyConfig;
         kafkaSourceConfig = new KafkaSourceConfig(readonlyConfig);
     }
 
@@ -67,9 +71,7 @@ public class KafkaSource
     public SourceReader<SeaTunnelRow, KafkaSourceSplit> createReader(
             SourceReader.Context readerContext) {
         return new KafkaSourceReader(
-                kafkaSourceConfig,
-                readerContext,
-                kafkaSourceConfig.getMessageFormatErrorHandleWay());
+                kafkaSourceConfig, readerContext, new SourceReaderOptions(readonlyConfig));
     }
 
     @Override
@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.kafka.source;
+
+import org.apache.seatunnel.api.table.catalog.TablePath;
+import org.apache.seatunnel.connectors.seatunnel.common.source.reader.RecordsWithSplitIds;
+import org.apache.seatunnel.connectors.seatunnel.common.source.reader.fetcher.SingleThreadFetcherManager;
+import org.apache.seatunnel.connectors.seatunnel.common.source.reader.fetcher.SplitFetcher;
+import org.apache.seatunnel.connectors.seatunnel.common.source.reader.fetcher.SplitFetcherTask;
+import org.apache.seatunnel.connectors.seatunnel.common.source.reader.splitreader.SplitReader;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * A fetcher manager which keeps one {@link SplitFetcher} per table, so every table is consumed by
+ * one long-lived consumer that owns all the partitions assigned to this reader. The consumers of
+ * different tables can't be shared because each table may use its own consumer group.
+ */
+@Slf4j
+public class KafkaSourceFetcherManager
+        extends SingleThreadFetcherManager<ConsumerRecord<byte[], byte[]>, KafkaSourceSplit> {
+
+    private final Map<TablePath, Integer> tableFetcherIds;
+
+    public KafkaSourceFetcherManager(
+            BlockingQueue<RecordsWithSplitIds<ConsumerRecord<byte[], byte[]>>> elementsQueue,
+            Supplier<SplitReader<ConsumerRecord<byte[], byte[]>, KafkaSourceSplit>>
+                    splitReaderSupplier) {
+        super(elementsQueue, splitReaderSupplier);
+        this.tableFetcherIds = new ConcurrentHashMap<>();
+    }
+
+    @Override
+    public void addSplits(Collection<KafkaSourceSplit> splitsToAdd) {
+        Map<TablePath, List<KafkaSourceSplit>> tableSplits =
+                splitsToAdd.stream().collect(Collectors.groupingBy(KafkaSourceSplit::getTablePath));
+        tableSplits.forEach(
+                (tablePath, splits) -> {
+                    SplitFetcher<ConsumerRecord<byte[], byte[]>, KafkaSourceSplit> fetcher =
+                            getTableFetcher(tablePath);
+                    if (fetcher == null) {
+                        fetcher = createSplitFetcher();
+                        tableFetcherIds.put(tablePath, fetcher.getFetcherId());
+                        fetcher.addSplits(splits);
+                        startFetcher(fetcher);
+                    } else {
+                        fetcher.addSplits(splits);
+                    }
+                });
+    }
+
+    public void commitOffsets(TablePath tablePath, Map<TopicPartition, OffsetAndMetadata> offsets) {
+        SplitFetcher<ConsumerRecord<byte[], byte[]>, KafkaSourceSplit> fetcher =
+                getTableFetcher(tablePath);
+        if (fetcher == null) {
+            log.warn("No running kafka consumer of table {} to commit offsets.", tablePath);
+            return;
+        }
+        KafkaPartitionSplitReader splitReader =
+                (KafkaPartitionSplitReader) fetcher.getSplitReader();
+        // the consumer is not thread safe, so commit from the fetcher thread which owns it
+        fetcher.addTask(
+                new SplitFetcherTask() {
+                    @Override
+                    public void run() {
+                        try {
+                            splitReader.commitOffsets(offsets);
+                        } catch (Exception e) {
+                            log.error("commit offset to kafka failed", e);
+                        }
+                    }
+
+                    @Override
+                    public void wakeUp() {}
+                });
+    }
+
+    private SplitFetcher<ConsumerRecord<byte[], byte[]>, KafkaSourceSplit> getTableFetcher(
+            TablePath tablePath) {
+        Integer fetcherId = tableFetcherIds.get(tablePath);
+        return fetcherId == null ? null : fetchers.get(fetcherId);
+    }
+}
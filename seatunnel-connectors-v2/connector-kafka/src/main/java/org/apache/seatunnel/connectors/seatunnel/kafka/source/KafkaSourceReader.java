@@ -17,283 +17,143 @@
 
 package org.apache.seatunnel.connectors.seatunnel.kafka.source;
 
-import org.apache.seatunnel.api.serialization.DeserializationSchema;
 import org.apache.seatunnel.api.source.Boundedness;
-import org.apache.seatunnel.api.source.Collector;
-import org.apache.seatunnel.api.source.SourceReader;
 import org.apache.seatunnel.api.table.catalog.TablePath;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
-import org.apache.seatunnel.connectors.seatunnel.kafka.config.MessageFormatErrorHandleWay;
-import org.apache.seatunnel.connectors.seatunnel.kafka.exception.KafkaConnectorErrorCode;
-import org.apache.seatunnel.connectors.seatunnel.kafka.exception.KafkaConnectorException;
-import org.apache.seatunnel.format.compatible.kafka.connect.json.CompatibleKafkaConnectDeserializationSchema;
+import org.apache.seatunnel.connectors.seatunnel.common.source.reader.RecordsWithSplitIds;
+import org.apache.seatunnel.connectors.seatunnel.common.source.reader.SingleThreadMultiplexSourceReaderBase;
+import org.apache.seatunnel.connectors.seatunnel.common.source.reader.SourceReaderOptions;
 
 import org.apache.kafka.clients.consumer.ConsumerRecord;
-import org.apache.kafka.clients.consumer.ConsumerRecords;
 import org.apache.kafka.clients.consumer.OffsetAndMetadata;
 import org.apache.kafka.common.TopicPartition;
 
-import com.google.common.collect.Sets;
 import lombok.extern.slf4j.Slf4j;
 
-import java.io.IOException;
-import java.time.Duration;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
-import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.CopyOnWriteArrayList;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.LinkedBlockingQueue;
-import java.util.stream.Collectors;
 
 @Slf4j
-public class KafkaSourceReader implements SourceReader<SeaTunnelRow, KafkaSourceSplit> {
+public class KafkaSourceReader
+        extends SingleThreadMultiplexSourceReaderBase<
+                ConsumerRecord<byte[], byte[]>, SeaTunnelRow, KafkaSourceSplit, KafkaSourceSplit> {
 
-    private static final long THREAD_WAIT_TIME = 500L;
-    private static final long POLL_TIMEOUT = 10000L;
+    /** Records of a split fetched together are emitted as one batch of up to this many. */
+    private static final int MAX_RECORDS_PER_POLL = 500;
 
-    private final SourceReader.Context context;
     private final KafkaSourceConfig kafkaSourceConfig;
-
-    private final Map<TablePath, ConsumerMetadata> tablePathMetadataMap;
-    private final Set<KafkaSourceSplit> sourceSplits;
-    private final Map<Long, Map<TopicPartition, Long>> checkpointOffsetMap;
-    private final Map<TopicPartition, KafkaConsumerThread> consumerThreadMap;
-    private final ExecutorService executorService;
-    private final MessageFormatErrorHandleWay messageFormatErrorHandleWay;
-
-    private final LinkedBlockingQueue<KafkaSourceSplit> pendingPartitionsQueue;
-
-    private volatile boolean running = false;
+    private final KafkaSourceFetcherManager kafkaSourceFetcherManager;
+    private final Map<Long, Map<TablePath, Map<TopicPartition, OffsetAndMetadata>>>
+            checkpointOffsetMap;
+    private final Map<String, KafkaSourceSplit> finishedSplits;
 
     KafkaSourceReader(
             KafkaSourceConfig kafkaSourceConfig,
             Context context,
-            MessageFormatErrorHandleWay messageFormatErrorHandleWay) {
+            SourceReaderOptions sourceReaderOptions) {
+        this(
+                new ArrayBlockingQueue<>(sourceReaderOptions.getElementQueueCapacity()),
+                kafkaSourceConfig,
+                context,
+                sourceReaderOptions);
+    }
+
+    private KafkaSourceReader(
+            BlockingQueue<RecordsWithSplitIds<ConsumerRecord<byte[], byte[]>>> elementsQueue,
+            KafkaSourceConfig kafkaSourceConfig,
+            Context context,
+            SourceReaderOptions sourceReaderOptions) {
+        super(
+                elementsQueue,
+                new KafkaSourceFetcherManager(
+                        elementsQueue,
+                        () ->
+                                new KafkaPartitionSplitReader(
+                                        kafkaSourceConfig,
+                                        Boundedness.BOUNDED.equals(context.getBoundedness()))),
+                new KafkaRecordEmitter(
+                        kafkaSourceConfig.getMapMetadata(),
+                        kafkaSourceConfig.getMessageFormatErrorHandleWay()),
+                sourceReaderOptions,
+                context);
         this.kafkaSourceConfig = kafkaSourceConfig;
-        this.tablePathMetadataMap = kafkaSourceConfig.getMapMetadata();
-        this.context = context;
-        this.messageFormatErrorHandleWay = messageFormatErrorHandleWay;
-        this.sourceSplits = new HashSet<>();
-        this.consumerThreadMap = new ConcurrentHashMap<>();
+        this.kafkaSourceFetcherManager = (KafkaSourceFetcherManager) splitFetcherManager;
         this.checkpointOffsetMap = new ConcurrentHashMap<>();
-        this.executorService =
-                Executors.newCachedThreadPool(r -> new Thread(r, "Kafka Source Data Consumer"));
-        pendingPartitionsQueue = new LinkedBlockingQueue<>();
+        this.finishedSplits = new ConcurrentHashMap<>();
     }
 
     @Override
-    public void open() {}
+    protected int maxRecordsPerPoll() {
+        return MAX_RECORDS_PER_POLL;
+    }
 
     @Override
-    public void close() throws IOException {
-        if (executorService != null) {
-            executorService.shutdownNow();
+    public List<KafkaSourceSplit> snapshotState(long checkpointId) {
+        List<KafkaSourceSplit> splits = super.snapshotState(checkpointId);
+        if (kafkaSourceConfig.isCommitOnCheckpoint()) {
+            Map<TablePath, Map<TopicPartition, OffsetAndMetadata>> offsets = new HashMap<>();
+            splits.forEach(split -> putOffset(offsets, split));
+            finishedSplits.values().forEach(split -> putOffset(offsets, split));
+            checkpointOffsetMap.put(checkpointId, offsets);
         }
+        return splits;
     }
 
     @Override
-    public void pollNext(Collector<SeaTunnelRow> output) throws Exception {
-        if (!running) {
-            Thread.sleep(THREAD_WAIT_TIME);
+    public void notifyCheckpointComplete(long checkpointId) {
+        if (!kafkaSourceConfig.isCommitOnCheckpoint()) {
             return;
         }
-
-        while (!pendingPartitionsQueue.isEmpty()) {
-            sourceSplits.add(pendingPartitionsQueue.poll());
+        Map<TablePath, Map<TopicPartition, OffsetAndMetadata>> offsets =
+                checkpointOffsetMap.remove(checkpointId);
+        if (offsets == null) {
+            log.warn("checkpoint {} do not exist or have already been committed.", checkpointId);
+            return;
         }
-        sourceSplits.forEach(
-                sourceSplit ->
-                        consumerThreadMap.computeIfAbsent(
-                                sourceSplit.getTopicPartition(),
-                                s -> {
-                                    ConsumerMetadata currentSplitConsumerMetaData =
-                                            tablePathMetadataMap.get(sourceSplit.getTablePath());
-                                    KafkaConsumerThread thread =
-                                            new KafkaConsumerThread(
-                                                    kafkaSourceConfig,
-                                                    currentSplitConsumerMetaData);
-                                    executorService.submit(thread);
-                                    return thread;
-                                }));
-        List<KafkaSourceSplit> finishedSplits = new CopyOnWriteArrayList<>();
-        sourceSplits.forEach(
-                sourceSplit -> {
-                    CompletableFuture<Boolean> completableFuture = new CompletableFuture<>();
-                    TablePath tablePath = sourceSplit.getTablePath();
-                    DeserializationSchema<SeaTunnelRow> deserializationSchema =
-                            tablePathMetadataMap.get(tablePath).getDeserializationSchema();
-                    try {
-                        consumerThreadMap
-                                .get(sourceSplit.getTopicPartition())
-                                .getTasks()
-                                .put(
-                                        consumer -> {
-                                            try {
-                                                Set<TopicPartition> partitions =
-                                                        Sets.newHashSet(
-                                                                sourceSplit.getTopicPartition());
-                                                consumer.assign(partitions);
-                                                if (sourceSplit.getStartOffset() >= 0) {
-                                                    consumer.seek(
-                                                            sourceSplit.getTopicPartition(),
-                                                            sourceSplit.getStartOffset());
-                                                }
-                                                ConsumerRecords<byte[], byte[]> records =
-                                                        consumer.poll(
-                                                                Duration.ofMillis(POLL_TIMEOUT));
-                                                for (TopicPartition partition : partitions) {
-                                                    List<ConsumerRecord<byte[], byte[]>>
-                                                            recordList = records.records(partition);
-                                                    if (Boundedness.BOUNDED.equals(
-                                                                    context.getBoundedness())
-                                                            && recordList.isEmpty()) {
-                                                        completableFuture.complete(true);
-                                                        return;
-                                                    }
-                                                    for (ConsumerRecord<byte[], byte[]> record :
-                                                            recordList) {
-                                                        try {
-                                                            if (deserializationSchema
-                                                                    instanceof
-                                                                    CompatibleKafkaConnectDeserializationSchema) {
-                                                                ((CompatibleKafkaConnectDeserializationSchema)
-                                                                                deserializationSchema)
-                                                                        .deserialize(
-                                                                                record, output);
-                                                            } else {
-                                                                deserializationSchema.deserialize(
-                                                                        record.value(), output);
-                                                            }
-                                                        } catch (IOException e) {
-                                                            if (this.messageFormatErrorHandleWay
-                                                                    == MessageFormatErrorHandleWay
-                                                                            .SKIP) {
-                                                                log.warn(
-                                                                        "Deserialize message failed, skip this message, message: {}",
-                                                                        new String(record.value()));
-                                                                continue;
-                                                            }
-                                                            throw e;
-                                                        }
-
-                                                        if (Boundedness.BOUNDED.equals(
-                                                                        context.getBoundedness())
-                                                                && record.offset()
-                                                                        >= sourceSplit
-                                                                                .getEndOffset()) {
-                                                            completableFuture.complete(true);
-                                                            return;
-                                                        }
-                                                    }
-                                                    long lastOffset = -1;
-                                                    if (!recordList.isEmpty()) {
-                                                        lastOffset =
-                                                                recordList
-                                                                        .get(recordList.size() - 1)
-                                                                        .offset();
-                                                        sourceSplit.setStartOffset(lastOffset + 1);
-                                                    }
+        // offsets of older checkpoints are covered by this one
+        checkpointOffsetMap.keySet().removeIf(id -> id < checkpointId);
+        offsets.forEach(kafkaSourceFetcherManager::commitOffsets);
+    }
 
-                                                    if (lastOffset >= sourceSplit.getEndOffset()) {
-                                                        sourceSplit.setEndOffset(lastOffset);
-                                                    }
-                                                }
-                                            } catch (Exception e) {
-                                                completableFuture.completeExceptionally(e);
-                                            }
-                                            completableFuture.complete(false);
-                                        });
-                        if (completableFuture.get()) {
-                            finishedSplits.add(sourceSplit);
-                        }
-                    } catch (Exception e) {
-                        throw new KafkaConnectorException(
-                                KafkaConnectorErrorCode.CONSUME_DATA_FAILED, e);
+    @Override
+    protected void onSplitFinished(Map<String, KafkaSourceSplit> finishedSplitIds) {
+        finishedSplitIds.forEach(
+                (splitId, split) -> {
+                    split.setFinish(true);
+                    if (split.getStartOffset() == -1) {
+                        // log next running read start offset
+                        split.setStartOffset(split.getEndOffset());
                     }
+                    finishedSplits.put(splitId, split);
                 });
-        if (Boundedness.BOUNDED.equals(context.getBoundedness())) {
-            for (KafkaSourceSplit split : finishedSplits) {
-                split.setFinish(true);
-                if (split.getStartOffset() == -1) {
-                    // log next running read start offset
-                    split.setStartOffset(split.getEndOffset());
-                }
-            }
-            if (sourceSplits.stream().allMatch(KafkaSourceSplit::isFinish)) {
-                context.signalNoMoreElement();
-            }
+        if (Boundedness.BOUNDED.equals(context.getBoundedness())
+                && getNumberOfCurrentlyAssignedSplits() == 0) {
+            // partition discovery never ends the split assignment, so a bounded read finishes
+            // once all the splits it has received are read to their end offsets
+            handleNoMoreSplits();
         }
     }
 
     @Override
-    public List<KafkaSourceSplit> snapshotState(long checkpointId) {
-        checkpointOffsetMap.put(
-                checkpointId,
-                sourceSplits.stream()
-                        .collect(
-                                Collectors.toMap(
-                                        KafkaSourceSplit::getTopicPartition,
-                                        KafkaSourceSplit::getStartOffset)));
-        return sourceSplits.stream().map(KafkaSourceSplit::copy).collect(Collectors.toList());
-    }
-
-    @Override
-    public void addSplits(List<KafkaSourceSplit> splits) {
-        running = true;
-        splits.forEach(
-                s -> {
-                    try {
-                        pendingPartitionsQueue.put(s);
-                    } catch (InterruptedException e) {
-                        throw new KafkaConnectorException(
-                                KafkaConnectorErrorCode.ADD_SPLIT_CHECKPOINT_FAILED, e);
-                    }
-                });
+    protected KafkaSourceSplit initializedState(KafkaSourceSplit split) {
+        return split.copy();
     }
 
     @Override
-    public void handleNoMoreSplits() {
-        log.info("receive no more splits message, this reader will not add new split.");
+    protected KafkaSourceSplit toSplitType(String splitId, KafkaSourceSplit splitState) {
+        return splitState.copy();
     }
 
-    @Override
-    public void notifyCheckpointComplete(long checkpointId) {
-        if (!checkpointOffsetMap.containsKey(checkpointId)) {
-            log.warn("checkpoint {} do not exist or have already been committed.", checkpointId);
-        } else {
-            checkpointOffsetMap
-                    .remove(checkpointId)
-                    .forEach(
-                            (topicPartition, offset) -> {
-                                try {
-                                    consumerThreadMap
-                                            .get(topicPartition)
-                                            .getTasks()
-                                            .put(
-                                                    consumer -> {
-                                                        if (kafkaSourceConfig
-                                                                .isCommitOnCheckpoint()) {
-                                                            Map<TopicPartition, OffsetAndMetadata>
-                                                                    offsets = new HashMap<>();
-                                                            if (offset >= 0) {
-                                                                offsets.put(
-                                                                        topicPartition,
-                                                                        new OffsetAndMetadata(
-                                                                                offset));
-                                                                consumer.commitSync(offsets);
-                                                            }
-                                                        }
-                                                    });
-                                } catch (InterruptedException e) {
-                                    log.error("commit offset to kafka failed", e);
-                                }
-                            });
+    private static void putOffset(
+            Map<TablePath, Map<TopicPartition, OffsetAndMetadata>> offsets,
+            KafkaSourceSplit split) {
+        if (split.getStartOffset() >= 0) {
+            offsets.computeIfAbsent(split.getTablePath(), tablePath -> new HashMap<>())
+                    .put(split.getTopicPartition(), new OffsetAndMetadata(split.getStartOffset()));
         }
     }
 }
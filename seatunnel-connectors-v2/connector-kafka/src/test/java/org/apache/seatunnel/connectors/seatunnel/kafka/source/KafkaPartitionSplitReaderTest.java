@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.kafka.source;
+
+import org.apache.seatunnel.api.table.catalog.TablePath;
+import org.apache.seatunnel.connectors.seatunnel.common.source.reader.RecordsWithSplitIds;
+import org.apache.seatunnel.connectors.seatunnel.common.source.reader.splitreader.SplitsAddition;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.apache.kafka.common.TopicPartition;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+class KafkaPartitionSplitReaderTest {
+
+    private static final TablePath TABLE_PATH = TablePath.of("test");
+
+    @Test
+    void testBoundedFetchStopsAtEndOffset() {
+        TopicPartition partition0 = new TopicPartition("test", 0);
+        TopicPartition partition1 = new TopicPartition("test", 1);
+        MockConsumer<byte[], byte[]> consumer = new MockConsumer<>(OffsetResetStrategy.EARLIEST);
+        KafkaPartitionSplitReader splitReader = new KafkaPartitionSplitReader(null, consumer, true);
+        splitReader.handleSplitsChanges(
+                new SplitsAddition<>(
+                        Arrays.asList(
+                                new KafkaSourceSplit(TABLE_PATH, partition0, 0, 3),
+                                new KafkaSourceSplit(TABLE_PATH, partition1, 0, 0))));
+        // the empty split is finished without being assigned to the consumer
+        Assertions.assertEquals(Collections.singleton(partition0), consumer.assignment());
+
+        for (long offset = 0; offset < 5; offset++) {
+            consumer.addRecord(new ConsumerRecord<>("test", 0, offset, null, new byte[0]));
+        }
+        RecordsWithSplitIds<ConsumerRecord<byte[], byte[]>> records = splitReader.fetch();
+        Assertions.assertEquals("test-0", records.nextSplit());
+        for (long offset = 0; offset < 3; offset++) {
+            Assertions.assertEquals(offset, records.nextRecordFromSplit().offset());
+        }
+        Assertions.assertNull(records.nextRecordFromSplit());
+        Assertions.assertNull(records.nextSplit());
+        Assertions.assertEquals(
+                new HashSet<>(Arrays.asList("test-0", "test-1")), records.finishedSplits());
+        Assertions.assertTrue(consumer.assignment().isEmpty());
+    }
+
+    @Test
+    void testUnboundedFetchKeepsAssignment() {
+        TopicPartition partition0 = new TopicPartition("test", 0);
+        TopicPartition partition1 = new TopicPartition("test", 1);
+        MockConsumer<byte[], byte[]> consumer = new MockConsumer<>(OffsetResetStrategy.EARLIEST);
+        KafkaPartitionSplitReader splitReader =
+                new KafkaPartitionSplitReader(null, consumer, false);
+        splitReader.handleSplitsChanges(
+                new SplitsAddition<>(
+                        Arrays.asList(
+                                new KafkaSourceSplit(TABLE_PATH, partition0, 2, 3),
+                                new KafkaSourceSplit(TABLE_PATH, partition1, 0, 0))));
+        Assertions.assertEquals(
+                new HashSet<>(Arrays.asList(partition0, partition1)), consumer.assignment());
+
+        for (long offset = 2; offset < 5; offset++) {
+            consumer.addRecord(new ConsumerRecord<>("test", 0, offset, null, new byte[0]));
+        }
+        consumer.addRecord(new ConsumerRecord<>("test", 1, 0, null, new byte[0]));
+        RecordsWithSplitIds<ConsumerRecord<byte[], byte[]>> records = splitReader.fetch();
+        int recordCount = 0;
+        while (records.nextSplit() != null) {
+            while (records.nextRecordFromSplit() != null) {
+                recordCount++;
+            }
+        }
+        Assertions.assertEquals(4, recordCount);
+        Assertions.assertTrue(records.finishedSplits().isEmpty());
+        Assertions.assertEquals(2, consumer.assignment().size());
+
+        splitReader.commitOffsets(Collections.singletonMap(partition0, new OffsetAndMetadata(5)));
+        Assertions.assertEquals(
+                5L,
+                consumer.committed(Collections.singleton(partition0)).get(partition0).offset());
+    }
+}
@@ -48,6 +48,17 @@ public class FlowControlGate {
         countRateLimiter.ifPresent(RateLimiter::acquire);
     }
 
+    /** Audit a batch of rows at once, with their summed size in bytes. */
+    public void audit(int rowCount, long bytes) {
+        if (bytes > 0) {
+            bytesRateLimiter.ifPresent(
+                    rateLimiter -> rateLimiter.acquire((int) Math.min(bytes, Integer.MAX_VALUE)));
+        }
+        if (rowCount > 0) {
+            countRateLimiter.ifPresent(rateLimiter -> rateLimiter.acquire(rowCount));
+        }
+    }
+
     public static FlowControlGate create(FlowControlStrategy flowControlStrategy) {
         return new FlowControlGate(flowControlStrategy);
     }
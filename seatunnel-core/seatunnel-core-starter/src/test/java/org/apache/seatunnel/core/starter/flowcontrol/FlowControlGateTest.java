@@ -78,6 +78,21 @@ public class FlowControlGateTest {
         Assertions.assertTrue(end - start > useTime * 0.8 && end - start < useTime * 1.2);
     }
 
+    @Test
+    public void testBatchWithCount() {
+        Clock clock = Clock.systemDefaultZone();
+        FlowControlGate flowControlGate = FlowControlGate.create(FlowControlStrategy.ofCount(2));
+        long start = clock.millis();
+        for (int i = 0; i < 5; i++) {
+            flowControlGate.audit(2, rowSize * 2);
+        }
+        long end = clock.millis();
+        // the first batch passes at once, every following batch waits for the previous one
+        long useTime = 4 * 2 / 2 * 1000;
+
+        Assertions.assertTrue(end - start > useTime * 0.8 && end - start < useTime * 1.2);
+    }
+
     /** return row list with size, each row size is 181 */
     private List<SeaTunnelRow> getRows(int size) {
         Map<String, Object> map = new HashMap<>();
@@ -63,5 +63,11 @@ public class Constant {
 
     public static final String IMAP_CONNECTOR_JAR_REF_COUNTERS = "engine_connectorJarRefCounters";
 
+    /**
+     * Member addresses of the shuffle channels, by queue name. The addresses are only valid while
+     * the members run, so the map is kept out of the persisted {@code engine*} maps.
+     */
+    public static final String IMAP_SHUFFLE_CHANNELS = "shuffle_channelAddresses";
+
     public static final String PROP_FILE = "zeta.version.properties";
 }
@@ -31,6 +31,7 @@ import java.util.Collections;
 import java.util.Map;
 
 import static com.hazelcast.internal.util.Preconditions.checkBackupCount;
+import static com.hazelcast.internal.util.Preconditions.checkNotNegative;
 import static com.hazelcast.internal.util.Preconditions.checkNotNull;
 import static com.hazelcast.internal.util.Preconditions.checkPositive;
 
@@ -50,6 +51,15 @@ public class EngineConfig {
     private ThreadShareMode taskExecutionThreadShareMode =
             ServerConfigOptions.TASK_EXECUTION_THREAD_SHARE_MODE.defaultValue();
 
+    private int taskExecutionCooperativeThreads =
+            ServerConfigOptions.TASK_EXECUTION_COOPERATIVE_THREADS.defaultValue();
+
+    private int taskExecutionCooperativeMaxThreads =
+            ServerConfigOptions.TASK_EXECUTION_COOPERATIVE_MAX_THREADS.defaultValue();
+
+    private boolean taskExecutionVirtualThreads =
+            ServerConfigOptions.TASK_EXECUTION_VIRTUAL_THREADS.defaultValue();
+
     private SlotServiceConfig slotServiceConfig = ServerConfigOptions.SLOT_SERVICE.defaultValue();
 
     private CheckpointConfig checkpointConfig = ServerConfigOptions.CHECKPOINT.defaultValue();
@@ -102,6 +112,20 @@ public class EngineConfig {
         this.taskExecutionThreadShareMode = taskExecutionThreadShareMode;
     }
 
+    public void setTaskExecutionCooperativeThreads(int taskExecutionCooperativeThreads) {
+        checkNotNegative(
+                taskExecutionCooperativeThreads,
+                ServerConfigOptions.TASK_EXECUTION_COOPERATIVE_THREADS + " must be >= 0");
+        this.taskExecutionCooperativeThreads = taskExecutionCooperativeThreads;
+    }
+
+    public void setTaskExecutionCooperativeMaxThreads(int taskExecutionCooperativeMaxThreads) {
+        checkNotNegative(
+                taskExecutionCooperativeMaxThreads,
+                ServerConfigOptions.TASK_EXECUTION_COOPERATIVE_MAX_THREADS + " must be >= 0");
+        this.taskExecutionCooperativeMaxThreads = taskExecutionCooperativeMaxThreads;
+    }
+
     public void setHistoryJobExpireMinutes(int historyJobExpireMinutes) {
         checkPositive(
                 historyJobExpireMinutes,
@@ -135,6 +135,21 @@ public class YamlSeaTunnelDomConfigProcessor extends AbstractDomConfigProcessor
                                     + " must in [ALL, OFF, PART]");
                 }
                 engineConfig.setTaskExecutionThreadShareMode(ThreadShareMode.valueOf(mode));
+            } else if (ServerConfigOptions.TASK_EXECUTION_COOPERATIVE_THREADS.key().equals(name)) {
+                engineConfig.setTaskExecutionCooperativeThreads(
+                        getIntegerValue(
+                                ServerConfigOptions.TASK_EXECUTION_COOPERATIVE_THREADS.key(),
+                                getTextContent(node)));
+            } else if (ServerConfigOptions.TASK_EXECUTION_COOPERATIVE_MAX_THREADS
+                    .key()
+                    .equals(name)) {
+                engineConfig.setTaskExecutionCooperativeMaxThreads(
+                        getIntegerValue(
+                                ServerConfigOptions.TASK_EXECUTION_COOPERATIVE_MAX_THREADS.key(),
+                                getTextContent(node)));
+            } else if (ServerConfigOptions.TASK_EXECUTION_VIRTUAL_THREADS.key().equals(name)) {
+                engineConfig.setTaskExecutionVirtualThreads(
+                        getBooleanValue(getTextContent(node)));
             } else if (ServerConfigOptions.SLOT_SERVICE.key().equals(name)) {
                 engineConfig.setSlotServiceConfig(parseSlotServiceConfig(node));
             } else if (ServerConfigOptions.CHECKPOINT.key().equals(name)) {
@@ -190,6 +205,11 @@ public class YamlSeaTunnelDomConfigProcessor extends AbstractDomConfigProcessor
                         getIntegerValue(
                                 ServerConfigOptions.SCHEMA_CHANGE_CHECKPOINT_TIMEOUT.key(),
                                 getTextContent(node)));
+            } else if (ServerConfigOptions.CHECKPOINT_MAX_INFLIGHT_PERSISTS.key().equals(name)) {
+                checkpointConfig.setMaxInflightPersists(
+                        getIntegerValue(
+                                ServerConfigOptions.CHECKPOINT_MAX_INFLIGHT_PERSISTS.key(),
+                                getTextContent(node)));
             } else if (ServerConfigOptions.CHECKPOINT_STORAGE.key().equals(name)) {
                 checkpointConfig.setStorage(parseCheckpointStorageConfig(node));
             } else {
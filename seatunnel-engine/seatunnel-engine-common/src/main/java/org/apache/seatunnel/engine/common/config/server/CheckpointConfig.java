@@ -37,6 +37,9 @@ public class CheckpointConfig implements Serializable {
 
     private boolean checkpointEnable = true;
 
+    private int maxInflightPersists =
+            ServerConfigOptions.CHECKPOINT_MAX_INFLIGHT_PERSISTS.defaultValue();
+
     public void setCheckpointInterval(long checkpointInterval) {
         checkArgument(
                 checkpointInterval >= MINIMAL_CHECKPOINT_TIME,
@@ -57,4 +60,9 @@ public class CheckpointConfig implements Serializable {
                 "The minimum checkpoint timeout is 10 ms.");
         this.schemaChangeCheckpointTimeout = checkpointTimeout;
     }
+
+    public void setMaxInflightPersists(int maxInflightPersists) {
+        checkArgument(maxInflightPersists >= 1, "The minimum of max inflight persists is 1.");
+        this.maxInflightPersists = maxInflightPersists;
+    }
 }
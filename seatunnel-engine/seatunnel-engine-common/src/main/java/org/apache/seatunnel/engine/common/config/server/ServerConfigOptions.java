@@ -58,6 +58,37 @@ public class ServerConfigOptions {
                     .withDescription(
                             "The thread sharing mode of TaskExecutionServer, including ALL, OFF, PART. Default is OFF");
 
+    public static final Option<Integer> TASK_EXECUTION_COOPERATIVE_THREADS =
+            Options.key("task_execution_cooperative_threads")
+                    .intType()
+                    .defaultValue(0)
+                    .withDescription(
+                            "The number of core worker threads that run the thread shared"
+                                    + " tasks of a node, 0 means the number of cores. When a"
+                                    + " call takes longer than 50 ms, the tasks waiting behind"
+                                    + " it that never ran are moved to a free worker, and a"
+                                    + " compensating worker is added up to"
+                                    + " task_execution_cooperative_max_threads.");
+
+    public static final Option<Integer> TASK_EXECUTION_COOPERATIVE_MAX_THREADS =
+            Options.key("task_execution_cooperative_max_threads")
+                    .intType()
+                    .defaultValue(0)
+                    .withDescription(
+                            "The maximum number of core and compensating worker threads that"
+                                    + " run the thread shared tasks of a node, 0 means twice"
+                                    + " the core workers. Once reached, the waiting tasks are"
+                                    + " left to the workers that steal.");
+
+    public static final Option<Boolean> TASK_EXECUTION_VIRTUAL_THREADS =
+            Options.key("task_execution_virtual_threads")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether to run the blocking tasks on virtual threads. Only takes"
+                                    + " effect on JDK 21 or later, older JDKs keep using platform"
+                                    + " threads.");
+
     public static final Option<Boolean> DYNAMIC_SLOT =
             Options.key("dynamic-slot")
                     .booleanType()
@@ -91,6 +122,16 @@ public class ServerConfigOptions {
                     .withDescription(
                             "The timeout (in milliseconds) for a schema change checkpoint.");
 
+    public static final Option<Integer> CHECKPOINT_MAX_INFLIGHT_PERSISTS =
+            Options.key("max-inflight-persists")
+                    .intType()
+                    .defaultValue(2)
+                    .withDescription(
+                            "The maximum number of completed checkpoints of a pipeline that are"
+                                    + " being persisted at the same time. New checkpoints are"
+                                    + " triggered while older ones are still written to the"
+                                    + " storage, until this limit is reached.");
+
     public static final Option<String> CHECKPOINT_STORAGE_TYPE =
             Options.key("type")
                     .stringType()
@@ -107,7 +148,9 @@ public class ServerConfigOptions {
             Options.key("queue-type")
                     .type(new TypeReference<QueueType>() {})
                     .defaultValue(QueueType.BLOCKINGQUEUE)
-                    .withDescription("The internal data cache queue type.");
+                    .withDescription(
+                            "The internal data cache queue type, one of blockingqueue, disruptor"
+                                    + " and ringbuffer.");
 
     public static final Option<CheckpointStorageConfig> CHECKPOINT_STORAGE =
             Options.key("storage")
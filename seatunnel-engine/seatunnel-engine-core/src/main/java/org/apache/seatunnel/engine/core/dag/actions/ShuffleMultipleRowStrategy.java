@@ -51,13 +51,13 @@ public class ShuffleMultipleRowStrategy extends ShuffleStrategy {
     public ShuffleMultipleRowStrategy() {}
 
     @Override
-    public Map<String, IQueue<Record<?>>> createShuffles(
+    public Map<String, IQueue<byte[]>> createShuffles(
             HazelcastInstance hazelcast, int pipelineId, int inputIndex) {
-        Map<String, IQueue<Record<?>>> shuffleMap = new HashMap<>();
+        Map<String, IQueue<byte[]>> shuffleMap = new HashMap<>();
         for (CatalogTable entry : catalogTables) {
             String tableId = entry.getTableId().toTablePath().toString();
             String queueName = generateQueueName(pipelineId, inputIndex, tableId);
-            IQueue<Record<?>> queue = getIQueue(hazelcast, queueName);
+            IQueue<byte[]> queue = getIQueue(hazelcast, queueName);
             // clear old data when job restore
             queue.clear();
             shuffleMap.put(queueName, queue);
@@ -86,9 +86,9 @@ public class ShuffleMultipleRowStrategy extends ShuffleStrategy {
     }
 
     @Override
-    public IQueue<Record<?>>[] getShuffles(
+    public IQueue<byte[]>[] getShuffles(
             HazelcastInstance hazelcast, int pipelineId, int targetIndex) {
-        IQueue<Record<?>>[] queues = new IQueue[getInputPartitions()];
+        IQueue<byte[]>[] queues = new IQueue[getInputPartitions()];
         for (int inputIndex = 0; inputIndex < getInputPartitions(); inputIndex++) {
             Objects.requireNonNull(targetTableId);
             String queueName = generateQueueName(pipelineId, inputIndex, targetTableId);
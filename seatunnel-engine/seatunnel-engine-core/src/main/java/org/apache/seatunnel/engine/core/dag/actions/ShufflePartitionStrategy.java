@@ -50,13 +50,13 @@ public class ShufflePartitionStrategy extends ShuffleStrategy {
     public ShufflePartitionStrategy() {}
 
     @Override
-    public Map<String, IQueue<Record<?>>> createShuffles(
+    public Map<String, IQueue<byte[]>> createShuffles(
             HazelcastInstance hazelcast, int pipelineId, int inputIndex) {
         checkArgument(inputIndex >= 0 && inputIndex < getInputPartitions());
-        Map<String, IQueue<Record<?>>> shuffleMap = new LinkedHashMap<>();
+        Map<String, IQueue<byte[]>> shuffleMap = new LinkedHashMap<>();
         for (int targetIndex = 0; targetIndex < targetPartitions; targetIndex++) {
             String queueName = generateQueueName(pipelineId, inputIndex, targetIndex);
-            IQueue<Record<?>> queue = getIQueue(hazelcast, queueName);
+            IQueue<byte[]> queue = getIQueue(hazelcast, queueName);
             // clear old data when job restore
             queue.clear();
             shuffleMap.put(queueName, queue);
@@ -90,10 +90,10 @@ public class ShufflePartitionStrategy extends ShuffleStrategy {
     }
 
     @Override
-    public IQueue<Record<?>>[] getShuffles(
+    public IQueue<byte[]>[] getShuffles(
             HazelcastInstance hazelcast, int pipelineId, int targetIndex) {
         checkArgument(targetIndex >= 0 && targetIndex < targetPartitions);
-        IQueue<Record<?>>[] shuffles = new IQueue[getInputPartitions()];
+        IQueue<byte[]>[] shuffles = new IQueue[getInputPartitions()];
         for (int inputIndex = 0; inputIndex < getInputPartitions(); inputIndex++) {
             String queueName = generateQueueName(pipelineId, inputIndex, targetIndex);
             shuffles[inputIndex] = getIQueue(hazelcast, queueName);
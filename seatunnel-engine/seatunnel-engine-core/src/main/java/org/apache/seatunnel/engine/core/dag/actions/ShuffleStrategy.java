@@ -17,6 +17,7 @@
 
 package org.apache.seatunnel.engine.core.dag.actions;
 
+import org.apache.seatunnel.api.table.catalog.CatalogTable;
 import org.apache.seatunnel.api.table.type.Record;
 
 import com.hazelcast.collection.IQueue;
@@ -30,6 +31,8 @@ import lombok.experimental.SuperBuilder;
 import lombok.experimental.Tolerate;
 
 import java.io.Serializable;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 
 @SuperBuilder(toBuilder = true)
@@ -51,15 +54,21 @@ public abstract class ShuffleStrategy implements Serializable {
     @Tolerate
     public ShuffleStrategy() {}
 
-    public abstract Map<String, IQueue<Record<?>>> createShuffles(
+    /** The queue items are the records encoded by the shuffle flow lifecycles. */
+    public abstract Map<String, IQueue<byte[]>> createShuffles(
             HazelcastInstance hazelcast, int pipelineId, int inputIndex);
 
     public abstract String createShuffleKey(Record<?> record, int pipelineId, int inputIndex);
 
-    public abstract IQueue<Record<?>>[] getShuffles(
+    public abstract IQueue<byte[]>[] getShuffles(
             HazelcastInstance hazelcast, int pipelineId, int targetIndex);
 
-    protected IQueue<Record<?>> getIQueue(HazelcastInstance hazelcast, String queueName) {
+    /** The tables whose rows go through the shuffle queues, known at plan time. */
+    public List<CatalogTable> getCatalogTables() {
+        return Collections.emptyList();
+    }
+
+    protected IQueue<byte[]> getIQueue(HazelcastInstance hazelcast, String queueName) {
         QueueConfig targetQueueConfig = hazelcast.getConfig().getQueueConfig(queueName);
         targetQueueConfig.setMaxSize(queueMaxSize);
         targetQueueConfig.setBackupCount(queueBackupCount);
@@ -17,6 +17,8 @@
 
 package org.apache.seatunnel.engine.core.dag.actions;
 
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -26,4 +28,14 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 public class SinkConfig implements Config {
     private String multipleRowTableId;
+
+    /**
+     * The type of the rows written to the sink, a {@link
+     * org.apache.seatunnel.api.table.type.MultipleRowType} for a multi table sink.
+     */
+    private SeaTunnelDataType<?> rowType;
+
+    public SinkConfig(String multipleRowTableId) {
+        this(multipleRowTableId, null);
+    }
 }
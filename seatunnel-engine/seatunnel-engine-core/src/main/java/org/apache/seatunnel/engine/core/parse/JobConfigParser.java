@@ -31,6 +31,7 @@ import org.apache.seatunnel.engine.common.config.JobConfig;
 import org.apache.seatunnel.engine.common.utils.IdGenerator;
 import org.apache.seatunnel.engine.core.dag.actions.Action;
 import org.apache.seatunnel.engine.core.dag.actions.SinkAction;
+import org.apache.seatunnel.engine.core.dag.actions.SinkConfig;
 import org.apache.seatunnel.engine.core.dag.actions.SourceAction;
 
 import org.apache.commons.lang3.tuple.ImmutablePair;
@@ -91,7 +92,8 @@ public class JobConfigParser {
                         actionName,
                         tuple.getLeft(),
                         tuple.getRight(),
-                        new HashSet<>());
+                        new HashSet<>(),
+                        new SinkConfig(null, rowType));
         action.setParallelism(parallelism);
         SeaTunnelRowType producedType = (SeaTunnelRowType) tuple.getLeft().getProducedType();
         CatalogTable catalogTable = CatalogTableUtil.getCatalogTable(tableId, producedType);
@@ -179,7 +181,8 @@ public class JobConfigParser {
                         new ArrayList<>(inputActions),
                         sink,
                         tuple.getRight(),
-                        new HashSet<>());
+                        new HashSet<>(),
+                        new SinkConfig(null, rowType));
         action.setParallelism(parallelism);
         return action;
     }
@@ -35,7 +35,9 @@ import org.apache.seatunnel.api.table.factory.Factory;
 import org.apache.seatunnel.api.table.factory.FactoryUtil;
 import org.apache.seatunnel.api.table.factory.TableSinkFactory;
 import org.apache.seatunnel.api.table.factory.TableSourceFactory;
+import org.apache.seatunnel.api.table.type.MultipleRowType;
 import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
 import org.apache.seatunnel.api.transform.SeaTunnelTransform;
 import org.apache.seatunnel.common.Constants;
 import org.apache.seatunnel.common.config.Common;
@@ -634,6 +636,7 @@ public class MultipleTableJobConfigParser {
             return Optional.empty();
         }
         Map<String, SeaTunnelSink> sinks = new HashMap<>();
+        Map<String, SeaTunnelRowType> rowTypes = new HashMap<>();
         Set<URL> jars =
                 sinkActions.stream()
                         .flatMap(a -> a.getJarUrls().stream())
@@ -643,6 +646,7 @@ public class MultipleTableJobConfigParser {
                     SeaTunnelSink sink = action.getSink();
                     String tableId = action.getConfig().getMultipleRowTableId();
                     sinks.put(tableId, sink);
+                    rowTypes.put(tableId, (SeaTunnelRowType) action.getConfig().getRowType());
                 });
         SeaTunnelSink<?, ?, ?, ?> sink =
                 FactoryUtil.createMultiTableSink(sinks, options, classLoader);
@@ -655,7 +659,8 @@ public class MultipleTableJobConfigParser {
                         sinkActions.get(0).getUpstream(),
                         sink,
                         jars,
-                        new HashSet<>());
+                        new HashSet<>(),
+                        new SinkConfig(null, new MultipleRowType(rowTypes)));
         multiTableAction.setParallelism(sinkActions.get(0).getParallelism());
         return Optional.of(multiTableAction);
     }
@@ -675,7 +680,9 @@ public class MultipleTableJobConfigParser {
                         catalogTable, readonlyConfig, classLoader, factoryId);
         sink.setJobContext(jobConfig.getJobContext());
         SinkConfig actionConfig =
-                new SinkConfig(catalogTable.getTableId().toTablePath().toString());
+                new SinkConfig(
+                        catalogTable.getTableId().toTablePath().toString(),
+                        catalogTable.getSeaTunnelRowType());
         long id = idGenerator.getNextId();
         String actionName =
                 JobConfigParser.createSinkActionName(
@@ -24,6 +24,7 @@ import org.apache.seatunnel.api.tracing.MDCTracer;
 import org.apache.seatunnel.common.utils.ExceptionUtils;
 import org.apache.seatunnel.common.utils.RetryUtils;
 import org.apache.seatunnel.common.utils.StringFormatUtils;
+import org.apache.seatunnel.common.utils.VirtualThreads;
 import org.apache.seatunnel.engine.common.Constant;
 import org.apache.seatunnel.engine.common.config.ConfigProvider;
 import org.apache.seatunnel.engine.common.config.SeaTunnelConfig;
@@ -37,7 +38,6 @@ import org.apache.seatunnel.engine.server.exception.TaskGroupContextNotFoundExce
 import org.apache.seatunnel.engine.server.execution.ExecutionState;
 import org.apache.seatunnel.engine.server.execution.ProgressState;
 import org.apache.seatunnel.engine.server.execution.Task;
-import org.apache.seatunnel.engine.server.execution.TaskCallTimer;
 import org.apache.seatunnel.engine.server.execution.TaskDeployState;
 import org.apache.seatunnel.engine.server.execution.TaskExecutionContext;
 import org.apache.seatunnel.engine.server.execution.TaskExecutionState;
@@ -63,6 +63,8 @@ import com.hazelcast.internal.metrics.DynamicMetricsProvider;
 import com.hazelcast.internal.metrics.MetricDescriptor;
 import com.hazelcast.internal.metrics.MetricsCollectionContext;
 import com.hazelcast.internal.metrics.MetricsRegistry;
+import com.hazelcast.internal.metrics.ProbeLevel;
+import com.hazelcast.internal.metrics.ProbeUnit;
 import com.hazelcast.internal.serialization.Data;
 import com.hazelcast.jet.impl.execution.init.CustomClassLoadedObject;
 import com.hazelcast.logging.ILogger;
@@ -72,7 +74,6 @@ import com.hazelcast.spi.impl.operationservice.impl.InvocationFuture;
 import com.hazelcast.spi.properties.HazelcastProperties;
 import lombok.Getter;
 import lombok.NonNull;
-import lombok.SneakyThrows;
 
 import java.io.IOException;
 import java.net.URL;
@@ -82,6 +83,8 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ArrayBlockingQueue;
@@ -89,21 +92,24 @@ import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
-import java.util.concurrent.LinkedBlockingDeque;
-import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Predicate;
 import java.util.stream.Stream;
 
 import static com.hazelcast.jet.impl.util.ExceptionUtil.withTryCatch;
@@ -130,15 +136,11 @@ public class TaskExecutionService implements DynamicMetricsProvider {
     private final ILogger logger;
     private volatile boolean isRunning = true;
 
-    // zhoulj 线程共享任务队列？ 是干什么的？
-    private final LinkedBlockingDeque<TaskTracker> threadShareTaskQueue =
-            new LinkedBlockingDeque<>();
     // 运行线程池， 所有的执行逻辑都放到这个线程池中执行的？
     private final ExecutorService executorService =
             newCachedThreadPool(new BlockingTaskThreadFactory());
-    // 运行总线 ？
-    private final RunBusWorkSupplier runBusWorkSupplier =
-            new RunBusWorkSupplier(executorService, threadShareTaskQueue);
+    private final ExecutorService blockingExecutorService;
+    private final CooperativeWorkerPool cooperativeWorkerPool;
     // key: TaskID
     private final ConcurrentMap<TaskGroupLocation, TaskGroupContext> executionContexts =
             new ConcurrentHashMap<>();
@@ -168,6 +170,22 @@ public class TaskExecutionService implements DynamicMetricsProvider {
         this.nodeEngine = nodeEngine;
         this.classLoaderService = classLoaderService;
         this.logger = nodeEngine.getLoggingService().getLogger(TaskExecutionService.class);
+        int cooperativeThreads =
+                seaTunnelConfig.getEngineConfig().getTaskExecutionCooperativeThreads();
+        if (cooperativeThreads <= 0) {
+            cooperativeThreads = Runtime.getRuntime().availableProcessors();
+        }
+        int cooperativeMaxThreads =
+                seaTunnelConfig.getEngineConfig().getTaskExecutionCooperativeMaxThreads();
+        this.cooperativeWorkerPool =
+                new CooperativeWorkerPool(
+                        cooperativeThreads,
+                        cooperativeMaxThreads > 0
+                                ? Math.max(cooperativeMaxThreads, cooperativeThreads)
+                                : cooperativeThreads * 2);
+        this.blockingExecutorService =
+                newBlockingExecutorService(
+                        seaTunnelConfig.getEngineConfig().isTaskExecutionVirtualThreads());
 
         MetricsRegistry registry = nodeEngine.getMetricsRegistry();
         MetricDescriptor descriptor =
@@ -223,13 +241,36 @@ public class TaskExecutionService implements DynamicMetricsProvider {
                 });
     }
 
+    private ExecutorService newBlockingExecutorService(boolean virtualThreads) {
+        if (!virtualThreads) {
+            return executorService;
+        }
+        Optional<ExecutorService> virtualThreadExecutor =
+                VirtualThreads.newThreadPerTaskExecutor(
+                        String.format("hz.%s.seaTunnel.task.virtual-thread-", hzInstanceName));
+        if (virtualThreadExecutor.isPresent()) {
+            logger.info("Run the blocking tasks on virtual threads");
+            return virtualThreadExecutor.get();
+        }
+        logger.warning(
+                String.format(
+                        "Virtual threads are not supported by java %s, run the blocking tasks on"
+                                + " platform threads",
+                        System.getProperty("java.version")));
+        return executorService;
+    }
+
     public void start() {
         //zhoulj 任务开始运行 0-2
-        runBusWorkSupplier.runNewBusWork(false);
+        cooperativeWorkerPool.start();
     }
 
     public void shutdown() {
         isRunning = false;
+        cooperativeWorkerPool.shutdown();
+        if (blockingExecutorService != executorService) {
+            blockingExecutorService.shutdownNow();
+        }
         executorService.shutdownNow();
         scheduledExecutorService.shutdown();
         eventForwardService.shutdownNow();
@@ -279,13 +320,17 @@ public class TaskExecutionService implements DynamicMetricsProvider {
                                     return null;
                                 });
         if (!taskGroupExecutionTracker.executionCompletedExceptionally()) {
-            taskTrackerStream.forEach(threadShareTaskQueue::add);
+            List<TaskTracker> taskTrackers =
+                    taskTrackerStream.filter(Objects::nonNull).collect(toList());
+            if (!taskTrackers.isEmpty()) {
+                cooperativeWorkerPool.submit(taskTrackers);
+            }
         }
     }
 
     private void submitBlockingTask(
             TaskGroupExecutionTracker taskGroupExecutionTracker, List<Task> tasks) {
-        MDCExecutorService mdcExecutorService = MDCTracer.tracing(executorService);
+        MDCExecutorService mdcExecutorService = MDCTracer.tracing(blockingExecutorService);
 
         CountDownLatch startedLatch = new CountDownLatch(tasks.size());
         //zhoulj 任务启动执行 2.8 任务提交到 executorService 中执行了，  后续操作就在  NamedTaskWrapper 的run 方法中了
@@ -601,6 +646,20 @@ public class TaskExecutionService implements DynamicMetricsProvider {
                                             task.provideDynamicMetrics(copy3, context);
                                         });
                     });
+            if (blockingExecutorService != executorService) {
+                context.collect(
+                        copy1.copy(),
+                        "VirtualThreadPinnedCount",
+                        ProbeLevel.INFO,
+                        ProbeUnit.COUNT,
+                        VirtualThreads.getPinnedCount());
+                context.collect(
+                        copy1.copy(),
+                        "VirtualThreadPinnedTime",
+                        ProbeLevel.INFO,
+                        ProbeUnit.MS,
+                        VirtualThreads.getPinnedMillis());
+            }
         } catch (Throwable t) {
             logger.warning("Dynamic metric collection failed", t);
             throw t;
@@ -680,7 +739,7 @@ public class TaskExecutionService implements DynamicMetricsProvider {
         if (logger.isFineEnabled()) {
             ThreadPoolExecutor threadPoolExecutor = (ThreadPoolExecutor) executorService;
             int activeCount = threadPoolExecutor.getActiveCount();
-            int taskQueueSize = threadShareTaskQueue.size();
+            int taskQueueSize = cooperativeWorkerPool.queuedTaskCount();
             long completedTaskCount = threadPoolExecutor.getCompletedTaskCount();
             long taskCount = threadPoolExecutor.getTaskCount();
             logger.fine(
@@ -693,7 +752,11 @@ public class TaskExecutionService implements DynamicMetricsProvider {
                             "completedTaskCount",
                             completedTaskCount,
                             "taskCount",
-                            taskCount));
+                            taskCount,
+                            "virtualThreadPinnedCount",
+                            VirtualThreads.getPinnedCount(),
+                            "virtualThreadPinnedMillis",
+                            VirtualThreads.getPinnedMillis()));
         }
     }
 
@@ -773,139 +836,423 @@ public class TaskExecutionService implements DynamicMetricsProvider {
     }
 
     /**
-     * CooperativeTaskWorker is used to poll the task call method, When a task times out, a new
-     * BusWork will be created to take over the execution of the task
-     * 轮询方式调用该方法， 当任务超时就创建新的 buswork 来运行
+     * Runs the thread shared tasks on a bounded pool of {@link CooperativeTaskWorker}s, each with
+     * its own deque. All tasks of a task group are placed on one worker and stay there, an idle
+     * worker steals from the tail of the deques of the others, from stuck workers first. When a
+     * worker is stuck in a long call, the tasks waiting in its deque that never ran are moved to a
+     * worker that isn't, and a compensating worker is added while the pool is below its maximum
+     * size and no worker is idle, so a task blocked on another task of its own group doesn't
+     * starve it. A compensating worker retires again after it found nothing to run for a while.
+     */
+    private final class CooperativeWorkerPool {
+
+        private static final long LONG_CALL_MILLIS = 50;
+
+        private final long keepAliveNanos = TimeUnit.SECONDS.toNanos(60);
+
+        private final int coreSize;
+
+        private final int maxSize;
+
+        /** The core workers come first and are never removed. */
+        private final List<CooperativeTaskWorker> workers = new CopyOnWriteArrayList<>();
+
+        private final AtomicInteger nextWorker = new AtomicInteger();
+
+        private final ScheduledExecutorService monitor;
+
+        private CooperativeWorkerPool(int coreSize, int maxSize) {
+            this.coreSize = coreSize;
+            this.maxSize = maxSize;
+            this.monitor =
+                    Executors.newSingleThreadScheduledExecutor(
+                            new ThreadFactoryBuilder()
+                                    .setNameFormat(
+                                            "hz." + hzInstanceName + ".seaTunnel.worker-monitor-%d")
+                                    .setDaemon(true)
+                                    .build());
+        }
+
+        private void start() {
+            for (int i = 0; i < coreSize; i++) {
+                addWorker(false);
+            }
+            monitor.scheduleWithFixedDelay(
+                    this::compensateLongCalls,
+                    LONG_CALL_MILLIS,
+                    LONG_CALL_MILLIS,
+                    TimeUnit.MILLISECONDS);
+        }
+
+        private void shutdown() {
+            monitor.shutdownNow();
+            workers.forEach(CooperativeTaskWorker::wakeUp);
+        }
+
+        private synchronized CooperativeTaskWorker addWorker(boolean compensating) {
+            CooperativeTaskWorker worker = new CooperativeTaskWorker(this, compensating);
+            workers.add(worker);
+            executorService.submit(worker);
+            return worker;
+        }
+
+        /**
+         * Remove a compensating worker. Holding the pool lock, no tasks can be moved to the worker
+         * while it retires.
+         */
+        private synchronized boolean retire(CooperativeTaskWorker worker) {
+            return workers.size() > coreSize
+                    && worker.taskQueue.isEmpty()
+                    && workers.remove(worker);
+        }
+
+        /** Place the tasks of one task group on one core worker, in round robin. */
+        private void submit(List<TaskTracker> taskTrackers) {
+            int index = Math.floorMod(nextWorker.getAndIncrement(), coreSize);
+            workers.get(index).schedule(taskTrackers);
+        }
+
+        /** Steal from the workers stuck in a long call first, their tasks wait the longest. */
+        private TaskTracker steal(CooperativeTaskWorker thief) {
+            long now = System.nanoTime();
+            long threshold = TimeUnit.MILLISECONDS.toNanos(LONG_CALL_MILLIS);
+            TaskTracker taskTracker =
+                    steal(thief, victim -> victim.isInCallLongerThan(now, threshold));
+            return taskTracker != null ? taskTracker : steal(thief, victim -> true);
+        }
+
+        private TaskTracker steal(
+                CooperativeTaskWorker thief, Predicate<CooperativeTaskWorker> victims) {
+            for (CooperativeTaskWorker victim : workers) {
+                if (victim != thief && victims.test(victim)) {
+                    TaskTracker taskTracker = victim.taskQueue.pollLast();
+                    if (taskTracker != null) {
+                        return taskTracker;
+                    }
+                }
+            }
+            return null;
+        }
+
+        private int queuedTaskCount() {
+            int count = 0;
+            for (CooperativeTaskWorker worker : workers) {
+                count += worker.taskQueue.size();
+            }
+            return count;
+        }
+
+        /**
+         * Like the former call timer, every call running longer than {@link #LONG_CALL_MILLIS}
+         * is compensated on its own. The tasks waiting behind it that never ran are moved to the
+         * least loaded worker that isn't stuck itself, the others keep their worker. If tasks are
+         * still waiting and no worker is idle to steal them, a compensating worker is added as
+         * long as the pool is below {@link #maxSize}.
+         */
+        private synchronized void compensateLongCalls() {
+            try {
+                long now = System.nanoTime();
+                long threshold = TimeUnit.MILLISECONDS.toNanos(LONG_CALL_MILLIS);
+                for (CooperativeTaskWorker worker : workers) {
+                    if (!isRunning) {
+                        return;
+                    }
+                    if (!worker.isInCallLongerThan(now, threshold)
+                            || worker.taskQueue.isEmpty()) {
+                        continue;
+                    }
+                    List<TaskTracker> notStarted = new ArrayList<>();
+                    for (TaskTracker taskTracker : worker.taskQueue) {
+                        // the worker itself or a thief may have taken it meanwhile
+                        if (!taskTracker.isStarted()
+                                && worker.taskQueue.removeFirstOccurrence(taskTracker)) {
+                            notStarted.add(taskTracker);
+                        }
+                    }
+                    CooperativeTaskWorker target = leastLoadedWorker(now, threshold);
+                    if (!notStarted.isEmpty()) {
+                        if (target == null && workers.size() < maxSize) {
+                            target = addWorker(true);
+                        }
+                        if (target == null) {
+                            // the pool is full, leave them to the workers that steal
+                            worker.schedule(notStarted);
+                            continue;
+                        }
+                        logger.fine(
+                                String.format(
+                                        "Move %d tasks of the stuck cooperative worker %s to %s",
+                                        notStarted.size(), worker.hashCode(), target.hashCode()));
+                        target.schedule(notStarted);
+                    }
+                    if (!worker.taskQueue.isEmpty()
+                            && !hasIdleWorker(now, threshold)
+                            && workers.size() < maxSize) {
+                        // an empty compensating worker steals from the stuck workers first
+                        addWorker(true);
+                    }
+                }
+            } catch (Throwable t) {
+                logger.warning("Check long running cooperative calls failed", t);
+            }
+        }
+
+        private boolean hasIdleWorker(long now, long thresholdNanos) {
+            for (CooperativeTaskWorker worker : workers) {
+                if (worker.taskQueue.isEmpty() && !worker.isInCallLongerThan(now, thresholdNanos)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private CooperativeTaskWorker leastLoadedWorker(long now, long thresholdNanos) {
+            CooperativeTaskWorker target = null;
+            int targetSize = Integer.MAX_VALUE;
+            for (CooperativeTaskWorker worker : workers) {
+                if (worker.isInCallLongerThan(now, thresholdNanos)) {
+                    continue;
+                }
+                int size = worker.taskQueue.size();
+                if (size < targetSize) {
+                    target = worker;
+                    targetSize = size;
+                }
+            }
+            return target;
+        }
+    }
+
+    /**
+     * CooperativeTaskWorker calls the tasks in its own deque one after another and puts a task
+     * that isn't done back to the tail, so a task stays on the same thread. With an empty deque
+     * it steals from the other workers. When a whole round of calls made no progress, or there is
+     * nothing to run, it backs off: it yields first and then parks for a growing time, until a
+     * new task is scheduled on it.
      */
     public final class CooperativeTaskWorker implements Runnable {
 
-        AtomicBoolean keep = new AtomicBoolean(true);
-        public AtomicReference<TaskTracker> exclusiveTaskTracker = new AtomicReference<>();
-        final TaskCallTimer timer;
-        private Thread myThread;
-        public LinkedBlockingDeque<TaskTracker> taskqueue;
-        private Future<?> thisTaskFuture;
-        private BlockingQueue<Future<?>> futureBlockingQueue;
-
-        public CooperativeTaskWorker(
-                LinkedBlockingDeque<TaskTracker> taskqueue,
-                RunBusWorkSupplier runBusWorkSupplier,
-                BlockingQueue<Future<?>> futureBlockingQueue) {
-            logger.info(String.format("Created new BusWork : %s", this.hashCode()));
-            this.taskqueue = taskqueue;
-            this.timer = new TaskCallTimer(50, keep, runBusWorkSupplier, this);
-            this.futureBlockingQueue = futureBlockingQueue;
+        private static final int YIELD_ROUNDS = 16;
+
+        private static final int MAX_PARK_SHIFT = 5;
+
+        private final long minParkNanos = TimeUnit.MICROSECONDS.toNanos(50);
+
+        private final CooperativeWorkerPool pool;
+
+        private final boolean compensating;
+
+        private final ConcurrentLinkedDeque<TaskTracker> taskQueue = new ConcurrentLinkedDeque<>();
+
+        private volatile Thread thread;
+
+        /** Start of the running call, 0 while the worker isn't in a call. */
+        private volatile long callStartNanos;
+
+        private int idleRounds;
+
+        private int callsWithoutProgress;
+
+        private long lastWorkNanos;
+
+        private CooperativeTaskWorker(CooperativeWorkerPool pool, boolean compensating) {
+            logger.info(
+                    String.format(
+                            "Created new cooperative worker : %s, compensating : %s",
+                            this.hashCode(), compensating));
+            this.pool = pool;
+            this.compensating = compensating;
+        }
+
+        private void schedule(List<TaskTracker> taskTrackers) {
+            taskQueue.addAll(taskTrackers);
+            wakeUp();
+        }
+
+        private void wakeUp() {
+            Thread worker = thread;
+            if (worker != null) {
+                LockSupport.unpark(worker);
+            }
+        }
+
+        private boolean isInCallLongerThan(long now, long thresholdNanos) {
+            long start = callStartNanos;
+            return start != 0 && now - start > thresholdNanos;
         }
 
-        @SneakyThrows
         @Override
         public void run() {
-            thisTaskFuture = futureBlockingQueue.take();
-            futureBlockingQueue = null;
-            myThread = currentThread();
-            while (keep.get() && isRunning) {
-                TaskTracker taskTracker =
-                        null != exclusiveTaskTracker.get()
-                                ? exclusiveTaskTracker.get()
-                                : taskqueue.takeFirst();
-                TaskGroupExecutionTracker taskGroupExecutionTracker =
-                        taskTracker.taskGroupExecutionTracker;
-                if (taskGroupExecutionTracker.executionCompletedExceptionally()) {
-                    taskGroupExecutionTracker.taskDone(taskTracker.task);
-                    if (null != exclusiveTaskTracker.get()) {
-                        // If it's exclusive need to end the work
+            thread = currentThread();
+            lastWorkNanos = System.nanoTime();
+            while (isRunning) {
+                TaskTracker taskTracker = taskQueue.pollFirst();
+                if (taskTracker == null) {
+                    taskTracker = pool.steal(this);
+                }
+                if (taskTracker == null) {
+                    if (compensating
+                            && System.nanoTime() - lastWorkNanos > pool.keepAliveNanos
+                            && pool.retire(this)) {
+                        logger.info(
+                                String.format("Retired cooperative worker : %s", this.hashCode()));
                         break;
-                    } else {
-                        // No action required and don't put back
-                        continue;
                     }
+                    backOff();
+                    continue;
                 }
-                taskGroupExecutionTracker.currRunningTaskFuture.put(
-                        taskTracker.task.getTaskID(), thisTaskFuture);
-                // start timer, if it's exclusive, don't need to start
-                if (null == exclusiveTaskTracker.get()) {
-                    timer.timerStart(taskTracker);
+                lastWorkNanos = System.nanoTime();
+                taskTracker.markStarted();
+                ProgressState result = call(taskTracker);
+                if (result == null) {
+                    // the task is done or failed and won't be called again
+                    idleRounds = 0;
+                    continue;
                 }
-                ProgressState call = null;
-                try {
-                    // run task
-                    myThread.setContextClassLoader(
-                            executionContexts
-                                    .get(taskGroupExecutionTracker.taskGroup.getTaskGroupLocation())
-                                    .getClassLoader());
-                    //zhoulj 重点：真正任务执行调用的地方
-                    call = taskTracker.task.call();
-                    synchronized (timer) {
-                        timer.timerStop();
-                    }
-                } catch (InterruptedException e) {
-                    if (taskGroupExecutionTracker.executionException.get() == null
-                            && !taskGroupExecutionTracker.isCancel.get()) {
-                        taskGroupExecutionTracker.exception(e);
-                    }
-                    taskGroupExecutionTracker.taskDone(taskTracker.task);
-                    logger.warning("Exception in " + taskTracker.task, e);
-                    if (null != exclusiveTaskTracker.get()) {
-                        break;
-                    }
-                } catch (Throwable e) {
-                    // task Failure and complete
-                    taskGroupExecutionTracker.exception(e);
+                taskQueue.offerLast(taskTracker);
+                if (result.isMadeProgress()) {
+                    idleRounds = 0;
+                    callsWithoutProgress = 0;
+                } else if (++callsWithoutProgress >= taskQueue.size()) {
+                    callsWithoutProgress = 0;
+                    backOff();
+                }
+            }
+        }
+
+        private void backOff() {
+            if (idleRounds < YIELD_ROUNDS) {
+                idleRounds++;
+                Thread.yield();
+                return;
+            }
+            int shift = Math.min(idleRounds - YIELD_ROUNDS, MAX_PARK_SHIFT);
+            idleRounds = Math.min(idleRounds + 1, YIELD_ROUNDS + MAX_PARK_SHIFT);
+            LockSupport.parkNanos(this, minParkNanos << shift);
+        }
+
+        /**
+         * Call the task once.
+         *
+         * @return the progress of the call, or null if the task must not be called again
+         */
+        private ProgressState call(TaskTracker taskTracker) {
+            TaskGroupExecutionTracker taskGroupExecutionTracker =
+                    taskTracker.taskGroupExecutionTracker;
+            if (taskGroupExecutionTracker.executionCompletedExceptionally()) {
+                taskGroupExecutionTracker.taskDone(taskTracker.task);
+                return null;
+            }
+            CooperativeCallFuture callFuture = new CooperativeCallFuture(thread);
+            taskGroupExecutionTracker.currRunningTaskFuture.put(
+                    taskTracker.task.getTaskID(), callFuture);
+            callStartNanos = System.nanoTime();
+            try {
+                thread.setContextClassLoader(
+                        executionContexts
+                                .get(taskGroupExecutionTracker.taskGroup.getTaskGroupLocation())
+                                .getClassLoader());
+                ProgressState result = taskTracker.task.call();
+                if (result.isDone()) {
                     taskGroupExecutionTracker.taskDone(taskTracker.task);
-                    // If it's exclusive need to end the work
-                    logger.warning("Exception in " + taskTracker.task, e);
-                    if (null != exclusiveTaskTracker.get()) {
-                        break;
-                    }
-                } finally {
-                    // stop timer
-                    timer.timerStop();
-                    taskGroupExecutionTracker.currRunningTaskFuture.remove(
-                            taskTracker.task.getTaskID());
+                    return null;
                 }
-                // task call finished
-                if (null != call) {
-                    if (call.isDone()) {
-                        // If it's exclusive, you need to end the work
-                        taskGroupExecutionTracker.taskDone(taskTracker.task);
-                        if (null != exclusiveTaskTracker.get()) {
-                            break;
-                        }
-                    } else {
-                        // Task is not completed. Put task to the end of the queue
-                        // If the current work has an exclusive tracker, it will not be put back
-                        if (null == exclusiveTaskTracker.get()) {
-                            taskqueue.offer(taskTracker);
-                        }
-                    }
+                return result;
+            } catch (InterruptedException e) {
+                if (taskGroupExecutionTracker.executionException.get() == null
+                        && !taskGroupExecutionTracker.isCancel.get()) {
+                    taskGroupExecutionTracker.exception(e);
                 }
+                taskGroupExecutionTracker.taskDone(taskTracker.task);
+                logger.warning("Exception in " + taskTracker.task, e);
+                return null;
+            } catch (Throwable e) {
+                // task Failure and complete
+                taskGroupExecutionTracker.exception(e);
+                taskGroupExecutionTracker.taskDone(taskTracker.task);
+                logger.warning("Exception in " + taskTracker.task, e);
+                return null;
+            } finally {
+                callStartNanos = 0;
+                callFuture.finish();
+                taskGroupExecutionTracker.currRunningTaskFuture.remove(
+                        taskTracker.task.getTaskID());
+                // a cancellation racing with the end of the call must not hit the next task
+                Thread.interrupted();
             }
         }
     }
 
-    /** Used to create a new BusWork and run */
-    public final class RunBusWorkSupplier {
+    /**
+     * The handle of one call of a thread shared task. Cancelling it interrupts the worker only
+     * while that call is still running, {@link #get()} waits until the call returned.
+     */
+    static final class CooperativeCallFuture implements Future<Void> {
+
+        private final Thread worker;
 
-        ExecutorService executorService;
-        LinkedBlockingDeque<TaskTracker> taskQueue;
+        private boolean running = true;
 
-        public RunBusWorkSupplier(
-                ExecutorService executorService, LinkedBlockingDeque<TaskTracker> taskqueue) {
-            this.executorService = executorService;
-            this.taskQueue = taskqueue;
+        private boolean cancelled;
+
+        CooperativeCallFuture(Thread worker) {
+            this.worker = worker;
         }
 
-        public boolean runNewBusWork(boolean checkTaskQueue) {
-            if (!checkTaskQueue || taskQueue.size() > 0) {
-                BlockingQueue<Future<?>> futureBlockingQueue = new LinkedBlockingQueue<>();
-                CooperativeTaskWorker cooperativeTaskWorker =
-                        new CooperativeTaskWorker(taskQueue, this, futureBlockingQueue);
-                //zhoulj 任务开始运行 0-3
-                Future<?> submit = executorService.submit(cooperativeTaskWorker);
-                futureBlockingQueue.add(submit);
-                return true;
+        synchronized void finish() {
+            running = false;
+            notifyAll();
+        }
+
+        @Override
+        public synchronized boolean cancel(boolean mayInterruptIfRunning) {
+            if (isDone()) {
+                return false;
             }
-            return false;
+            cancelled = true;
+            if (mayInterruptIfRunning) {
+                worker.interrupt();
+            }
+            return true;
+        }
+
+        @Override
+        public synchronized boolean isCancelled() {
+            return cancelled;
+        }
+
+        @Override
+        public synchronized boolean isDone() {
+            return !running || cancelled;
+        }
+
+        @Override
+        public synchronized Void get() throws InterruptedException {
+            while (!isDone()) {
+                wait();
+            }
+            return result();
+        }
+
+        @Override
+        public synchronized Void get(long timeout, @NonNull TimeUnit unit)
+                throws InterruptedException, TimeoutException {
+            long deadline = System.nanoTime() + unit.toNanos(timeout);
+            while (!isDone()) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    throw new TimeoutException("The call is still running");
+                }
+                TimeUnit.NANOSECONDS.timedWait(this, remaining);
+            }
+            return result();
+        }
+
+        private Void result() {
+            if (cancelled) {
+                throw new CancellationException("The call was cancelled");
+            }
+            return null;
         }
     }
 
@@ -21,6 +21,7 @@ import lombok.ToString;
 
 import java.io.Serializable;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 @ToString
@@ -34,15 +35,28 @@ public class ActionState implements Serializable {
     /** The handles to states created by the parallel actions: action index -> action state. */
     private final List<ActionSubtaskState> subtaskStates;
 
-    private ActionSubtaskState coordinatorState;
+    private final ActionSubtaskState coordinatorState;
 
     /** The parallelism of the action when it was checkpointed. */
     private final int parallelism;
 
+    /** An action state without any coordinator or subtask state. */
     public ActionState(ActionStateKey stateKey, int parallelism) {
+        this(stateKey, null, Arrays.asList(new ActionSubtaskState[parallelism]));
+    }
+
+    /**
+     * @param coordinatorState the state of the coordinator, or null
+     * @param subtaskStates the state of every subtask by its index, null if it has no state
+     */
+    public ActionState(
+            ActionStateKey stateKey,
+            ActionSubtaskState coordinatorState,
+            List<ActionSubtaskState> subtaskStates) {
         this.stateKey = stateKey;
-        this.subtaskStates = Arrays.asList(new ActionSubtaskState[parallelism]);
-        this.parallelism = parallelism;
+        this.coordinatorState = coordinatorState;
+        this.subtaskStates = Collections.unmodifiableList(subtaskStates);
+        this.parallelism = subtaskStates.size();
     }
 
     public ActionStateKey getStateKey() {
@@ -60,12 +74,4 @@ public class ActionState implements Serializable {
     public int getParallelism() {
         return parallelism;
     }
-
-    public void reportState(int index, ActionSubtaskState state) {
-        if (index < 0) {
-            coordinatorState = state;
-            return;
-        }
-        subtaskStates.set(index, state);
-    }
 }
@@ -21,6 +21,7 @@ import org.apache.seatunnel.engine.core.dag.actions.Action;
 
 import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.ToString;
@@ -28,6 +29,7 @@ import lombok.ToString;
 import java.io.Serializable;
 
 @ToString
+@Getter
 @Setter
 @AllArgsConstructor
 @NoArgsConstructor
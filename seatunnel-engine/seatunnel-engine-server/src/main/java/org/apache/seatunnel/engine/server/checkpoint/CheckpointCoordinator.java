@@ -53,6 +53,9 @@ import lombok.Getter;
 import lombok.NonNull;
 import lombok.SneakyThrows;
 
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.time.Instant;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
@@ -66,8 +69,10 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -129,6 +134,21 @@ public class CheckpointCoordinator {
 
     private final AtomicInteger pendingCounter = new AtomicInteger(0);
 
+    /** Completed checkpoints queued or running on {@link #persistExecutor}. */
+    private final AtomicInteger persistingCounter = new AtomicInteger(0);
+
+    /** Incremented on every reset, queued persist tasks of an older epoch don't notify tasks. */
+    private final AtomicInteger persistEpoch = new AtomicInteger(0);
+
+    /**
+     * Persists completed checkpoints and notifies the tasks one after another, so notifications
+     * keep the checkpoint order while the coordinator goes on with the next checkpoint.
+     */
+    private final ExecutorService persistExecutor;
+
+    @Getter private final CheckpointPersistStatistics persistStatistics =
+            new CheckpointPersistStatistics();
+
     private final AtomicBoolean schemaChanging = new AtomicBoolean(false);
 
     private final Object lock = new Object();
@@ -189,6 +209,23 @@ public class CheckpointCoordinator {
                         });
         ((ScheduledThreadPoolExecutor) this.scheduler).setRemoveOnCancelPolicy(true);
         this.scheduler = MDCTracer.tracing(scheduler);
+        ThreadPoolExecutor persistThreadPool =
+                new ThreadPoolExecutor(
+                        1,
+                        1,
+                        60,
+                        TimeUnit.SECONDS,
+                        new LinkedBlockingQueue<>(),
+                        runnable -> {
+                            Thread thread = new Thread(runnable);
+                            thread.setDaemon(true);
+                            thread.setName(
+                                    String.format(
+                                            "checkpoint-persist-%s/%s", pipelineId, jobId));
+                            return thread;
+                        });
+        persistThreadPool.allowCoreThreadTimeOut(true);
+        this.persistExecutor = MDCTracer.tracing(persistThreadPool);
         this.serializer = new ProtoStuffSerializer();
         this.pipelineTasks = getPipelineTasks(plan.getPipelineSubtasks());
         this.pipelineTaskStatus = new ConcurrentHashMap<>();
@@ -204,7 +241,7 @@ public class CheckpointCoordinator {
                 plan);
         if (pipelineState != null) {
             this.latestCompletedCheckpoint =
-                    serializer.deserialize(pipelineState.getStates(), CompletedCheckpoint.class);
+                    CompletedCheckpointCodec.decode(pipelineState.getStates(), serializer);
             this.latestCompletedCheckpoint.setRestored(true);
             LOG.info(
                     "Restore job({}@{}) with checkpoint({}), data: {}",
@@ -518,6 +555,14 @@ public class CheckpointCoordinator {
                 return;
             }
 
+            if (persistingCounter.get() >= coordinatorConfig.getMaxInflightPersists()) {
+                scheduleTriggerPendingCheckpoint(checkpointType, 500L);
+                LOG.debug(
+                        "skip trigger checkpoint because {} completed checkpoints are persisting.",
+                        persistingCounter.get());
+                return;
+            }
+
             CompletableFuture<PendingCheckpoint> pendingCheckpoint =
                     createPendingCheckpoint(currentTimestamp, checkpointType);
             startTriggerPendingCheckpoint(pendingCheckpoint);
@@ -772,6 +817,11 @@ public class CheckpointCoordinator {
     protected void cleanPendingCheckpoint(CheckpointCloseReason closedReason) {
         shutdown = true;
         isAllTaskReady = false;
+        // bump the epoch under the coordinator monitor, a persist task checks it under the same
+        // monitor before it applies a completed checkpoint
+        synchronized (this) {
+            persistEpoch.incrementAndGet();
+        }
         synchronized (lock) {
             LOG.info("start clean pending checkpoint cause {}", closedReason.message());
             if (!pendingCheckpoints.isEmpty()) {
@@ -831,6 +881,12 @@ public class CheckpointCoordinator {
         }
     }
 
+    /**
+     * Hand a fully acknowledged checkpoint over to the persist thread. A general checkpoint stops
+     * counting as pending right away, so the next one can be triggered while this one is written
+     * to the storage. Savepoints, schema change and final checkpoints stay pending until they are
+     * persisted and notified, because what follows them depends on the notification.
+     */
     public synchronized void completePendingCheckpoint(CompletedCheckpoint completedCheckpoint) {
         LOG.info(
                 "pending checkpoint({}/{}@{}) completed! cost: {}, trigger: {}, completed: {}",
@@ -842,17 +898,71 @@ public class CheckpointCoordinator {
                 completedCheckpoint.getCheckpointTimestamp(),
                 completedCheckpoint.getCompletedTimestamp());
         final long checkpointId = completedCheckpoint.getCheckpointId();
+        pendingCheckpoints.remove(checkpointId).abortCheckpointTimeoutFutureWhenIsCompleted();
+        final boolean pipelined = completedCheckpoint.getCheckpointType().isGeneralCheckpoint();
+        if (pipelined) {
+            pendingCounter.decrementAndGet();
+        }
+        final int epoch = persistEpoch.get();
+        persistingCounter.incrementAndGet();
+        persistExecutor.execute(
+                () -> {
+                    try {
+                        if (epoch == persistEpoch.get()) {
+                            persistCompletedCheckpoint(completedCheckpoint, epoch, pipelined);
+                        } else {
+                            LOG.info(
+                                    "skip persist checkpoint({}/{}@{}) because the coordinator"
+                                            + " was reset",
+                                    checkpointId,
+                                    pipelineId,
+                                    jobId);
+                        }
+                    } catch (Throwable e) {
+                        handleCoordinatorError(
+                                "complete checkpoint failed",
+                                e,
+                                CheckpointCloseReason.CHECKPOINT_INSIDE_ERROR);
+                    } finally {
+                        persistingCounter.decrementAndGet();
+                    }
+                });
+    }
+
+    /**
+     * Runs on {@link #persistExecutor}. Only the storage write happens outside the coordinator
+     * monitor, everything that changes the coordinator state runs under it, so a concurrent {@link
+     * #cleanPendingCheckpoint} either happens before the epoch check and the checkpoint is dropped,
+     * or waits until the checkpoint is fully applied.
+     */
+    private void persistCompletedCheckpoint(
+            CompletedCheckpoint completedCheckpoint, int epoch, boolean pipelined) {
+        final long checkpointId = completedCheckpoint.getCheckpointId();
+        long serializeNanos = 0;
+        long uploadNanos = 0;
         completedCheckpointIds.addLast(String.valueOf(completedCheckpoint.getCheckpointId()));
         try {
             if (completedCheckpoint.getCheckpointType().notCompletedCheckpoint()) {
-                byte[] states = serializer.serialize(completedCheckpoint);
+                // the states are encoded while they are written to the storage, the time spent
+                // in writing them is the upload, everything else of the encoding serializes them
+                long[] encodeNanos = new long[2];
+                long storeStart = System.nanoTime();
                 checkpointStorage.storeCheckPoint(
                         PipelineState.builder()
                                 .checkpointId(checkpointId)
                                 .jobId(String.valueOf(jobId))
                                 .pipelineId(pipelineId)
-                                .states(states)
-                                .build());
+                                .build(),
+                        out -> {
+                            long encodeStart = System.nanoTime();
+                            TimedOutputStream timedOut = new TimedOutputStream(out);
+                            CompletedCheckpointCodec.encode(
+                                    completedCheckpoint, serializer, timedOut);
+                            encodeNanos[0] = System.nanoTime() - encodeStart;
+                            encodeNanos[1] = timedOut.writeNanos;
+                        });
+                serializeNanos = encodeNanos[0] - encodeNanos[1];
+                uploadNanos = System.nanoTime() - storeStart - serializeNanos;
             }
             if (completedCheckpointIds.size()
                                     % coordinatorConfig.getStorage().getMaxRetainedCheckpoints()
@@ -875,25 +985,42 @@ public class CheckpointCoordinator {
             LOG.error("store checkpoint states failed.", e);
             sneakyThrow(e);
         }
-        LOG.info(
-                "pending checkpoint({}/{}@{}) notify finished!",
-                completedCheckpoint.getCheckpointId(),
-                completedCheckpoint.getPipelineId(),
-                completedCheckpoint.getJobId());
-        latestCompletedCheckpoint = completedCheckpoint;
-        notifyCompleted(completedCheckpoint);
-        pendingCheckpoints.remove(checkpointId).abortCheckpointTimeoutFutureWhenIsCompleted();
-        pendingCounter.decrementAndGet();
-        if (isCompleted()) {
-            cleanPendingCheckpoint(CheckpointCloseReason.CHECKPOINT_COORDINATOR_COMPLETED);
-            if (latestCompletedCheckpoint.getCheckpointType().isSavepoint()) {
-                updateStatus(CheckpointCoordinatorStatus.SUSPEND);
-                checkpointCoordinatorFuture.complete(
-                        new CheckpointCoordinatorState(CheckpointCoordinatorStatus.SUSPEND, null));
-            } else {
-                updateStatus(CheckpointCoordinatorStatus.FINISHED);
-                checkpointCoordinatorFuture.complete(
-                        new CheckpointCoordinatorState(CheckpointCoordinatorStatus.FINISHED, null));
+        synchronized (this) {
+            if (epoch != persistEpoch.get()) {
+                LOG.info(
+                        "skip notify checkpoint({}/{}@{}) because the coordinator was reset",
+                        checkpointId,
+                        pipelineId,
+                        jobId);
+                return;
+            }
+            latestCompletedCheckpoint = completedCheckpoint;
+            long notifyStart = System.nanoTime();
+            notifyCompleted(completedCheckpoint);
+            persistStatistics.record(
+                    serializeNanos, uploadNanos, System.nanoTime() - notifyStart);
+            LOG.info(
+                    "pending checkpoint({}/{}@{}) notify finished! {}",
+                    completedCheckpoint.getCheckpointId(),
+                    completedCheckpoint.getPipelineId(),
+                    completedCheckpoint.getJobId(),
+                    persistStatistics);
+            if (!pipelined) {
+                pendingCounter.decrementAndGet();
+            }
+            if (isCompleted()) {
+                cleanPendingCheckpoint(CheckpointCloseReason.CHECKPOINT_COORDINATOR_COMPLETED);
+                if (latestCompletedCheckpoint.getCheckpointType().isSavepoint()) {
+                    updateStatus(CheckpointCoordinatorStatus.SUSPEND);
+                    checkpointCoordinatorFuture.complete(
+                            new CheckpointCoordinatorState(
+                                    CheckpointCoordinatorStatus.SUSPEND, null));
+                } else {
+                    updateStatus(CheckpointCoordinatorStatus.FINISHED);
+                    checkpointCoordinatorFuture.complete(
+                            new CheckpointCoordinatorState(
+                                    CheckpointCoordinatorStatus.FINISHED, null));
+                }
             }
         }
     }
@@ -1049,4 +1176,53 @@ public class CheckpointCoordinator {
     public PendingCheckpoint getSavepointPendingCheckpoint() {
         return savepointPendingCheckpoint;
     }
+
+    /** Only for test */
+    @VisibleForTesting
+    void addPendingCheckpoint(PendingCheckpoint pendingCheckpoint) {
+        pendingCheckpoints.put(pendingCheckpoint.getCheckpointId(), pendingCheckpoint);
+        pendingCounter.incrementAndGet();
+    }
+
+    /** Only for test */
+    @VisibleForTesting
+    int getPendingCounter() {
+        return pendingCounter.get();
+    }
+
+    /** Only for test */
+    @VisibleForTesting
+    CompletedCheckpoint getLatestCompletedCheckpoint() {
+        return latestCompletedCheckpoint;
+    }
+
+    /** Counts the time spent in writing to the underlying stream. */
+    private static final class TimedOutputStream extends FilterOutputStream {
+        private long writeNanos;
+
+        private TimedOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            long start = System.nanoTime();
+            out.write(b);
+            writeNanos += System.nanoTime() - start;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            long start = System.nanoTime();
+            out.write(b, off, len);
+            writeNanos += System.nanoTime() - start;
+        }
+
+        @Override
+        public void flush() throws IOException {
+            long start = System.nanoTime();
+            out.flush();
+            writeNanos += System.nanoTime() - start;
+        }
+    }
 }
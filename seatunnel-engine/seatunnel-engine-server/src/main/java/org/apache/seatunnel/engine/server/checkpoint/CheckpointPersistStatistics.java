@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.checkpoint;
+
+import lombok.Getter;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency of persisting completed checkpoints of a pipeline: serializing the states, uploading
+ * them to the checkpoint storage and notifying the tasks. Keeps the latest values and the totals.
+ */
+@Getter
+public class CheckpointPersistStatistics {
+
+    private volatile long persistedCount;
+
+    private volatile long lastSerializeMillis;
+
+    private volatile long lastUploadMillis;
+
+    private volatile long lastNotifyMillis;
+
+    private volatile long totalSerializeMillis;
+
+    private volatile long totalUploadMillis;
+
+    private volatile long totalNotifyMillis;
+
+    /** Only called by the persist thread of the coordinator. */
+    void record(long serializeNanos, long uploadNanos, long notifyNanos) {
+        lastSerializeMillis = TimeUnit.NANOSECONDS.toMillis(serializeNanos);
+        lastUploadMillis = TimeUnit.NANOSECONDS.toMillis(uploadNanos);
+        lastNotifyMillis = TimeUnit.NANOSECONDS.toMillis(notifyNanos);
+        totalSerializeMillis += lastSerializeMillis;
+        totalUploadMillis += lastUploadMillis;
+        totalNotifyMillis += lastNotifyMillis;
+        persistedCount++;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+                "persisted: %s, serialize: %sms, upload: %sms, notify: %sms",
+                persistedCount, lastSerializeMillis, lastUploadMillis, lastNotifyMillis);
+    }
+}
@@ -0,0 +1,257 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.seatunnel.engine.server.checkpoint;
+
+import org.apache.seatunnel.engine.checkpoint.storage.common.CheckpointBlocks;
+import org.apache.seatunnel.engine.serializer.api.Serializer;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.AbstractList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.Deflater;
+
+/**
+ * Sectioned format of the states of a {@link CompletedCheckpoint}.
+ *
+ * <p>Instead of one protostuff object graph of the whole checkpoint, every subtask state and
+ * coordinator state is serialized and compressed into its own {@link CheckpointBlocks block}. The
+ * blocks are written straight to the output stream of the checkpoint storage, so only one
+ * uncompressed subtask state is in memory at a time while a checkpoint is encoded. A decoded
+ * checkpoint keeps the compressed blocks and a restoring task only decompresses the states it
+ * gets assigned, the restored action states are read only.
+ *
+ * <p>States written before this format are a plain protostuff {@link CompletedCheckpoint} and
+ * are still decoded.
+ */
+public final class CompletedCheckpointCodec {
+
+    /** "STCS", never the first bytes of a protostuff serialized {@link CompletedCheckpoint}. */
+    private static final int MAGIC = 0x53544353;
+
+    private static final byte VERSION = 1;
+
+    private CompletedCheckpointCodec() {}
+
+    /**
+     * Encode the states of a checkpoint.
+     *
+     * @param outputStream the stream the states are written to, it isn't closed
+     */
+    public static void encode(
+            CompletedCheckpoint checkpoint, Serializer serializer, OutputStream outputStream)
+            throws IOException {
+        DataOutputStream out = new DataOutputStream(outputStream);
+        Deflater deflater = CheckpointBlocks.newDeflater();
+        try {
+            out.writeInt(MAGIC);
+            out.writeByte(VERSION);
+            CompletedCheckpoint header =
+                    new CompletedCheckpoint(
+                            checkpoint.getJobId(),
+                            checkpoint.getPipelineId(),
+                            checkpoint.getCheckpointId(),
+                            checkpoint.getCheckpointTimestamp(),
+                            checkpoint.getCheckpointType(),
+                            checkpoint.getCompletedTimestamp(),
+                            new HashMap<>(),
+                            checkpoint.getTaskStatistics());
+            writeSection(out, serializer.serialize(header), deflater);
+
+            Map<ActionStateKey, ActionState> taskStates = checkpoint.getTaskStates();
+            out.writeInt(taskStates.size());
+            for (ActionState actionState : taskStates.values()) {
+                out.writeUTF(actionState.getStateKey().getName());
+                out.writeInt(actionState.getParallelism());
+                writeOptionalSection(out, actionState.getCoordinatorState(), serializer, deflater);
+                for (ActionSubtaskState subtaskState : actionState.getSubtaskStates()) {
+                    writeOptionalSection(out, subtaskState, serializer, deflater);
+                }
+            }
+        } finally {
+            deflater.end();
+        }
+        out.flush();
+    }
+
+    public static CompletedCheckpoint decode(byte[] data, Serializer serializer)
+            throws IOException {
+        if (!hasMagic(data)) {
+            return serializer.deserialize(data, CompletedCheckpoint.class);
+        }
+        ByteArrayInputStream bytes = new ByteArrayInputStream(data);
+        DataInputStream in = new DataInputStream(bytes);
+        in.readInt();
+        byte version = in.readByte();
+        if (version != VERSION) {
+            throw new IOException("Unsupported checkpoint states version: " + version);
+        }
+        CompletedCheckpoint header =
+                serializer.deserialize(CheckpointBlocks.readBlock(in), CompletedCheckpoint.class);
+
+        int actionCount = in.readInt();
+        Map<ActionStateKey, ActionState> taskStates = new HashMap<>(actionCount * 2);
+        for (int i = 0; i < actionCount; i++) {
+            ActionStateKey stateKey = new ActionStateKey(in.readUTF());
+            int parallelism = in.readInt();
+            int coordinatorOffset = skipOptionalSection(in, data.length - bytes.available());
+            int[] subtaskOffsets = new int[parallelism];
+            for (int index = 0; index < parallelism; index++) {
+                subtaskOffsets[index] = skipOptionalSection(in, data.length - bytes.available());
+            }
+            taskStates.put(
+                    stateKey,
+                    new RestoredActionState(
+                            stateKey,
+                            parallelism,
+                            data,
+                            coordinatorOffset,
+                            subtaskOffsets,
+                            serializer));
+        }
+        return new CompletedCheckpoint(
+                header.getJobId(),
+                header.getPipelineId(),
+                header.getCheckpointId(),
+                header.getCheckpointTimestamp(),
+                header.getCheckpointType(),
+                header.getCompletedTimestamp(),
+                taskStates,
+                header.getTaskStatistics());
+    }
+
+    private static boolean hasMagic(byte[] data) {
+        return data.length >= Integer.BYTES
+                && ((data[0] & 0xff) << 24
+                                | (data[1] & 0xff) << 16
+                                | (data[2] & 0xff) << 8
+                                | (data[3] & 0xff))
+                        == MAGIC;
+    }
+
+    private static void writeSection(DataOutputStream out, byte[] section, Deflater deflater)
+            throws IOException {
+        CheckpointBlocks.writeBlock(out, section, 0, section.length, deflater);
+    }
+
+    private static void writeOptionalSection(
+            DataOutputStream out,
+            ActionSubtaskState state,
+            Serializer serializer,
+            Deflater deflater)
+            throws IOException {
+        out.writeBoolean(state != null);
+        if (state != null) {
+            writeSection(out, serializer.serialize(state), deflater);
+        }
+    }
+
+    /**
+     * Skip an optional section.
+     *
+     * @param position the position of the section in the states
+     * @return the position of the block of the section, or -1 if the section is absent
+     */
+    private static int skipOptionalSection(DataInputStream in, int position) throws IOException {
+        if (!in.readBoolean()) {
+            return -1;
+        }
+        // raw length, codec, stored length, checksum
+        in.readInt();
+        in.readByte();
+        int storedLength = in.readInt();
+        in.readInt();
+        if (in.skipBytes(storedLength) != storedLength) {
+            throw new IOException("Truncated checkpoint states");
+        }
+        return position + 1;
+    }
+
+    private static ActionSubtaskState readSection(byte[] data, int offset, Serializer serializer) {
+        try {
+            DataInputStream in =
+                    new DataInputStream(
+                            new ByteArrayInputStream(data, offset, data.length - offset));
+            return serializer.deserialize(
+                    CheckpointBlocks.readBlock(in), ActionSubtaskState.class);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read checkpoint states", e);
+        }
+    }
+
+    /** An action state whose coordinator and subtask states are decoded when they are read. */
+    private static final class RestoredActionState extends ActionState {
+        private static final long serialVersionUID = 1L;
+
+        private final byte[] data;
+        private final int coordinatorOffset;
+        private final int[] subtaskOffsets;
+        private final Serializer serializer;
+
+        private RestoredActionState(
+                ActionStateKey stateKey,
+                int parallelism,
+                byte[] data,
+                int coordinatorOffset,
+                int[] subtaskOffsets,
+                Serializer serializer) {
+            super(stateKey, parallelism);
+            this.data = data;
+            this.coordinatorOffset = coordinatorOffset;
+            this.subtaskOffsets = subtaskOffsets;
+            this.serializer = serializer;
+        }
+
+        @Override
+        public ActionSubtaskState getCoordinatorState() {
+            return coordinatorOffset < 0 ? null : readSection(data, coordinatorOffset, serializer);
+        }
+
+        @Override
+        public List<ActionSubtaskState> getSubtaskStates() {
+            return new AbstractList<ActionSubtaskState>() {
+                @Override
+                public ActionSubtaskState get(int index) {
+                    int offset = subtaskOffsets[index];
+                    return offset < 0 ? null : readSection(data, offset, serializer);
+                }
+
+                @Override
+                public int size() {
+                    return subtaskOffsets.length;
+                }
+            };
+        }
+
+        @Override
+        public String toString() {
+            return "RestoredActionState(stateKey="
+                    + getStateKey()
+                    + ", parallelism="
+                    + getParallelism()
+                    + ")";
+        }
+    }
+}
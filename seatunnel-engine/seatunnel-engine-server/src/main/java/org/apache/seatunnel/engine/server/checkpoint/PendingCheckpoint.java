@@ -30,6 +30,8 @@ import lombok.Getter;
 import lombok.Setter;
 
 import java.time.Instant;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -53,7 +55,8 @@ public class PendingCheckpoint implements Checkpoint {
 
     private final Map<Long, TaskStatistics> taskStatistics;
 
-    private final Map<ActionStateKey, ActionState> actionStates;
+    /** The states reported so far, they become the action states of the completed checkpoint. */
+    private final Map<ActionStateKey, ReportedStates> reportedStates;
 
     private final CompletableFuture<CompletedCheckpoint> completableFuture;
 
@@ -77,7 +80,8 @@ public class PendingCheckpoint implements Checkpoint {
         this.checkpointType = checkpointType;
         this.notYetAcknowledgedTasks = notYetAcknowledgedTasks;
         this.taskStatistics = taskStatistics;
-        this.actionStates = actionStates;
+        this.reportedStates = new HashMap<>(actionStates.size() * 2);
+        actionStates.forEach((key, state) -> reportedStates.put(key, new ReportedStates(state)));
         this.completableFuture = new CompletableFuture<>();
     }
 
@@ -111,6 +115,8 @@ public class PendingCheckpoint implements Checkpoint {
     }
 
     protected Map<ActionStateKey, ActionState> getActionStates() {
+        Map<ActionStateKey, ActionState> actionStates = new HashMap<>(reportedStates.size() * 2);
+        reportedStates.forEach((key, states) -> actionStates.put(key, states.toActionState()));
         return actionStates;
     }
 
@@ -131,13 +137,13 @@ public class PendingCheckpoint implements Checkpoint {
 
         long stateSize = 0;
         for (ActionSubtaskState state : states) {
-            ActionState actionState = actionStates.get(state.getStateKey());
-            if (actionState == null) {
+            ReportedStates actionStates = reportedStates.get(state.getStateKey());
+            if (actionStates == null) {
                 continue;
             }
             stateSize +=
                     state.getState().stream().filter(Objects::nonNull).map(s -> s.length).count();
-            actionState.reportState(state.getIndex(), state);
+            actionStates.report(state.getIndex(), state);
         }
         statistics.reportSubtaskStatistics(
                 new SubtaskStatistics(
@@ -164,7 +170,7 @@ public class PendingCheckpoint implements Checkpoint {
                 triggerTimestamp,
                 checkpointType,
                 System.currentTimeMillis(),
-                actionStates,
+                getActionStates(),
                 taskStatistics);
     }
 
@@ -195,4 +201,31 @@ public class PendingCheckpoint implements Checkpoint {
                 this.getCheckpointId(),
                 this.getCheckpointType());
     }
+
+    /** The coordinator and subtask states reported for one action. */
+    private static final class ReportedStates {
+        private final ActionStateKey stateKey;
+        private final ActionSubtaskState[] subtaskStates;
+        private ActionSubtaskState coordinatorState;
+
+        private ReportedStates(ActionState actionState) {
+            this.stateKey = actionState.getStateKey();
+            this.subtaskStates =
+                    actionState.getSubtaskStates().toArray(new ActionSubtaskState[0]);
+            this.coordinatorState = actionState.getCoordinatorState();
+        }
+
+        private void report(int index, ActionSubtaskState state) {
+            if (index < 0) {
+                coordinatorState = state;
+                return;
+            }
+            subtaskStates[index] = state;
+        }
+
+        private ActionState toActionState() {
+            return new ActionState(
+                    stateKey, coordinatorState, Arrays.asList(subtaskStates.clone()));
+        }
+    }
 }
@@ -50,6 +50,7 @@ import org.apache.seatunnel.engine.server.execution.Task;
 import org.apache.seatunnel.engine.server.execution.TaskGroupDefaultImpl;
 import org.apache.seatunnel.engine.server.execution.TaskGroupLocation;
 import org.apache.seatunnel.engine.server.execution.TaskLocation;
+import org.apache.seatunnel.engine.server.metrics.SeaTunnelRowBytesSampler;
 import org.apache.seatunnel.engine.server.task.SeaTunnelTask;
 import org.apache.seatunnel.engine.server.task.SinkAggregatedCommitterTask;
 import org.apache.seatunnel.engine.server.task.SourceSeaTunnelTask;
@@ -83,7 +84,7 @@ import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
-import static org.apache.seatunnel.engine.common.config.server.QueueType.BLOCKINGQUEUE;
+import static org.apache.seatunnel.engine.common.config.server.QueueType.DISRUPTOR;
 
 public class PhysicalPlanGenerator {
 
@@ -593,9 +594,9 @@ public class PhysicalPlanGenerator {
                                         .anyMatch(TransformSeaTunnelTask.class::isInstance)) {
                                     // contains IntermediateExecutionFlow in task group
                                     TaskGroupDefaultImpl taskGroup;
-                                    if (queueType.equals(BLOCKINGQUEUE)) {
+                                    if (queueType.equals(DISRUPTOR)) {
                                         taskGroup =
-                                                new TaskGroupWithIntermediateBlockingQueue(
+                                                new TaskGroupWithIntermediateDisruptor(
                                                         taskGroupLocation,
                                                         flow.getAction().getName() + "-SourceTask",
                                                         taskList.stream()
@@ -603,12 +604,13 @@ public class PhysicalPlanGenerator {
                                                                 .collect(Collectors.toList()));
                                     } else {
                                         taskGroup =
-                                                new TaskGroupWithIntermediateDisruptor(
+                                                new TaskGroupWithIntermediateBlockingQueue(
                                                         taskGroupLocation,
                                                         flow.getAction().getName() + "-SourceTask",
                                                         taskList.stream()
                                                                 .map(task -> (Task) task)
-                                                                .collect(Collectors.toList()));
+                                                                .collect(Collectors.toList()),
+                                                        queueType);
                                     }
                                     t.add(
                                             new PhysicalVertex(
@@ -686,6 +688,9 @@ public class PhysicalPlanGenerator {
                 flow.setConfig(config);
             } else if (flow.getAction() instanceof SinkAction) {
                 SinkConfig config = new SinkConfig();
+                config.setBytesSampleInterval(
+                        SeaTunnelRowBytesSampler.getSampleInterval(
+                                jobImmutableInformation.getJobConfig().getEnvOptions()));
                 if (committerTaskIDMap.containsKey((SinkAction<?, ?, ?, ?>) flow.getAction())) {
                     config.setContainCommitter(true);
                     config.setCommitterTask(
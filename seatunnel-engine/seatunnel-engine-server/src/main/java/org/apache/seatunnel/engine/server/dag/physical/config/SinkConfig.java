@@ -23,6 +23,7 @@ public class SinkConfig implements FlowConfig {
 
     private TaskLocation committerTask;
     private boolean containCommitter;
+    private int bytesSampleInterval = 1;
 
     public TaskLocation getCommitterTask() {
         return committerTask;
@@ -39,4 +40,12 @@ public class SinkConfig implements FlowConfig {
     public void setContainCommitter(boolean containCommitter) {
         this.containCommitter = containCommitter;
     }
+
+    public int getBytesSampleInterval() {
+        return bytesSampleInterval;
+    }
+
+    public void setBytesSampleInterval(int bytesSampleInterval) {
+        this.bytesSampleInterval = bytesSampleInterval;
+    }
 }
@@ -19,19 +19,27 @@ package org.apache.seatunnel.engine.server.execution;
 
 import org.apache.seatunnel.engine.server.TaskExecutionService;
 
-import java.util.concurrent.atomic.AtomicInteger;
-
 public class TaskTracker {
-    public final AtomicInteger expiredTimes = new AtomicInteger(0);
     public final TaskExecutionService.TaskGroupExecutionTracker taskGroupExecutionTracker;
     public final Task task;
 
+    /** Whether a cooperative worker called the task already, it then stays on that worker. */
+    private volatile boolean started;
+
     public TaskTracker(
             Task task, TaskExecutionService.TaskGroupExecutionTracker taskGroupExecutionTracker) {
         this.task = task;
         this.taskGroupExecutionTracker = taskGroupExecutionTracker;
     }
 
+    public boolean isStarted() {
+        return started;
+    }
+
+    public void markStarted() {
+        started = true;
+    }
+
     @Override
     public String toString() {
         return "Tracking " + task;
@@ -0,0 +1,134 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.metrics;
+
+import org.apache.seatunnel.api.env.EnvCommonOptions;
+import org.apache.seatunnel.api.table.event.SchemaChangeEvent;
+import org.apache.seatunnel.api.table.event.handler.DataTypeChangeEventDispatcher;
+import org.apache.seatunnel.api.table.event.handler.DataTypeChangeEventHandler;
+import org.apache.seatunnel.api.table.type.MultipleRowType;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowSizeEstimator;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.engine.common.exception.SeaTunnelEngineException;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Measures the size in bytes of the rows of a source or a sink for their metrics, with {@link
+ * SeaTunnelRowSizeEstimator estimators} built from the row types. Only every n-th row is measured,
+ * the rows in between reuse the last measured size. Not thread safe, every reader or writer has
+ * its own sampler.
+ */
+public class SeaTunnelRowBytesSampler {
+
+    private final int sampleInterval;
+
+    private SeaTunnelDataType<?> rowType;
+    private final Map<String, SeaTunnelRowType> rowTypeMap = new HashMap<>();
+    private SeaTunnelRowSizeEstimator sizeEstimator;
+    private final Map<String, SeaTunnelRowSizeEstimator> sizeEstimatorMap = new HashMap<>();
+    private final DataTypeChangeEventHandler dataTypeChangeEventHandler =
+            new DataTypeChangeEventDispatcher();
+
+    private long sampleCount;
+    private int lastSampledBytes;
+
+    /**
+     * @param rowType a {@link SeaTunnelRowType} or a {@link MultipleRowType} with the row type of
+     *     every table. Null only for actions built without their row type, their rows are measured
+     *     without an estimator.
+     * @param sampleInterval measure every n-th row, 1 measures every row
+     */
+    public SeaTunnelRowBytesSampler(SeaTunnelDataType<?> rowType, int sampleInterval) {
+        this.rowType = rowType;
+        if (rowType instanceof MultipleRowType) {
+            ((MultipleRowType) rowType)
+                    .iterator()
+                    .forEachRemaining(type -> this.rowTypeMap.put(type.getKey(), type.getValue()));
+        }
+        this.sampleInterval = Math.max(1, sampleInterval);
+    }
+
+    /** The sample interval configured by {@link EnvCommonOptions#METRICS_BYTES_SAMPLE_INTERVAL}. */
+    public static int getSampleInterval(Map<String, Object> envOptions) {
+        Object interval =
+                envOptions == null
+                        ? null
+                        : envOptions.get(EnvCommonOptions.METRICS_BYTES_SAMPLE_INTERVAL.key());
+        return interval == null
+                ? EnvCommonOptions.METRICS_BYTES_SAMPLE_INTERVAL.defaultValue()
+                : Integer.parseInt(interval.toString());
+    }
+
+    /** The size in bytes of the row, measured or reused from the last measured row. */
+    public int sample(SeaTunnelRow row) {
+        if (sampleInterval > 1 && sampleCount++ % sampleInterval != 0) {
+            return lastSampledBytes;
+        }
+        lastSampledBytes = getBytesSize(row);
+        return lastSampledBytes;
+    }
+
+    /** Apply a schema change to the row types, the rows after it are measured with the new type. */
+    public void applySchemaChange(SchemaChangeEvent event) {
+        if (rowType == null) {
+            return;
+        } else if (rowType instanceof SeaTunnelRowType) {
+            rowType = dataTypeChangeEventHandler.reset((SeaTunnelRowType) rowType).apply(event);
+            sizeEstimator = null;
+        } else if (rowType instanceof MultipleRowType) {
+            String tableId = event.tablePath().toString();
+            rowTypeMap.put(
+                    tableId,
+                    dataTypeChangeEventHandler.reset(rowTypeMap.get(tableId)).apply(event));
+            sizeEstimatorMap.remove(tableId);
+        } else {
+            throw new SeaTunnelEngineException(
+                    "Unsupported row type: " + rowType.getClass().getName());
+        }
+    }
+
+    private int getBytesSize(SeaTunnelRow row) {
+        if (rowType == null) {
+            return row.getBytesSize();
+        } else if (rowType instanceof SeaTunnelRowType) {
+            if (sizeEstimator == null) {
+                sizeEstimator = SeaTunnelRowSizeEstimator.of((SeaTunnelRowType) rowType);
+            }
+            return row.getBytesSize(sizeEstimator);
+        } else if (rowType instanceof MultipleRowType) {
+            String tableId = row.getTableId();
+            SeaTunnelRowSizeEstimator estimator = sizeEstimatorMap.get(tableId);
+            if (estimator == null) {
+                SeaTunnelRowType tableRowType = rowTypeMap.get(tableId);
+                if (tableRowType == null) {
+                    throw new SeaTunnelEngineException("Unknown table of row: " + tableId);
+                }
+                estimator = SeaTunnelRowSizeEstimator.of(tableRowType);
+                sizeEstimatorMap.put(tableId, estimator);
+            }
+            return row.getBytesSize(estimator);
+        } else {
+            throw new SeaTunnelEngineException(
+                    "Unsupported row type: " + rowType.getClass().getName());
+        }
+    }
+}
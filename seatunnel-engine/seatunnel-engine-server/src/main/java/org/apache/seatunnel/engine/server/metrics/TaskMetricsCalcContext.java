@@ -61,6 +61,9 @@ public class TaskMetricsCalcContext {
 
     private Map<String, Meter> bytesPerSecondsPerTable = new ConcurrentHashMap<>();
 
+    /** Full table names by table id, so the table id isn't parsed again for every row. */
+    private final Map<String, String> tableNames = new ConcurrentHashMap<>();
+
     public TaskMetricsCalcContext(
             MetricsContext metricsContext,
             PluginType type,
@@ -122,55 +125,101 @@ public class TaskMetricsCalcContext {
         }
     }
 
-    public void updateMetrics(Object data) {
+    /**
+     * Update the metrics for one piece of data. The size in bytes is only counted for rows.
+     *
+     * @param bytesSize the size in bytes of the row, measured by a {@link SeaTunnelRowBytesSampler}
+     */
+    public void updateMetrics(Object data, long bytesSize) {
         count.inc();
         QPS.markEvent();
         if (data instanceof SeaTunnelRow) {
-            SeaTunnelRow row = (SeaTunnelRow) data;
-            bytes.inc(row.getBytesSize());
-            bytesPerSeconds.markEvent(row.getBytesSize());
-            String tableId = row.getTableId();
-
-            if (StringUtils.isNotBlank(tableId)) {
-                String tableName = TablePath.of(tableId).getFullName();
-
-                // Processing count
-                processMetrics(
-                        countPerTable,
-                        Counter.class,
-                        tableName,
-                        SINK_WRITE_COUNT,
-                        SOURCE_RECEIVED_COUNT,
-                        Counter::inc);
-
-                // Processing bytes
-                processMetrics(
-                        bytesPerTable,
-                        Counter.class,
-                        tableName,
-                        SINK_WRITE_BYTES,
-                        SOURCE_RECEIVED_BYTES,
-                        counter -> counter.inc(row.getBytesSize()));
-
-                // Processing QPS
-                processMetrics(
-                        QPSPerTable,
-                        Meter.class,
-                        tableName,
-                        SINK_WRITE_QPS,
-                        SOURCE_RECEIVED_QPS,
-                        Meter::markEvent);
-
-                // Processing bytes rate
-                processMetrics(
-                        bytesPerSecondsPerTable,
-                        Meter.class,
-                        tableName,
-                        SINK_WRITE_BYTES_PER_SECONDS,
-                        SOURCE_RECEIVED_BYTES_PER_SECONDS,
-                        meter -> meter.markEvent(row.getBytesSize()));
+            bytes.inc(bytesSize);
+            bytesPerSeconds.markEvent(bytesSize);
+            updateTableMetrics(((SeaTunnelRow) data).getTableId(), 1, bytesSize);
+        }
+    }
+
+    /**
+     * Update the metrics for a batch of data. The global metrics are updated once per batch and
+     * the per table metrics once per run of consecutive rows of the same table.
+     *
+     * @param bytesSizes the size in bytes of every piece of data of the batch, measured by a {@link
+     *     SeaTunnelRowBytesSampler} for the rows
+     */
+    public void updateMetrics(List<?> batch, int[] bytesSizes) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        count.inc(batch.size());
+        QPS.markEvent(batch.size());
+        long batchBytes = 0;
+        String tableId = null;
+        long tableCount = 0;
+        long tableBytes = 0;
+        for (int i = 0; i < batch.size(); i++) {
+            Object data = batch.get(i);
+            if (data instanceof SeaTunnelRow) {
+                SeaTunnelRow row = (SeaTunnelRow) data;
+                int rowBytes = bytesSizes[i];
+                batchBytes += rowBytes;
+                if (!Objects.equals(tableId, row.getTableId())) {
+                    updateTableMetrics(tableId, tableCount, tableBytes);
+                    tableId = row.getTableId();
+                    tableCount = 0;
+                    tableBytes = 0;
+                }
+                tableCount++;
+                tableBytes += rowBytes;
             }
         }
+        updateTableMetrics(tableId, tableCount, tableBytes);
+        bytes.inc(batchBytes);
+        bytesPerSeconds.markEvent(batchBytes);
+    }
+
+    private void updateTableMetrics(String tableId, long tableCount, long tableBytes) {
+        if (tableCount == 0 || StringUtils.isBlank(tableId)) {
+            return;
+        }
+        String tableName = getTableName(tableId);
+        processMetrics(
+                countPerTable,
+                Counter.class,
+                tableName,
+                SINK_WRITE_COUNT,
+                SOURCE_RECEIVED_COUNT,
+                counter -> counter.inc(tableCount));
+        processMetrics(
+                bytesPerTable,
+                Counter.class,
+                tableName,
+                SINK_WRITE_BYTES,
+                SOURCE_RECEIVED_BYTES,
+                counter -> counter.inc(tableBytes));
+        processMetrics(
+                QPSPerTable,
+                Meter.class,
+                tableName,
+                SINK_WRITE_QPS,
+                SOURCE_RECEIVED_QPS,
+                meter -> meter.markEvent(tableCount));
+        processMetrics(
+                bytesPerSecondsPerTable,
+                Meter.class,
+                tableName,
+                SINK_WRITE_BYTES_PER_SECONDS,
+                SOURCE_RECEIVED_BYTES_PER_SECONDS,
+                meter -> meter.markEvent(tableBytes));
+    }
+
+    private String getTableName(String tableId) {
+        String tableName = tableNames.get(tableId);
+        if (tableName == null) {
+            tableName = TablePath.of(tableId).getFullName();
+            tableNames.put(tableId, tableName);
+        }
+        return tableName;
     }
 
     private <T> void processMetrics(
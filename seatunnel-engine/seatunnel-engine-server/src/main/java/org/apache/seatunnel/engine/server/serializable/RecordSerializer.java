@@ -18,7 +18,6 @@
 package org.apache.seatunnel.engine.server.serializable;
 
 import org.apache.seatunnel.api.table.type.Record;
-import org.apache.seatunnel.api.table.type.RowKind;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.engine.core.checkpoint.CheckpointType;
 import org.apache.seatunnel.engine.server.checkpoint.CheckpointBarrier;
@@ -30,12 +29,27 @@ import com.hazelcast.nio.serialization.StreamSerializer;
 import java.io.IOException;
 import java.io.UnsupportedEncodingException;
 
+/**
+ * Serializes the records of the engine. The instance Hazelcast registers writes rows in the
+ * untyped layout of {@link SeaTunnelRowBinaryCodec}, shuffle edges create their own instance with
+ * the row types known at plan time, see {@link ShuffleRecordCodec}.
+ */
 public class RecordSerializer implements StreamSerializer<Record> {
     enum RecordDataType {
         CHECKPOINT_BARRIER,
         SEATUNNEL_ROW;
     }
 
+    private final SeaTunnelRowBinaryCodec rowCodec;
+
+    public RecordSerializer() {
+        this(SeaTunnelRowBinaryCodec.UNTYPED);
+    }
+
+    public RecordSerializer(SeaTunnelRowBinaryCodec rowCodec) {
+        this.rowCodec = rowCodec;
+    }
+
     @Override
     public void write(ObjectDataOutput out, Record record) throws IOException {
         Object data = record.getData();
@@ -48,14 +62,8 @@ public class RecordSerializer implements StreamSerializer<Record> {
             out.writeObject(checkpointBarrier.getPrepareCloseTasks());
             out.writeObject(checkpointBarrier.getClosedTasks());
         } else if (data instanceof SeaTunnelRow) {
-            SeaTunnelRow row = (SeaTunnelRow) data;
             out.writeByte(RecordDataType.SEATUNNEL_ROW.ordinal());
-            out.writeString(row.getTableId());
-            out.writeByte(row.getRowKind().toByteValue());
-            out.writeByte(row.getArity());
-            for (Object field : row.getFields()) {
-                out.writeObject(field);
-            }
+            rowCodec.writeRow(out, (SeaTunnelRow) data);
         } else {
             throw new UnsupportedEncodingException(
                     "Unsupported serialize class: " + data.getClass());
@@ -75,16 +83,7 @@ public class RecordSerializer implements StreamSerializer<Record> {
                             in.readObject(),
                             in.readObject());
         } else if (dataType == RecordDataType.SEATUNNEL_ROW.ordinal()) {
-            String tableId = in.readString();
-            byte rowKind = in.readByte();
-            byte arity = in.readByte();
-            SeaTunnelRow row = new SeaTunnelRow(arity);
-            row.setTableId(tableId);
-            row.setRowKind(RowKind.fromByteValue(rowKind));
-            for (int i = 0; i < arity; i++) {
-                row.setField(i, in.readObject());
-            }
-            data = row;
+            data = rowCodec.readRow(in);
         } else {
             throw new UnsupportedEncodingException(
                     "Unsupported deserialize data type: " + dataType);
@@ -0,0 +1,426 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.seatunnel.engine.server.serializable;
+
+import org.apache.seatunnel.api.table.type.RowKind;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Compact binary format of a {@link SeaTunnelRow}, driven by the row types of a {@link
+ * TableIdDictionary}.
+ *
+ * <p>A row of a table in the dictionary is written as the var-int index of its table id, the row
+ * kind and a null bitmap, followed by the non-null fields encoded by their declared type: fixed
+ * width primitives, length-prefixed strings, bytes and decimals, and nested rows in the same
+ * format. No field carries a type tag, both ends know the layout from the dictionary. Only types
+ * without a binary encoding here, like arrays and maps, go through {@link
+ * ObjectDataOutput#writeObject}.
+ *
+ * <p>Rows of tables outside the dictionary, or whose fields don't match the planned row type, for
+ * example after a schema change, are written with their table id string, a var-int arity and
+ * {@link ObjectDataOutput#writeObject} per field.
+ */
+public final class SeaTunnelRowBinaryCodec {
+
+    /** Codec without plan-time row types, every row is written in the untyped layout. */
+    public static final SeaTunnelRowBinaryCodec UNTYPED =
+            new SeaTunnelRowBinaryCodec(TableIdDictionary.EMPTY);
+
+    private static final int TABLE_ID_NULL = 0;
+    private static final int TABLE_ID_STRING = 1;
+    /** Table ids of the dictionary are written as their index plus this offset. */
+    private static final int TABLE_ID_INDEX_OFFSET = 2;
+
+    private static final int MAX_INTERNED_TABLE_IDS = 4096;
+
+    /** Table ids of deserialized rows, so rows of one table share a single string instance. */
+    private static final ConcurrentMap<String, String> TABLE_IDS = new ConcurrentHashMap<>();
+
+    private final TableIdDictionary tableIds;
+
+    private final RowCodec[] rowCodecs;
+
+    public SeaTunnelRowBinaryCodec(TableIdDictionary tableIds) {
+        this.tableIds = tableIds;
+        this.rowCodecs = new RowCodec[tableIds.size()];
+        for (int i = 0; i < rowCodecs.length; i++) {
+            rowCodecs[i] = new RowCodec(tableIds.getRowType(i));
+        }
+    }
+
+    public void writeRow(ObjectDataOutput out, SeaTunnelRow row) throws IOException {
+        String tableId = row.getTableId();
+        int index = tableId == null ? -1 : tableIds.indexOf(tableId);
+        if (index >= 0 && rowCodecs[index].accepts(row)) {
+            writeVarInt(out, index + TABLE_ID_INDEX_OFFSET);
+            out.writeByte(row.getRowKind().toByteValue());
+            rowCodecs[index].writeFields(out, row.getFields());
+            return;
+        }
+
+        if (tableId == null) {
+            writeVarInt(out, TABLE_ID_NULL);
+        } else {
+            writeVarInt(out, TABLE_ID_STRING);
+            out.writeString(tableId);
+        }
+        out.writeByte(row.getRowKind().toByteValue());
+        Object[] fields = row.getFields();
+        writeVarInt(out, fields.length);
+        writeNullBitmap(out, fields);
+        for (Object field : fields) {
+            if (field != null) {
+                out.writeObject(field);
+            }
+        }
+    }
+
+    public SeaTunnelRow readRow(ObjectDataInput in) throws IOException {
+        int tag = readVarInt(in);
+        if (tag >= TABLE_ID_INDEX_OFFSET) {
+            int index = tag - TABLE_ID_INDEX_OFFSET;
+            if (index >= rowCodecs.length) {
+                throw new IOException(
+                        "Unknown table id index "
+                                + index
+                                + ", the row was written with the row types of another edge");
+            }
+            RowKind rowKind = RowKind.fromByteValue(in.readByte());
+            SeaTunnelRow row = rowCodecs[index].readFields(in);
+            row.setTableId(tableIds.getTableId(index));
+            row.setRowKind(rowKind);
+            return row;
+        }
+
+        String tableId = tag == TABLE_ID_STRING ? internTableId(in.readString()) : null;
+        RowKind rowKind = RowKind.fromByteValue(in.readByte());
+        int arity = readVarInt(in);
+        byte[] nullBitmap = readNullBitmap(in, arity);
+        SeaTunnelRow row = new SeaTunnelRow(arity);
+        row.setTableId(tableId);
+        row.setRowKind(rowKind);
+        for (int i = 0; i < arity; i++) {
+            if (!isNull(nullBitmap, i)) {
+                row.setField(i, in.readObject());
+            }
+        }
+        return row;
+    }
+
+    private static FieldCodec fieldCodec(SeaTunnelDataType<?> type) {
+        switch (type.getSqlType()) {
+            case STRING:
+                return new TypedFieldCodec(
+                        String.class,
+                        (out, value) -> out.writeString((String) value),
+                        ObjectDataInput::readString);
+            case BOOLEAN:
+                return new TypedFieldCodec(
+                        Boolean.class,
+                        (out, value) -> out.writeBoolean((Boolean) value),
+                        ObjectDataInput::readBoolean);
+            case TINYINT:
+                return new TypedFieldCodec(
+                        Byte.class,
+                        (out, value) -> out.writeByte((Byte) value),
+                        ObjectDataInput::readByte);
+            case SMALLINT:
+                return new TypedFieldCodec(
+                        Short.class,
+                        (out, value) -> out.writeShort((Short) value),
+                        ObjectDataInput::readShort);
+            case INT:
+                return new TypedFieldCodec(
+                        Integer.class,
+                        (out, value) -> out.writeInt((Integer) value),
+                        ObjectDataInput::readInt);
+            case BIGINT:
+                return new TypedFieldCodec(
+                        Long.class,
+                        (out, value) -> out.writeLong((Long) value),
+                        ObjectDataInput::readLong);
+            case FLOAT:
+                return new TypedFieldCodec(
+                        Float.class,
+                        (out, value) -> out.writeFloat((Float) value),
+                        ObjectDataInput::readFloat);
+            case DOUBLE:
+                return new TypedFieldCodec(
+                        Double.class,
+                        (out, value) -> out.writeDouble((Double) value),
+                        ObjectDataInput::readDouble);
+            case DECIMAL:
+                return new TypedFieldCodec(
+                        BigDecimal.class,
+                        SeaTunnelRowBinaryCodec::writeDecimal,
+                        SeaTunnelRowBinaryCodec::readDecimal);
+            case BYTES:
+                return new TypedFieldCodec(
+                        byte[].class,
+                        (out, value) -> out.writeByteArray((byte[]) value),
+                        ObjectDataInput::readByteArray);
+            case DATE:
+                return new TypedFieldCodec(
+                        LocalDate.class,
+                        (out, value) -> out.writeLong(((LocalDate) value).toEpochDay()),
+                        in -> LocalDate.ofEpochDay(in.readLong()));
+            case TIME:
+                return new TypedFieldCodec(
+                        LocalTime.class,
+                        (out, value) -> out.writeLong(((LocalTime) value).toNanoOfDay()),
+                        in -> LocalTime.ofNanoOfDay(in.readLong()));
+            case TIMESTAMP:
+                return new TypedFieldCodec(
+                        LocalDateTime.class,
+                        SeaTunnelRowBinaryCodec::writeTimestamp,
+                        SeaTunnelRowBinaryCodec::readTimestamp);
+            case ROW:
+                return new RowCodec((SeaTunnelRowType) type);
+            default:
+                return ObjectFieldCodec.INSTANCE;
+        }
+    }
+
+    private static void writeDecimal(ObjectDataOutput out, Object value) throws IOException {
+        BigDecimal decimal = (BigDecimal) value;
+        writeVarInt(out, decimal.scale());
+        out.writeByteArray(decimal.unscaledValue().toByteArray());
+    }
+
+    private static Object readDecimal(ObjectDataInput in) throws IOException {
+        int scale = readVarInt(in);
+        return new BigDecimal(new BigInteger(in.readByteArray()), scale);
+    }
+
+    private static void writeTimestamp(ObjectDataOutput out, Object value) throws IOException {
+        LocalDateTime dateTime = (LocalDateTime) value;
+        out.writeLong(dateTime.toLocalDate().toEpochDay());
+        out.writeLong(dateTime.toLocalTime().toNanoOfDay());
+    }
+
+    private static Object readTimestamp(ObjectDataInput in) throws IOException {
+        return LocalDateTime.of(
+                LocalDate.ofEpochDay(in.readLong()), LocalTime.ofNanoOfDay(in.readLong()));
+    }
+
+    private static void writeNullBitmap(ObjectDataOutput out, Object[] fields)
+            throws IOException {
+        byte[] nullBitmap = new byte[(fields.length + 7) >>> 3];
+        for (int i = 0; i < fields.length; i++) {
+            if (fields[i] == null) {
+                nullBitmap[i >>> 3] |= (byte) (1 << (i & 7));
+            }
+        }
+        out.write(nullBitmap);
+    }
+
+    private static byte[] readNullBitmap(ObjectDataInput in, int arity) throws IOException {
+        byte[] nullBitmap = new byte[(arity + 7) >>> 3];
+        in.readFully(nullBitmap);
+        return nullBitmap;
+    }
+
+    private static boolean isNull(byte[] nullBitmap, int index) {
+        return (nullBitmap[index >>> 3] & (1 << (index & 7))) != 0;
+    }
+
+    private static String internTableId(String tableId) {
+        String interned = TABLE_IDS.get(tableId);
+        if (interned != null) {
+            return interned;
+        }
+        if (TABLE_IDS.size() >= MAX_INTERNED_TABLE_IDS) {
+            return tableId;
+        }
+        interned = TABLE_IDS.putIfAbsent(tableId, tableId);
+        return interned == null ? tableId : interned;
+    }
+
+    private static void writeVarInt(ObjectDataOutput out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    private static int readVarInt(ObjectDataInput in) throws IOException {
+        int value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = in.readByte();
+            value |= (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return value;
+    }
+
+    /** Encodes the values of one declared type, the layout is fixed by the type. */
+    private interface FieldCodec {
+        /** Whether the value has the Java class the declared type is encoded from. */
+        boolean accepts(Object value);
+
+        void write(ObjectDataOutput out, Object value) throws IOException;
+
+        Object read(ObjectDataInput in) throws IOException;
+    }
+
+    @FunctionalInterface
+    private interface FieldWriter {
+        void write(ObjectDataOutput out, Object value) throws IOException;
+    }
+
+    @FunctionalInterface
+    private interface FieldReader {
+        Object read(ObjectDataInput in) throws IOException;
+    }
+
+    private static final class TypedFieldCodec implements FieldCodec {
+        private final Class<?> valueClass;
+        private final FieldWriter writer;
+        private final FieldReader reader;
+
+        private TypedFieldCodec(Class<?> valueClass, FieldWriter writer, FieldReader reader) {
+            this.valueClass = valueClass;
+            this.writer = writer;
+            this.reader = reader;
+        }
+
+        @Override
+        public boolean accepts(Object value) {
+            return value.getClass() == valueClass;
+        }
+
+        @Override
+        public void write(ObjectDataOutput out, Object value) throws IOException {
+            writer.write(out, value);
+        }
+
+        @Override
+        public Object read(ObjectDataInput in) throws IOException {
+            return reader.read(in);
+        }
+    }
+
+    /** Types without a binary encoding here keep the Hazelcast serialization of the value. */
+    private static final class ObjectFieldCodec implements FieldCodec {
+        private static final ObjectFieldCodec INSTANCE = new ObjectFieldCodec();
+
+        @Override
+        public boolean accepts(Object value) {
+            return true;
+        }
+
+        @Override
+        public void write(ObjectDataOutput out, Object value) throws IOException {
+            out.writeObject(value);
+        }
+
+        @Override
+        public Object read(ObjectDataInput in) throws IOException {
+            return in.readObject();
+        }
+    }
+
+    /**
+     * Fields of a row type, written as a null bitmap and the non-null fields. As a nested field it
+     * also writes the row kind, nested rows keep the default empty table id.
+     */
+    private static final class RowCodec implements FieldCodec {
+        private final FieldCodec[] fieldCodecs;
+
+        private RowCodec(SeaTunnelRowType rowType) {
+            SeaTunnelDataType<?>[] fieldTypes = rowType.getFieldTypes();
+            this.fieldCodecs = new FieldCodec[fieldTypes.length];
+            for (int i = 0; i < fieldTypes.length; i++) {
+                fieldCodecs[i] = fieldCodec(fieldTypes[i]);
+            }
+        }
+
+        private boolean accepts(SeaTunnelRow row) {
+            Object[] fields = row.getFields();
+            if (fields.length != fieldCodecs.length) {
+                return false;
+            }
+            for (int i = 0; i < fields.length; i++) {
+                if (fields[i] != null && !fieldCodecs[i].accepts(fields[i])) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private void writeFields(ObjectDataOutput out, Object[] fields) throws IOException {
+            writeNullBitmap(out, fields);
+            for (int i = 0; i < fields.length; i++) {
+                if (fields[i] != null) {
+                    fieldCodecs[i].write(out, fields[i]);
+                }
+            }
+        }
+
+        private SeaTunnelRow readFields(ObjectDataInput in) throws IOException {
+            byte[] nullBitmap = readNullBitmap(in, fieldCodecs.length);
+            SeaTunnelRow row = new SeaTunnelRow(fieldCodecs.length);
+            for (int i = 0; i < fieldCodecs.length; i++) {
+                if (!isNull(nullBitmap, i)) {
+                    row.setField(i, fieldCodecs[i].read(in));
+                }
+            }
+            return row;
+        }
+
+        @Override
+        public boolean accepts(Object value) {
+            return value instanceof SeaTunnelRow
+                    && "".equals(((SeaTunnelRow) value).getTableId())
+                    && accepts((SeaTunnelRow) value);
+        }
+
+        @Override
+        public void write(ObjectDataOutput out, Object value) throws IOException {
+            SeaTunnelRow row = (SeaTunnelRow) value;
+            out.writeByte(row.getRowKind().toByteValue());
+            writeFields(out, row.getFields());
+        }
+
+        @Override
+        public Object read(ObjectDataInput in) throws IOException {
+            RowKind rowKind = RowKind.fromByteValue(in.readByte());
+            SeaTunnelRow row = readFields(in);
+            row.setRowKind(rowKind);
+            return row;
+        }
+    }
+}
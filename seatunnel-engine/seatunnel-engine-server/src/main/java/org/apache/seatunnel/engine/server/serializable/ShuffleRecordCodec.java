@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.seatunnel.engine.server.serializable;
+
+import org.apache.seatunnel.api.table.type.Record;
+
+import com.hazelcast.internal.nio.BufferObjectDataInput;
+import com.hazelcast.internal.nio.BufferObjectDataOutput;
+import com.hazelcast.internal.serialization.InternalSerializationService;
+
+import java.io.IOException;
+
+/**
+ * Encodes the records of one shuffle edge to bytes with the row types both ends know from the
+ * plan. The shuffle queues carry the encoded bytes, so the row types are passed to the codec
+ * instead of being looked up by the serializer Hazelcast calls.
+ *
+ * <p>{@link #encode} reuses one output buffer and is called by the producer only, {@link #decode}
+ * may be called from any thread.
+ */
+public final class ShuffleRecordCodec {
+
+    private static final int INITIAL_BUFFER_SIZE = 1024;
+
+    private final InternalSerializationService serializationService;
+
+    private final RecordSerializer recordSerializer;
+
+    private final BufferObjectDataOutput output;
+
+    public ShuffleRecordCodec(
+            InternalSerializationService serializationService, TableIdDictionary tableIds) {
+        this.serializationService = serializationService;
+        this.recordSerializer = new RecordSerializer(new SeaTunnelRowBinaryCodec(tableIds));
+        this.output = serializationService.createObjectDataOutput(INITIAL_BUFFER_SIZE);
+    }
+
+    public byte[] encode(Record<?> record) throws IOException {
+        output.clear();
+        recordSerializer.write(output, record);
+        return output.toByteArray();
+    }
+
+    public Record<?> decode(byte[] bytes) throws IOException {
+        try (BufferObjectDataInput input = serializationService.createObjectDataInput(bytes)) {
+            return recordSerializer.read(input);
+        }
+    }
+}
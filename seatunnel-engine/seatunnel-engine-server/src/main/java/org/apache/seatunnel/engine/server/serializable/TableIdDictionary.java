@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.seatunnel.engine.server.serializable;
+
+import org.apache.seatunnel.api.table.catalog.CatalogTable;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Table ids and row types known at plan time by both ends of a shuffle edge. {@link
+ * SeaTunnelRowBinaryCodec} writes the index of the table id instead of the string and encodes the
+ * fields by the row type of that index.
+ */
+public final class TableIdDictionary {
+
+    public static final TableIdDictionary EMPTY =
+            new TableIdDictionary(Collections.emptyList(), Collections.emptyList());
+
+    private final String[] tableIds;
+
+    private final SeaTunnelRowType[] rowTypes;
+
+    private final Map<String, Integer> indexes;
+
+    /** {@code rowTypes} holds the row type of the table id with the same index. */
+    public TableIdDictionary(List<String> tableIds, List<SeaTunnelRowType> rowTypes) {
+        if (tableIds.size() != rowTypes.size()) {
+            throw new IllegalArgumentException(
+                    String.format(
+                            "Got %s table ids but %s row types", tableIds.size(), rowTypes.size()));
+        }
+        this.tableIds = tableIds.toArray(new String[0]);
+        this.rowTypes = rowTypes.toArray(new SeaTunnelRowType[0]);
+        this.indexes = new HashMap<>(tableIds.size() * 2);
+        for (int i = 0; i < this.tableIds.length; i++) {
+            indexes.putIfAbsent(this.tableIds[i], i);
+        }
+    }
+
+    public static TableIdDictionary of(List<CatalogTable> catalogTables) {
+        if (catalogTables == null || catalogTables.isEmpty()) {
+            return EMPTY;
+        }
+        List<String> tableIds = new ArrayList<>(catalogTables.size());
+        List<SeaTunnelRowType> rowTypes = new ArrayList<>(catalogTables.size());
+        for (CatalogTable catalogTable : catalogTables) {
+            tableIds.add(catalogTable.getTableId().toTablePath().toString());
+            rowTypes.add(catalogTable.getSeaTunnelRowType());
+        }
+        return new TableIdDictionary(tableIds, rowTypes);
+    }
+
+    /** Returns -1 if the table id isn't part of the dictionary. */
+    int indexOf(String tableId) {
+        Integer index = indexes.get(tableId);
+        return index == null ? -1 : index;
+    }
+
+    int size() {
+        return tableIds.length;
+    }
+
+    String getTableId(int index) {
+        return tableIds[index];
+    }
+
+    SeaTunnelRowType getRowType(int index) {
+        return rowTypes[index];
+    }
+}
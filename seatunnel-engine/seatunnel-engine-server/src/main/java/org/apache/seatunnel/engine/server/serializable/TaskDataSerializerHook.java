@@ -32,6 +32,7 @@ import org.apache.seatunnel.engine.server.task.operation.GetTaskGroupAddressOper
 import org.apache.seatunnel.engine.server.task.operation.GetTaskGroupMetricsOperation;
 import org.apache.seatunnel.engine.server.task.operation.NotifyTaskStatusOperation;
 import org.apache.seatunnel.engine.server.task.operation.SendConnectorJarToMemberNodeOperation;
+import org.apache.seatunnel.engine.server.task.operation.ShuffleFrameOperation;
 import org.apache.seatunnel.engine.server.task.operation.checkpoint.BarrierFlowOperation;
 import org.apache.seatunnel.engine.server.task.operation.checkpoint.CloseRequestOperation;
 import org.apache.seatunnel.engine.server.task.operation.sink.SinkPrepareCommitOperation;
@@ -104,6 +105,8 @@ public class TaskDataSerializerHook implements DataSerializerHook {
 
     public static final int CLOSE_READER_OPERATION = 26;
 
+    public static final int SHUFFLE_FRAME_OPERATION = 27;
+
     public static final int FACTORY_ID =
             FactoryIdHelper.getFactoryId(
                     SeaTunnelFactoryIdConstant.SEATUNNEL_TASK_DATA_SERIALIZER_FACTORY,
@@ -176,6 +179,8 @@ public class TaskDataSerializerHook implements DataSerializerHook {
                     return new JobEventReportOperation();
                 case CLOSE_READER_OPERATION:
                     return new CloseIdleReaderOperation();
+                case SHUFFLE_FRAME_OPERATION:
+                    return new ShuffleFrameOperation();
                 default:
                     throw new IllegalArgumentException("Unknown type id " + typeId);
             }
@@ -21,17 +21,13 @@ import org.apache.seatunnel.api.common.metrics.MetricsContext;
 import org.apache.seatunnel.api.source.Collector;
 import org.apache.seatunnel.api.table.catalog.TablePath;
 import org.apache.seatunnel.api.table.event.SchemaChangeEvent;
-import org.apache.seatunnel.api.table.event.handler.DataTypeChangeEventDispatcher;
-import org.apache.seatunnel.api.table.event.handler.DataTypeChangeEventHandler;
-import org.apache.seatunnel.api.table.type.MultipleRowType;
 import org.apache.seatunnel.api.table.type.Record;
 import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
-import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
 import org.apache.seatunnel.common.constants.PluginType;
 import org.apache.seatunnel.core.starter.flowcontrol.FlowControlGate;
 import org.apache.seatunnel.core.starter.flowcontrol.FlowControlStrategy;
-import org.apache.seatunnel.engine.common.exception.SeaTunnelEngineException;
+import org.apache.seatunnel.engine.server.metrics.SeaTunnelRowBytesSampler;
 import org.apache.seatunnel.engine.server.metrics.TaskMetricsCalcContext;
 import org.apache.seatunnel.engine.server.task.flow.OneInputFlowLifeCycle;
 
@@ -40,9 +36,8 @@ import org.apache.commons.collections4.CollectionUtils;
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
-import java.util.HashMap;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 @Slf4j
@@ -61,10 +56,7 @@ public class SeaTunnelSourceCollector<T> implements Collector<T> {
     private final AtomicBoolean schemaChangeAfterCheckpointSignal = new AtomicBoolean(false);
 
     private volatile boolean emptyThisPollNext;
-    private final DataTypeChangeEventHandler dataTypeChangeEventHandler =
-            new DataTypeChangeEventDispatcher();
-    private Map<String, SeaTunnelRowType> rowTypeMap = new HashMap<>();
-    private SeaTunnelDataType rowType;
+    private final SeaTunnelRowBytesSampler bytesSampler;
     private FlowControlGate flowControlGate;
 
     public SeaTunnelSourceCollector(
@@ -73,16 +65,12 @@ public class SeaTunnelSourceCollector<T> implements Collector<T> {
             MetricsContext metricsContext,
             FlowControlStrategy flowControlStrategy,
             SeaTunnelDataType rowType,
-            List<TablePath> tablePaths) {
+            List<TablePath> tablePaths,
+            int bytesSampleInterval) {
         this.checkpointLock = checkpointLock;
         this.outputs = outputs;
-        this.rowType = rowType;
         this.metricsContext = metricsContext;
-        if (rowType instanceof MultipleRowType) {
-            ((MultipleRowType) rowType)
-                    .iterator()
-                    .forEachRemaining(type -> this.rowTypeMap.put(type.getKey(), type.getValue()));
-        }
+        this.bytesSampler = new SeaTunnelRowBytesSampler(rowType, bytesSampleInterval);
         this.taskMetricsCalcContext =
                 new TaskMetricsCalcContext(
                         metricsContext,
@@ -96,18 +84,9 @@ public class SeaTunnelSourceCollector<T> implements Collector<T> {
     public void collect(T row) {
         try {
             if (row instanceof SeaTunnelRow) {
-                String tableId = ((SeaTunnelRow) row).getTableId();
-                int size;
-                if (rowType instanceof SeaTunnelRowType) {
-                    size = ((SeaTunnelRow) row).getBytesSize((SeaTunnelRowType) rowType);
-                } else if (rowType instanceof MultipleRowType) {
-                    size = ((SeaTunnelRow) row).getBytesSize(rowTypeMap.get(tableId));
-                } else {
-                    throw new SeaTunnelEngineException(
-                            "Unsupported row type: " + rowType.getClass().getName());
-                }
-                flowControlGate.audit((SeaTunnelRow) row);
-                taskMetricsCalcContext.updateMetrics(row);
+                int bytesSize = bytesSampler.sample((SeaTunnelRow) row);
+                flowControlGate.audit(1, bytesSize);
+                taskMetricsCalcContext.updateMetrics(row, bytesSize);
             }
             sendRecordToNext(new Record<>(row));
             emptyThisPollNext = false;
@@ -117,19 +96,37 @@ public class SeaTunnelSourceCollector<T> implements Collector<T> {
     }
 
     @Override
-    public void collect(SchemaChangeEvent event) {
+    public void collectBatch(List<T> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
         try {
-            if (rowType instanceof SeaTunnelRowType) {
-                rowType = dataTypeChangeEventHandler.reset((SeaTunnelRowType) rowType).apply(event);
-            } else if (rowType instanceof MultipleRowType) {
-                String tableId = event.tablePath().toString();
-                rowTypeMap.put(
-                        tableId,
-                        dataTypeChangeEventHandler.reset(rowTypeMap.get(tableId)).apply(event));
-            } else {
-                throw new SeaTunnelEngineException(
-                        "Unsupported row type: " + rowType.getClass().getName());
+            List<Record<?>> records = new ArrayList<>(rows.size());
+            int[] bytesSizes = new int[rows.size()];
+            int rowCount = 0;
+            long bytes = 0;
+            for (int i = 0; i < rows.size(); i++) {
+                T row = rows.get(i);
+                if (row instanceof SeaTunnelRow) {
+                    bytesSizes[i] = bytesSampler.sample((SeaTunnelRow) row);
+                    rowCount++;
+                    bytes += bytesSizes[i];
+                }
+                records.add(new Record<>(row));
             }
+            flowControlGate.audit(rowCount, bytes);
+            taskMetricsCalcContext.updateMetrics(rows, bytesSizes);
+            sendRecordsToNext(records);
+            emptyThisPollNext = false;
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public void collect(SchemaChangeEvent event) {
+        try {
+            bytesSampler.applySchemaChange(event);
             sendRecordToNext(new Record<>(event));
         } catch (IOException e) {
             throw new RuntimeException(e);
@@ -196,4 +193,13 @@ public class SeaTunnelSourceCollector<T> implements Collector<T> {
             }
         }
     }
+
+    /** Send the records downstream, holding the checkpoint lock once for the whole batch. */
+    public void sendRecordsToNext(List<Record<?>> records) throws IOException {
+        synchronized (checkpointLock) {
+            for (OneInputFlowLifeCycle<Record<?>> output : outputs) {
+                output.receivedBatch(records);
+            }
+        }
+    }
 }
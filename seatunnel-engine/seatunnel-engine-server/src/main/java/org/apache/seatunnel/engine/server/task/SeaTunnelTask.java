@@ -228,6 +228,7 @@ public abstract class SeaTunnelTask extends AbstractTask {
                                 this,
                                 ((SinkConfig) f.getConfig()).getCommitterTask(),
                                 ((SinkConfig) f.getConfig()).isContainCommitter(),
+                                ((SinkConfig) f.getConfig()).getBytesSampleInterval(),
                                 completableFuture,
                                 this.getMetricsContext());
             } else if (f.getAction() instanceof TransformChainAction) {
@@ -247,6 +248,7 @@ public abstract class SeaTunnelTask extends AbstractTask {
                                     indexID,
                                     shuffleAction,
                                     hazelcastInstance,
+                                    getExecutionContext().getSerializationService(),
                                     completableFuture);
                 } else {
                     lifeCycle =
@@ -255,6 +257,7 @@ public abstract class SeaTunnelTask extends AbstractTask {
                                     indexID,
                                     shuffleAction,
                                     hazelcastInstance,
+                                    getExecutionContext().getSerializationService(),
                                     completableFuture);
                 }
                 outputs = flowLifeCycles;
@@ -23,6 +23,7 @@ import org.apache.seatunnel.engine.server.task.SeaTunnelTask;
 import org.apache.seatunnel.engine.server.task.group.queue.AbstractIntermediateQueue;
 
 import java.io.IOException;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
 public class IntermediateQueueFlowLifeCycle<T extends AbstractIntermediateQueue<?>>
@@ -46,6 +47,11 @@ public class IntermediateQueueFlowLifeCycle<T extends AbstractIntermediateQueue<
         queue.received(record);
     }
 
+    @Override
+    public void receivedBatch(List<Record<?>> records) {
+        queue.receivedBatch(records);
+    }
+
     @Override
     public void collect(Collector<Record<?>> collector) throws Exception {
         queue.collect(collector);
@@ -0,0 +1,167 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.task.flow;
+
+import org.apache.seatunnel.api.table.type.Record;
+import org.apache.seatunnel.engine.server.serializable.ShuffleRecordCodec;
+
+import com.hazelcast.collection.IQueue;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In-memory shuffle channel of a consumer, fed directly by its producer instead of the Hazelcast
+ * {@link IQueue}.
+ *
+ * <p>The consumer registers one channel per shuffle queue name when it starts. A producer on the
+ * same member switches from the {@link IQueue} to the registered channel as soon as it sees it,
+ * and never switches back. Records then move by reference, without serialization, partition
+ * storage or backups, and the bounded queue applies back pressure to the producer. A producer on
+ * another member switches to a {@link RemoteShuffleChannel} instead, which sends frames of encoded
+ * records that {@link #offerFrame} adds to this channel.
+ *
+ * <p>Because the producer stops writing to the {@link IQueue} before it writes the first record
+ * to the channel, a non-empty channel proves the {@link IQueue} won't grow anymore. The consumer
+ * drains the {@link IQueue} completely before reading the channel, so per-channel order, and with
+ * it barrier alignment, is preserved.
+ *
+ * <p>When the consumer closes, it unregisters its channels. A closed channel rejects further
+ * records, so a producer that cached it drops it instead of blocking on a queue nobody reads.
+ */
+public class LocalShuffleChannel {
+    private static final ConcurrentMap<String, LocalShuffleChannel> CHANNELS =
+            new ConcurrentHashMap<>();
+
+    private static final long CLOSED_CHECK_INTERVAL_MS = 100;
+
+    private final String name;
+    private final BlockingQueue<Record<?>> queue;
+    private final ShuffleRecordCodec codec;
+    /** The class loader of the consumer, frames are decoded on an operation thread. */
+    private final ClassLoader classLoader;
+    private volatile boolean closed;
+
+    private LocalShuffleChannel(String name, int capacity, ShuffleRecordCodec codec) {
+        this.name = name;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.codec = codec;
+        this.classLoader = Thread.currentThread().getContextClassLoader();
+    }
+
+    /** Registers a consumer channel, {@code codec} decodes the frames of remote producers. */
+    public static LocalShuffleChannel register(
+            String name, int capacity, ShuffleRecordCodec codec) {
+        LocalShuffleChannel channel = new LocalShuffleChannel(name, capacity, codec);
+        CHANNELS.put(name, channel);
+        return channel;
+    }
+
+    public static LocalShuffleChannel lookup(String name) {
+        return CHANNELS.get(name);
+    }
+
+    public static void unregister(LocalShuffleChannel channel) {
+        channel.closed = true;
+        CHANNELS.remove(channel.name, channel);
+        channel.queue.clear();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Waits for free space and adds the record.
+     *
+     * @return false if the channel was unregistered, the record isn't added then
+     */
+    public boolean put(Record<?> record) throws InterruptedException {
+        while (!closed) {
+            if (queue.offer(record, CLOSED_CHECK_INTERVAL_MS, TimeUnit.MILLISECONDS)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Moves the records to the channel in order, each record is removed from {@code records} once
+     * it is added.
+     *
+     * @return false if the channel was unregistered, the remaining records stay in {@code records}
+     */
+    public boolean putAll(Queue<Record<?>> records) throws InterruptedException {
+        for (Record<?> record = records.peek(); record != null; record = records.peek()) {
+            if (!put(record)) {
+                return false;
+            }
+            records.poll();
+        }
+        return true;
+    }
+
+    /**
+     * Adds the records of a frame sent by a {@link RemoteShuffleChannel}. The producer never sends
+     * more records than the free space the previous frame reported, so the records always fit.
+     *
+     * @return the free space left, or {@link RemoteShuffleChannel#CLOSED} if the channel was
+     *     unregistered
+     */
+    public int offerFrame(List<byte[]> records) throws IOException {
+        ClassLoader oldClassLoader = Thread.currentThread().getContextClassLoader();
+        Thread.currentThread().setContextClassLoader(classLoader);
+        try {
+            for (byte[] record : records) {
+                if (closed) {
+                    return RemoteShuffleChannel.CLOSED;
+                }
+                if (!queue.offer(codec.decode(record))) {
+                    throw new IllegalStateException(
+                            "Shuffle channel " + name + " got more records than it has space for");
+                }
+            }
+        } finally {
+            Thread.currentThread().setContextClassLoader(oldClassLoader);
+        }
+        return closed ? RemoteShuffleChannel.CLOSED : queue.remainingCapacity();
+    }
+
+    public boolean isEmpty() {
+        return queue.isEmpty();
+    }
+
+    public Record<?> take() throws InterruptedException {
+        return queue.take();
+    }
+
+    public int drainTo(Collection<Record<?>> records, int maxElements) {
+        return queue.drainTo(records, maxElements);
+    }
+}
@@ -18,6 +18,7 @@
 package org.apache.seatunnel.engine.server.task.flow;
 
 import java.io.IOException;
+import java.util.List;
 
 /**
  * A processing component that gets one piece of data at one time from other components inside the
@@ -29,4 +30,11 @@ import java.io.IOException;
 public interface OneInputFlowLifeCycle<T> extends FlowLifeCycle {
 
     void received(T record) throws IOException;
+
+    /** Receive several records in order, the caller holds the checkpoint lock for all of them. */
+    default void receivedBatch(List<T> records) throws IOException {
+        for (T record : records) {
+            received(record);
+        }
+    }
 }
@@ -0,0 +1,155 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.seatunnel.engine.server.task.flow;
+
+import com.hazelcast.cluster.Address;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Producer end of a shuffle channel whose consumer runs on another member.
+ *
+ * <p>Encoded records are sent point-to-point in frames over the member connection, see {@link
+ * org.apache.seatunnel.engine.server.task.operation.ShuffleFrameOperation}, and added to the
+ * {@link LocalShuffleChannel} of the consumer, so they don't touch partition storage or backups.
+ * Flow control is credit based: the answer to each frame grants the free space left in the
+ * consumer channel, and the next frame never carries more records than that. While the consumer
+ * has no space left, empty frames ask for new credits.
+ *
+ * <p>Only one frame is in flight, which keeps the records in order, and the producer encodes the
+ * next batch while it waits for the answer. Like a closed {@link LocalShuffleChannel}, a channel
+ * whose consumer is gone rejects records and the producer falls back to the queue.
+ */
+@Slf4j
+public class RemoteShuffleChannel {
+
+    /** The answer to a frame whose consumer channel isn't registered anymore. */
+    public static final int CLOSED = -1;
+
+    private static final long CREDIT_REQUEST_INTERVAL_MS = 10;
+
+    private final String name;
+    private final Address address;
+    private final FrameSender sender;
+
+    /** Records the consumer has space for, known from the answer to the previous frame. */
+    private int credits;
+
+    private CompletableFuture<Integer> inFlight;
+    private boolean closed;
+
+    public RemoteShuffleChannel(String name, Address address, FrameSender sender) {
+        this.name = name;
+        this.address = address;
+        this.sender = sender;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Address getAddress() {
+        return address;
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Sends the records in order, each record is removed from {@code records} once it is sent.
+     *
+     * @return false if the consumer is gone, the remaining records stay in {@code records}
+     */
+    public boolean putAll(Queue<byte[]> records) throws InterruptedException {
+        while (!records.isEmpty()) {
+            if (!awaitCredits()) {
+                return false;
+            }
+            int frameSize = Math.min(credits, records.size());
+            List<byte[]> frame = new ArrayList<>(frameSize);
+            for (int i = 0; i < frameSize; i++) {
+                frame.add(records.poll());
+            }
+            send(frame);
+        }
+        return true;
+    }
+
+    /** Waits for the answer to the frame in flight, the records in it are then in the consumer. */
+    public void flush() throws InterruptedException {
+        if (inFlight != null) {
+            receiveCredits();
+        }
+    }
+
+    private boolean awaitCredits() throws InterruptedException {
+        while (!closed) {
+            if (inFlight == null) {
+                if (credits > 0) {
+                    return true;
+                }
+                send(Collections.emptyList());
+            }
+            receiveCredits();
+            if (!closed && credits == 0) {
+                Thread.sleep(CREDIT_REQUEST_INTERVAL_MS);
+            }
+        }
+        return false;
+    }
+
+    private void send(List<byte[]> frame) {
+        credits -= frame.size();
+        inFlight = sender.send(name, frame);
+    }
+
+    private void receiveCredits() throws InterruptedException {
+        int granted;
+        try {
+            granted = inFlight.get();
+        } catch (ExecutionException e) {
+            log.warn(
+                    "sending a frame of shuffle queue {} to member {} failed",
+                    name,
+                    address,
+                    e.getCause());
+            granted = CLOSED;
+        } finally {
+            inFlight = null;
+        }
+        if (granted == CLOSED) {
+            closed = true;
+        } else {
+            credits = granted;
+        }
+    }
+
+    /** Sends a frame to the member of the consumer and completes with the granted credits. */
+    @FunctionalInterface
+    public interface FrameSender {
+        CompletableFuture<Integer> send(String queueName, List<byte[]> records);
+    }
+}
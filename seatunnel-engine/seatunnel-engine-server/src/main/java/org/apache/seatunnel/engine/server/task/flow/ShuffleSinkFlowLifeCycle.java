@@ -19,17 +19,25 @@ package org.apache.seatunnel.engine.server.task.flow;
 
 import org.apache.seatunnel.api.table.event.SchemaChangeEvent;
 import org.apache.seatunnel.api.table.type.Record;
+import org.apache.seatunnel.engine.common.Constant;
 import org.apache.seatunnel.engine.core.dag.actions.ShuffleAction;
 import org.apache.seatunnel.engine.core.dag.actions.ShuffleStrategy;
 import org.apache.seatunnel.engine.server.checkpoint.ActionStateKey;
+import org.apache.seatunnel.engine.server.serializable.ShuffleRecordCodec;
+import org.apache.seatunnel.engine.server.serializable.TableIdDictionary;
 import org.apache.seatunnel.engine.server.task.SeaTunnelTask;
+import org.apache.seatunnel.engine.server.task.operation.ShuffleFrameOperation;
 import org.apache.seatunnel.engine.server.task.record.Barrier;
 
+import com.hazelcast.cluster.Address;
 import com.hazelcast.collection.IQueue;
 import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.map.IMap;
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
+import java.util.ArrayDeque;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedList;
@@ -41,14 +49,23 @@ import java.util.concurrent.CompletableFuture;
 @Slf4j
 public class ShuffleSinkFlowLifeCycle extends AbstractFlowLifeCycle
         implements OneInputFlowLifeCycle<Record<?>> {
+    private static final long REMOTE_SHUFFLE_LOOKUP_INTERVAL_MS = 1000;
+
     private final int pipelineId;
     private final int taskIndex;
     private final ShuffleAction shuffleAction;
-    private final Map<String, IQueue<Record<?>>> shuffles;
+    private final Map<String, IQueue<byte[]>> shuffles;
+    private final Map<String, LocalShuffleChannel> localShuffles;
+    private final Map<String, RemoteShuffleChannel> remoteShuffles;
+    /** When to look up the member of a consumer again, by queue name. */
+    private final Map<String, Long> remoteShuffleLookups;
+    private final IMap<String, Address> shuffleChannelAddresses;
+    private final Address localAddress;
     private final int shuffleBatchSize;
     private final long shuffleBatchFlushInterval;
     private final Map<String, Queue<Record<?>>> shuffleBuffer;
     private final ShuffleStrategy shuffleStrategy;
+    private final ShuffleRecordCodec shuffleCodec;
     private int shuffleBufferSize;
     private long lastModify;
 
@@ -57,6 +74,7 @@ public class ShuffleSinkFlowLifeCycle extends AbstractFlowLifeCycle
             int taskIndex,
             ShuffleAction shuffleAction,
             HazelcastInstance hazelcastInstance,
+            InternalSerializationService serializationService,
             CompletableFuture<Void> completableFuture) {
         super(runningTask, completableFuture);
         this.pipelineId = runningTask.getTaskLocation().getTaskGroupLocation().getPipelineId();
@@ -67,6 +85,15 @@ public class ShuffleSinkFlowLifeCycle extends AbstractFlowLifeCycle
         this.shuffleBatchSize = shuffleAction.getConfig().getBatchSize();
         this.shuffleBatchFlushInterval = shuffleAction.getConfig().getBatchFlushInterval();
         this.shuffleBuffer = new HashMap<>();
+        this.localShuffles = new HashMap<>();
+        this.remoteShuffles = new HashMap<>();
+        this.remoteShuffleLookups = new HashMap<>();
+        this.shuffleChannelAddresses = hazelcastInstance.getMap(Constant.IMAP_SHUFFLE_CHANNELS);
+        this.localAddress = hazelcastInstance.getCluster().getLocalMember().getAddress();
+        this.shuffleCodec =
+                new ShuffleRecordCodec(
+                        serializationService,
+                        TableIdDictionary.of(shuffleStrategy.getCatalogTables()));
     }
 
     @Override
@@ -88,10 +115,17 @@ public class ShuffleSinkFlowLifeCycle extends AbstractFlowLifeCycle
             runningTask.ack(barrier);
 
             // The barrier needs to be replicated to all channels
-            for (Map.Entry<String, IQueue<Record<?>>> shuffle : shuffles.entrySet()) {
-                IQueue<Record<?>> shuffleQueue = shuffle.getValue();
+            byte[] encodedBarrier = null;
+            for (Map.Entry<String, IQueue<byte[]>> shuffle : shuffles.entrySet()) {
                 try {
-                    shuffleQueue.put(record);
+                    if (!putLocalShuffle(shuffle.getKey(), record)) {
+                        if (encodedBarrier == null) {
+                            encodedBarrier = shuffleCodec.encode(record);
+                        }
+                        if (!putRemoteShuffle(shuffle.getKey(), encodedBarrier)) {
+                            shuffle.getValue().put(encodedBarrier);
+                        }
+                    }
                 } catch (InterruptedException e) {
                     throw new RuntimeException(e);
                 }
@@ -120,7 +154,14 @@ public class ShuffleSinkFlowLifeCycle extends AbstractFlowLifeCycle
     @Override
     public void close() throws IOException {
         super.close();
-        for (Map.Entry<String, IQueue<Record<?>>> shuffleItem : shuffles.entrySet()) {
+        for (RemoteShuffleChannel remoteShuffle : remoteShuffles.values()) {
+            try {
+                remoteShuffle.flush();
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+        }
+        for (Map.Entry<String, IQueue<byte[]>> shuffleItem : shuffles.entrySet()) {
             log.info("destroy shuffle queue: {}", shuffleItem.getKey());
             shuffleItem.getValue().destroy();
         }
@@ -140,15 +181,29 @@ public class ShuffleSinkFlowLifeCycle extends AbstractFlowLifeCycle
 
     private synchronized void shuffleFlush() {
         for (Map.Entry<String, Queue<Record<?>>> shuffleBatch : shuffleBuffer.entrySet()) {
-            IQueue<Record<?>> shuffleQueue = shuffles.get(shuffleBatch.getKey());
             Queue<Record<?>> shuffleQueueBatch = shuffleBatch.getValue();
-            if (shuffleQueue.remainingCapacity() <= 0
-                    || !shuffleQueue.addAll(shuffleBatch.getValue())) {
-                for (; ; ) {
-                    Record<?> shuffleItem = shuffleQueueBatch.poll();
-                    if (shuffleItem == null) {
-                        break;
-                    }
+            try {
+                if (putAllLocalShuffle(shuffleBatch.getKey(), shuffleQueueBatch)) {
+                    continue;
+                }
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+            Queue<byte[]> encodedBatch = new ArrayDeque<>(shuffleQueueBatch.size());
+            for (Record<?> shuffleItem : shuffleQueueBatch) {
+                encodedBatch.add(encode(shuffleItem));
+            }
+            shuffleQueueBatch.clear();
+            try {
+                if (putAllRemoteShuffle(shuffleBatch.getKey(), encodedBatch)) {
+                    continue;
+                }
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+            IQueue<byte[]> shuffleQueue = shuffles.get(shuffleBatch.getKey());
+            if (shuffleQueue.remainingCapacity() <= 0 || !shuffleQueue.addAll(encodedBatch)) {
+                for (byte[] shuffleItem : encodedBatch) {
                     try {
                         shuffleQueue.put(shuffleItem);
                     } catch (InterruptedException e) {
@@ -156,9 +211,126 @@ public class ShuffleSinkFlowLifeCycle extends AbstractFlowLifeCycle
                     }
                 }
             }
-            shuffleQueueBatch.clear();
         }
         shuffleBufferSize = 0;
         lastModify = System.currentTimeMillis();
     }
+
+    private byte[] encode(Record<?> record) {
+        try {
+            return shuffleCodec.encode(record);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Returns the in-memory channel of the consumer if it runs on this member. Once found, the
+     * queue is only written through the local channel until the consumer closes it, see {@link
+     * LocalShuffleChannel}.
+     */
+    private synchronized LocalShuffleChannel getLocalShuffle(String queueName) {
+        LocalShuffleChannel localShuffle = localShuffles.get(queueName);
+        if (localShuffle != null && localShuffle.isClosed()) {
+            dropLocalShuffle(queueName, localShuffle);
+            localShuffle = null;
+        }
+        if (localShuffle == null) {
+            localShuffle = LocalShuffleChannel.lookup(queueName);
+            if (localShuffle != null) {
+                log.info("shuffle queue {} switched to local channel", queueName);
+                localShuffles.put(queueName, localShuffle);
+            }
+        }
+        return localShuffle;
+    }
+
+    /** Returns false if the record has to go to the {@link IQueue}. */
+    private boolean putLocalShuffle(String queueName, Record<?> record)
+            throws InterruptedException {
+        LocalShuffleChannel localShuffle = getLocalShuffle(queueName);
+        if (localShuffle == null) {
+            return false;
+        }
+        if (localShuffle.put(record)) {
+            return true;
+        }
+        dropLocalShuffle(queueName, localShuffle);
+        return false;
+    }
+
+    /** Returns false if the records left in the batch have to go to the {@link IQueue}. */
+    private boolean putAllLocalShuffle(String queueName, Queue<Record<?>> records)
+            throws InterruptedException {
+        LocalShuffleChannel localShuffle = getLocalShuffle(queueName);
+        if (localShuffle == null) {
+            return false;
+        }
+        if (localShuffle.putAll(records)) {
+            return true;
+        }
+        dropLocalShuffle(queueName, localShuffle);
+        return false;
+    }
+
+    /** The consumer unregistered the channel, the next lookup may find its replacement. */
+    private synchronized void dropLocalShuffle(String queueName, LocalShuffleChannel localShuffle) {
+        if (localShuffles.remove(queueName, localShuffle)) {
+            log.info("local channel of shuffle queue {} was closed by the consumer", queueName);
+        }
+    }
+
+    /**
+     * Returns the channel to the consumer on another member, once the consumer registered it. The
+     * member is looked up at most once per {@link #REMOTE_SHUFFLE_LOOKUP_INTERVAL_MS} and queue.
+     */
+    private synchronized RemoteShuffleChannel getRemoteShuffle(String queueName) {
+        RemoteShuffleChannel remoteShuffle = remoteShuffles.get(queueName);
+        if (remoteShuffle != null) {
+            if (!remoteShuffle.isClosed()) {
+                return remoteShuffle;
+            }
+            log.info(
+                    "channel of shuffle queue {} on member {} was closed by the consumer",
+                    queueName,
+                    remoteShuffle.getAddress());
+            remoteShuffles.remove(queueName);
+        }
+        long now = System.currentTimeMillis();
+        Long nextLookup = remoteShuffleLookups.get(queueName);
+        if (nextLookup != null && now < nextLookup) {
+            return null;
+        }
+        remoteShuffleLookups.put(queueName, now + REMOTE_SHUFFLE_LOOKUP_INTERVAL_MS);
+        Address address = shuffleChannelAddresses.get(queueName);
+        if (address == null || address.equals(localAddress)) {
+            return null;
+        }
+        remoteShuffle =
+                new RemoteShuffleChannel(
+                        queueName,
+                        address,
+                        (name, records) ->
+                                runningTask
+                                        .getExecutionContext()
+                                        .sendToMember(
+                                                new ShuffleFrameOperation(name, records), address));
+        log.info("shuffle queue {} switched to the channel on member {}", queueName, address);
+        remoteShuffles.put(queueName, remoteShuffle);
+        return remoteShuffle;
+    }
+
+    /** Returns false if the record has to go to the {@link IQueue}. */
+    private boolean putRemoteShuffle(String queueName, byte[] record) throws InterruptedException {
+        Queue<byte[]> records = new ArrayDeque<>(1);
+        records.add(record);
+        return putAllRemoteShuffle(queueName, records);
+    }
+
+    /** Returns false if the records left in the batch have to go to the {@link IQueue}. */
+    private boolean putAllRemoteShuffle(String queueName, Queue<byte[]> records)
+            throws InterruptedException {
+        RemoteShuffleChannel remoteShuffle = getRemoteShuffle(queueName);
+        return remoteShuffle != null && remoteShuffle.putAll(records);
+    }
 }
@@ -19,16 +19,23 @@ package org.apache.seatunnel.engine.server.task.flow;
 
 import org.apache.seatunnel.api.table.type.Record;
 import org.apache.seatunnel.api.transform.Collector;
+import org.apache.seatunnel.engine.common.Constant;
 import org.apache.seatunnel.engine.core.dag.actions.ShuffleAction;
 import org.apache.seatunnel.engine.server.checkpoint.ActionStateKey;
+import org.apache.seatunnel.engine.server.serializable.ShuffleRecordCodec;
+import org.apache.seatunnel.engine.server.serializable.TableIdDictionary;
 import org.apache.seatunnel.engine.server.task.SeaTunnelTask;
 import org.apache.seatunnel.engine.server.task.record.Barrier;
 
+import com.hazelcast.cluster.Address;
 import com.hazelcast.collection.IQueue;
 import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.map.IMap;
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedList;
@@ -42,7 +49,13 @@ public class ShuffleSourceFlowLifeCycle<T> extends AbstractFlowLifeCycle
         implements OneOutputFlowLifeCycle<Record<?>> {
     private final ShuffleAction shuffleAction;
     private final int shuffleBatchSize;
-    private final IQueue<Record<?>>[] shuffles;
+    private final IQueue<byte[]>[] shuffles;
+    private final LocalShuffleChannel[] localShuffles;
+    private final IMap<String, Address> shuffleChannelAddresses;
+    private final Address localAddress;
+    private final boolean[] remoteDrained;
+    private final ShuffleRecordCodec shuffleCodec;
+    private final List<byte[]> encodedBatch = new ArrayList<>();
     private Map<Integer, List<Record<?>>> unsentBufferMap = new HashMap<>();
     private final Map<Integer, Barrier> alignedBarriers = new HashMap<>();
     private long currentCheckpointId = Long.MAX_VALUE;
@@ -53,6 +66,7 @@ public class ShuffleSourceFlowLifeCycle<T> extends AbstractFlowLifeCycle
             int taskIndex,
             ShuffleAction shuffleAction,
             HazelcastInstance hazelcastInstance,
+            InternalSerializationService serializationService,
             CompletableFuture<Void> completableFuture) {
         super(runningTask, completableFuture);
         int pipelineId = runningTask.getTaskLocation().getPipelineId();
@@ -63,6 +77,23 @@ public class ShuffleSourceFlowLifeCycle<T> extends AbstractFlowLifeCycle
                         .getShuffleStrategy()
                         .getShuffles(hazelcastInstance, pipelineId, taskIndex);
         this.shuffleBatchSize = shuffleAction.getConfig().getBatchSize();
+        int queueMaxSize = shuffleAction.getConfig().getShuffleStrategy().getQueueMaxSize();
+        this.localShuffles = new LocalShuffleChannel[shuffles.length];
+        this.remoteDrained = new boolean[shuffles.length];
+        this.shuffleCodec =
+                new ShuffleRecordCodec(
+                        serializationService,
+                        TableIdDictionary.of(
+                                shuffleAction.getConfig().getShuffleStrategy().getCatalogTables()));
+        this.shuffleChannelAddresses = hazelcastInstance.getMap(Constant.IMAP_SHUFFLE_CHANNELS);
+        this.localAddress = hazelcastInstance.getCluster().getLocalMember().getAddress();
+        for (int i = 0; i < shuffles.length; i++) {
+            localShuffles[i] =
+                    LocalShuffleChannel.register(
+                            shuffles[i].getName(), queueMaxSize, shuffleCodec);
+            // producers on other members send their frames to this member
+            shuffleChannelAddresses.set(shuffles[i].getName(), localAddress);
+        }
     }
 
     @Override
@@ -70,10 +101,9 @@ public class ShuffleSourceFlowLifeCycle<T> extends AbstractFlowLifeCycle
         int emptyShuffleQueueCount = 0;
 
         for (int i = 0; i < shuffles.length; i++) {
-            IQueue<Record<?>> shuffleQueue = shuffles[i];
             List<Record<?>> unsentBuffer =
                     unsentBufferMap.computeIfAbsent(i, k -> new LinkedList<>());
-            if (shuffleQueue.size() == 0) {
+            if (unsentBuffer.isEmpty() && isShuffleEmpty(i)) {
                 emptyShuffleQueueCount++;
                 continue;
             }
@@ -84,14 +114,15 @@ public class ShuffleSourceFlowLifeCycle<T> extends AbstractFlowLifeCycle
             }
 
             List<Record<?>> shuffleBatch = new LinkedList<>();
-            if (alignedBarriersCounter > 0) {
-                shuffleBatch.add(shuffleQueue.take());
-            } else if (!unsentBuffer.isEmpty()) {
+            // records behind the previous barrier of this channel go before anything new
+            if (!unsentBuffer.isEmpty()) {
                 shuffleBatch.addAll(unsentBuffer);
                 unsentBuffer.clear();
             }
-
-            shuffleQueue.drainTo(shuffleBatch, shuffleBatchSize);
+            if (shuffleBatch.isEmpty() && alignedBarriersCounter > 0) {
+                shuffleBatch.add(takeShuffle(i));
+            }
+            drainShuffle(i, shuffleBatch, shuffleBatchSize);
 
             for (int recordIndex = 0; recordIndex < shuffleBatch.size(); recordIndex++) {
                 Record<?> record = shuffleBatch.get(recordIndex);
@@ -151,9 +182,72 @@ public class ShuffleSourceFlowLifeCycle<T> extends AbstractFlowLifeCycle
     @Override
     public void close() throws IOException {
         super.close();
-        for (IQueue<Record<?>> shuffleQueue : shuffles) {
+        for (LocalShuffleChannel localShuffle : localShuffles) {
+            shuffleChannelAddresses.remove(localShuffle.getName(), localAddress);
+            LocalShuffleChannel.unregister(localShuffle);
+        }
+        for (IQueue<byte[]> shuffleQueue : shuffles) {
             log.info("destroy shuffle queue: {}", shuffleQueue.getName());
             shuffleQueue.destroy();
         }
     }
+
+    /**
+     * Once the local channel of a producer has records, its {@link IQueue} doesn't grow anymore,
+     * so it is drained completely before reading the local channel to keep the record order.
+     */
+    private boolean readLocal(int index) {
+        return remoteDrained[index] || !localShuffles[index].isEmpty();
+    }
+
+    private boolean isShuffleEmpty(int index) {
+        if (readLocal(index)) {
+            return (remoteDrained[index] || shuffles[index].isEmpty())
+                    && localShuffles[index].isEmpty();
+        }
+        return shuffles[index].isEmpty();
+    }
+
+    private Record<?> takeShuffle(int index) throws InterruptedException, IOException {
+        if (readLocal(index)) {
+            if (!remoteDrained[index]) {
+                byte[] record = shuffles[index].poll();
+                if (record != null) {
+                    return shuffleCodec.decode(record);
+                }
+                remoteDrained[index] = true;
+            }
+            return localShuffles[index].take();
+        }
+        return shuffleCodec.decode(shuffles[index].take());
+    }
+
+    private void drainShuffle(int index, List<Record<?>> shuffleBatch, int maxElements)
+            throws IOException {
+        if (readLocal(index)) {
+            int drained = 0;
+            if (!remoteDrained[index]) {
+                drained = drainQueue(index, shuffleBatch, maxElements);
+                if (drained < maxElements) {
+                    remoteDrained[index] = true;
+                }
+            }
+            if (drained < maxElements) {
+                localShuffles[index].drainTo(shuffleBatch, maxElements - drained);
+            }
+        } else {
+            drainQueue(index, shuffleBatch, maxElements);
+        }
+    }
+
+    private int drainQueue(int index, List<Record<?>> shuffleBatch, int maxElements)
+            throws IOException {
+        encodedBatch.clear();
+        int drained = shuffles[index].drainTo(encodedBatch, maxElements);
+        for (byte[] record : encodedBatch) {
+            shuffleBatch.add(shuffleCodec.decode(record));
+        }
+        encodedBatch.clear();
+        return drained;
+    }
 }
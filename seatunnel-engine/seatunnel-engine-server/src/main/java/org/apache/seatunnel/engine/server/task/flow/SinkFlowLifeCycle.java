@@ -29,6 +29,7 @@ import org.apache.seatunnel.api.sink.multitablesink.MultiTableSink;
 import org.apache.seatunnel.api.table.catalog.TablePath;
 import org.apache.seatunnel.api.table.event.SchemaChangeEvent;
 import org.apache.seatunnel.api.table.type.Record;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.common.constants.PluginType;
 import org.apache.seatunnel.engine.core.checkpoint.InternalCheckpointListener;
 import org.apache.seatunnel.engine.core.dag.actions.SinkAction;
@@ -36,6 +37,7 @@ import org.apache.seatunnel.engine.server.checkpoint.ActionStateKey;
 import org.apache.seatunnel.engine.server.checkpoint.ActionSubtaskState;
 import org.apache.seatunnel.engine.server.event.JobEventListener;
 import org.apache.seatunnel.engine.server.execution.TaskLocation;
+import org.apache.seatunnel.engine.server.metrics.SeaTunnelRowBytesSampler;
 import org.apache.seatunnel.engine.server.metrics.TaskMetricsCalcContext;
 import org.apache.seatunnel.engine.server.task.SeaTunnelTask;
 import org.apache.seatunnel.engine.server.task.context.SinkWriterContext;
@@ -91,6 +93,8 @@ public class SinkFlowLifeCycle<T, CommitInfoT extends Serializable, AggregatedCo
 
     private TaskMetricsCalcContext taskMetricsCalcContext;
 
+    private final SeaTunnelRowBytesSampler bytesSampler;
+
     private final boolean containAggCommitter;
 
     private MultiTableResourceManager resourceManager;
@@ -104,6 +108,7 @@ public class SinkFlowLifeCycle<T, CommitInfoT extends Serializable, AggregatedCo
             SeaTunnelTask runningTask,
             TaskLocation committerTaskLocation,
             boolean containAggCommitter,
+            int bytesSampleInterval,
             CompletableFuture<Void> completableFuture,
             MetricsContext metricsContext) {
         super(sinkAction, runningTask, completableFuture);
@@ -121,6 +126,10 @@ public class SinkFlowLifeCycle<T, CommitInfoT extends Serializable, AggregatedCo
         }
         this.taskMetricsCalcContext =
                 new TaskMetricsCalcContext(metricsContext, PluginType.SINK, isMulti, sinkTables);
+        this.bytesSampler =
+                new SeaTunnelRowBytesSampler(
+                        sinkAction.getConfig() == null ? null : sinkAction.getConfig().getRowType(),
+                        bytesSampleInterval);
     }
 
     @Override
@@ -242,18 +251,51 @@ public class SinkFlowLifeCycle<T, CommitInfoT extends Serializable, AggregatedCo
                 }
                 SchemaChangeEvent event = (SchemaChangeEvent) record.getData();
                 writer.applySchemaChange(event);
+                bytesSampler.applySchemaChange(event);
             } else {
                 if (prepareClose) {
                     return;
                 }
-                writer.write((T) record.getData());
-                taskMetricsCalcContext.updateMetrics(record.getData());
+                Object data = record.getData();
+                writer.write((T) data);
+                taskMetricsCalcContext.updateMetrics(data, bytesSize(data));
             }
         } catch (Exception e) {
             throw new RuntimeException(e);
         }
     }
 
+    /**
+     * Write the records in order and update the metrics once per run of rows. Barriers and schema
+     * changes go through {@link #received} after the rows before them.
+     */
+    @Override
+    public void receivedBatch(List<Record<?>> records) {
+        List<Object> written = new ArrayList<>(records.size());
+        int[] bytesSizes = new int[records.size()];
+        for (Record<?> record : records) {
+            Object data = record.getData();
+            if (data instanceof Barrier || data instanceof SchemaChangeEvent) {
+                taskMetricsCalcContext.updateMetrics(written, bytesSizes);
+                written = new ArrayList<>();
+                received(record);
+            } else if (!prepareClose) {
+                try {
+                    writer.write((T) data);
+                } catch (IOException e) {
+                    throw new RuntimeException(e);
+                }
+                bytesSizes[written.size()] = bytesSize(data);
+                written.add(data);
+            }
+        }
+        taskMetricsCalcContext.updateMetrics(written, bytesSizes);
+    }
+
+    private int bytesSize(Object data) {
+        return data instanceof SeaTunnelRow ? bytesSampler.sample((SeaTunnelRow) data) : 0;
+    }
+
     @Override
     public void notifyCheckpointComplete(long checkpointId) throws Exception {
         if (committer.isPresent() && lastCommitInfo.isPresent()) {
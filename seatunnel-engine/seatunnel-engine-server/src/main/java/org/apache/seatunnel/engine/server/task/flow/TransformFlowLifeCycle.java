@@ -20,19 +20,23 @@ package org.apache.seatunnel.engine.server.task.flow;
 import org.apache.seatunnel.api.table.type.Record;
 import org.apache.seatunnel.api.transform.Collector;
 import org.apache.seatunnel.api.transform.SeaTunnelTransform;
+import org.apache.seatunnel.api.transform.SupportVectorizedTransform;
 import org.apache.seatunnel.engine.core.dag.actions.TransformChainAction;
 import org.apache.seatunnel.engine.server.checkpoint.ActionStateKey;
 import org.apache.seatunnel.engine.server.checkpoint.ActionSubtaskState;
 import org.apache.seatunnel.engine.server.checkpoint.CheckpointBarrier;
 import org.apache.seatunnel.engine.server.task.SeaTunnelTask;
+import org.apache.seatunnel.engine.server.task.SeaTunnelTransformCollector;
 import org.apache.seatunnel.engine.server.task.record.Barrier;
 
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 @Slf4j
 public class TransformFlowLifeCycle<T> extends ActionFlowLifeCycle
@@ -44,6 +48,9 @@ public class TransformFlowLifeCycle<T> extends ActionFlowLifeCycle
 
     private final Collector<Record<?>> collector;
 
+    /** Whether a transform of the chain processes the rows between two barriers at once. */
+    private final boolean vectorized;
+
     public TransformFlowLifeCycle(
             TransformChainAction<T> action,
             SeaTunnelTask runningTask,
@@ -53,6 +60,7 @@ public class TransformFlowLifeCycle<T> extends ActionFlowLifeCycle
         this.action = action;
         this.transform = action.getTransforms();
         this.collector = collector;
+        this.vectorized = transform.stream().anyMatch(TransformFlowLifeCycle::isVectorized);
     }
 
     @Override
@@ -88,30 +96,125 @@ public class TransformFlowLifeCycle<T> extends ActionFlowLifeCycle
             if (prepareClose) {
                 return;
             }
-            T inputData = (T) record.getData();
-            T outputData = inputData;
-            for (SeaTunnelTransform<T> t : transform) {
-                outputData = t.map(inputData);
-                log.debug("Transform[{}] input row {} and output row {}", t, inputData, outputData);
-                if (outputData == null) {
-                    log.trace("Transform[{}] filtered data row {}", t, inputData);
-                    break;
-                }
+            transform(record, collector::collect);
+        }
+    }
 
-                inputData = outputData;
+    /**
+     * Transform the records in order and hand the results downstream as one batch. A barrier
+     * first flushes the results of the records before it.
+     */
+    @Override
+    public void receivedBatch(List<Record<?>> records) {
+        if (vectorized) {
+            receivedVectorized(records);
+            return;
+        }
+        List<Record<?>> outputs = new ArrayList<>(records.size());
+        for (Record<?> record : records) {
+            if (record.getData() instanceof Barrier) {
+                collectBatch(outputs);
+                outputs = new ArrayList<>();
+                received(record);
+            } else if (!prepareClose) {
+                transform(record, outputs::add);
             }
-            if (outputData != null) {
-                // todo log metrics
-                if (outputData instanceof List) {
-                    List<T> list = (List<T>) outputData;
-                    for (T t : list) {
-                        collector.collect(new Record<>(t));
+        }
+        collectBatch(outputs);
+    }
+
+    /** Hand the rows between two barriers to each transform of the chain in turn. */
+    private void receivedVectorized(List<Record<?>> records) {
+        List<T> rows = new ArrayList<>(records.size());
+        for (Record<?> record : records) {
+            if (record.getData() instanceof Barrier) {
+                transformBatch(rows);
+                rows = new ArrayList<>();
+                received(record);
+            } else if (!prepareClose) {
+                rows.add((T) record.getData());
+            }
+        }
+        transformBatch(rows);
+    }
+
+    private void transformBatch(List<T> rows) {
+        List<T> outputData = rows;
+        for (SeaTunnelTransform<T> t : transform) {
+            if (outputData.isEmpty()) {
+                return;
+            }
+            int inputSize = outputData.size();
+            if (isVectorized(t)) {
+                outputData = ((SupportVectorizedTransform<T>) t).mapBatch(outputData);
+            } else {
+                List<T> mapped = new ArrayList<>(outputData.size());
+                for (T inputData : outputData) {
+                    T data = t.map(inputData);
+                    if (data != null) {
+                        mapped.add(data);
                     }
-                } else {
-                    collector.collect(new Record<>(outputData));
                 }
+                outputData = mapped;
+            }
+            log.debug(
+                    "Transform[{}] input {} rows and output {} rows",
+                    t,
+                    inputSize,
+                    outputData.size());
+        }
+        List<Record<?>> outputs = new ArrayList<>(outputData.size());
+        for (T data : outputData) {
+            if (data instanceof List) {
+                for (T t : (List<T>) data) {
+                    outputs.add(new Record<>(t));
+                }
+            } else {
+                outputs.add(new Record<>(data));
+            }
+        }
+        collectBatch(outputs);
+    }
 
+    private static boolean isVectorized(SeaTunnelTransform<?> transform) {
+        return transform instanceof SupportVectorizedTransform
+                && ((SupportVectorizedTransform<?>) transform).isVectorized();
+    }
+
+    private void transform(Record<?> record, Consumer<Record<?>> output) {
+        T inputData = (T) record.getData();
+        T outputData = inputData;
+        for (SeaTunnelTransform<T> t : transform) {
+            outputData = t.map(inputData);
+            log.debug("Transform[{}] input row {} and output row {}", t, inputData, outputData);
+            if (outputData == null) {
+                log.trace("Transform[{}] filtered data row {}", t, inputData);
+                break;
             }
+
+            inputData = outputData;
+        }
+        if (outputData != null) {
+            // todo log metrics
+            if (outputData instanceof List) {
+                List<T> list = (List<T>) outputData;
+                for (T t : list) {
+                    output.accept(new Record<>(t));
+                }
+            } else {
+                output.accept(new Record<>(outputData));
+            }
+        }
+    }
+
+    private void collectBatch(List<Record<?>> records) {
+        if (records.isEmpty()) {
+            return;
+        }
+        if (collector instanceof SeaTunnelTransformCollector) {
+            ((SeaTunnelTransformCollector) collector).collectBatch(records);
+        } else {
+            records.forEach(collector::collect);
         }
     }
 
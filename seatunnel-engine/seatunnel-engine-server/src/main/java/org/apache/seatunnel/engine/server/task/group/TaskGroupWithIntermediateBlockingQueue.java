@@ -18,11 +18,14 @@
 package org.apache.seatunnel.engine.server.task.group;
 
 import org.apache.seatunnel.api.table.type.Record;
+import org.apache.seatunnel.engine.common.config.server.QueueType;
 import org.apache.seatunnel.engine.server.execution.Task;
 import org.apache.seatunnel.engine.server.execution.TaskGroupLocation;
 import org.apache.seatunnel.engine.server.task.SeaTunnelTask;
 import org.apache.seatunnel.engine.server.task.group.queue.AbstractIntermediateQueue;
 import org.apache.seatunnel.engine.server.task.group.queue.IntermediateBlockingQueue;
+import org.apache.seatunnel.engine.server.task.group.queue.IntermediateRingBuffer;
+import org.apache.seatunnel.engine.server.task.group.queue.ringbuffer.RecordRingBuffer;
 
 import java.util.Collection;
 import java.util.Map;
@@ -34,16 +37,34 @@ public class TaskGroupWithIntermediateBlockingQueue extends AbstractTaskGroupWit
 
     public static final int QUEUE_SIZE = 2048;
 
+    private final QueueType queueType;
+
     public TaskGroupWithIntermediateBlockingQueue(
             TaskGroupLocation taskGroupLocation, String taskGroupName, Collection<Task> tasks) {
+        this(taskGroupLocation, taskGroupName, tasks, QueueType.BLOCKINGQUEUE);
+    }
+
+    /**
+     * @param queueType {@link QueueType#RINGBUFFER} exchanges records through a lock-free {@link
+     *     RecordRingBuffer}, any other type through an {@link ArrayBlockingQueue}
+     */
+    public TaskGroupWithIntermediateBlockingQueue(
+            TaskGroupLocation taskGroupLocation,
+            String taskGroupName,
+            Collection<Task> tasks,
+            QueueType queueType) {
         super(taskGroupLocation, taskGroupName, tasks);
+        this.queueType = queueType;
     }
 
     private Map<Long, BlockingQueue<Record<?>>> blockingQueueCache = null;
 
+    private Map<Long, RecordRingBuffer> ringBufferCache = null;
+
     @Override
     public void init() {
         blockingQueueCache = new ConcurrentHashMap<>();
+        ringBufferCache = new ConcurrentHashMap<>();
         getTasks().stream()
                 .filter(SeaTunnelTask.class::isInstance)
                 .map(s -> (SeaTunnelTask) s)
@@ -52,6 +73,10 @@ public class TaskGroupWithIntermediateBlockingQueue extends AbstractTaskGroupWit
 
     @Override
     public AbstractIntermediateQueue<?> getQueueCache(long id) {
+        if (queueType == QueueType.RINGBUFFER) {
+            return new IntermediateRingBuffer(
+                    ringBufferCache.computeIfAbsent(id, i -> new RecordRingBuffer(QUEUE_SIZE)));
+        }
         blockingQueueCache.computeIfAbsent(id, i -> new ArrayBlockingQueue<>(QUEUE_SIZE));
         return new IntermediateBlockingQueue(blockingQueueCache.get(id));
     }
@@ -26,6 +26,7 @@ import lombok.Getter;
 import lombok.Setter;
 
 import java.io.IOException;
+import java.util.List;
 
 public abstract class AbstractIntermediateQueue<T> {
 
@@ -45,6 +46,13 @@ public abstract class AbstractIntermediateQueue<T> {
 
     public abstract void received(Record<?> record);
 
+    /** Receive several records in order, the caller holds the checkpoint lock for all of them. */
+    public void receivedBatch(List<Record<?>> records) {
+        for (Record<?> record : records) {
+            received(record);
+        }
+    }
+
     public abstract void collect(Collector<Record<?>> collector) throws Exception;
 
     public abstract void close() throws IOException;
@@ -26,6 +26,7 @@ import org.apache.seatunnel.engine.server.task.group.queue.disruptor.RecordEvent
 import com.lmax.disruptor.dsl.Disruptor;
 
 import java.io.IOException;
+import java.util.List;
 
 public class IntermediateDisruptor extends AbstractIntermediateQueue<Disruptor<RecordEvent>> {
 
@@ -44,6 +45,14 @@ public class IntermediateDisruptor extends AbstractIntermediateQueue<Disruptor<R
                 getIntermediateQueueFlowLifeCycle());
     }
 
+    @Override
+    public void receivedBatch(List<Record<?>> records) {
+        RecordEventProducer.onData(
+                records,
+                getIntermediateQueue().getRingBuffer(),
+                getIntermediateQueueFlowLifeCycle());
+    }
+
     @Override
     public void collect(Collector<Record<?>> collector) throws Exception {
         if (!isExecuted) {
@@ -24,6 +24,8 @@ import org.apache.seatunnel.engine.server.task.record.Barrier;
 
 import com.lmax.disruptor.RingBuffer;
 
+import java.util.List;
+
 public class RecordEventProducer {
 
     public static void onData(
@@ -52,4 +54,44 @@ public class RecordEventProducer {
             ringBuffer.publish(sequence);
         }
     }
+
+    /** Publish the records in order, claiming one range of sequences per run of data records. */
+    public static void onData(
+            List<Record<?>> records,
+            RingBuffer<RecordEvent> ringBuffer,
+            IntermediateQueueFlowLifeCycle intermediateQueueFlowLifeCycle) {
+        int from = 0;
+        for (int i = 0; i < records.size(); i++) {
+            if (records.get(i).getData() instanceof Barrier) {
+                publish(records, from, i, ringBuffer, intermediateQueueFlowLifeCycle);
+                onData(records.get(i), ringBuffer, intermediateQueueFlowLifeCycle);
+                from = i + 1;
+            }
+        }
+        publish(records, from, records.size(), ringBuffer, intermediateQueueFlowLifeCycle);
+    }
+
+    private static void publish(
+            List<Record<?>> records,
+            int from,
+            int to,
+            RingBuffer<RecordEvent> ringBuffer,
+            IntermediateQueueFlowLifeCycle intermediateQueueFlowLifeCycle) {
+        if (intermediateQueueFlowLifeCycle.getPrepareClose()) {
+            return;
+        }
+        while (from < to) {
+            int count = Math.min(to - from, ringBuffer.getBufferSize());
+            long hi = ringBuffer.next(count);
+            long lo = hi - (count - 1);
+            try {
+                for (long sequence = lo; sequence <= hi; sequence++) {
+                    ringBuffer.get(sequence).setRecord(records.get(from + (int) (sequence - lo)));
+                }
+            } finally {
+                ringBuffer.publish(lo, hi);
+            }
+            from += count;
+        }
+    }
 }
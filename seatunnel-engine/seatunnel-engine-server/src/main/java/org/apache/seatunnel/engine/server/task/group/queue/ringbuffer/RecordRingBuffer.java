@@ -0,0 +1,246 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.task.group.queue.ringbuffer;
+
+import org.apache.seatunnel.api.table.type.Record;
+import org.apache.seatunnel.common.utils.function.ConsumerWithException;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A bounded lock-free ring of records with any number of producers and a single consumer.
+ *
+ * <p>Producers claim a slot with a CAS on the producer index and then publish the record into it.
+ * The consumer drains published slots in batches and advances the consumer index once per batch.
+ * Neither side takes a lock: a producer facing a full ring and a consumer facing an empty ring
+ * spin, then yield, then park. A producer unparks a parked consumer right after publishing, so an
+ * idle pipeline hands over a record without waiting for a poll timeout.
+ */
+public class RecordRingBuffer {
+    private static final int SPIN_TRIES = 128;
+    private static final int YIELD_TRIES = 16;
+    private static final long PRODUCER_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    private final int capacity;
+    private final int mask;
+    private final AtomicReferenceArray<Record<?>> slots;
+    private final AtomicLong producerIndex = new AtomicLong();
+    private final AtomicLong consumerIndex = new AtomicLong();
+
+    private volatile Thread parkedConsumer;
+
+    public RecordRingBuffer(int capacity) {
+        if (capacity <= 0 || capacity > (1 << 30)) {
+            throw new IllegalArgumentException(
+                    "Ring buffer capacity must be in (0, 2^30], but is " + capacity);
+        }
+        this.capacity = roundUp(capacity);
+        this.mask = this.capacity - 1;
+        this.slots = new AtomicReferenceArray<>(this.capacity);
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    public int size() {
+        return (int) (producerIndex.get() - consumerIndex.get());
+    }
+
+    /** Whether the next slot of the consumer is still unpublished. Only the consumer calls it. */
+    public boolean isEmpty() {
+        return slots.get(index(consumerIndex.get())) == null;
+    }
+
+    /** Publish the record if the ring has a free slot. */
+    public boolean offer(Record<?> record) {
+        while (true) {
+            long producer = producerIndex.get();
+            if (producer - consumerIndex.get() >= capacity) {
+                return false;
+            }
+            if (producerIndex.compareAndSet(producer, producer + 1)) {
+                // a volatile write, so it's ordered before the read of the parked consumer
+                slots.set(index(producer), record);
+                Thread consumer = parkedConsumer;
+                if (consumer != null) {
+                    LockSupport.unpark(consumer);
+                }
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Publish the records from {@code from} on into as many consecutive free slots as the ring
+     * has, claiming all of them with one CAS.
+     *
+     * @return the number of records published
+     */
+    public int offerAll(List<Record<?>> records, int from) {
+        while (true) {
+            long producer = producerIndex.get();
+            long free = capacity - (producer - consumerIndex.get());
+            if (free <= 0) {
+                return 0;
+            }
+            int count = (int) Math.min(free, records.size() - from);
+            if (producerIndex.compareAndSet(producer, producer + count)) {
+                // published in order, the consumer stops at the first slot not yet written
+                for (int i = 0; i < count; i++) {
+                    slots.set(index(producer + i), records.get(from + i));
+                }
+                Thread consumer = parkedConsumer;
+                if (consumer != null) {
+                    LockSupport.unpark(consumer);
+                }
+                return count;
+            }
+        }
+    }
+
+    /** Publish the record, waiting for a free slot while the ring is full. */
+    public void put(Record<?> record) throws InterruptedException {
+        int idle = 0;
+        while (!offer(record)) {
+            idle = backoff(idle);
+        }
+    }
+
+    /** Publish the records in order, waiting for free slots while the ring is full. */
+    public void putAll(List<Record<?>> records) throws InterruptedException {
+        int published = 0;
+        int idle = 0;
+        while (published < records.size()) {
+            int count = offerAll(records, published);
+            if (count > 0) {
+                published += count;
+                idle = 0;
+            } else {
+                idle = backoff(idle);
+            }
+        }
+    }
+
+    private int backoff(int idle) throws InterruptedException {
+        if (idle < SPIN_TRIES) {
+            idle++;
+        } else if (idle < SPIN_TRIES + YIELD_TRIES) {
+            idle++;
+            Thread.yield();
+        } else {
+            LockSupport.parkNanos(this, PRODUCER_PARK_NANOS);
+        }
+        if (Thread.interrupted()) {
+            throw new InterruptedException();
+        }
+        return idle;
+    }
+
+    /**
+     * Hand at most {@code limit} published records to the handler, in order, and release their
+     * slots to the producers in one step. Only the consumer calls it.
+     *
+     * @return the number of records handed to the handler
+     */
+    public int drain(ConsumerWithException<Record<?>> handler, int limit) throws Exception {
+        long consumer = consumerIndex.get();
+        int count = 0;
+        try {
+            while (count < limit) {
+                int index = index(consumer);
+                Record<?> record = slots.get(index);
+                if (record == null) {
+                    break;
+                }
+                slots.lazySet(index, null);
+                consumer++;
+                count++;
+                handler.accept(record);
+            }
+        } finally {
+            if (count > 0) {
+                consumerIndex.lazySet(consumer);
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Wait until a record is published, spinning and yielding first and then parking until a
+     * producer wakes the consumer or the timeout elapses. Only the consumer calls it.
+     *
+     * @return whether a record is available
+     */
+    public boolean await(long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        int idle = 0;
+        while (isEmpty()) {
+            if (idle < SPIN_TRIES) {
+                idle++;
+                continue;
+            }
+            if (idle < SPIN_TRIES + YIELD_TRIES) {
+                idle++;
+                Thread.yield();
+                continue;
+            }
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return false;
+            }
+            parkedConsumer = Thread.currentThread();
+            try {
+                // check again after announcing the park, a producer may have published meanwhile
+                if (!isEmpty()) {
+                    return true;
+                }
+                LockSupport.parkNanos(this, remaining);
+            } finally {
+                parkedConsumer = null;
+            }
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+        }
+        return true;
+    }
+
+    /** Drop all published records. Only the consumer calls it. */
+    public void clear() {
+        long consumer = consumerIndex.get();
+        while (slots.get(index(consumer)) != null) {
+            slots.lazySet(index(consumer), null);
+            consumer++;
+        }
+        consumerIndex.lazySet(consumer);
+    }
+
+    private int index(long sequence) {
+        return (int) sequence & mask;
+    }
+
+    private static int roundUp(int capacity) {
+        int size = Integer.highestOneBit(capacity);
+        return size == capacity ? size : size << 1;
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.seatunnel.engine.server.task.operation;
+
+import org.apache.seatunnel.engine.server.SeaTunnelServer;
+import org.apache.seatunnel.engine.server.serializable.TaskDataSerializerHook;
+import org.apache.seatunnel.engine.server.task.flow.LocalShuffleChannel;
+import org.apache.seatunnel.engine.server.task.flow.RemoteShuffleChannel;
+
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.nio.serialization.IdentifiedDataSerializable;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Carries a frame of encoded shuffle records to the member of the consumer. The response is the
+ * free space left in the consumer channel, the producer doesn't send more than that with the next
+ * frame. A frame without records only asks for that free space.
+ */
+public class ShuffleFrameOperation extends TracingOperation implements IdentifiedDataSerializable {
+
+    private String queueName;
+
+    private List<byte[]> records;
+
+    private int response;
+
+    public ShuffleFrameOperation() {}
+
+    public ShuffleFrameOperation(String queueName, List<byte[]> records) {
+        this.queueName = queueName;
+        this.records = records;
+    }
+
+    @Override
+    public void runInternal() throws Exception {
+        LocalShuffleChannel channel = LocalShuffleChannel.lookup(queueName);
+        response = channel == null ? RemoteShuffleChannel.CLOSED : channel.offerFrame(records);
+    }
+
+    @Override
+    public Object getResponse() {
+        return response;
+    }
+
+    @Override
+    public String getServiceName() {
+        return SeaTunnelServer.SERVICE_NAME;
+    }
+
+    @Override
+    protected void writeInternal(ObjectDataOutput out) throws IOException {
+        super.writeInternal(out);
+        out.writeString(queueName);
+        out.writeInt(records.size());
+        for (byte[] record : records) {
+            out.writeByteArray(record);
+        }
+    }
+
+    @Override
+    protected void readInternal(ObjectDataInput in) throws IOException {
+        super.readInternal(in);
+        queueName = in.readString();
+        int size = in.readInt();
+        records = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            records.add(in.readByteArray());
+        }
+    }
+
+    @Override
+    public int getFactoryId() {
+        return TaskDataSerializerHook.FACTORY_ID;
+    }
+
+    @Override
+    public int getClassId() {
+        return TaskDataSerializerHook.SHUFFLE_FRAME_OPERATION;
+    }
+}
@@ -18,8 +18,10 @@
 package org.apache.seatunnel.engine.server;
 
 import org.apache.seatunnel.engine.server.execution.BlockTask;
+import org.apache.seatunnel.engine.server.execution.ConsumerTestTask;
 import org.apache.seatunnel.engine.server.execution.ExceptionTestTask;
 import org.apache.seatunnel.engine.server.execution.FixedCallTestTimeTask;
+import org.apache.seatunnel.engine.server.execution.ProducerTestTask;
 import org.apache.seatunnel.engine.server.execution.StopTimeTestTask;
 import org.apache.seatunnel.engine.server.execution.Task;
 import org.apache.seatunnel.engine.server.execution.TaskExecutionState;
@@ -38,9 +40,13 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.apache.seatunnel.engine.server.execution.ExecutionState.CANCELED;
@@ -48,6 +54,9 @@ import static org.apache.seatunnel.engine.server.execution.ExecutionState.FAILED
 import static org.apache.seatunnel.engine.server.execution.ExecutionState.FINISHED;
 import static org.awaitility.Awaitility.await;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class TaskExecutionServiceTest extends AbstractSeaTunnelServerTest {
@@ -252,6 +261,80 @@ public class TaskExecutionServiceTest extends AbstractSeaTunnelServerTest {
                 .untilAsserted(() -> assertEquals(FINISHED, taskCts.get().getExecutionState()));
     }
 
+    /**
+     * The producer blocks its worker on the full queue while its consumer waits in the same deque,
+     * and every other worker is kept busy by its own tasks. The consumer must be moved to another
+     * worker.
+     */
+    @Test
+    public void testProducerAndConsumerBlockEachOther() throws InterruptedException {
+        TaskExecutionService taskExecutionService = server.getTaskExecutionService();
+
+        AtomicBoolean stopMark = new AtomicBoolean(false);
+        List<CompletableFuture<TaskExecutionState>> busyFutures = new ArrayList<>();
+        for (int i = 0; i < Runtime.getRuntime().availableProcessors() * 2; i++) {
+            busyFutures.add(
+                    taskExecutionService.deployLocalTask(
+                            new TaskGroupDefaultImpl(
+                                    new TaskGroupLocation(
+                                            jobId, pipeLineId, FLAKE_ID_GENERATOR.newId()),
+                                    "busy" + i,
+                                    buildFixedTestTask(
+                                            10, 2, stopMark, new CopyOnWriteArrayList<>()))));
+        }
+
+        int count = 100;
+        BlockingQueue<Integer> queue = new ArrayBlockingQueue<>(1);
+        CompletableFuture<TaskExecutionState> producerConsumer =
+                taskExecutionService.deployLocalTask(
+                        new TaskGroupDefaultImpl(
+                                new TaskGroupLocation(
+                                        jobId, pipeLineId, FLAKE_ID_GENERATOR.newId()),
+                                "producer-consumer",
+                                Lists.newArrayList(
+                                        new ProducerTestTask(queue, count),
+                                        new ConsumerTestTask(queue, count))));
+
+        await().atMost(20, TimeUnit.SECONDS)
+                .untilAsserted(
+                        () -> assertEquals(FINISHED, producerConsumer.get().getExecutionState()));
+
+        stopMark.set(true);
+        for (CompletableFuture<TaskExecutionState> busyFuture : busyFutures) {
+            await().atMost(10, TimeUnit.SECONDS)
+                    .untilAsserted(
+                            () -> assertEquals(FINISHED, busyFuture.get().getExecutionState()));
+        }
+    }
+
+    @Test
+    public void testCooperativeCallFuture() throws Exception {
+        TaskExecutionService.CooperativeCallFuture running =
+                new TaskExecutionService.CooperativeCallFuture(Thread.currentThread());
+        assertFalse(running.isDone());
+        assertThrows(TimeoutException.class, () -> running.get(50, TimeUnit.MILLISECONDS));
+
+        CompletableFuture.runAsync(
+                () -> {
+                    try {
+                        Thread.sleep(100);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    running.finish();
+                });
+        assertNull(running.get(10, TimeUnit.SECONDS));
+        assertTrue(running.isDone());
+        assertFalse(running.cancel(false));
+        assertFalse(running.isCancelled());
+
+        TaskExecutionService.CooperativeCallFuture cancelled =
+                new TaskExecutionService.CooperativeCallFuture(Thread.currentThread());
+        assertTrue(cancelled.cancel(false));
+        assertTrue(cancelled.isDone());
+        assertThrows(CancellationException.class, cancelled::get);
+    }
+
     @RepeatedTest(2)
     public void testDelay() throws InterruptedException {
 
@@ -0,0 +1,243 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.checkpoint;
+
+import org.apache.seatunnel.engine.checkpoint.storage.PipelineState;
+import org.apache.seatunnel.engine.checkpoint.storage.api.CheckpointStorage;
+import org.apache.seatunnel.engine.checkpoint.storage.api.StatesWriter;
+import org.apache.seatunnel.engine.common.config.server.CheckpointConfig;
+import org.apache.seatunnel.engine.core.checkpoint.CheckpointIDCounter;
+import org.apache.seatunnel.engine.core.checkpoint.CheckpointType;
+import org.apache.seatunnel.engine.server.task.record.Barrier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import com.hazelcast.map.IMap;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+public class CheckpointCoordinatorPersistTest {
+
+    private static final long JOB_ID = 1L;
+
+    private static final int PIPELINE_ID = 1;
+
+    /** Checkpoints whose storage write blocks until the latch is released. */
+    private final Map<Long, CountDownLatch> blockedPersists = new ConcurrentHashMap<>();
+
+    private final Map<Long, CountDownLatch> startedPersists = new ConcurrentHashMap<>();
+
+    private final List<Long> storedCheckpoints = new CopyOnWriteArrayList<>();
+
+    private ExecutorService executorService;
+
+    private CheckpointCoordinator coordinator;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    public void setUp() throws Exception {
+        CheckpointStorage checkpointStorage = Mockito.mock(CheckpointStorage.class);
+        Mockito.when(
+                        checkpointStorage.storeCheckPoint(
+                                Mockito.any(PipelineState.class), Mockito.any(StatesWriter.class)))
+                .thenAnswer(
+                        invocation -> {
+                            PipelineState state = invocation.getArgument(0);
+                            StatesWriter states = invocation.getArgument(1);
+                            states.write(new ByteArrayOutputStream());
+                            long checkpointId = state.getCheckpointId();
+                            startedPersists
+                                    .computeIfAbsent(checkpointId, id -> new CountDownLatch(1))
+                                    .countDown();
+                            CountDownLatch blocked = blockedPersists.get(checkpointId);
+                            if (blocked != null) {
+                                blocked.await();
+                            }
+                            storedCheckpoints.add(checkpointId);
+                            return String.valueOf(checkpointId);
+                        });
+        executorService = Executors.newCachedThreadPool();
+        coordinator =
+                new CheckpointCoordinator(
+                        Mockito.mock(CheckpointManager.class),
+                        checkpointStorage,
+                        new CheckpointConfig(),
+                        JOB_ID,
+                        CheckpointPlan.builder().pipelineId(PIPELINE_ID).build(),
+                        Mockito.mock(CheckpointIDCounter.class),
+                        null,
+                        executorService,
+                        Mockito.mock(IMap.class),
+                        false);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        blockedPersists.values().forEach(CountDownLatch::countDown);
+        executorService.shutdownNow();
+    }
+
+    @Test
+    public void testCompleteInOrderWhenEarlierPersistIsSlow() throws Exception {
+        CountDownLatch slowPersist = block(1L);
+        complete(CheckpointType.CHECKPOINT_TYPE, 1L);
+        complete(CheckpointType.CHECKPOINT_TYPE, 2L);
+        // general checkpoints don't wait for their persist, the next one can be triggered
+        Assertions.assertEquals(0, coordinator.getPendingCounter());
+
+        awaitStarted(1L);
+        TimeUnit.MILLISECONDS.sleep(200);
+        Assertions.assertTrue(storedCheckpoints.isEmpty());
+        Assertions.assertNull(coordinator.getLatestCompletedCheckpoint());
+
+        slowPersist.countDown();
+        awaitUntil(() -> latestCheckpointId() == 2L);
+        Assertions.assertEquals(Arrays.asList(1L, 2L), storedCheckpoints);
+        Assertions.assertEquals(2, coordinator.getPersistStatistics().getPersistedCount());
+    }
+
+    @Test
+    public void testResetDiscardsInFlightPersist() throws Exception {
+        CountDownLatch slowPersist = block(1L);
+        complete(CheckpointType.CHECKPOINT_TYPE, 1L);
+        awaitStarted(1L);
+
+        coordinator.cleanPendingCheckpoint(CheckpointCloseReason.CHECKPOINT_COORDINATOR_RESET);
+        slowPersist.countDown();
+
+        // the persist thread runs one checkpoint after another, once the next one is applied the
+        // discarded one is done as well
+        complete(CheckpointType.CHECKPOINT_TYPE, 2L);
+        awaitUntil(() -> latestCheckpointId() == 2L);
+        Assertions.assertEquals(Arrays.asList(1L, 2L), storedCheckpoints);
+        Assertions.assertEquals(1, coordinator.getPersistStatistics().getPersistedCount());
+    }
+
+    @Test
+    public void testSavepointStaysPendingUntilPersisted() throws Exception {
+        CountDownLatch slowPersist = block(1L);
+        complete(CheckpointType.SAVEPOINT_TYPE, 1L);
+        awaitStarted(1L);
+        Assertions.assertEquals(1, coordinator.getPendingCounter());
+        Assertions.assertFalse(coordinator.isCompleted());
+
+        slowPersist.countDown();
+        CheckpointCoordinatorState state =
+                coordinator.waitCheckpointCoordinatorComplete().get(10, TimeUnit.SECONDS);
+        Assertions.assertEquals(
+                CheckpointCoordinatorStatus.SUSPEND, state.getCheckpointCoordinatorStatus());
+        Assertions.assertEquals(0, coordinator.getPendingCounter());
+        Assertions.assertTrue(coordinator.isEndOfSavePoint());
+    }
+
+    @Test
+    public void testSchemaChangeCheckpointStaysPendingUntilPersisted() throws Exception {
+        CountDownLatch slowPersist = block(1L);
+        complete(CheckpointType.SCHEMA_CHANGE_BEFORE_POINT_TYPE, 1L);
+        awaitStarted(1L);
+        Assertions.assertEquals(1, coordinator.getPendingCounter());
+
+        slowPersist.countDown();
+        awaitUntil(() -> coordinator.getPendingCounter() == 0);
+        Assertions.assertEquals(1L, latestCheckpointId());
+    }
+
+    @Test
+    public void testFinalCheckpointStaysPendingUntilPersisted() throws Exception {
+        // the final checkpoint isn't written to the storage, it queues up behind a slow one
+        CountDownLatch slowPersist = block(1L);
+        complete(CheckpointType.CHECKPOINT_TYPE, 1L);
+        awaitStarted(1L);
+        complete(CheckpointType.COMPLETED_POINT_TYPE, Barrier.PREPARE_CLOSE_BARRIER_ID);
+        Assertions.assertEquals(1, coordinator.getPendingCounter());
+        Assertions.assertFalse(coordinator.isCompleted());
+
+        slowPersist.countDown();
+        CheckpointCoordinatorState state =
+                coordinator.waitCheckpointCoordinatorComplete().get(10, TimeUnit.SECONDS);
+        Assertions.assertEquals(
+                CheckpointCoordinatorStatus.FINISHED, state.getCheckpointCoordinatorStatus());
+        Assertions.assertEquals(0, coordinator.getPendingCounter());
+        Assertions.assertEquals(Barrier.PREPARE_CLOSE_BARRIER_ID, latestCheckpointId());
+    }
+
+    private CountDownLatch block(long checkpointId) {
+        CountDownLatch latch = new CountDownLatch(1);
+        blockedPersists.put(checkpointId, latch);
+        return latch;
+    }
+
+    private void awaitStarted(long checkpointId) throws InterruptedException {
+        Assertions.assertTrue(
+                startedPersists
+                        .computeIfAbsent(checkpointId, id -> new CountDownLatch(1))
+                        .await(10, TimeUnit.SECONDS));
+    }
+
+    private void complete(CheckpointType checkpointType, long checkpointId) {
+        coordinator.addPendingCheckpoint(
+                new PendingCheckpoint(
+                        JOB_ID,
+                        PIPELINE_ID,
+                        checkpointId,
+                        System.currentTimeMillis(),
+                        checkpointType,
+                        new HashSet<>(),
+                        new HashMap<>(),
+                        new HashMap<>()));
+        coordinator.completePendingCheckpoint(
+                new CompletedCheckpoint(
+                        JOB_ID,
+                        PIPELINE_ID,
+                        checkpointId,
+                        System.currentTimeMillis(),
+                        checkpointType,
+                        System.currentTimeMillis(),
+                        new HashMap<>(),
+                        new HashMap<>()));
+    }
+
+    private long latestCheckpointId() {
+        CompletedCheckpoint latest = coordinator.getLatestCompletedCheckpoint();
+        return latest == null ? -1L : latest.getCheckpointId();
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (!condition.getAsBoolean()) {
+            Assertions.assertTrue(System.currentTimeMillis() < deadline);
+            TimeUnit.MILLISECONDS.sleep(10);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.checkpoint;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+public class CheckpointPersistStatisticsTest {
+
+    @Test
+    void testRecordLatestAndTotal() {
+        CheckpointPersistStatistics statistics = new CheckpointPersistStatistics();
+        statistics.record(
+                TimeUnit.MILLISECONDS.toNanos(3),
+                TimeUnit.MILLISECONDS.toNanos(40),
+                TimeUnit.MILLISECONDS.toNanos(5));
+        statistics.record(
+                TimeUnit.MILLISECONDS.toNanos(2),
+                TimeUnit.MILLISECONDS.toNanos(60),
+                TimeUnit.MILLISECONDS.toNanos(1));
+
+        Assertions.assertEquals(2, statistics.getPersistedCount());
+        Assertions.assertEquals(2, statistics.getLastSerializeMillis());
+        Assertions.assertEquals(60, statistics.getLastUploadMillis());
+        Assertions.assertEquals(1, statistics.getLastNotifyMillis());
+        Assertions.assertEquals(5, statistics.getTotalSerializeMillis());
+        Assertions.assertEquals(100, statistics.getTotalUploadMillis());
+        Assertions.assertEquals(6, statistics.getTotalNotifyMillis());
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.seatunnel.engine.server.checkpoint;
+
+import org.apache.seatunnel.engine.core.checkpoint.CheckpointType;
+import org.apache.seatunnel.engine.serializer.protobuf.ProtoStuffSerializer;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class CompletedCheckpointCodecTest {
+
+    private static final ProtoStuffSerializer SERIALIZER = new ProtoStuffSerializer();
+
+    @Test
+    public void testEncodeAndDecode() throws IOException {
+        ByteArrayOutputStream states = new ByteArrayOutputStream();
+        CompletedCheckpointCodec.encode(checkpoint(taskStates()), SERIALIZER, states);
+        CompletedCheckpoint decoded =
+                CompletedCheckpointCodec.decode(states.toByteArray(), SERIALIZER);
+
+        assertRestored(decoded);
+        List<ActionSubtaskState> restored =
+                decoded.getTaskStates().get(new ActionStateKey("sink")).getSubtaskStates();
+        Assertions.assertThrows(
+                UnsupportedOperationException.class, () -> restored.set(0, null));
+    }
+
+    @Test
+    public void testDecodeProtostuffStates() throws IOException {
+        // states written before the sectioned format are one protostuff serialized checkpoint
+        byte[] states = SERIALIZER.serialize(checkpoint(taskStates()));
+        Assertions.assertNotEquals("STCS", new String(states, 0, 4, StandardCharsets.US_ASCII));
+
+        CompletedCheckpoint decoded = CompletedCheckpointCodec.decode(states, SERIALIZER);
+
+        assertRestored(decoded);
+    }
+
+    private static Map<ActionStateKey, ActionState> taskStates() {
+        ActionStateKey sourceKey = new ActionStateKey("source");
+        ActionState sourceState =
+                new ActionState(
+                        sourceKey,
+                        subtaskState(sourceKey, -1, "enumerator"),
+                        Arrays.asList(
+                                subtaskState(sourceKey, 0, "split-0"),
+                                null,
+                                subtaskState(sourceKey, 2, "split-2")));
+        ActionStateKey sinkKey = new ActionStateKey("sink");
+        ActionState sinkState =
+                new ActionState(
+                        sinkKey,
+                        null,
+                        Collections.singletonList(subtaskState(sinkKey, 0, "transaction")));
+        Map<ActionStateKey, ActionState> taskStates = new HashMap<>();
+        taskStates.put(sourceKey, sourceState);
+        taskStates.put(sinkKey, sinkState);
+        return taskStates;
+    }
+
+    private static void assertRestored(CompletedCheckpoint decoded) {
+        Assertions.assertEquals(1, decoded.getJobId());
+        Assertions.assertEquals(2, decoded.getPipelineId());
+        Assertions.assertEquals(3, decoded.getCheckpointId());
+        Assertions.assertEquals(CheckpointType.CHECKPOINT_TYPE, decoded.getCheckpointType());
+        Assertions.assertEquals(32, decoded.getTaskStatistics().get(1L).getSubtaskStats().size());
+        Assertions.assertEquals(2, decoded.getTaskStates().size());
+
+        ActionState restoredSource = decoded.getTaskStates().get(new ActionStateKey("source"));
+        Assertions.assertEquals(3, restoredSource.getParallelism());
+        Assertions.assertEquals("enumerator", value(restoredSource.getCoordinatorState()));
+        List<ActionSubtaskState> subtaskStates = restoredSource.getSubtaskStates();
+        Assertions.assertEquals(3, subtaskStates.size());
+        Assertions.assertEquals("split-0", value(subtaskStates.get(0)));
+        Assertions.assertNull(subtaskStates.get(1));
+        Assertions.assertEquals("split-2", value(subtaskStates.get(2)));
+        Assertions.assertEquals(2, subtaskStates.get(2).getIndex());
+
+        ActionState restoredSink = decoded.getTaskStates().get(new ActionStateKey("sink"));
+        Assertions.assertNull(restoredSink.getCoordinatorState());
+        Assertions.assertEquals("transaction", value(restoredSink.getSubtaskStates().get(0)));
+    }
+
+    private static CompletedCheckpoint checkpoint(Map<ActionStateKey, ActionState> taskStates) {
+        Map<Long, TaskStatistics> taskStatistics = new HashMap<>();
+        taskStatistics.put(1L, new TaskStatistics(1L, 32));
+        return new CompletedCheckpoint(
+                1,
+                2,
+                3,
+                System.currentTimeMillis(),
+                CheckpointType.CHECKPOINT_TYPE,
+                System.currentTimeMillis(),
+                taskStates,
+                taskStatistics);
+    }
+
+    private static ActionSubtaskState subtaskState(ActionStateKey key, int index, String value) {
+        return new ActionSubtaskState(
+                key, index, Collections.singletonList(value.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static String value(ActionSubtaskState state) {
+        return new String(state.getState().get(0), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.execution;
+
+import lombok.NonNull;
+
+import java.util.concurrent.BlockingQueue;
+
+/** Takes one record per call without blocking, until all records of the producer arrived. */
+public class ConsumerTestTask implements Task {
+
+    private final BlockingQueue<Integer> queue;
+    private final int count;
+    private int received;
+
+    public ConsumerTestTask(BlockingQueue<Integer> queue, int count) {
+        this.queue = queue;
+        this.count = count;
+    }
+
+    @NonNull @Override
+    public ProgressState call() {
+        if (queue.poll() == null) {
+            return ProgressState.NO_PROGRESS;
+        }
+        received++;
+        return received == count ? ProgressState.DONE : ProgressState.MADE_PROGRESS;
+    }
+
+    @NonNull @Override
+    public Long getTaskID() {
+        return (long) this.hashCode();
+    }
+
+    @Override
+    public boolean isThreadsShare() {
+        return true;
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.serializable;
+
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.DecimalType;
+import org.apache.seatunnel.api.table.type.LocalTimeType;
+import org.apache.seatunnel.api.table.type.MapType;
+import org.apache.seatunnel.api.table.type.PrimitiveByteArrayType;
+import org.apache.seatunnel.api.table.type.Record;
+import org.apache.seatunnel.api.table.type.RowKind;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.internal.serialization.impl.DefaultSerializationServiceBuilder;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.Collections;
+
+public class RecordSerializerTest {
+
+    private final InternalSerializationService serializationService =
+            new DefaultSerializationServiceBuilder().build();
+
+    @Test
+    public void testSeaTunnelRowRoundTrip() {
+        SeaTunnelRow nested = new SeaTunnelRow(new Object[] {1, null, "nested"});
+        Object[] fields =
+                new Object[] {
+                    null,
+                    true,
+                    (byte) 1,
+                    (short) 2,
+                    3,
+                    4L,
+                    5.5f,
+                    6.6d,
+                    "seatunnel",
+                    new byte[] {7, 8},
+                    new BigDecimal("-12345.678"),
+                    LocalDate.of(2024, 1, 2),
+                    LocalTime.of(3, 4, 5, 6),
+                    LocalDateTime.of(2024, 1, 2, 3, 4, 5, 6),
+                    nested,
+                    Collections.singletonMap("k", "v")
+                };
+        SeaTunnelRow row = new SeaTunnelRow(fields);
+        row.setTableId("db.table");
+        row.setRowKind(RowKind.UPDATE_AFTER);
+
+        Data data = serializationService.toData(new Record<>(row));
+        Record<?> record = serializationService.toObject(data);
+        SeaTunnelRow result = (SeaTunnelRow) record.getData();
+
+        Assertions.assertEquals("db.table", result.getTableId());
+        Assertions.assertEquals(RowKind.UPDATE_AFTER, result.getRowKind());
+        Assertions.assertEquals(fields.length, result.getArity());
+        for (int i = 0; i < fields.length; i++) {
+            if (fields[i] instanceof byte[]) {
+                Assertions.assertArrayEquals((byte[]) fields[i], (byte[]) result.getField(i));
+            } else {
+                Assertions.assertEquals(fields[i], result.getField(i));
+            }
+        }
+    }
+
+    @Test
+    public void testWideRow() {
+        SeaTunnelRow row = new SeaTunnelRow(300);
+        for (int i = 0; i < 300; i++) {
+            row.setField(i, i % 3 == 0 ? null : (long) i);
+        }
+
+        Record<?> record =
+                serializationService.toObject(serializationService.toData(new Record<>(row)));
+        SeaTunnelRow result = (SeaTunnelRow) record.getData();
+
+        Assertions.assertEquals(300, result.getArity());
+        Assertions.assertEquals(row, result);
+    }
+
+    @Test
+    public void testShuffleRecordCodec() throws IOException {
+        SeaTunnelRowType nestedType =
+                new SeaTunnelRowType(
+                        new String[] {"id", "name"},
+                        new SeaTunnelDataType<?>[] {BasicType.INT_TYPE, BasicType.STRING_TYPE});
+        SeaTunnelRowType rowType =
+                new SeaTunnelRowType(
+                        new String[] {
+                            "id", "flag", "amount", "data", "created", "nested", "tags", "empty"
+                        },
+                        new SeaTunnelDataType<?>[] {
+                            BasicType.LONG_TYPE,
+                            BasicType.BOOLEAN_TYPE,
+                            new DecimalType(10, 3),
+                            PrimitiveByteArrayType.INSTANCE,
+                            LocalTimeType.LOCAL_DATE_TIME_TYPE,
+                            nestedType,
+                            new MapType<>(BasicType.STRING_TYPE, BasicType.STRING_TYPE),
+                            BasicType.STRING_TYPE
+                        });
+        TableIdDictionary tableIds =
+                new TableIdDictionary(
+                        Arrays.asList("db.table_a", "db.table_b"),
+                        Arrays.asList(nestedType, rowType));
+        ShuffleRecordCodec codec = new ShuffleRecordCodec(serializationService, tableIds);
+        ShuffleRecordCodec untypedCodec =
+                new ShuffleRecordCodec(serializationService, TableIdDictionary.EMPTY);
+
+        SeaTunnelRow row =
+                new SeaTunnelRow(
+                        new Object[] {
+                            1L,
+                            true,
+                            new BigDecimal("-12345.678"),
+                            new byte[] {7, 8},
+                            LocalDateTime.of(2024, 1, 2, 3, 4, 5, 6),
+                            new SeaTunnelRow(new Object[] {2, "nested"}),
+                            Collections.singletonMap("k", "v"),
+                            null
+                        });
+        row.setTableId("db.table_b");
+        row.setRowKind(RowKind.UPDATE_AFTER);
+        byte[] typed = codec.encode(new Record<>(row));
+        byte[] untyped = untypedCodec.encode(new Record<>(row));
+        Assertions.assertTrue(typed.length < untyped.length);
+        Assertions.assertEquals(row, codec.decode(typed).getData());
+        Assertions.assertEquals(row, untypedCodec.decode(untyped).getData());
+        // the index only means something to the codec of the same edge
+        Assertions.assertThrows(IOException.class, () -> untypedCodec.decode(typed));
+
+        // fields that don't match the planned row type keep the untyped layout
+        SeaTunnelRow changedRow = new SeaTunnelRow(new Object[] {3L, "changed"});
+        changedRow.setTableId("db.table_a");
+        SeaTunnelRow unknownTableRow = new SeaTunnelRow(new Object[] {4, "unknown"});
+        unknownTableRow.setTableId("db.table_c");
+        Assertions.assertEquals(changedRow, roundTrip(codec, changedRow));
+        Assertions.assertEquals(unknownTableRow, roundTrip(codec, unknownTableRow));
+    }
+
+    private static Object roundTrip(ShuffleRecordCodec codec, SeaTunnelRow row)
+            throws IOException {
+        return codec.decode(codec.encode(new Record<>(row))).getData();
+    }
+}
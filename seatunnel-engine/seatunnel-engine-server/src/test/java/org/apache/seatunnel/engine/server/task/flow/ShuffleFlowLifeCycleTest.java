@@ -0,0 +1,332 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.task.flow;
+
+import org.apache.seatunnel.api.table.type.Record;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.transform.Collector;
+import org.apache.seatunnel.engine.core.checkpoint.CheckpointType;
+import org.apache.seatunnel.engine.core.dag.actions.ShuffleAction;
+import org.apache.seatunnel.engine.core.dag.actions.ShuffleConfig;
+import org.apache.seatunnel.engine.core.dag.actions.ShuffleStrategy;
+import org.apache.seatunnel.engine.server.checkpoint.CheckpointBarrier;
+import org.apache.seatunnel.engine.server.execution.TaskGroupLocation;
+import org.apache.seatunnel.engine.server.execution.TaskLocation;
+import org.apache.seatunnel.engine.server.serializable.ShuffleRecordCodec;
+import org.apache.seatunnel.engine.server.serializable.TableIdDictionary;
+import org.apache.seatunnel.engine.server.task.SeaTunnelTask;
+import org.apache.seatunnel.engine.server.task.record.Barrier;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.AdditionalAnswers;
+import org.mockito.Mockito;
+
+import com.hazelcast.collection.IQueue;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.internal.serialization.impl.DefaultSerializationServiceBuilder;
+import com.hazelcast.map.IMap;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+public class ShuffleFlowLifeCycleTest {
+
+    private SeaTunnelTask runningTask;
+
+    private ShuffleStrategy shuffleStrategy;
+
+    private HazelcastInstance hazelcastInstance;
+
+    private final InternalSerializationService serializationService =
+            new DefaultSerializationServiceBuilder().build();
+
+    private final ShuffleRecordCodec codec =
+            new ShuffleRecordCodec(serializationService, TableIdDictionary.EMPTY);
+
+    @BeforeEach
+    public void setUp() {
+        runningTask = Mockito.mock(SeaTunnelTask.class);
+        Mockito.when(runningTask.getTaskLocation())
+                .thenReturn(new TaskLocation(new TaskGroupLocation(1, 1, 1), 1, 0));
+        shuffleStrategy = Mockito.mock(ShuffleStrategy.class);
+        Mockito.when(shuffleStrategy.getQueueMaxSize()).thenReturn(16);
+        // no channel is registered on another member
+        hazelcastInstance = Mockito.mock(HazelcastInstance.class, Mockito.RETURNS_DEEP_STUBS);
+        Mockito.doReturn(Mockito.mock(IMap.class)).when(hazelcastInstance).getMap(Mockito.any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testSwitchToLocalChannelKeepsOrderAndAlignment() throws Exception {
+        String prefix = UUID.randomUUID().toString();
+        BlockingQueue<byte[]> remote0 = new LinkedBlockingQueue<>();
+        BlockingQueue<byte[]> remote1 = new LinkedBlockingQueue<>();
+        IQueue<byte[]>[] shuffles =
+                new IQueue[] {iqueue(prefix + "-0", remote0), iqueue(prefix + "-1", remote1)};
+        Mockito.when(shuffleStrategy.getShuffles(Mockito.any(), Mockito.anyInt(), Mockito.anyInt()))
+                .thenReturn(shuffles);
+        ShuffleSourceFlowLifeCycle<Record<?>> source =
+                new ShuffleSourceFlowLifeCycle<>(
+                        runningTask,
+                        0,
+                        shuffleAction(2),
+                        hazelcastInstance,
+                        serializationService,
+                        new CompletableFuture<>());
+        try {
+            // the first producer switches to the local channel behind barrier 1
+            remote0.add(codec.encode(row("a1")));
+            remote0.add(codec.encode(row("a2")));
+            remote0.add(codec.encode(barrier(1)));
+            remote0.add(codec.encode(row("a3")));
+            LocalShuffleChannel local0 = LocalShuffleChannel.lookup(prefix + "-0");
+            Assertions.assertTrue(local0.put(row("a4")));
+            Assertions.assertTrue(local0.put(barrier(2)));
+            Assertions.assertTrue(local0.put(row("a5")));
+            // the second one switches before barrier 1
+            remote1.add(codec.encode(row("b1")));
+            LocalShuffleChannel local1 = LocalShuffleChannel.lookup(prefix + "-1");
+            Assertions.assertTrue(local1.put(row("b2")));
+            Assertions.assertTrue(local1.put(barrier(1)));
+            Assertions.assertTrue(local1.put(row("b3")));
+            Assertions.assertTrue(local1.put(barrier(2)));
+            Assertions.assertTrue(local1.put(row("b4")));
+
+            List<Object> collected = new ArrayList<>();
+            Collector<Record<?>> collector =
+                    new Collector<Record<?>>() {
+                        @Override
+                        public void collect(Record<?> record) {
+                            Object data = record.getData();
+                            collected.add(
+                                    data instanceof Barrier
+                                            ? ((Barrier) data).getId()
+                                            : ((SeaTunnelRow) data).getField(0));
+                        }
+
+                        @Override
+                        public void close() {}
+                    };
+            long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(10);
+            while (collected.size() < 11 && System.currentTimeMillis() < deadline) {
+                source.collect(collector);
+            }
+
+            Assertions.assertEquals(
+                    Arrays.asList("a1", "a2", "a3", "a4", "a5"), channel(collected, "a"));
+            Assertions.assertEquals(Arrays.asList("b1", "b2", "b3", "b4"), channel(collected, "b"));
+            Assertions.assertEquals(11, collected.size());
+            int barrier1 = collected.indexOf(1L);
+            int barrier2 = collected.indexOf(2L);
+            Assertions.assertEquals(barrier1, collected.lastIndexOf(1L));
+            Assertions.assertEquals(barrier2, collected.lastIndexOf(2L));
+            for (String record : Arrays.asList("a1", "a2", "b1", "b2")) {
+                Assertions.assertTrue(collected.indexOf(record) < barrier1, record);
+            }
+            for (String record : Arrays.asList("a3", "a4", "b3")) {
+                Assertions.assertTrue(collected.indexOf(record) > barrier1, record);
+                Assertions.assertTrue(collected.indexOf(record) < barrier2, record);
+            }
+            for (String record : Arrays.asList("a5", "b4")) {
+                Assertions.assertTrue(collected.indexOf(record) > barrier2, record);
+            }
+            Mockito.verify(runningTask, Mockito.times(2)).ack(Mockito.any());
+        } finally {
+            source.close();
+        }
+        Assertions.assertNull(LocalShuffleChannel.lookup(prefix + "-0"));
+    }
+
+    @Test
+    public void testClosedChannelRejectsBlockedPut() throws Exception {
+        LocalShuffleChannel channel =
+                LocalShuffleChannel.register(UUID.randomUUID().toString(), 1, codec);
+        Assertions.assertTrue(channel.put(row("r1")));
+        CompletableFuture<Boolean> blockedPut =
+                CompletableFuture.supplyAsync(
+                        () -> {
+                            try {
+                                return channel.put(row("r2"));
+                            } catch (InterruptedException e) {
+                                throw new RuntimeException(e);
+                            }
+                        });
+        TimeUnit.MILLISECONDS.sleep(200);
+        Assertions.assertFalse(blockedPut.isDone());
+
+        LocalShuffleChannel.unregister(channel);
+        Assertions.assertFalse(blockedPut.get(10, TimeUnit.SECONDS));
+        Assertions.assertTrue(channel.isClosed());
+        Assertions.assertFalse(channel.put(row("r3")));
+    }
+
+    @Test
+    public void testProducerDropsClosedChannel() throws Exception {
+        String queueName = UUID.randomUUID().toString();
+        BlockingQueue<byte[]> remote = new LinkedBlockingQueue<>();
+        Mockito.when(
+                        shuffleStrategy.createShuffles(
+                                Mockito.any(), Mockito.anyInt(), Mockito.anyInt()))
+                .thenReturn(Collections.singletonMap(queueName, iqueue(queueName, remote)));
+        Mockito.when(
+                        shuffleStrategy.createShuffleKey(
+                                Mockito.any(), Mockito.anyInt(), Mockito.anyInt()))
+                .thenReturn(queueName);
+        ShuffleSinkFlowLifeCycle sink =
+                new ShuffleSinkFlowLifeCycle(
+                        runningTask,
+                        0,
+                        shuffleAction(1),
+                        hazelcastInstance,
+                        serializationService,
+                        new CompletableFuture<>());
+        LocalShuffleChannel channel = LocalShuffleChannel.register(queueName, 1, codec);
+
+        sink.received(row("r1"));
+        Assertions.assertTrue(remote.isEmpty());
+        // the channel is full and nobody reads it, the producer blocks until it is closed
+        CompletableFuture<Void> blockedReceive =
+                CompletableFuture.runAsync(
+                        () -> {
+                            try {
+                                sink.received(row("r2"));
+                            } catch (Exception e) {
+                                throw new RuntimeException(e);
+                            }
+                        });
+        TimeUnit.MILLISECONDS.sleep(200);
+        Assertions.assertFalse(blockedReceive.isDone());
+
+        LocalShuffleChannel.unregister(channel);
+        blockedReceive.get(10, TimeUnit.SECONDS);
+        sink.received(row("r3"));
+        List<Object> remoteRecords = new ArrayList<>();
+        for (byte[] record : remote) {
+            remoteRecords.add(((SeaTunnelRow) codec.decode(record).getData()).getField(0));
+        }
+        Assertions.assertEquals(Arrays.asList("r2", "r3"), remoteRecords);
+    }
+
+    @Test
+    public void testRemoteChannelSendsWithinCredits() throws Exception {
+        String queueName = UUID.randomUUID().toString();
+        LocalShuffleChannel channel = LocalShuffleChannel.register(queueName, 2, codec);
+        List<Integer> frameSizes = Collections.synchronizedList(new ArrayList<>());
+        RemoteShuffleChannel remote =
+                new RemoteShuffleChannel(
+                        queueName,
+                        null,
+                        (name, records) -> {
+                            frameSizes.add(records.size());
+                            return CompletableFuture.supplyAsync(
+                                    () -> {
+                                        try {
+                                            LocalShuffleChannel consumer =
+                                                    LocalShuffleChannel.lookup(name);
+                                            return consumer == null
+                                                    ? RemoteShuffleChannel.CLOSED
+                                                    : consumer.offerFrame(records);
+                                        } catch (IOException e) {
+                                            throw new RuntimeException(e);
+                                        }
+                                    });
+                        });
+        Queue<byte[]> records = new ArrayDeque<>();
+        for (int i = 0; i < 5; i++) {
+            records.add(codec.encode(row("r" + i)));
+        }
+        CompletableFuture<Boolean> sent =
+                CompletableFuture.supplyAsync(
+                        () -> {
+                            try {
+                                return remote.putAll(records);
+                            } catch (InterruptedException e) {
+                                throw new RuntimeException(e);
+                            }
+                        });
+
+        List<Object> received = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            received.add(((SeaTunnelRow) channel.take().getData()).getField(0));
+        }
+        Assertions.assertTrue(sent.get(10, TimeUnit.SECONDS));
+        remote.flush();
+        Assertions.assertEquals(Arrays.asList("r0", "r1", "r2", "r3", "r4"), received);
+        // a frame never carries more records than the consumer had space for
+        frameSizes.forEach(size -> Assertions.assertTrue(size <= 2, String.valueOf(size)));
+
+        // the next frame is answered by the closed channel, after that records are rejected
+        LocalShuffleChannel.unregister(channel);
+        records.add(codec.encode(row("r5")));
+        Assertions.assertTrue(remote.putAll(records));
+        remote.flush();
+        Assertions.assertTrue(remote.isClosed());
+        records.add(codec.encode(row("r6")));
+        Assertions.assertFalse(remote.putAll(records));
+        Assertions.assertEquals(1, records.size());
+    }
+
+    private ShuffleAction shuffleAction(int batchSize) {
+        return new ShuffleAction(
+                1,
+                "shuffle",
+                ShuffleConfig.builder()
+                        .batchSize(batchSize)
+                        .shuffleStrategy(shuffleStrategy)
+                        .build());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static IQueue<byte[]> iqueue(String name, BlockingQueue<byte[]> delegate) {
+        IQueue<byte[]> queue =
+                Mockito.mock(IQueue.class, AdditionalAnswers.delegatesTo(delegate));
+        Mockito.doReturn(name).when(queue).getName();
+        Mockito.doNothing().when(queue).destroy();
+        return queue;
+    }
+
+    private static Record<?> row(String value) {
+        return new Record<>(new SeaTunnelRow(new Object[] {value}));
+    }
+
+    private static Record<?> barrier(long id) {
+        return new Record<>(
+                new CheckpointBarrier(
+                        id, System.currentTimeMillis(), CheckpointType.CHECKPOINT_TYPE));
+    }
+
+    private static List<Object> channel(List<Object> collected, String prefix) {
+        return collected.stream()
+                .filter(data -> data instanceof String && ((String) data).startsWith(prefix))
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,190 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.task.group.queue.ringbuffer;
+
+import org.apache.seatunnel.api.table.type.Record;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+public class RecordRingBufferTest {
+
+    @Test
+    public void testCapacityIsRoundedUpToPowerOfTwo() {
+        Assertions.assertEquals(1, new RecordRingBuffer(1).capacity());
+        Assertions.assertEquals(1024, new RecordRingBuffer(1000).capacity());
+        Assertions.assertEquals(2048, new RecordRingBuffer(2048).capacity());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new RecordRingBuffer(0));
+    }
+
+    @Test
+    public void testOfferAndDrainKeepOrder() throws Exception {
+        RecordRingBuffer ringBuffer = new RecordRingBuffer(4);
+        for (int i = 0; i < 4; i++) {
+            Assertions.assertTrue(ringBuffer.offer(new Record<>(i)));
+        }
+        Assertions.assertFalse(ringBuffer.offer(new Record<>(4)));
+        Assertions.assertEquals(4, ringBuffer.size());
+
+        List<Object> drained = new ArrayList<>();
+        Assertions.assertEquals(3, ringBuffer.drain(r -> drained.add(r.getData()), 3));
+        Assertions.assertTrue(ringBuffer.offer(new Record<>(4)));
+        Assertions.assertEquals(2, ringBuffer.drain(r -> drained.add(r.getData()), 10));
+        Assertions.assertEquals(0, ringBuffer.drain(r -> drained.add(r.getData()), 10));
+        Assertions.assertTrue(ringBuffer.isEmpty());
+
+        List<Object> expected = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            expected.add(i);
+        }
+        Assertions.assertEquals(expected, drained);
+    }
+
+    @Test
+    public void testOfferAllClaimsFreeSlots() throws Exception {
+        RecordRingBuffer ringBuffer = new RecordRingBuffer(4);
+        List<Record<?>> records = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            records.add(new Record<>(i));
+        }
+        Assertions.assertTrue(ringBuffer.offer(records.get(0)));
+        Assertions.assertEquals(3, ringBuffer.offerAll(records, 1));
+        Assertions.assertEquals(0, ringBuffer.offerAll(records, 4));
+
+        List<Object> drained = new ArrayList<>();
+        Assertions.assertEquals(2, ringBuffer.drain(r -> drained.add(r.getData()), 2));
+        Assertions.assertEquals(2, ringBuffer.offerAll(records, 4));
+        Assertions.assertEquals(4, ringBuffer.drain(r -> drained.add(r.getData()), 10));
+        Assertions.assertEquals(
+                records.stream().map(Record::getData).collect(Collectors.toList()), drained);
+    }
+
+    @Test
+    public void testPutAllWaitsForTheConsumer() throws Exception {
+        RecordRingBuffer ringBuffer = new RecordRingBuffer(8);
+        List<Record<?>> records = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            records.add(new Record<>(i));
+        }
+        Thread producer =
+                new Thread(
+                        () -> {
+                            try {
+                                ringBuffer.putAll(records);
+                            } catch (InterruptedException e) {
+                                Thread.currentThread().interrupt();
+                            }
+                        });
+        producer.start();
+
+        List<Object> drained = new ArrayList<>();
+        while (drained.size() < records.size()) {
+            ringBuffer.drain(r -> drained.add(r.getData()), 3);
+            ringBuffer.await(1, TimeUnit.SECONDS);
+        }
+        producer.join();
+        Assertions.assertEquals(
+                records.stream().map(Record::getData).collect(Collectors.toList()), drained);
+    }
+
+    @Test
+    public void testClear() throws Exception {
+        RecordRingBuffer ringBuffer = new RecordRingBuffer(8);
+        ringBuffer.put(new Record<>(1));
+        ringBuffer.put(new Record<>(2));
+        ringBuffer.clear();
+        Assertions.assertTrue(ringBuffer.isEmpty());
+        Assertions.assertEquals(0, ringBuffer.size());
+    }
+
+    @Test
+    public void testAwaitTimesOutOnEmptyRing() throws InterruptedException {
+        RecordRingBuffer ringBuffer = new RecordRingBuffer(8);
+        Assertions.assertFalse(ringBuffer.await(10, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void testParkedConsumerIsWokenByProducer() throws Exception {
+        RecordRingBuffer ringBuffer = new RecordRingBuffer(8);
+        Thread producer =
+                new Thread(
+                        () -> {
+                            try {
+                                Thread.sleep(50);
+                                ringBuffer.put(new Record<>("late"));
+                            } catch (InterruptedException e) {
+                                Thread.currentThread().interrupt();
+                            }
+                        });
+        producer.start();
+        long start = System.nanoTime();
+        Assertions.assertTrue(ringBuffer.await(10, TimeUnit.SECONDS));
+        Assertions.assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(5));
+        producer.join();
+    }
+
+    @Test
+    public void testMultipleProducers() throws Exception {
+        int producers = 4;
+        int recordsPerProducer = 10_000;
+        RecordRingBuffer ringBuffer = new RecordRingBuffer(64);
+        List<Thread> threads = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            int producerId = p;
+            Thread thread =
+                    new Thread(
+                            () -> {
+                                try {
+                                    for (int i = 0; i < recordsPerProducer; i++) {
+                                        ringBuffer.put(new Record<>(new int[] {producerId, i}));
+                                    }
+                                } catch (InterruptedException e) {
+                                    Thread.currentThread().interrupt();
+                                }
+                            });
+            threads.add(thread);
+            thread.start();
+        }
+
+        int[] next = new int[producers];
+        int total = 0;
+        while (total < producers * recordsPerProducer) {
+            total +=
+                    ringBuffer.drain(
+                            r -> {
+                                int[] data = (int[]) r.getData();
+                                // records of one producer arrive in the order they were put
+                                Assertions.assertEquals(next[data[0]]++, data[1]);
+                            },
+                            128);
+            ringBuffer.await(1, TimeUnit.SECONDS);
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        for (int count : next) {
+            Assertions.assertEquals(recordsPerProducer, count);
+        }
+        Assertions.assertTrue(ringBuffer.isEmpty());
+    }
+}
@@ -24,13 +24,21 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.ToString;
 
+import java.util.List;
+
 @Data
 @Builder
-@ToString(exclude = "states")
+@ToString(exclude = {"states", "stateChunks"})
 public class PipelineState {
 
     private String jobId;
     private int pipelineId;
     private long checkpointId;
     private byte[] states;
+
+    /**
+     * Hashes of the content addressed chunks that make up the states, only set in the stored form
+     * of an incremental checkpoint. The storage resolves them back to {@link #states} on read.
+     */
+    private List<String> stateChunks;
 }
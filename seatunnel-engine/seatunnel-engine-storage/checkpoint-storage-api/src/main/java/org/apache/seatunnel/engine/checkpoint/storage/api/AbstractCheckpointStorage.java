@@ -21,6 +21,7 @@
 package org.apache.seatunnel.engine.checkpoint.storage.api;
 
 import org.apache.seatunnel.engine.checkpoint.storage.PipelineState;
+import org.apache.seatunnel.engine.checkpoint.storage.common.CheckpointFileFormat;
 import org.apache.seatunnel.engine.checkpoint.storage.common.StorageThreadFactory;
 import org.apache.seatunnel.engine.checkpoint.storage.exception.CheckpointStorageException;
 import org.apache.seatunnel.engine.serializer.api.Serializer;
@@ -28,7 +29,12 @@ import org.apache.seatunnel.engine.serializer.protobuf.ProtoStuffSerializer;
 
 import lombok.extern.slf4j.Slf4j;
 
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
@@ -106,11 +112,48 @@ public abstract class AbstractCheckpointStorage implements CheckpointStorage {
     }
 
     public byte[] serializeCheckPointData(PipelineState state) throws IOException {
-        return serializer.serialize(state);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writeCheckPointData(state, out);
+        return out.toByteArray();
     }
 
     public PipelineState deserializeCheckPointData(byte[] data) throws IOException {
-        return serializer.deserialize(data, PipelineState.class);
+        return readCheckPointData(new ByteArrayInputStream(data));
+    }
+
+    /**
+     * Write a checkpoint in the {@link CheckpointFileFormat} straight to the output stream of the
+     * checkpoint file.
+     */
+    public void writeCheckPointData(PipelineState state, OutputStream out) throws IOException {
+        CheckpointFileFormat.write(state, out);
+    }
+
+    /**
+     * Write a checkpoint in the {@link CheckpointFileFormat}, its states are written by the writer
+     * straight to the output stream of the checkpoint file.
+     */
+    public void writeCheckPointData(PipelineState state, StatesWriter states, OutputStream out)
+            throws IOException {
+        CheckpointFileFormat.write(state, states, out);
+    }
+
+    /**
+     * Read a checkpoint from the input stream of a checkpoint file, checkpoint files written in
+     * the former protostuff format are still supported.
+     */
+    public PipelineState readCheckPointData(InputStream in) throws IOException {
+        InputStream input = in.markSupported() ? in : new BufferedInputStream(in);
+        if (CheckpointFileFormat.isCheckpointFile(input)) {
+            return CheckpointFileFormat.read(input);
+        }
+        ByteArrayOutputStream data = new ByteArrayOutputStream();
+        byte[] buffer = new byte[8192];
+        int count;
+        while ((count = input.read(buffer)) != -1) {
+            data.write(buffer, 0, count);
+        }
+        return serializer.deserialize(data.toByteArray(), PipelineState.class);
     }
 
     public void setStorageNameSpace(String storageNameSpace) {
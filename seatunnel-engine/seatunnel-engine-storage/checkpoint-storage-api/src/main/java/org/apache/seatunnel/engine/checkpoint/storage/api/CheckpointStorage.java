@@ -23,6 +23,8 @@ package org.apache.seatunnel.engine.checkpoint.storage.api;
 import org.apache.seatunnel.engine.checkpoint.storage.PipelineState;
 import org.apache.seatunnel.engine.checkpoint.storage.exception.CheckpointStorageException;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.util.List;
 
 public interface CheckpointStorage {
@@ -35,6 +37,33 @@ public interface CheckpointStorage {
      */
     String storeCheckPoint(PipelineState state) throws CheckpointStorageException;
 
+    /**
+     * save checkpoint to storage, the states are written by the writer instead of being taken from
+     * {@link PipelineState#getStates()}. Storages that stream the states to their files override
+     * this, the default keeps the written states in memory and stores them like {@link
+     * #storeCheckPoint(PipelineState)}.
+     *
+     * @param state PipelineState without states
+     * @param states writer of the states
+     * @throws CheckpointStorageException if save checkpoint failed
+     */
+    default String storeCheckPoint(PipelineState state, StatesWriter states)
+            throws CheckpointStorageException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try {
+            states.write(out);
+        } catch (IOException e) {
+            throw new CheckpointStorageException("Failed to write checkpoint states", e);
+        }
+        return storeCheckPoint(
+                PipelineState.builder()
+                        .jobId(state.getJobId())
+                        .pipelineId(state.getPipelineId())
+                        .checkpointId(state.getCheckpointId())
+                        .states(out.toByteArray())
+                        .build());
+    }
+
     /**
      * async save checkpoint to storage
      *
@@ -0,0 +1,156 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+
+package org.apache.seatunnel.engine.checkpoint.storage.common;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Compressed and checksummed blocks, the unit of the checkpoint file format and of the sections of
+ * the checkpoint states. A block is written as its raw length, a codec, the stored length and the
+ * CRC32 of the raw bytes, followed by the stored bytes. A block that doesn't get smaller with
+ * DEFLATE is stored as it is.
+ */
+public final class CheckpointBlocks {
+
+    public static final byte CODEC_NONE = 0;
+
+    public static final byte CODEC_DEFLATE = 1;
+
+    private CheckpointBlocks() {}
+
+    /** Create the deflater used to write blocks, it is reset before every block. */
+    public static Deflater newDeflater() {
+        return new Deflater(Deflater.BEST_SPEED);
+    }
+
+    /**
+     * Write one block.
+     *
+     * @param deflater the deflater to compress with, or {@code null} to store the block as it is
+     * @return the stored length of the block
+     */
+    public static int writeBlock(
+            DataOutput out, byte[] data, int offset, int length, Deflater deflater)
+            throws IOException {
+        byte codec = CODEC_NONE;
+        byte[] stored = data;
+        int storedOffset = offset;
+        int storedLength = length;
+        if (deflater != null && length > 0) {
+            byte[] compressed = new byte[length];
+            deflater.reset();
+            deflater.setInput(data, offset, length);
+            deflater.finish();
+            int compressedLength = 0;
+            while (!deflater.finished() && compressedLength < compressed.length) {
+                compressedLength +=
+                        deflater.deflate(
+                                compressed, compressedLength, compressed.length - compressedLength);
+            }
+            if (deflater.finished() && compressedLength < length) {
+                codec = CODEC_DEFLATE;
+                stored = compressed;
+                storedOffset = 0;
+                storedLength = compressedLength;
+            }
+        }
+        CRC32 crc = new CRC32();
+        crc.update(data, offset, length);
+        out.writeInt(length);
+        out.writeByte(codec);
+        out.writeInt(storedLength);
+        out.writeInt((int) crc.getValue());
+        out.write(stored, storedOffset, storedLength);
+        return storedLength;
+    }
+
+    /** Read a block written by {@link #writeBlock}. */
+    public static byte[] readBlock(DataInput in) throws IOException {
+        byte[] data = new byte[in.readInt()];
+        readBlockContent(in, data, 0, data.length);
+        return data;
+    }
+
+    /**
+     * Read a block of a known raw length into target.
+     *
+     * @param rawLength the raw length of the block, read before by the caller
+     */
+    public static void readBlockContent(DataInput in, byte[] target, int offset, int rawLength)
+            throws IOException {
+        byte codec = in.readByte();
+        int storedLength = in.readInt();
+        int checksum = in.readInt();
+        if (codec == CODEC_NONE) {
+            if (storedLength != rawLength) {
+                throw new IOException(
+                        String.format(
+                                "Corrupted checkpoint block, raw length %s, stored length %s",
+                                rawLength, storedLength));
+            }
+            in.readFully(target, offset, rawLength);
+        } else if (codec == CODEC_DEFLATE) {
+            byte[] compressed = new byte[storedLength];
+            in.readFully(compressed);
+            inflate(compressed, target, offset, rawLength);
+        } else {
+            throw new IOException("Unsupported checkpoint block codec: " + codec);
+        }
+        CRC32 crc = new CRC32();
+        crc.update(target, offset, rawLength);
+        if ((int) crc.getValue() != checksum) {
+            throw new IOException("Checksum mismatch of checkpoint block");
+        }
+    }
+
+    private static void inflate(byte[] compressed, byte[] target, int offset, int length)
+            throws IOException {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(compressed);
+            int inflated = 0;
+            while (inflated < length) {
+                int count = inflater.inflate(target, offset + inflated, length - inflated);
+                if (count == 0 && (inflater.finished() || inflater.needsInput())) {
+                    break;
+                }
+                inflated += count;
+            }
+            if (inflated != length) {
+                throw new IOException(
+                        String.format(
+                                "Corrupted checkpoint block, expected %s bytes, inflated %s",
+                                length, inflated));
+            }
+        } catch (DataFormatException e) {
+            throw new IOException("Corrupted checkpoint block", e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
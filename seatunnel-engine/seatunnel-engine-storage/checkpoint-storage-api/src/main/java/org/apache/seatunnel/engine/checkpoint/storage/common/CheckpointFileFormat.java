@@ -0,0 +1,217 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+
+package org.apache.seatunnel.engine.checkpoint.storage.common;
+
+import org.apache.seatunnel.engine.checkpoint.storage.PipelineState;
+import org.apache.seatunnel.engine.checkpoint.storage.api.StatesWriter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.Deflater;
+
+/**
+ * Versioned file format of a stored {@link PipelineState}.
+ *
+ * <p>The file starts with a magic number and the format version, followed by the ids of the
+ * checkpoint, the chunk hashes of an incremental checkpoint and the length of the states. The
+ * states follow as {@link CheckpointBlocks blocks} of at most 1MB, so they are written straight to
+ * the output stream without another serialized copy in memory, and every block is verified on
+ * read. Once a block of the states doesn't compress well, the rest of the states are stored
+ * uncompressed, so already compressed states don't pay for a second compression.
+ *
+ * <p>States written by a {@link StatesWriter} are stored with the streamed version instead, their
+ * length isn't known up front, so they aren't split into blocks and take the rest of the file.
+ * The writer is in charge of compressing and checking them.
+ *
+ * <p>Files written before this format are plain protostuff and never start with the magic number.
+ */
+public final class CheckpointFileFormat {
+
+    /** "STCP", never the first bytes of a protostuff serialized {@link PipelineState}. */
+    private static final int MAGIC = 0x53544350;
+
+    private static final byte VERSION = 1;
+
+    /** The states are written by a {@link StatesWriter} and take the rest of the file. */
+    private static final byte STREAMED_VERSION = 2;
+
+    private static final int BLOCK_SIZE = 1024 * 1024;
+
+    /** A block has to shrink to this fraction of its size to keep compressing the next ones. */
+    private static final double MAX_COMPRESSED_RATIO = 0.9;
+
+    private CheckpointFileFormat() {}
+
+    /**
+     * Check whether a stream starts with this format, without consuming it.
+     *
+     * @param in a stream that supports mark
+     */
+    public static boolean isCheckpointFile(InputStream in) throws IOException {
+        in.mark(Integer.BYTES);
+        try {
+            int magic = 0;
+            for (int i = 0; i < Integer.BYTES; i++) {
+                int b = in.read();
+                if (b < 0) {
+                    return false;
+                }
+                magic = (magic << 8) | b;
+            }
+            return magic == MAGIC;
+        } finally {
+            in.reset();
+        }
+    }
+
+    public static void write(PipelineState state, OutputStream outputStream) throws IOException {
+        DataOutputStream out = new DataOutputStream(outputStream);
+        writeHeader(out, VERSION, state);
+
+        byte[] states = state.getStates();
+        out.writeInt(states == null ? -1 : states.length);
+        if (states != null) {
+            Deflater deflater = CheckpointBlocks.newDeflater();
+            try {
+                for (int offset = 0; offset < states.length; offset += BLOCK_SIZE) {
+                    int length = Math.min(BLOCK_SIZE, states.length - offset);
+                    int storedLength =
+                            CheckpointBlocks.writeBlock(out, states, offset, length, deflater);
+                    if (deflater != null && storedLength > length * MAX_COMPRESSED_RATIO) {
+                        deflater.end();
+                        deflater = null;
+                    }
+                }
+            } finally {
+                if (deflater != null) {
+                    deflater.end();
+                }
+            }
+        }
+        out.flush();
+    }
+
+    /** Read a file of this format, the magic number has to be checked before. */
+    public static PipelineState read(InputStream inputStream) throws IOException {
+        DataInputStream in = new DataInputStream(inputStream);
+        if (in.readInt() != MAGIC) {
+            throw new IOException("Not a checkpoint file");
+        }
+        byte version = in.readByte();
+        if (version != VERSION && version != STREAMED_VERSION) {
+            throw new IOException("Unsupported checkpoint file version: " + version);
+        }
+        PipelineState.PipelineStateBuilder builder =
+                PipelineState.builder()
+                        .jobId(readNullableString(in))
+                        .pipelineId(in.readInt())
+                        .checkpointId(in.readLong());
+
+        int chunkCount = in.readInt();
+        if (chunkCount >= 0) {
+            List<String> stateChunks = new ArrayList<>(chunkCount);
+            for (int i = 0; i < chunkCount; i++) {
+                stateChunks.add(in.readUTF());
+            }
+            builder.stateChunks(stateChunks);
+        }
+
+        if (version == STREAMED_VERSION) {
+            return builder.states(readToEnd(in)).build();
+        }
+        int statesLength = in.readInt();
+        if (statesLength >= 0) {
+            byte[] states = new byte[statesLength];
+            int offset = 0;
+            while (offset < statesLength) {
+                int length = in.readInt();
+                if (length <= 0 || length > statesLength - offset) {
+                    throw new IOException("Corrupted checkpoint file, block length: " + length);
+                }
+                CheckpointBlocks.readBlockContent(in, states, offset, length);
+                offset += length;
+            }
+            builder.states(states);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Write a checkpoint whose states are written by the writer, straight to the output stream of
+     * the file.
+     *
+     * @param state the ids of the checkpoint, its states are ignored
+     */
+    public static void write(PipelineState state, StatesWriter states, OutputStream outputStream)
+            throws IOException {
+        DataOutputStream out = new DataOutputStream(outputStream);
+        writeHeader(out, STREAMED_VERSION, state);
+        out.flush();
+        states.write(outputStream);
+        outputStream.flush();
+    }
+
+    private static void writeHeader(DataOutputStream out, byte version, PipelineState state)
+            throws IOException {
+        out.writeInt(MAGIC);
+        out.writeByte(version);
+        writeNullableString(out, state.getJobId());
+        out.writeInt(state.getPipelineId());
+        out.writeLong(state.getCheckpointId());
+
+        List<String> stateChunks = state.getStateChunks();
+        out.writeInt(stateChunks == null ? -1 : stateChunks.size());
+        if (stateChunks != null) {
+            for (String chunk : stateChunks) {
+                out.writeUTF(chunk);
+            }
+        }
+    }
+
+    private static byte[] readToEnd(InputStream in) throws IOException {
+        ByteArrayOutputStream data = new ByteArrayOutputStream();
+        byte[] buffer = new byte[8192];
+        int count;
+        while ((count = in.read(buffer)) != -1) {
+            data.write(buffer, 0, count);
+        }
+        return data.toByteArray();
+    }
+
+    private static void writeNullableString(DataOutputStream out, String value)
+            throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static String readNullableString(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+}
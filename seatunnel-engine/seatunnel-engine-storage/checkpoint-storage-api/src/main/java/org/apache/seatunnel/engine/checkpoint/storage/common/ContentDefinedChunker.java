@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+package org.apache.seatunnel.engine.checkpoint.storage.common;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Splits checkpoint states into content defined chunks with a gear rolling hash. A chunk boundary
+ * only depends on the 64 bytes before it, so an unchanged region of the states is cut into the
+ * same chunks even when the bytes in front of it changed or moved. Chunks are between 2KB and
+ * 64KB, about 8KB on average.
+ */
+public final class ContentDefinedChunker {
+
+    public static final int MIN_CHUNK_SIZE = 2 * 1024;
+
+    public static final int MAX_CHUNK_SIZE = 64 * 1024;
+
+    private static final int AVERAGE_CHUNK_BITS = 13;
+
+    /** The top bits of the hash, they depend on the whole 64 byte window. */
+    private static final long BOUNDARY_MASK =
+            ((1L << AVERAGE_CHUNK_BITS) - 1) << (Long.SIZE - AVERAGE_CHUNK_BITS);
+
+    /**
+     * Fixed random values per byte. Changing the seed only changes where chunks are cut, stored
+     * checkpoints stay readable, but their chunks won't be shared with new checkpoints anymore.
+     */
+    private static final long[] GEAR = new long[256];
+
+    static {
+        Random random = new Random(0x5eab0c4e1L);
+        for (int i = 0; i < GEAR.length; i++) {
+            GEAR[i] = random.nextLong();
+        }
+    }
+
+    private ContentDefinedChunker() {}
+
+    /**
+     * Split data into chunks.
+     *
+     * @param data the bytes to split
+     * @return the exclusive end offset of every chunk, in order, the last one is {@code
+     *     data.length}. Empty data has no chunk.
+     */
+    public static int[] split(byte[] data) {
+        int[] ends = new int[data.length / MIN_CHUNK_SIZE + 1];
+        int count = 0;
+        int start = 0;
+        while (start < data.length) {
+            start = nextBoundary(data, start);
+            ends[count++] = start;
+        }
+        return Arrays.copyOf(ends, count);
+    }
+
+    private static int nextBoundary(byte[] data, int start) {
+        if (data.length - start <= MIN_CHUNK_SIZE) {
+            return data.length;
+        }
+        int limit = Math.min(start + MAX_CHUNK_SIZE, data.length);
+        long hash = 0;
+        for (int i = start + MIN_CHUNK_SIZE; i < limit; i++) {
+            hash = (hash << 1) + GEAR[data[i] & 0xff];
+            if ((hash & BOUNDARY_MASK) == 0) {
+                return i + 1;
+            }
+        }
+        return limit;
+    }
+}
@@ -0,0 +1,271 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+package org.apache.seatunnel.engine.checkpoint.storage.hdfs;
+
+import org.apache.seatunnel.engine.checkpoint.storage.common.ContentDefinedChunker;
+import org.apache.seatunnel.engine.checkpoint.storage.exception.CheckpointStorageException;
+
+import org.apache.hadoop.fs.FSDataInputStream;
+import org.apache.hadoop.fs.FSDataOutputStream;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.io.IOUtils;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Content addressed chunks of the checkpoint states of a job, stored as {@code
+ * <namespace>/<jobId>/chunks/<sha-256>}. An incremental checkpoint file only keeps the hashes of
+ * its chunks, and a chunk already referenced by another checkpoint of the job isn't uploaded
+ * again.
+ *
+ * <p>Chunks are reference counted per job. The counts are rebuilt from the checkpoint files the
+ * first time a job is used, and a chunk is deleted together with the last checkpoint referencing
+ * it.
+ */
+@Slf4j
+class HdfsChunkStore {
+
+    static final String CHUNK_DIRECTORY = "chunks";
+
+    private static final String CHUNK_TMP_SUFFIX = ".tmp";
+
+    private final FileSystem fs;
+
+    private final ChunkReferenceLoader referenceLoader;
+
+    /** job id -> chunk hash -> number of checkpoints referencing it, guarded by this. */
+    private final Map<String, Map<String, Integer>> references = new HashMap<>();
+
+    /** chunk hash -> its running upload, guarded by this. */
+    private final Map<String, CompletableFuture<Void>> uploads = new HashMap<>();
+
+    HdfsChunkStore(FileSystem fs, ChunkReferenceLoader referenceLoader) {
+        this.fs = fs;
+        this.referenceLoader = referenceLoader;
+    }
+
+    /**
+     * Store the chunks of states that the job doesn't reference yet, and count a reference for
+     * every chunk.
+     *
+     * @return the hashes of the chunks of states, in order
+     */
+    List<String> store(String jobDirectory, String jobId, byte[] states)
+            throws CheckpointStorageException {
+        int[] ends = ContentDefinedChunker.split(states);
+        List<String> hashes = new ArrayList<>(ends.length);
+        int start = 0;
+        for (int end : ends) {
+            hashes.add(hash(states, start, end - start));
+            start = end;
+        }
+
+        Map<Integer, CompletableFuture<Void>> ownUploads = new HashMap<>();
+        List<CompletableFuture<Void>> otherUploads = new ArrayList<>();
+        synchronized (this) {
+            Map<String, Integer> jobReferences = loadReferences(jobId);
+            for (int i = 0; i < hashes.size(); i++) {
+                String hash = hashes.get(i);
+                int previous = jobReferences.getOrDefault(hash, 0);
+                jobReferences.put(hash, previous + 1);
+                CompletableFuture<Void> upload = uploads.get(hash);
+                if (previous == 0 && upload == null) {
+                    upload = new CompletableFuture<>();
+                    uploads.put(hash, upload);
+                    ownUploads.put(i, upload);
+                } else if (upload != null && !ownUploads.containsValue(upload)) {
+                    otherUploads.add(upload);
+                }
+            }
+        }
+
+        try {
+            for (Map.Entry<Integer, CompletableFuture<Void>> ownUpload : ownUploads.entrySet()) {
+                int index = ownUpload.getKey();
+                int chunkStart = index == 0 ? 0 : ends[index - 1];
+                try {
+                    writeChunk(jobDirectory, hashes.get(index), states, chunkStart, ends[index]);
+                    ownUpload.getValue().complete(null);
+                } catch (CheckpointStorageException e) {
+                    ownUpload.getValue().completeExceptionally(e);
+                    throw e;
+                }
+            }
+            for (CompletableFuture<Void> otherUpload : otherUploads) {
+                otherUpload.get();
+            }
+        } catch (CheckpointStorageException | InterruptedException | ExecutionException e) {
+            ownUploads.values().stream()
+                    .filter(upload -> !upload.isDone())
+                    .forEach(upload -> upload.completeExceptionally(e));
+            release(jobDirectory, jobId, hashes, false);
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            throw new CheckpointStorageException("Failed to store checkpoint chunks", e);
+        } finally {
+            synchronized (this) {
+                for (int index : ownUploads.keySet()) {
+                    uploads.remove(hashes.get(index));
+                }
+            }
+        }
+        return hashes;
+    }
+
+    /** Concatenate the chunks to the states they were cut from. */
+    byte[] read(String jobDirectory, List<String> hashes) throws CheckpointStorageException {
+        ByteArrayOutputStream states = new ByteArrayOutputStream();
+        for (String hash : hashes) {
+            Path chunkPath = chunkPath(jobDirectory, hash);
+            try (FSDataInputStream in = fs.open(chunkPath);
+                    ByteArrayOutputStream chunk = new ByteArrayOutputStream()) {
+                IOUtils.copyBytes(in, chunk, 4096);
+                byte[] bytes = chunk.toByteArray();
+                if (!hash.equals(hash(bytes, 0, bytes.length))) {
+                    throw new CheckpointStorageException(
+                            String.format("Checkpoint chunk %s is corrupted", chunkPath));
+                }
+                states.write(bytes);
+            } catch (IOException e) {
+                throw new CheckpointStorageException(
+                        String.format("Failed to read checkpoint chunk %s", chunkPath), e);
+            }
+        }
+        return states.toByteArray();
+    }
+
+    /** Drop the references of deleted checkpoints and delete the chunks no one references. */
+    void release(String jobDirectory, String jobId, Collection<List<String>> deletedCheckpoints)
+            throws CheckpointStorageException {
+        List<String> hashes = new ArrayList<>();
+        deletedCheckpoints.forEach(hashes::addAll);
+        release(jobDirectory, jobId, hashes, true);
+    }
+
+    /** Forget the references of a job whose checkpoints were all deleted. */
+    synchronized void forget(String jobId) {
+        references.remove(jobId);
+    }
+
+    private synchronized void release(
+            String jobDirectory, String jobId, List<String> hashes, boolean deleteUnreferenced)
+            throws CheckpointStorageException {
+        Map<String, Integer> jobReferences = loadReferences(jobId);
+        for (String hash : hashes) {
+            Integer count = jobReferences.get(hash);
+            if (count == null) {
+                continue;
+            }
+            if (count > 1) {
+                jobReferences.put(hash, count - 1);
+                continue;
+            }
+            jobReferences.remove(hash);
+            if (deleteUnreferenced) {
+                try {
+                    fs.delete(chunkPath(jobDirectory, hash), false);
+                } catch (IOException e) {
+                    log.warn("Failed to delete checkpoint chunk {} of job {}", hash, jobId, e);
+                }
+            }
+        }
+    }
+
+    private Map<String, Integer> loadReferences(String jobId) throws CheckpointStorageException {
+        Map<String, Integer> jobReferences = references.get(jobId);
+        if (jobReferences == null) {
+            jobReferences = new HashMap<>();
+            for (List<String> checkpointChunks : referenceLoader.load(jobId)) {
+                for (String hash : checkpointChunks) {
+                    jobReferences.merge(hash, 1, Integer::sum);
+                }
+            }
+            references.put(jobId, jobReferences);
+        }
+        return jobReferences;
+    }
+
+    private void writeChunk(String jobDirectory, String hash, byte[] states, int start, int end)
+            throws CheckpointStorageException {
+        Path chunkPath = chunkPath(jobDirectory, hash);
+        Path tmpChunkPath = new Path(chunkPath.getParent(), hash + CHUNK_TMP_SUFFIX);
+        try {
+            try (FSDataOutputStream out = fs.create(tmpChunkPath, true)) {
+                out.write(states, start, end - start);
+            }
+            if (!fs.rename(tmpChunkPath, chunkPath) && !fs.exists(chunkPath)) {
+                throw new CheckpointStorageException(
+                        String.format("Failed to rename tmp chunk to %s", chunkPath));
+            }
+        } catch (IOException e) {
+            throw new CheckpointStorageException(
+                    String.format("Failed to write checkpoint chunk %s", chunkPath), e);
+        } finally {
+            try {
+                if (fs.exists(tmpChunkPath)) {
+                    fs.delete(tmpChunkPath, false);
+                }
+            } catch (IOException e) {
+                log.error("Failed to delete tmp chunk", e);
+            }
+        }
+    }
+
+    private static Path chunkPath(String jobDirectory, String hash) {
+        return new Path(jobDirectory + CHUNK_DIRECTORY + "/" + hash);
+    }
+
+    private static String hash(byte[] data, int offset, int length) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported", e);
+        }
+        digest.update(data, offset, length);
+        StringBuilder hex = new StringBuilder(64);
+        for (byte b : digest.digest()) {
+            hex.append(Character.forDigit((b >> 4) & 0xf, 16))
+                    .append(Character.forDigit(b & 0xf, 16));
+        }
+        return hex.toString();
+    }
+
+    /** Reads the chunk hashes of all stored checkpoints of a job. */
+    @FunctionalInterface
+    interface ChunkReferenceLoader {
+        Collection<List<String>> load(String jobId) throws CheckpointStorageException;
+    }
+}
@@ -22,6 +22,7 @@ package org.apache.seatunnel.engine.checkpoint.storage.hdfs;
 
 import org.apache.seatunnel.engine.checkpoint.storage.PipelineState;
 import org.apache.seatunnel.engine.checkpoint.storage.api.AbstractCheckpointStorage;
+import org.apache.seatunnel.engine.checkpoint.storage.api.StatesWriter;
 import org.apache.seatunnel.engine.checkpoint.storage.exception.CheckpointStorageException;
 import org.apache.seatunnel.engine.checkpoint.storage.hdfs.common.AbstractConfiguration;
 import org.apache.seatunnel.engine.checkpoint.storage.hdfs.common.FileConfiguration;
@@ -33,13 +34,13 @@ import org.apache.hadoop.fs.FSDataOutputStream;
 import org.apache.hadoop.fs.FileStatus;
 import org.apache.hadoop.fs.FileSystem;
 import org.apache.hadoop.fs.Path;
-import org.apache.hadoop.io.IOUtils;
 
 import lombok.extern.slf4j.Slf4j;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -52,6 +53,12 @@ public class HdfsStorage extends AbstractCheckpointStorage {
     public FileSystem fs;
     private static final String STORAGE_TMP_SUFFIX = "tmp";
     private static final String STORAGE_TYPE_KEY = "storage.type";
+    private static final String INCREMENTAL_KEY = "incremental";
+
+    /** Whether new checkpoints store their states as deduplicated chunks. */
+    private boolean incremental;
+
+    private HdfsChunkStore chunkStore;
 
     public HdfsStorage(Map<String, String> configuration) throws CheckpointStorageException {
         this.initStorage(configuration);
@@ -63,12 +70,14 @@ public class HdfsStorage extends AbstractCheckpointStorage {
             setStorageNameSpace(configuration.get(STORAGE_NAME_SPACE));
             configuration.remove(STORAGE_NAME_SPACE);
         }
+        incremental = Boolean.parseBoolean(configuration.remove(INCREMENTAL_KEY));
         Configuration hadoopConf = getConfiguration(configuration);
         try {
             fs = FileSystem.get(hadoopConf);
         } catch (IOException e) {
             throw new CheckpointStorageException("Failed to get file system", e);
         }
+        chunkStore = new HdfsChunkStore(fs, this::loadChunkReferences);
     }
 
     private Configuration getConfiguration(Map<String, String> config)
@@ -83,13 +92,45 @@ public class HdfsStorage extends AbstractCheckpointStorage {
 
     @Override
     public String storeCheckPoint(PipelineState state) throws CheckpointStorageException {
-        byte[] datas;
-        try {
-            datas = serializeCheckPointData(state);
-        } catch (IOException e) {
-            throw new CheckpointStorageException(
-                    String.format("Failed to serialize checkpoint data, state: %s", state), e);
+        if (incremental && state.getStates() != null) {
+            String jobDirectory = getJobDirectory(state.getJobId());
+            List<String> stateChunks =
+                    chunkStore.store(jobDirectory, state.getJobId(), state.getStates());
+            PipelineState manifest =
+                    PipelineState.builder()
+                            .jobId(state.getJobId())
+                            .pipelineId(state.getPipelineId())
+                            .checkpointId(state.getCheckpointId())
+                            .stateChunks(stateChunks)
+                            .build();
+            try {
+                return writeCheckPoint(manifest);
+            } catch (CheckpointStorageException e) {
+                chunkStore.release(
+                        jobDirectory, state.getJobId(), Collections.singleton(stateChunks));
+                throw e;
+            }
         }
+        return writeCheckPoint(state);
+    }
+
+    @Override
+    public String storeCheckPoint(PipelineState state, StatesWriter states)
+            throws CheckpointStorageException {
+        if (incremental) {
+            // the states are split into chunks by their content, which needs all of them at once
+            return super.storeCheckPoint(state, states);
+        }
+        return writeCheckPoint(state, out -> writeCheckPointData(state, states, out));
+    }
+
+    private String writeCheckPoint(PipelineState state) throws CheckpointStorageException {
+        return writeCheckPoint(state, out -> writeCheckPointData(state, out));
+    }
+
+    /** Write the file of a checkpoint, its content is written by the writer. */
+    private String writeCheckPoint(PipelineState state, StatesWriter content)
+            throws CheckpointStorageException {
         Path filePath =
                 new Path(
                         getStorageParentDirectory()
@@ -105,7 +146,7 @@ public class HdfsStorage extends AbstractCheckpointStorage {
                                 + getCheckPointName(state)
                                 + STORAGE_TMP_SUFFIX);
         try (FSDataOutputStream out = fs.create(tmpFilePath, false)) {
-            out.write(datas);
+            content.write(out);
         } catch (IOException e) {
             throw new CheckpointStorageException(
                     String.format(
@@ -240,6 +281,7 @@ public class HdfsStorage extends AbstractCheckpointStorage {
         } catch (IOException e) {
             log.warn("Failed to delete checkpoint for job {}", jobId, e);
         }
+        chunkStore.forget(jobId);
     }
 
     @Override
@@ -281,14 +323,20 @@ public class HdfsStorage extends AbstractCheckpointStorage {
             throw new CheckpointStorageException(
                     "No checkpoint found for job, job id is: " + jobId);
         }
+        List<List<String>> deletedChunks = new ArrayList<>();
         fileNames.forEach(
                 fileName -> {
                     if (pipelineId.equals(getPipelineIdByFileName(fileName))
                             && checkpointId.equals(getCheckpointIdByFileName(fileName))) {
                         try {
+                            List<String> stateChunks =
+                                    readStoredPipelineState(fileName, jobId).getStateChunks();
                             fs.delete(
                                     new Path(path + DEFAULT_CHECKPOINT_FILE_PATH_SPLIT + fileName),
                                     false);
+                            if (stateChunks != null) {
+                                deletedChunks.add(stateChunks);
+                            }
                         } catch (Exception e) {
                             log.error(
                                     "Failed to delete checkpoint {} for job {}, pipeline {}",
@@ -299,6 +347,7 @@ public class HdfsStorage extends AbstractCheckpointStorage {
                         }
                     }
                 });
+        chunkStore.release(getJobDirectory(jobId), jobId, deletedChunks);
     }
 
     @Override
@@ -310,15 +359,21 @@ public class HdfsStorage extends AbstractCheckpointStorage {
             throw new CheckpointStorageException(
                     "No checkpoint found for job, job id is: " + jobId);
         }
+        List<List<String>> deletedChunks = new ArrayList<>();
         fileNames.forEach(
                 fileName -> {
                     String checkpointIdByFileName = getCheckpointIdByFileName(fileName);
                     if (pipelineId.equals(getPipelineIdByFileName(fileName))
                             && checkpointIdList.contains(checkpointIdByFileName)) {
                         try {
+                            List<String> stateChunks =
+                                    readStoredPipelineState(fileName, jobId).getStateChunks();
                             fs.delete(
                                     new Path(path + DEFAULT_CHECKPOINT_FILE_PATH_SPLIT + fileName),
                                     false);
+                            if (stateChunks != null) {
+                                deletedChunks.add(stateChunks);
+                            }
                         } catch (Exception e) {
                             log.error(
                                     "Failed to delete checkpoint {} for job {}, pipeline {}",
@@ -329,6 +384,7 @@ public class HdfsStorage extends AbstractCheckpointStorage {
                         }
                     }
                 });
+        chunkStore.release(getJobDirectory(jobId), jobId, deletedChunks);
     }
 
     private List<String> getFileNames(String path) throws CheckpointStorageException {
@@ -350,6 +406,22 @@ public class HdfsStorage extends AbstractCheckpointStorage {
         }
     }
 
+    private String getJobDirectory(String jobId) {
+        return getStorageParentDirectory() + jobId + DEFAULT_CHECKPOINT_FILE_PATH_SPLIT;
+    }
+
+    private Collection<List<String>> loadChunkReferences(String jobId)
+            throws CheckpointStorageException {
+        List<List<String>> chunkReferences = new ArrayList<>();
+        for (String fileName : getFileNames(getStorageParentDirectory() + jobId)) {
+            List<String> stateChunks = readStoredPipelineState(fileName, jobId).getStateChunks();
+            if (stateChunks != null) {
+                chunkReferences.add(stateChunks);
+            }
+        }
+        return chunkReferences;
+    }
+
     /**
      * Get checkpoint name
      *
@@ -358,13 +430,21 @@ public class HdfsStorage extends AbstractCheckpointStorage {
      */
     private PipelineState readPipelineState(String fileName, String jobId)
             throws CheckpointStorageException {
+        PipelineState state = readStoredPipelineState(fileName, jobId);
+        if (state.getStateChunks() != null) {
+            state.setStates(chunkStore.read(getJobDirectory(jobId), state.getStateChunks()));
+            state.setStateChunks(null);
+        }
+        return state;
+    }
+
+    /** Read a checkpoint file as stored, the states of an incremental checkpoint are chunks. */
+    private PipelineState readStoredPipelineState(String fileName, String jobId)
+            throws CheckpointStorageException {
         fileName =
                 getStorageParentDirectory() + jobId + DEFAULT_CHECKPOINT_FILE_PATH_SPLIT + fileName;
-        try (FSDataInputStream in = fs.open(new Path(fileName));
-                ByteArrayOutputStream stream = new ByteArrayOutputStream()) {
-            IOUtils.copyBytes(in, stream, 1024);
-            byte[] bytes = stream.toByteArray();
-            return deserializeCheckPointData(bytes);
+        try (FSDataInputStream in = fs.open(new Path(fileName))) {
+            return readCheckPointData(in);
         } catch (IOException e) {
             throw new CheckpointStorageException(
                     String.format(
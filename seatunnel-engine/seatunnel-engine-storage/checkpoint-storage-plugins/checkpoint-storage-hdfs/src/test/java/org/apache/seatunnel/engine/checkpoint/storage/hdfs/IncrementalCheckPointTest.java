@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+package org.apache.seatunnel.engine.checkpoint.storage.hdfs;
+
+import org.apache.seatunnel.engine.checkpoint.storage.PipelineState;
+import org.apache.seatunnel.engine.checkpoint.storage.exception.CheckpointStorageException;
+
+import org.apache.hadoop.fs.Path;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Random;
+
+@EnabledOnOs({OS.LINUX, OS.MAC})
+public class IncrementalCheckPointTest {
+
+    private static final String JOB_ID = "incremental";
+
+    private static HdfsStorage STORAGE;
+
+    @BeforeAll
+    public static void setup() throws CheckpointStorageException {
+        HashMap<String, String> config = new HashMap<>();
+        config.put("namespace", "/tmp/");
+        config.put("incremental", "true");
+        STORAGE = new HdfsStorage(config);
+    }
+
+    @AfterAll
+    public static void teardown() {
+        STORAGE.deleteCheckpoint(JOB_ID);
+    }
+
+    @Test
+    public void testOnlyChangedChunksAreStored() throws Exception {
+        byte[] first = new byte[512 * 1024];
+        new Random(42).nextBytes(first);
+        byte[] second = first.clone();
+        // change a few bytes in the middle, most chunks stay the same
+        second[200 * 1024] ^= 1;
+        second[201 * 1024] ^= 1;
+
+        STORAGE.storeCheckPoint(state(1, first));
+        int firstChunks = countChunks();
+        STORAGE.storeCheckPoint(state(2, second));
+        int newChunks = countChunks() - firstChunks;
+
+        Assertions.assertTrue(firstChunks > 1);
+        Assertions.assertTrue(newChunks > 0 && newChunks <= 4, "new chunks: " + newChunks);
+        Assertions.assertArrayEquals(first, STORAGE.getCheckpoint(JOB_ID, "1", "1").getStates());
+        Assertions.assertArrayEquals(second, STORAGE.getCheckpoint(JOB_ID, "1", "2").getStates());
+
+        STORAGE.deleteCheckpoint(JOB_ID, "1", Collections.singletonList("1"));
+        Assertions.assertArrayEquals(second, STORAGE.getCheckpoint(JOB_ID, "1", "2").getStates());
+        Assertions.assertTrue(countChunks() < firstChunks + newChunks);
+
+        STORAGE.deleteCheckpoint(JOB_ID, "1", "2");
+        Assertions.assertEquals(0, countChunks());
+    }
+
+    private static PipelineState state(long checkpointId, byte[] states) {
+        return PipelineState.builder()
+                .jobId(JOB_ID)
+                .pipelineId(1)
+                .checkpointId(checkpointId)
+                .states(states)
+                .build();
+    }
+
+    private static int countChunks() throws IOException {
+        Path chunkDirectory =
+                new Path(
+                        STORAGE.getStorageParentDirectory()
+                                + JOB_ID
+                                + "/"
+                                + HdfsChunkStore.CHUNK_DIRECTORY);
+        if (!STORAGE.fs.exists(chunkDirectory)) {
+            return 0;
+        }
+        return STORAGE.fs.listStatus(chunkDirectory).length;
+    }
+}
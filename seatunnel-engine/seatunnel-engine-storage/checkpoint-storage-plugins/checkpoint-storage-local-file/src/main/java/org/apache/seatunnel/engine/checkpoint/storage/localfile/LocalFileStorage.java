@@ -22,6 +22,7 @@ package org.apache.seatunnel.engine.checkpoint.storage.localfile;
 
 import org.apache.seatunnel.engine.checkpoint.storage.PipelineState;
 import org.apache.seatunnel.engine.checkpoint.storage.api.AbstractCheckpointStorage;
+import org.apache.seatunnel.engine.checkpoint.storage.api.StatesWriter;
 import org.apache.seatunnel.engine.checkpoint.storage.exception.CheckpointStorageException;
 
 import org.apache.commons.collections4.MapUtils;
@@ -31,8 +32,10 @@ import org.apache.commons.lang3.exception.ExceptionUtils;
 
 import lombok.extern.slf4j.Slf4j;
 
+import java.io.BufferedOutputStream;
 import java.io.File;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.file.NoSuchFileException;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -81,12 +84,18 @@ public class LocalFileStorage extends AbstractCheckpointStorage {
 
     @Override
     public String storeCheckPoint(PipelineState state) throws CheckpointStorageException {
-        byte[] datas;
-        try {
-            datas = serializeCheckPointData(state);
-        } catch (IOException e) {
-            throw new CheckpointStorageException("Failed to serialize checkpoint data", e);
-        }
+        return writeCheckPoint(state, out -> writeCheckPointData(state, out));
+    }
+
+    @Override
+    public String storeCheckPoint(PipelineState state, StatesWriter states)
+            throws CheckpointStorageException {
+        return writeCheckPoint(state, out -> writeCheckPointData(state, states, out));
+    }
+
+    /** Create the file of a checkpoint, its content is written by the writer. */
+    private String writeCheckPoint(PipelineState state, StatesWriter content)
+            throws CheckpointStorageException {
         // Consider file paths for different operating systems
         String fileName =
                 getStorageParentDirectory()
@@ -101,8 +110,8 @@ public class LocalFileStorage extends AbstractCheckpointStorage {
             throw new CheckpointStorageException("Failed to create checkpoint file " + fileName, e);
         }
 
-        try {
-            FileUtils.writeByteArrayToFile(file, datas);
+        try (OutputStream out = new BufferedOutputStream(FileUtils.openOutputStream(file))) {
+            content.write(out);
         } catch (IOException e) {
             throw new CheckpointStorageException(
                     "Failed to write checkpoint data to file " + fileName, e);
@@ -29,6 +29,7 @@ import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.condition.EnabledOnOs;
 
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 import static org.junit.jupiter.api.condition.OS.LINUX;
@@ -82,6 +83,22 @@ public class LocalFileStorageTest {
         Assertions.assertEquals(2, state.size());
     }
 
+    @Test
+    public void testStoreStreamedStates() throws CheckpointStorageException {
+        String jobId = JOB_ID + "-streamed";
+        byte[] states = "streamed states".getBytes(StandardCharsets.UTF_8);
+        try {
+            STORAGE.storeCheckPoint(
+                    PipelineState.builder().jobId(jobId).pipelineId(1).checkpointId(7).build(),
+                    out -> out.write(states));
+            PipelineState state = STORAGE.getCheckpoint(jobId, "1", "7");
+            Assertions.assertEquals(7, state.getCheckpointId());
+            Assertions.assertArrayEquals(states, state.getStates());
+        } finally {
+            STORAGE.deleteCheckpoint(jobId);
+        }
+    }
+
     @AfterAll
     public static void teardown() {
         STORAGE.deleteCheckpoint(JOB_ID);
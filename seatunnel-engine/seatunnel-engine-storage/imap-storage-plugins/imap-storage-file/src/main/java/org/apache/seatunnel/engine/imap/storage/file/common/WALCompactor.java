@@ -0,0 +1,183 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+
+package org.apache.seatunnel.engine.imap.storage.file.common;
+
+import org.apache.seatunnel.engine.imap.storage.file.bean.IMapFileData;
+import org.apache.seatunnel.engine.imap.storage.file.wal.reader.DefaultReader;
+import org.apache.seatunnel.engine.serializer.api.Serializer;
+
+import org.apache.hadoop.fs.FSDataOutputStream;
+import org.apache.hadoop.fs.FileStatus;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Compacts the sealed segments of a region into a snapshot of the latest record of every key.
+ *
+ * <p>A deletion is dropped once no surviving file can hold an older record of its key: it must be
+ * the only record of the key in the compacted files, which readers may still see until they are
+ * deleted, and no other region below the same root, which is loaded together with this one, may
+ * hold an older record of the key. A deletion that hid records of the compacted files is kept in
+ * the snapshot and dropped by a later compaction. The later segments only hold newer records. The
+ * snapshot is written to a temporary file and renamed before the compacted files are deleted,
+ * so a crash at any point leaves the region readable, at worst with records that are both in the
+ * snapshot and in a segment.
+ */
+@Slf4j
+public class WALCompactor {
+
+    private static final String TMP_SUFFIX = ".tmp";
+
+    private final FileSystem fs;
+
+    private final Path parentPath;
+
+    private final Serializer serializer;
+
+    private final DefaultReader reader;
+
+    public WALCompactor(FileSystem fs, Path parentPath, Serializer serializer) throws IOException {
+        this.fs = fs;
+        this.parentPath = parentPath;
+        this.serializer = serializer;
+        this.reader = new DefaultReader();
+        this.reader.initialize(fs, serializer);
+    }
+
+    /**
+     * Compact all segments and snapshots up to a sealed segment.
+     *
+     * @param lastSegment the last segment to compact, it must not be written anymore
+     */
+    public void compact(long lastSegment) throws IOException {
+        Path snapshotPath = WALSegments.snapshotPath(parentPath, lastSegment);
+        if (fs.exists(snapshotPath)) {
+            // left by an interrupted compaction, the next compaction picks up its segments
+            return;
+        }
+        List<FileStatus> files = new ArrayList<>();
+        boolean hasSegment = false;
+        for (FileStatus status : fs.listStatus(parentPath)) {
+            String fileName = status.getPath().getName();
+            long segment = WALSegments.segmentOf(fileName);
+            if (segment > 0 && segment <= lastSegment) {
+                files.add(status);
+                hasSegment |= !WALSegments.isSnapshot(fileName);
+            }
+        }
+        if (!hasSegment) {
+            return;
+        }
+        // snapshots first, they only contain records older than the segments after them
+        files.sort(
+                Comparator.comparingLong(
+                                (FileStatus status) ->
+                                        WALSegments.segmentOf(status.getPath().getName()))
+                        .thenComparing(
+                                status -> !WALSegments.isSnapshot(status.getPath().getName())));
+
+        Map<ByteBuffer, IMapFileData> latest = new LinkedHashMap<>();
+        // keys with more than one record in the compacted files
+        Set<ByteBuffer> rewritten = new HashSet<>();
+        long records = 0;
+        for (FileStatus file : files) {
+            for (IMapFileData data : reader.readData(file.getPath())) {
+                records++;
+                ByteBuffer key = ByteBuffer.wrap(data.getKey());
+                IMapFileData previous = latest.get(key);
+                if (previous != null) {
+                    rewritten.add(key);
+                }
+                if (previous == null || data.getTimestamp() >= previous.getTimestamp()) {
+                    latest.put(key, data);
+                }
+            }
+        }
+        if (latest.entrySet().stream()
+                .anyMatch(e -> e.getValue().isDeleted() && !rewritten.contains(e.getKey()))) {
+            dropObsoleteDeletions(latest, rewritten);
+        }
+
+        Path tmpPath = new Path(parentPath, snapshotPath.getName() + TMP_SUFFIX);
+        try (FSDataOutputStream out = fs.create(tmpPath, true)) {
+            for (IMapFileData data : latest.values()) {
+                out.write(WALDataUtils.wrapperBytes(serializer.serialize(data)));
+            }
+        }
+        if (!fs.rename(tmpPath, snapshotPath)) {
+            fs.delete(tmpPath, false);
+            throw new IOException("Failed to rename WAL snapshot " + tmpPath);
+        }
+        for (FileStatus file : files) {
+            fs.delete(file.getPath(), false);
+        }
+        log.info(
+                "Compacted {} WAL files with {} records of {} into a snapshot of {} records",
+                files.size(),
+                records,
+                parentPath,
+                latest.size());
+    }
+
+    /**
+     * Drop the deletions that can't hide an older record of their key anymore.
+     *
+     * @param hiding the keys that may still have an older record in the compacted files
+     */
+    private void dropObsoleteDeletions(
+            Map<ByteBuffer, IMapFileData> latest, Set<ByteBuffer> hiding) throws IOException {
+        Path rootPath = parentPath.getParent();
+        if (rootPath != null && fs.exists(rootPath)) {
+            for (FileStatus status : fs.listStatus(rootPath)) {
+                if (status.getPath().getName().equals(parentPath.getName())) {
+                    continue;
+                }
+                for (IMapFileData data : reader.readAllData(status.getPath())) {
+                    ByteBuffer key = ByteBuffer.wrap(data.getKey());
+                    IMapFileData deletion = latest.get(key);
+                    if (deletion != null
+                            && deletion.isDeleted()
+                            && data.getTimestamp() <= deletion.getTimestamp()) {
+                        hiding.add(key);
+                    }
+                }
+            }
+        }
+        latest.values()
+                .removeIf(
+                        data ->
+                                data.isDeleted()
+                                        && !hiding.contains(ByteBuffer.wrap(data.getKey())));
+    }
+}
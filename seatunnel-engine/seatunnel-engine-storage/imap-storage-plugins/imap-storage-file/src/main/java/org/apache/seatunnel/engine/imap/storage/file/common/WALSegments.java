@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+
+package org.apache.seatunnel.engine.imap.storage.file.common;
+
+import org.apache.hadoop.fs.FileStatus;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+
+import java.io.IOException;
+
+import static org.apache.seatunnel.engine.imap.storage.file.wal.writer.IFileWriter.FILE_NAME;
+
+/**
+ * Names of the WAL files of a region. A region writes bounded segment files {@code
+ * <segment>_wal.txt} with increasing segment numbers, and compaction replaces the segments up to a
+ * segment number with a snapshot file {@code <segment>_snapshot_wal.txt}. Both end with {@link
+ * org.apache.seatunnel.engine.imap.storage.file.wal.writer.IFileWriter#FILE_NAME}, so every reader
+ * replays them the same way.
+ */
+public class WALSegments {
+
+    private static final String SEPARATOR = "_";
+
+    private static final String SNAPSHOT_PREFIX = "snapshot" + SEPARATOR;
+
+    private WALSegments() {}
+
+    public static Path segmentPath(Path parentPath, long segment) {
+        return new Path(parentPath, segment + SEPARATOR + FILE_NAME);
+    }
+
+    public static Path snapshotPath(Path parentPath, long segment) {
+        return new Path(parentPath, segment + SEPARATOR + SNAPSHOT_PREFIX + FILE_NAME);
+    }
+
+    public static boolean isSnapshot(String fileName) {
+        return fileName.endsWith(SEPARATOR + SNAPSHOT_PREFIX + FILE_NAME);
+    }
+
+    /**
+     * Get the segment number of a segment or snapshot file.
+     *
+     * @return the segment number, or -1 if it is no segment or snapshot file
+     */
+    public static long segmentOf(String fileName) {
+        int separator = fileName.indexOf(SEPARATOR);
+        if (separator <= 0 || !fileName.endsWith(FILE_NAME)) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(fileName.substring(0, separator));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    /** The first segment number after all segment and snapshot files of the region. */
+    public static long nextSegment(FileSystem fs, Path parentPath) throws IOException {
+        long next = 1;
+        if (!fs.exists(parentPath)) {
+            return next;
+        }
+        for (FileStatus status : fs.listStatus(parentPath)) {
+            next = Math.max(next, segmentOf(status.getPath().getName()) + 1);
+        }
+        return next;
+    }
+}
@@ -29,12 +29,37 @@ import org.apache.seatunnel.engine.serializer.api.Serializer;
 import org.apache.hadoop.fs.FileSystem;
 import org.apache.hadoop.fs.Path;
 
+import lombok.extern.slf4j.Slf4j;
+
 import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * Writes the WAL of a region and compacts its sealed segments in the background once there are
+ * enough of them, so a reload only replays a snapshot and a short tail of segments.
+ */
+@Slf4j
 public class WALWriter implements AutoCloseable {
 
+    private static final long COMPACTION_CLOSE_WAIT_SECONDS = 5;
+
     IFileWriter writer;
 
+    private final WALCompactor compactor;
+
+    private final int compactionSegments;
+
+    private final ExecutorService compactionExecutor;
+
+    /** The last segment handed to a compaction. */
+    private long compactedSegment;
+
+    private Future<?> compaction;
+
     public WALWriter(
             FileSystem fs,
             FileConfiguration fileConfiguration,
@@ -44,14 +69,57 @@ public class WALWriter implements AutoCloseable {
         this.writer = DiscoveryWalFileFactory.getWriter(fileConfiguration.getName());
         this.writer.setBlockSize(fileConfiguration.getConfiguration().getBlockSize());
         this.writer.initialize(fs, parentPath, serializer);
+        this.compactor = new WALCompactor(fs, parentPath, serializer);
+        this.compactionSegments = fileConfiguration.getConfiguration().getCompactionSegments();
+        this.compactedSegment = writer.currentSegment() - 1;
+        this.compactionExecutor =
+                Executors.newSingleThreadExecutor(
+                        runnable -> {
+                            Thread thread =
+                                    new Thread(runnable, "wal-compaction-" + parentPath.getName());
+                            thread.setDaemon(true);
+                            return thread;
+                        });
     }
 
     public void write(IMapFileData data) throws IOException {
         this.writer.write(data);
+        compactIfNeeded();
+    }
+
+    /** Write a batch of data with a single flush of the WAL. */
+    public void write(List<IMapFileData> data) throws IOException {
+        this.writer.write(data);
+        compactIfNeeded();
+    }
+
+    private void compactIfNeeded() {
+        long lastSealedSegment = writer.currentSegment() - 1;
+        if (compactionSegments <= 0
+                || lastSealedSegment - compactedSegment < compactionSegments
+                || (compaction != null && !compaction.isDone())) {
+            return;
+        }
+        compactedSegment = lastSealedSegment;
+        compaction =
+                compactionExecutor.submit(
+                        () -> {
+                            try {
+                                compactor.compact(lastSealedSegment);
+                            } catch (Exception e) {
+                                // the segments stay and are compacted again next time
+                                log.warn(
+                                        "compact WAL up to segment {} error", lastSealedSegment, e);
+                            }
+                        });
     }
 
     @Override
     public void close() throws Exception {
         this.writer.close();
+        compactionExecutor.shutdown();
+        if (!compactionExecutor.awaitTermination(COMPACTION_CLOSE_WAIT_SECONDS, TimeUnit.SECONDS)) {
+            log.warn("WAL compaction didn't finish in {} seconds", COMPACTION_CLOSE_WAIT_SECONDS);
+        }
     }
 }
@@ -28,10 +28,16 @@ import java.util.Map;
 
 public abstract class AbstractConfiguration {
     public static final String BLOCK_SIZE = "block.size";
+
+    /** The number of sealed WAL segments that triggers a compaction, 0 disables compaction. */
+    public static final String COMPACTION_SEGMENTS = "compaction.segments";
+
     protected static final String HDFS_IMPL_KEY = "impl";
 
     private Long blockSize = 1024 * 1024L;
 
+    private int compactionSegments = 10;
+
     public Long getBlockSize() {
         return blockSize;
     }
@@ -40,6 +46,28 @@ public abstract class AbstractConfiguration {
         this.blockSize = blockSize;
     }
 
+    public int getCompactionSegments() {
+        return compactionSegments;
+    }
+
+    public void setCompactionSegments(int compactionSegments) {
+        this.compactionSegments = compactionSegments;
+    }
+
+    /**
+     * set the WAL options, they apply to every storage type
+     *
+     * @param config configuration
+     */
+    void setWalConfiguration(Map<String, String> config) {
+        if (config.containsKey(BLOCK_SIZE)) {
+            setBlockSize(Long.parseLong(config.get(BLOCK_SIZE)));
+        }
+        if (config.containsKey(COMPACTION_SEGMENTS)) {
+            setCompactionSegments(Integer.parseInt(config.get(COMPACTION_SEGMENTS)));
+        }
+    }
+
     /**
      * check the configuration keys
      *
@@ -66,11 +94,9 @@ public abstract class AbstractConfiguration {
      */
     void setExtraConfiguration(
             Configuration hadoopConf, Map<String, String> config, String prefix) {
+        setWalConfiguration(config);
         config.forEach(
                 (k, v) -> {
-                    if (config.containsKey(BLOCK_SIZE)) {
-                        setBlockSize(Long.parseLong(config.get(BLOCK_SIZE)));
-                    }
                     if (k.startsWith(prefix)) {
                         hadoopConf.set(k, String.valueOf(v));
                     }
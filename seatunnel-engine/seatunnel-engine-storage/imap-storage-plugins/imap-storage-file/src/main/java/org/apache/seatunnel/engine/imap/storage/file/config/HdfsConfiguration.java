@@ -57,6 +57,7 @@ public class HdfsConfiguration extends AbstractConfiguration {
     @Override
     public Configuration buildConfiguration(Map<String, String> config) {
         Configuration hadoopConf = new Configuration();
+        setWalConfiguration(config);
         if (config.containsKey(HDFS_DEF_FS_NAME)) {
             hadoopConf.set(HDFS_DEF_FS_NAME, config.get(HDFS_DEF_FS_NAME));
         }
@@ -30,17 +30,29 @@ import org.apache.seatunnel.engine.serializer.api.Serializer;
 import org.apache.hadoop.fs.FileSystem;
 import org.apache.hadoop.fs.Path;
 
-import com.lmax.disruptor.WorkHandler;
+import com.lmax.disruptor.EventHandler;
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 
-/** NOTICE: Single thread to write data to orc file. */
+/**
+ * NOTICE: Single thread to write data to the WAL. Appends are group committed: all events that
+ * are available in the ring buffer are written with a single flush, and their requests are
+ * answered after it.
+ */
 @Slf4j
-public class WALWorkHandler implements WorkHandler<FileWALEvent> {
+public class WALWorkHandler implements EventHandler<FileWALEvent> {
+
+    private static final int MAX_BATCH_SIZE = 1024;
 
     private WALWriter writer;
 
+    private final List<IMapFileData> batch = new ArrayList<>();
+
+    private final List<Long> batchRequestIds = new ArrayList<>();
+
     public WALWorkHandler(
             FileSystem fs,
             FileConfiguration fileConfiguration,
@@ -55,33 +67,44 @@ public class WALWorkHandler implements WorkHandler<FileWALEvent> {
     }
 
     @Override
-    public void onEvent(FileWALEvent fileWALEvent) throws Exception {
-        log.debug("write data to orc file");
-        walEvent(fileWALEvent.getData(), fileWALEvent.getType(), fileWALEvent.getRequestId());
-    }
-
-    private void walEvent(IMapFileData iMapFileData, WALEventType type, long requestId)
+    public void onEvent(FileWALEvent fileWALEvent, long sequence, boolean endOfBatch)
             throws Exception {
-        if (type == WALEventType.APPEND) {
-            boolean writeSuccess = true;
-            // write to current writer
-            try {
-                writer.write(iMapFileData);
-            } catch (IOException e) {
-                writeSuccess = false;
-                log.error("write orc file error, walEventBean is {} ", iMapFileData, e);
+        if (fileWALEvent.getType() == WALEventType.APPEND) {
+            batch.add(fileWALEvent.getData());
+            batchRequestIds.add(fileWALEvent.getRequestId());
+            if (endOfBatch || batch.size() >= MAX_BATCH_SIZE) {
+                commitBatch();
             }
-            // return the result to the client
-            executeResponse(requestId, writeSuccess);
             return;
         }
 
-        if (type == WALEventType.CLOSED) {
+        commitBatch();
+        if (fileWALEvent.getType() == WALEventType.CLOSED) {
             // close writer and archive
             writer.close();
         }
     }
 
+    private void commitBatch() {
+        if (batch.isEmpty()) {
+            return;
+        }
+        log.debug("write {} records to the WAL", batch.size());
+        boolean writeSuccess = true;
+        try {
+            writer.write(batch);
+        } catch (IOException e) {
+            writeSuccess = false;
+            log.error("write WAL error, batch size is {} ", batch.size(), e);
+        }
+        // return the result to the clients
+        for (long requestId : batchRequestIds) {
+            executeResponse(requestId, writeSuccess);
+        }
+        batch.clear();
+        batchRequestIds.clear();
+    }
+
     private void executeResponse(long requestId, boolean success) {
         if (null == RequestFutureCache.get(requestId)) {
             log.warn("requestId is {} not found in RequestFutureCache", requestId);
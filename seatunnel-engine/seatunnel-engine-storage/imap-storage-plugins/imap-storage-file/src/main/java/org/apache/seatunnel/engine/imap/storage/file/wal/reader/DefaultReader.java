@@ -31,14 +31,18 @@ import org.apache.hadoop.fs.LocatedFileStatus;
 import org.apache.hadoop.fs.Path;
 import org.apache.hadoop.fs.RemoteIterator;
 
+import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import static org.apache.seatunnel.engine.imap.storage.file.common.WALDataUtils.WAL_DATA_METADATA_LENGTH;
 
 public class DefaultReader implements IFileReader<IMapFileData> {
     private static final int DEFAULT_QUERY_LIST_SIZE = 1024;
+    private static final int MAX_LISTINGS = 10;
     FileSystem fs;
     Serializer serializer;
 
@@ -53,6 +57,11 @@ public class DefaultReader implements IFileReader<IMapFileData> {
         this.serializer = serializer;
     }
 
+    /**
+     * Read all WAL files below the path. A compaction may replace segments by a snapshot while
+     * they are read, a file that vanished after the listing is skipped and the path is listed
+     * again to read the new snapshot. Records read twice are harmless, the latest record wins.
+     */
     @Override
     public List<IMapFileData> readAllData(Path parentPath) throws IOException {
         List<String> fileNames = getFileNames(parentPath);
@@ -60,10 +69,30 @@ public class DefaultReader implements IFileReader<IMapFileData> {
             return new ArrayList<>();
         }
         List<IMapFileData> result = new ArrayList<>(DEFAULT_QUERY_LIST_SIZE);
-        for (String fileName : fileNames) {
-            result.addAll(readData(new Path(parentPath, fileName)));
+        Set<String> readFileNames = new HashSet<>();
+        for (int listing = 1; ; listing++) {
+            boolean vanished = false;
+            for (String fileName : fileNames) {
+                if (!readFileNames.add(fileName)) {
+                    continue;
+                }
+                try {
+                    result.addAll(readData(new Path(parentPath, fileName)));
+                } catch (FileNotFoundException e) {
+                    vanished = true;
+                }
+            }
+            if (!vanished) {
+                return result;
+            }
+            if (listing >= MAX_LISTINGS) {
+                throw new IOException(
+                        String.format(
+                                "WAL files of %s kept vanishing in %d listings",
+                                parentPath, MAX_LISTINGS));
+            }
+            fileNames = getFileNames(parentPath);
         }
-        return result;
     }
 
     private List<String> getFileNames(Path parentPath) {
@@ -86,7 +115,8 @@ public class DefaultReader implements IFileReader<IMapFileData> {
         }
     }
 
-    private List<IMapFileData> readData(Path path) throws IOException {
+    /** Read the records of one WAL file, a torn record at its end is ignored. */
+    public List<IMapFileData> readData(Path path) throws IOException {
         List<IMapFileData> result = new ArrayList<>(DEFAULT_QUERY_LIST_SIZE);
         long length = fs.getFileStatus(path).getLen();
         try (FSDataInputStream in = fs.open(path)) {
@@ -19,13 +19,11 @@
  */
 package org.apache.seatunnel.engine.imap.storage.file.wal.writer;
 
-import org.apache.seatunnel.engine.imap.storage.api.exception.IMapStorageException;
 import org.apache.seatunnel.engine.imap.storage.file.bean.IMapFileData;
 import org.apache.seatunnel.engine.imap.storage.file.common.WALDataUtils;
+import org.apache.seatunnel.engine.imap.storage.file.common.WALSegments;
 import org.apache.seatunnel.engine.serializer.api.Serializer;
 
-import org.apache.curator.shaded.com.google.common.io.ByteStreams;
-import org.apache.hadoop.fs.FSDataInputStream;
 import org.apache.hadoop.fs.FSDataOutputStream;
 import org.apache.hadoop.fs.FileSystem;
 import org.apache.hadoop.fs.Path;
@@ -35,13 +33,17 @@ import io.netty.buffer.Unpooled;
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
-import java.util.concurrent.atomic.AtomicLong;
+import java.util.List;
 
+/**
+ * Objects of a cloud storage can't be appended to, so the writer keeps the current segment in
+ * memory and uploads it again once per written batch. Segments are bounded by the block size, which
+ * bounds the cost of an upload.
+ */
 @Slf4j
 public abstract class CloudWriter implements IFileWriter<IMapFileData> {
     private FileSystem fs;
     private Path parentPath;
-    private Path path;
     private Serializer serializer;
 
     private ByteBuf bf = Unpooled.buffer(1024);
@@ -49,7 +51,7 @@ public abstract class CloudWriter implements IFileWriter<IMapFileData> {
     // block size,  default 1024*1024
     private long blockSize = 1024 * 1024;
 
-    private AtomicLong index = new AtomicLong(0);
+    private long segment;
 
     @Override
     public void initialize(FileSystem fs, Path parentPath, Serializer serializer)
@@ -58,12 +60,7 @@ public abstract class CloudWriter implements IFileWriter<IMapFileData> {
         this.fs = fs;
         this.serializer = serializer;
         this.parentPath = parentPath;
-        this.path = createNewPath();
-        if (fs.exists(path)) {
-            try (FSDataInputStream fsDataInputStream = fs.open(path)) {
-                bf.writeBytes(ByteStreams.toByteArray(fsDataInputStream));
-            }
-        }
+        this.segment = WALSegments.nextSegment(fs, parentPath);
     }
 
     @Override
@@ -73,46 +70,31 @@ public abstract class CloudWriter implements IFileWriter<IMapFileData> {
         }
     }
 
-    // TODO Synchronous write, asynchronous write can be added in the future
     @Override
-    public void write(IMapFileData data) throws IOException {
-        byte[] bytes = serializer.serialize(data);
-        this.write(bytes);
-    }
-
-    private void write(byte[] bytes) {
-        try (FSDataOutputStream out = fs.create(path, true)) {
-            // Write to bytebuffer
-            byte[] data = WALDataUtils.wrapperBytes(bytes);
-            bf.writeBytes(data);
-
-            // Read all bytes
-            byte[] allBytes = new byte[bf.readableBytes()];
-            bf.readBytes(allBytes);
-
-            // write filesystem
-            out.write(allBytes);
-
-            // check and reset
-            checkAndSetNextScheduleRotation(allBytes.length);
-
-        } catch (Exception ex) {
-            throw new IMapStorageException(ex);
+    public void write(List<IMapFileData> data) throws IOException {
+        int committedIndex = bf.writerIndex();
+        try {
+            for (IMapFileData fileData : data) {
+                bf.writeBytes(WALDataUtils.wrapperBytes(serializer.serialize(fileData)));
+            }
+            try (FSDataOutputStream out =
+                    fs.create(WALSegments.segmentPath(parentPath, segment), true)) {
+                bf.getBytes(bf.readerIndex(), out, bf.readableBytes());
+            }
+        } catch (IOException e) {
+            // the uploaded segment doesn't contain the batch
+            bf.writerIndex(committedIndex);
+            throw e;
         }
-    }
-
-    private void checkAndSetNextScheduleRotation(long allBytes) {
-        if (allBytes > blockSize) {
-            this.path = createNewPath();
-            this.bf.clear();
-        } else {
-            // reset index
-            bf.resetReaderIndex();
+        if (bf.readableBytes() > blockSize) {
+            segment++;
+            bf.clear();
         }
     }
 
-    public Path createNewPath() {
-        return new Path(parentPath, index.incrementAndGet() + "_" + FILE_NAME);
+    @Override
+    public long currentSegment() {
+        return segment;
     }
 
     @Override
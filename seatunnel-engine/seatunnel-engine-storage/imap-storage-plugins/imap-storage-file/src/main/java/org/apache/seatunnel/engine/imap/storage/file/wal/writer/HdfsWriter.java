@@ -22,6 +22,7 @@ package org.apache.seatunnel.engine.imap.storage.file.wal.writer;
 
 import org.apache.seatunnel.engine.imap.storage.file.bean.IMapFileData;
 import org.apache.seatunnel.engine.imap.storage.file.common.WALDataUtils;
+import org.apache.seatunnel.engine.imap.storage.file.common.WALSegments;
 import org.apache.seatunnel.engine.serializer.api.Serializer;
 
 import org.apache.hadoop.fs.FSDataOutputStream;
@@ -32,13 +33,23 @@ import org.apache.hadoop.hdfs.client.HdfsDataOutputStream;
 
 import java.io.IOException;
 import java.util.EnumSet;
+import java.util.List;
 
+/** Appends to the open segment file and syncs once per written batch. */
 public class HdfsWriter implements IFileWriter<IMapFileData> {
 
+    private FileSystem fs;
+
+    private Path parentPath;
+
     private FSDataOutputStream out;
 
     private Serializer serializer;
 
+    private long blockSize = DEFAULT_BLOCK_SIZE;
+
+    private long segment;
+
     @Override
     public String identifier() {
         return "hdfs";
@@ -47,15 +58,54 @@ public class HdfsWriter implements IFileWriter<IMapFileData> {
     @Override
     public void initialize(FileSystem fs, Path parentPath, Serializer serializer)
             throws IOException {
-        Path path = new Path(parentPath, FILE_NAME);
-        this.out = fs.create(path);
+        this.fs = fs;
+        this.parentPath = parentPath;
         this.serializer = serializer;
+        this.segment = WALSegments.nextSegment(fs, parentPath);
+    }
+
+    @Override
+    public void setBlockSize(Long blockSize) {
+        if (blockSize != null && blockSize > DEFAULT_BLOCK_SIZE) {
+            this.blockSize = blockSize;
+        }
+    }
+
+    @Override
+    public void write(List<IMapFileData> data) throws IOException {
+        if (out == null) {
+            out = fs.create(WALSegments.segmentPath(parentPath, segment));
+        }
+        try {
+            for (IMapFileData fileData : data) {
+                out.write(WALDataUtils.wrapperBytes(serializer.serialize(fileData)));
+            }
+            this.flush();
+        } catch (IOException e) {
+            // a torn record ends the replay of a segment, so never append after it
+            try {
+                rollSegment();
+            } catch (IOException closeError) {
+                e.addSuppressed(closeError);
+            }
+            throw e;
+        }
+        if (out.getPos() >= blockSize) {
+            rollSegment();
+        }
+    }
+
+    /** Seal the current segment, the next write opens the next one. */
+    private void rollSegment() throws IOException {
+        FSDataOutputStream current = out;
+        out = null;
+        segment++;
+        current.close();
     }
 
     @Override
-    public void write(IMapFileData data) throws IOException {
-        byte[] bytes = serializer.serialize(data);
-        this.write(bytes);
+    public long currentSegment() {
+        return segment;
     }
 
     public void flush() throws IOException {
@@ -73,12 +123,6 @@ public class HdfsWriter implements IFileWriter<IMapFileData> {
         this.out.hflush();
     }
 
-    private void write(byte[] bytes) throws IOException {
-        byte[] data = WALDataUtils.wrapperBytes(bytes);
-        this.out.write(data);
-        this.flush();
-    }
-
     @Override
     public void close() throws Exception {
         if (out != null) {
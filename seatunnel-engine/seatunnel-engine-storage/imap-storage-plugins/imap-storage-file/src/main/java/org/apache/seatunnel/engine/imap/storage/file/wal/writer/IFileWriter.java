@@ -25,6 +25,8 @@ import org.apache.hadoop.fs.FileSystem;
 import org.apache.hadoop.fs.Path;
 
 import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
 
 public interface IFileWriter<T> extends AutoCloseable {
     String FILE_NAME = "wal.txt";
@@ -36,5 +38,16 @@ public interface IFileWriter<T> extends AutoCloseable {
 
     default void setBlockSize(Long blockSize) {}
 
-    void write(T data) throws IOException;
+    default void write(T data) throws IOException {
+        write(Collections.singletonList(data));
+    }
+
+    /**
+     * Append the data to the current segment and make it durable with a single flush, the
+     * segment is rolled once it exceeds the block size.
+     */
+    void write(List<T> data) throws IOException;
+
+    /** The segment the next write goes to, all segments before it are sealed. */
+    long currentSegment();
 }
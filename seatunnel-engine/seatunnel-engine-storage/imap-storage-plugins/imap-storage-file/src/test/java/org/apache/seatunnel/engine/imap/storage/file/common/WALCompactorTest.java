@@ -0,0 +1,243 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+
+package org.apache.seatunnel.engine.imap.storage.file.common;
+
+import org.apache.seatunnel.engine.imap.storage.file.bean.IMapFileData;
+import org.apache.seatunnel.engine.imap.storage.file.config.FileConfiguration;
+import org.apache.seatunnel.engine.imap.storage.file.wal.reader.DefaultReader;
+import org.apache.seatunnel.engine.imap.storage.file.wal.writer.HdfsWriter;
+import org.apache.seatunnel.engine.serializer.api.Serializer;
+import org.apache.seatunnel.engine.serializer.protobuf.ProtoStuffSerializer;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.FileStatus;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledOnOs;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.condition.OS.LINUX;
+import static org.junit.jupiter.api.condition.OS.MAC;
+
+@EnabledOnOs({LINUX, MAC})
+public class WALCompactorTest {
+
+    private static FileSystem FS;
+    private static final Path ROOT_PATH = new Path("/tmp/wal-compactor-test/");
+    private static final Path PARENT_PATH = new Path(ROOT_PATH, "1");
+    private static final Serializer SERIALIZER = new ProtoStuffSerializer();
+    private static final String PADDING = StringUtils.repeat('x', 1024);
+
+    @BeforeAll
+    public static void init() throws IOException {
+        Configuration conf = new Configuration();
+        conf.set("fs.defaultFS", "file:///");
+        conf.set("fs.hdfs.impl", "org.apache.hadoop.fs.LocalFileSystem");
+        FS = FileSystem.getLocal(conf);
+    }
+
+    @Test
+    public void testCompactSealedSegments() throws Exception {
+        HdfsWriter writer = new HdfsWriter();
+        writer.initialize(FS, PARENT_PATH, SERIALIZER);
+        long timestamp = 0;
+        for (int round = 0; round < 3; round++) {
+            List<IMapFileData> batch = new ArrayList<>();
+            for (int i = 0; i < 1000; i++) {
+                batch.add(put("key" + i, round + "-" + PADDING, timestamp++));
+                if (batch.size() == 100) {
+                    writer.write(batch);
+                    batch.clear();
+                }
+            }
+        }
+        long lastSealedSegment = writer.currentSegment() - 1;
+        Assertions.assertTrue(lastSealedSegment >= 2, "sealed segments: " + lastSealedSegment);
+        // written after the sealed segments, must survive the compaction
+        writer.write(delete("key0", timestamp));
+        writer.close();
+
+        new WALCompactor(FS, PARENT_PATH, SERIALIZER).compact(lastSealedSegment);
+
+        for (FileStatus status : FS.listStatus(PARENT_PATH)) {
+            String fileName = status.getPath().getName();
+            long segment = WALSegments.segmentOf(fileName);
+            if (segment <= lastSealedSegment) {
+                Assertions.assertTrue(WALSegments.isSnapshot(fileName), fileName);
+            }
+        }
+        Assertions.assertTrue(FS.exists(WALSegments.snapshotPath(PARENT_PATH, lastSealedSegment)));
+
+        WALReader reader = new WALReader(FS, FileConfiguration.HDFS, SERIALIZER);
+        Map<Object, Object> result = reader.loadAllData(PARENT_PATH, new HashSet<>());
+        Assertions.assertEquals(999, result.size());
+        Assertions.assertNull(result.get("key0"));
+        Assertions.assertEquals("2-" + PADDING, result.get("key1"));
+        Assertions.assertEquals("2-" + PADDING, result.get("key999"));
+    }
+
+    @Test
+    public void testLoadWhileCompacting() throws Exception {
+        Path parentPath = new Path("/tmp/wal-compactor-concurrent-test/");
+        HdfsWriter writer = new HdfsWriter();
+        writer.initialize(FS, parentPath, SERIALIZER);
+        long timestamp = 0;
+        for (int round = 0; round < 12; round++) {
+            for (int i = 0; i < 1000; i += 100) {
+                List<IMapFileData> batch = new ArrayList<>();
+                for (int key = i; key < i + 100; key++) {
+                    batch.add(put("key" + key, round + "-" + PADDING, timestamp++));
+                }
+                writer.write(batch);
+            }
+        }
+        long lastSealedSegment = writer.currentSegment() - 1;
+        writer.close();
+        Assertions.assertTrue(lastSealedSegment >= 10, "sealed segments: " + lastSealedSegment);
+
+        AtomicBoolean compacting = new AtomicBoolean(true);
+        CompletableFuture<Void> compaction =
+                CompletableFuture.runAsync(
+                        () -> {
+                            try {
+                                WALCompactor compactor =
+                                        new WALCompactor(FS, parentPath, SERIALIZER);
+                                for (long segment = 1; segment <= lastSealedSegment; segment++) {
+                                    compactor.compact(segment);
+                                }
+                            } catch (IOException e) {
+                                throw new UncheckedIOException(e);
+                            } finally {
+                                compacting.set(false);
+                            }
+                        });
+        WALReader reader = new WALReader(FS, FileConfiguration.HDFS, SERIALIZER);
+        int loads = 0;
+        while (compacting.get() || loads == 0) {
+            Map<Object, Object> result = reader.loadAllData(parentPath, new HashSet<>());
+            Assertions.assertEquals(1000, result.size());
+            Assertions.assertEquals("11-" + PADDING, result.get("key0"));
+            Assertions.assertEquals("11-" + PADDING, result.get("key999"));
+            Assertions.assertEquals(1000, reader.loadAllKeys(parentPath).size());
+            loads++;
+        }
+        compaction.get();
+        FS.delete(parentPath, true);
+    }
+
+    @Test
+    public void testDropObsoleteDeletions() throws Exception {
+        Path rootPath = new Path("/tmp/wal-compactor-deletion-test/");
+        Path otherRegion = new Path(rootPath, "1");
+        Path region = new Path(rootPath, "2");
+        HdfsWriter otherWriter = new HdfsWriter();
+        otherWriter.initialize(FS, otherRegion, SERIALIZER);
+        otherWriter.write(put("a", "a", 0));
+        otherWriter.close();
+
+        HdfsWriter writer = new HdfsWriter();
+        writer.initialize(FS, region, SERIALIZER);
+        List<IMapFileData> batch = new ArrayList<>();
+        batch.add(put("b", "b", 1));
+        batch.add(delete("a", 2));
+        batch.add(delete("b", 3));
+        batch.add(delete("c", 4));
+        writer.write(batch);
+        long segment = writer.currentSegment();
+        writer.close();
+        WALCompactor compactor = new WALCompactor(FS, region, SERIALIZER);
+        compactor.compact(segment);
+        // "a" hides a record of the other region, "b" a record of the compacted segment
+        Assertions.assertEquals(
+                Arrays.asList("b", "a"),
+                deletedKeys(WALSegments.snapshotPath(region, segment)));
+
+        writer = new HdfsWriter();
+        writer.initialize(FS, region, SERIALIZER);
+        writer.write(put("d", "d", 5));
+        segment = writer.currentSegment();
+        writer.close();
+        compactor.compact(segment);
+        Assertions.assertEquals(
+                Collections.singletonList("a"),
+                deletedKeys(WALSegments.snapshotPath(region, segment)));
+
+        WALReader reader = new WALReader(FS, FileConfiguration.HDFS, SERIALIZER);
+        Map<Object, Object> result = reader.loadAllData(rootPath, new HashSet<>());
+        Assertions.assertEquals(Collections.singletonMap("d", "d"), result);
+        FS.delete(rootPath, true);
+    }
+
+    private static List<String> deletedKeys(Path path) throws IOException {
+        DefaultReader reader = new DefaultReader();
+        reader.initialize(FS, SERIALIZER);
+        List<String> keys = new ArrayList<>();
+        for (IMapFileData data : reader.readData(path)) {
+            if (data.isDeleted()) {
+                keys.add(SERIALIZER.deserialize(data.getKey(), String.class));
+            }
+        }
+        return keys;
+    }
+
+    private static IMapFileData put(String key, String value, long timestamp) throws IOException {
+        return IMapFileData.builder()
+                .key(SERIALIZER.serialize(key))
+                .keyClassName(String.class.getName())
+                .value(SERIALIZER.serialize(value))
+                .valueClassName(String.class.getName())
+                .timestamp(timestamp)
+                .deleted(false)
+                .build();
+    }
+
+    private static IMapFileData delete(String key, long timestamp) throws IOException {
+        return IMapFileData.builder()
+                .key(SERIALIZER.serialize(key))
+                .keyClassName(String.class.getName())
+                .timestamp(timestamp)
+                .deleted(true)
+                .build();
+    }
+
+    @AfterAll
+    public static void close() throws IOException {
+        FS.delete(ROOT_PATH, true);
+        FS.close();
+    }
+}
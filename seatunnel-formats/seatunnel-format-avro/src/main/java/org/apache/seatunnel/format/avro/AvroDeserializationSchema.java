@@ -39,6 +39,9 @@ public class AvroDeserializationSchema implements DeserializationSchema<SeaTunne
     private final AvroToRowConverter converter;
     private final CatalogTable catalogTable;
 
+    private transient BinaryDecoder decoder;
+    private transient GenericRecord reuseRecord;
+
     public AvroDeserializationSchema(CatalogTable catalogTable) {
         this.catalogTable = catalogTable;
         this.rowType = catalogTable.getSeaTunnelRowType();
@@ -47,9 +50,10 @@ public class AvroDeserializationSchema implements DeserializationSchema<SeaTunne
 
     @Override
     public SeaTunnelRow deserialize(byte[] message) throws IOException {
-        BinaryDecoder decoder = DecoderFactory.get().binaryDecoder(message, null);
-        GenericRecord record = this.converter.getReader().read(null, decoder);
-        SeaTunnelRow seaTunnelRow = converter.converter(record, rowType);
+        // reuse the decoder and the record, the converted row doesn't refer to any of them
+        decoder = DecoderFactory.get().binaryDecoder(message, decoder);
+        reuseRecord = this.converter.getReader().read(reuseRecord, decoder);
+        SeaTunnelRow seaTunnelRow = converter.convert(reuseRecord);
         Optional<TablePath> tablePath =
                 Optional.ofNullable(catalogTable).map(CatalogTable::getTablePath);
         if (tablePath.isPresent()) {
@@ -35,9 +35,11 @@ import org.apache.avro.io.DatumReader;
 import java.io.Serializable;
 import java.lang.reflect.Array;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 
 public class AvroToRowConverter implements Serializable {
 
@@ -45,8 +47,13 @@ public class AvroToRowConverter implements Serializable {
 
     private DatumReader<GenericRecord> reader = null;
     private Schema schema;
+    private final SeaTunnelRowType rowType;
+
+    /** Converter of {@link #rowType} with the field positions and types resolved once. */
+    private transient Function<Object, Object> rowConverter;
 
     public AvroToRowConverter(SeaTunnelRowType rowType) {
+        this.rowType = rowType;
         schema = SeaTunnelRowTypeToAvroSchemaConverter.buildAvroSchemaWithRowType(rowType);
     }
 
@@ -67,6 +74,124 @@ public class AvroToRowConverter implements Serializable {
         return datumReader;
     }
 
+    /**
+     * Converts a record read by {@link #getReader()} into a row. Unlike {@link
+     * #converter(GenericRecord, SeaTunnelRowType)}, the converters of the fields are created once
+     * and reused for every record, and the values are copied out of the record, so the record can
+     * be reused to read the next message.
+     */
+    public SeaTunnelRow convert(GenericRecord record) {
+        if (rowConverter == null) {
+            rowConverter = createRowConverter(rowType, schema);
+        }
+        return (SeaTunnelRow) rowConverter.apply(record);
+    }
+
+    private Function<Object, Object> createRowConverter(
+            SeaTunnelRowType rowType, Schema recordSchema) {
+        String[] fieldNames = rowType.getFieldNames();
+        int[] positions = new int[fieldNames.length];
+        List<Function<Object, Object>> fieldConverters = new ArrayList<>(fieldNames.length);
+        for (int i = 0; i < fieldNames.length; i++) {
+            Schema.Field field = recordSchema.getField(fieldNames[i]);
+            positions[i] = field == null ? -1 : field.pos();
+            fieldConverters.add(
+                    createFieldConverter(
+                            rowType.getFieldType(i), field == null ? null : field.schema()));
+        }
+        return val -> {
+            GenericRecord record = (GenericRecord) val;
+            Object[] values = new Object[positions.length];
+            for (int i = 0; i < positions.length; i++) {
+                if (positions[i] >= 0) {
+                    values[i] = fieldConverters.get(i).apply(record.get(positions[i]));
+                }
+            }
+            return new SeaTunnelRow(values);
+        };
+    }
+
+    private Function<Object, Object> createFieldConverter(
+            SeaTunnelDataType<?> dataType, Schema fieldSchema) {
+        Function<Object, Object> converter = createNotNullFieldConverter(dataType, fieldSchema);
+        return val -> val == null ? null : converter.apply(val);
+    }
+
+    private Function<Object, Object> createNotNullFieldConverter(
+            SeaTunnelDataType<?> dataType, Schema fieldSchema) {
+        switch (dataType.getSqlType()) {
+            case STRING:
+                return Object::toString;
+            case BOOLEAN:
+            case INT:
+            case BIGINT:
+            case FLOAT:
+            case DOUBLE:
+            case NULL:
+            case DATE:
+            case DECIMAL:
+            case TIMESTAMP:
+                return val -> val;
+            case BYTES:
+                return val -> {
+                    // the buffer may be reused by the reader, so copy its remaining bytes
+                    ByteBuffer buffer = ((ByteBuffer) val).duplicate();
+                    byte[] bytes = new byte[buffer.remaining()];
+                    buffer.get(bytes);
+                    return bytes;
+                };
+            case SMALLINT:
+                return val -> ((Integer) val).shortValue();
+            case TINYINT:
+                if (dataType.getTypeClass() == Byte.class) {
+                    return val -> ((Integer) val).byteValue();
+                }
+                return val -> val;
+            case MAP:
+                MapType<?, ?> mapType = (MapType<?, ?>) dataType;
+                Schema valueSchema = fieldSchema == null ? null : fieldSchema.getValueType();
+                Function<Object, Object> keyConverter =
+                        createFieldConverter(mapType.getKeyType(), null);
+                Function<Object, Object> valueConverter =
+                        createFieldConverter(mapType.getValueType(), valueSchema);
+                return val -> {
+                    Map<Object, Object> res = new HashMap<>();
+                    for (Map.Entry<?, ?> entry : ((Map<?, ?>) val).entrySet()) {
+                        res.put(
+                                keyConverter.apply(entry.getKey()),
+                                valueConverter.apply(entry.getValue()));
+                    }
+                    return res;
+                };
+            case ARRAY:
+                SeaTunnelDataType<?> elementType = ((ArrayType<?, ?>) dataType).getElementType();
+                Schema elementSchema = fieldSchema == null ? null : fieldSchema.getElementType();
+                Function<Object, Object> elementConverter =
+                        createFieldConverter(elementType, elementSchema);
+                return val -> {
+                    List<?> list = (List<?>) val;
+                    Object instance = Array.newInstance(elementType.getTypeClass(), list.size());
+                    for (int i = 0; i < list.size(); i++) {
+                        Array.set(instance, i, elementConverter.apply(list.get(i)));
+                    }
+                    return instance;
+                };
+            case ROW:
+                SeaTunnelRowType subRow = (SeaTunnelRowType) dataType;
+                if (fieldSchema == null) {
+                    return val -> converter((GenericRecord) val, subRow);
+                }
+                return createRowConverter(subRow, fieldSchema);
+            default:
+                String errorMsg =
+                        String.format(
+                                "SeaTunnel avro format is not supported for this data type [%s]",
+                                dataType.getSqlType());
+                throw new SeaTunnelAvroFormatException(
+                        AvroFormatErrorCode.UNSUPPORTED_DATA_TYPE, errorMsg);
+        }
+    }
+
     public SeaTunnelRow converter(GenericRecord record, SeaTunnelRowType rowType) {
         String[] fieldNames = rowType.getFieldNames();
 
@@ -24,6 +24,7 @@ import org.apache.seatunnel.api.table.type.BasicType;
 import org.apache.seatunnel.api.table.type.DecimalType;
 import org.apache.seatunnel.api.table.type.LocalTimeType;
 import org.apache.seatunnel.api.table.type.MapType;
+import org.apache.seatunnel.api.table.type.PrimitiveByteArrayType;
 import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
@@ -35,6 +36,7 @@ import java.io.IOException;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -177,4 +179,47 @@ class AvroSerializationSchemaTest {
         LocalDateTime localDateTime1 = (LocalDateTime) subRow.getField(13);
         Assertions.assertEquals(localDateTime1.compareTo(localDateTime), 0);
     }
+
+    @Test
+    public void testDeserializationReusesRecord() throws IOException {
+        SeaTunnelRowType rowType =
+                new SeaTunnelRowType(
+                        new String[] {"c_string", "c_bytes", "c_map"},
+                        new SeaTunnelDataType<?>[] {
+                            BasicType.STRING_TYPE,
+                            PrimitiveByteArrayType.INSTANCE,
+                            new MapType<>(BasicType.STRING_TYPE, BasicType.STRING_TYPE)
+                        });
+        CatalogTable catalogTable = CatalogTableUtil.getCatalogTable("", "", "", "test", rowType);
+        AvroSerializationSchema serializationSchema = new AvroSerializationSchema(rowType);
+        AvroDeserializationSchema deserializationSchema =
+                new AvroDeserializationSchema(catalogTable);
+
+        SeaTunnelRow first =
+                deserializationSchema.deserialize(
+                        serializationSchema.serialize(
+                                new SeaTunnelRow(
+                                        new Object[] {
+                                            "first",
+                                            new byte[] {1, 2, 3},
+                                            Collections.singletonMap("k1", "v1")
+                                        })));
+        SeaTunnelRow second =
+                deserializationSchema.deserialize(
+                        serializationSchema.serialize(
+                                new SeaTunnelRow(
+                                        new Object[] {
+                                            "2nd",
+                                            new byte[] {4},
+                                            Collections.singletonMap("k2", "v2")
+                                        })));
+
+        // the rows must not share the buffers of the reused record
+        Assertions.assertEquals("first", first.getField(0));
+        Assertions.assertArrayEquals(new byte[] {1, 2, 3}, (byte[]) first.getField(1));
+        Assertions.assertEquals(Collections.singletonMap("k1", "v1"), first.getField(2));
+        Assertions.assertEquals("2nd", second.getField(0));
+        Assertions.assertArrayEquals(new byte[] {4}, (byte[]) second.getField(1));
+        Assertions.assertEquals(Collections.singletonMap("k2", "v2"), second.getField(2));
+    }
 }
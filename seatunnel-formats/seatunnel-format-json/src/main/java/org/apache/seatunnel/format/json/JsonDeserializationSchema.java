@@ -18,12 +18,13 @@
 
 package org.apache.seatunnel.format.json;
 
+import org.apache.seatunnel.shade.com.fasterxml.jackson.core.JsonParser;
 import org.apache.seatunnel.shade.com.fasterxml.jackson.core.JsonProcessingException;
+import org.apache.seatunnel.shade.com.fasterxml.jackson.core.JsonToken;
 import org.apache.seatunnel.shade.com.fasterxml.jackson.core.json.JsonReadFeature;
 import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.DeserializationFeature;
 import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.JsonNode;
 import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.ObjectMapper;
-import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.node.ArrayNode;
 import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.node.NullNode;
 
 import org.apache.seatunnel.api.serialization.DeserializationSchema;
@@ -63,6 +64,9 @@ public class JsonDeserializationSchema implements DeserializationSchema<SeaTunne
      */
     private JsonToRowConverters.JsonToObjectConverter runtimeConverter;
 
+    /** Converter that reads JSON objects into rows without building a {@link JsonNode} tree. */
+    private final JsonToRowStreamingConverter streamingConverter;
+
     /** Object mapper for parsing the JSON. */
     private final ObjectMapper objectMapper = new ObjectMapper();
 
@@ -78,13 +82,21 @@ public class JsonDeserializationSchema implements DeserializationSchema<SeaTunne
         this.rowType = checkNotNull(rowType);
         this.failOnMissingField = failOnMissingField;
         this.ignoreParseErrors = ignoreParseErrors;
-        this.runtimeConverter =
-                new JsonToRowConverters(failOnMissingField, ignoreParseErrors)
-                        .createRowConverter(checkNotNull(rowType));
+        JsonToRowConverters converters =
+                new JsonToRowConverters(failOnMissingField, ignoreParseErrors);
+        this.runtimeConverter = converters.createRowConverter(checkNotNull(rowType));
 
-        if (hasDecimalType(rowType)) {
+        boolean useBigDecimalForFloats = hasDecimalType(rowType);
+        if (useBigDecimalForFloats) {
             objectMapper.enable(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS);
         }
+        this.streamingConverter =
+                new JsonToRowStreamingConverter(
+                        converters,
+                        rowType,
+                        failOnMissingField,
+                        ignoreParseErrors,
+                        useBigDecimalForFloats);
         objectMapper.configure(JsonReadFeature.ALLOW_UNESCAPED_CONTROL_CHARS.mappedFeature(), true);
     }
 
@@ -99,13 +111,21 @@ public class JsonDeserializationSchema implements DeserializationSchema<SeaTunne
         this.rowType = checkNotNull(catalogTable.getSeaTunnelRowType());
         this.failOnMissingField = failOnMissingField;
         this.ignoreParseErrors = ignoreParseErrors;
-        this.runtimeConverter =
-                new JsonToRowConverters(failOnMissingField, ignoreParseErrors)
-                        .createRowConverter(checkNotNull(rowType));
+        JsonToRowConverters converters =
+                new JsonToRowConverters(failOnMissingField, ignoreParseErrors);
+        this.runtimeConverter = converters.createRowConverter(checkNotNull(rowType));
 
-        if (hasDecimalType(rowType)) {
+        boolean useBigDecimalForFloats = hasDecimalType(rowType);
+        if (useBigDecimalForFloats) {
             objectMapper.enable(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS);
         }
+        this.streamingConverter =
+                new JsonToRowStreamingConverter(
+                        converters,
+                        rowType,
+                        failOnMissingField,
+                        ignoreParseErrors,
+                        useBigDecimalForFloats);
         objectMapper.configure(JsonReadFeature.ALLOW_UNESCAPED_CONTROL_CHARS.mappedFeature(), true);
     }
 
@@ -129,7 +149,12 @@ public class JsonDeserializationSchema implements DeserializationSchema<SeaTunne
         if (message == null) {
             return null;
         }
-        return convertJsonNode(convertBytes(message));
+        try (JsonParser parser = objectMapper.getFactory().createParser(message)) {
+            if (nextToken(parser, message) == null) {
+                return null;
+            }
+            return convertCurrentValue(parser, message);
+        }
     }
 
     public SeaTunnelRow deserialize(String message) throws IOException {
@@ -140,18 +165,21 @@ public class JsonDeserializationSchema implements DeserializationSchema<SeaTunne
     }
 
     public void collect(byte[] message, Collector<SeaTunnelRow> out) throws IOException {
-        JsonNode jsonNode = convertBytes(message);
-        if (jsonNode.isArray()) {
-            ArrayNode arrayNode = (ArrayNode) jsonNode;
-            for (int i = 0; i < arrayNode.size(); i++) {
-                SeaTunnelRow deserialize = convertJsonNode(arrayNode.get(i));
+        try (JsonParser parser = objectMapper.getFactory().createParser(message)) {
+            JsonToken token = nextToken(parser, message);
+            if (token == JsonToken.START_ARRAY) {
+                while ((token = nextToken(parser, message)) != JsonToken.END_ARRAY
+                        && token != null) {
+                    SeaTunnelRow deserialize = convertCurrentValue(parser, message);
+                    setCollectorTablePath(deserialize, catalogTable);
+                    out.collect(deserialize);
+                }
+            } else {
+                SeaTunnelRow deserialize =
+                        token == null ? null : convertCurrentValue(parser, message);
                 setCollectorTablePath(deserialize, catalogTable);
                 out.collect(deserialize);
             }
-        } else {
-            SeaTunnelRow deserialize = convertJsonNode(jsonNode);
-            setCollectorTablePath(deserialize, catalogTable);
-            out.collect(deserialize);
         }
     }
 
@@ -177,23 +205,46 @@ public class JsonDeserializationSchema implements DeserializationSchema<SeaTunne
         }
     }
 
-    public JsonNode deserializeToJsonNode(byte[] message) throws IOException {
-        return objectMapper.readTree(message);
-    }
-
-    public SeaTunnelRow convertToRowData(JsonNode message) {
-        return (SeaTunnelRow) runtimeConverter.convert(message, null);
+    private JsonToken nextToken(JsonParser parser, byte[] message) {
+        try {
+            return parser.nextToken();
+        } catch (IOException | RuntimeException e) {
+            if (ignoreParseErrors) {
+                return null;
+            }
+            throw CommonError.jsonOperationError(FORMAT, new String(message), e);
+        }
     }
 
-    private JsonNode convertBytes(byte[] message) {
+    /**
+     * Converts the JSON value the parser is positioned at. Objects are converted while they are
+     * parsed, other values fall back to the {@link JsonNode} based converter.
+     */
+    private SeaTunnelRow convertCurrentValue(JsonParser parser, byte[] message) {
+        JsonNode jsonNode;
         try {
-            return objectMapper.readTree(message);
+            if (parser.currentToken() == JsonToken.VALUE_NULL) {
+                return null;
+            }
+            if (parser.currentToken() == JsonToken.START_OBJECT) {
+                return streamingConverter.convert(parser, objectMapper, message);
+            }
+            jsonNode = objectMapper.readTree(parser);
         } catch (IOException | RuntimeException e) {
             if (ignoreParseErrors) {
-                return NullNode.getInstance();
+                return null;
             }
             throw CommonError.jsonOperationError(FORMAT, new String(message), e);
         }
+        return convertJsonNode(jsonNode);
+    }
+
+    public JsonNode deserializeToJsonNode(byte[] message) throws IOException {
+        return objectMapper.readTree(message);
+    }
+
+    public SeaTunnelRow convertToRowData(JsonNode message) {
+        return (SeaTunnelRow) runtimeConverter.convert(message, null);
     }
 
     private JsonNode convert(String message) {
@@ -0,0 +1,232 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.format.json;
+
+import org.apache.seatunnel.shade.com.fasterxml.jackson.core.JsonParser;
+import org.apache.seatunnel.shade.com.fasterxml.jackson.core.JsonToken;
+import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.JsonNode;
+import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.api.table.type.SqlType;
+import org.apache.seatunnel.common.exception.CommonError;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Converts a JSON object into a {@link SeaTunnelRow} straight from a {@link JsonParser}, without
+ * building a {@link JsonNode} tree of the whole message. Fields outside the row type are skipped,
+ * scalar fields of the basic types are converted from the current token, and only the remaining
+ * values are read into a {@link JsonNode} and handed over to the converter of {@link
+ * JsonToRowConverters}. The produced rows are the same as the ones of the tree based converter.
+ */
+public class JsonToRowStreamingConverter implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final String FORMAT = "Common";
+
+    /** Marks a token which has no fast path for the type of its field. */
+    private static final Object UNCONVERTED = new Object();
+
+    private final String[] fieldNames;
+    private final SqlType[] fieldSqlTypes;
+    private final JsonToRowConverters.JsonToObjectConverter[] fieldConverters;
+    private final Map<String, Integer> fieldIndexes;
+    private final boolean failOnMissingField;
+    private final boolean ignoreParseErrors;
+
+    /** Whether the floats are read as big decimals by the object mapper. */
+    private final boolean useBigDecimalForFloats;
+
+    public JsonToRowStreamingConverter(
+            JsonToRowConverters converters,
+            SeaTunnelRowType rowType,
+            boolean failOnMissingField,
+            boolean ignoreParseErrors,
+            boolean useBigDecimalForFloats) {
+        this.fieldNames = rowType.getFieldNames();
+        this.fieldSqlTypes = new SqlType[fieldNames.length];
+        this.fieldConverters = new JsonToRowConverters.JsonToObjectConverter[fieldNames.length];
+        this.fieldIndexes = new HashMap<>();
+        for (int i = 0; i < fieldNames.length; i++) {
+            SeaTunnelDataType<?> fieldType = rowType.getFieldType(i);
+            fieldSqlTypes[i] = fieldType.getSqlType();
+            fieldConverters[i] = converters.createConverter(fieldType);
+            fieldIndexes.put(fieldNames[i], i);
+        }
+        this.failOnMissingField = failOnMissingField;
+        this.ignoreParseErrors = ignoreParseErrors;
+        this.useBigDecimalForFloats = useBigDecimalForFloats;
+    }
+
+    /**
+     * Converts the JSON object the parser is positioned at, the current token of the parser must
+     * be {@link JsonToken#START_OBJECT}. The parser is left at the matching {@link
+     * JsonToken#END_OBJECT}.
+     *
+     * @param parser the parser to read the object from.
+     * @param objectMapper the object mapper to read the nested values with.
+     * @param message the whole message, used in the error messages only.
+     */
+    public SeaTunnelRow convert(JsonParser parser, ObjectMapper objectMapper, byte[] message)
+            throws IOException {
+        int arity = fieldNames.length;
+        SeaTunnelRow row = new SeaTunnelRow(arity);
+        boolean[] presentFields = new boolean[arity];
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            Integer index = fieldIndexes.get(parser.getCurrentName());
+            JsonToken token = parser.nextToken();
+            if (index == null) {
+                parser.skipChildren();
+                continue;
+            }
+            presentFields[index] = true;
+            try {
+                row.setField(index, convertField(index, token, parser, objectMapper));
+            } catch (IOException e) {
+                throw e;
+            } catch (Throwable t) {
+                throw CommonError.jsonOperationError(
+                        FORMAT,
+                        String.format("Field $.%s in %s", fieldNames[index], new String(message)),
+                        t);
+            }
+        }
+        if (failOnMissingField) {
+            for (int i = 0; i < arity; i++) {
+                if (!presentFields[i]) {
+                    throw CommonError.jsonOperationError(
+                            FORMAT,
+                            String.format("Field $.%s in %s", fieldNames[i], new String(message)),
+                            new IllegalArgumentException(
+                                    String.format(
+                                            "Could not find field with name %s .", fieldNames[i])));
+                }
+            }
+        }
+        return row;
+    }
+
+    private Object convertField(
+            int index, JsonToken token, JsonParser parser, ObjectMapper objectMapper)
+            throws IOException {
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (token.isScalarValue()) {
+            try {
+                Object value = convertScalar(fieldSqlTypes[index], token, parser);
+                if (value != UNCONVERTED) {
+                    return value;
+                }
+            } catch (RuntimeException e) {
+                if (ignoreParseErrors) {
+                    return null;
+                }
+                throw e;
+            }
+        }
+        JsonNode jsonNode = objectMapper.readTree(parser);
+        return fieldConverters[index].convert(jsonNode, fieldNames[index]);
+    }
+
+    /**
+     * Converts a scalar token the same way as {@link JsonToRowConverters} converts its {@link
+     * JsonNode}, returns {@link #UNCONVERTED} for the tokens which need the node to keep the
+     * result the same.
+     */
+    private Object convertScalar(SqlType sqlType, JsonToken token, JsonParser parser)
+            throws IOException {
+        switch (sqlType) {
+            case STRING:
+                if (token == JsonToken.VALUE_STRING
+                        || token == JsonToken.VALUE_TRUE
+                        || token == JsonToken.VALUE_FALSE) {
+                    return parser.getText();
+                }
+                break;
+            case BOOLEAN:
+                if (token == JsonToken.VALUE_TRUE || token == JsonToken.VALUE_FALSE) {
+                    return parser.getBooleanValue();
+                }
+                if (token == JsonToken.VALUE_STRING) {
+                    return Boolean.parseBoolean(parser.getText().trim());
+                }
+                break;
+            case TINYINT:
+                if (token == JsonToken.VALUE_STRING || token == JsonToken.VALUE_NUMBER_INT) {
+                    return Byte.parseByte(parser.getText().trim());
+                }
+                break;
+            case SMALLINT:
+                if (token == JsonToken.VALUE_STRING || token == JsonToken.VALUE_NUMBER_INT) {
+                    return Short.parseShort(parser.getText().trim());
+                }
+                break;
+            case INT:
+                if (token == JsonToken.VALUE_NUMBER_INT
+                        && parser.getNumberType() == JsonParser.NumberType.INT) {
+                    return parser.getIntValue();
+                }
+                if (token == JsonToken.VALUE_STRING) {
+                    return Integer.parseInt(parser.getText().trim());
+                }
+                break;
+            case BIGINT:
+                if (token == JsonToken.VALUE_NUMBER_INT
+                        && parser.getNumberType() != JsonParser.NumberType.BIG_INTEGER) {
+                    return parser.getLongValue();
+                }
+                if (token == JsonToken.VALUE_STRING) {
+                    return Long.parseLong(parser.getText().trim());
+                }
+                break;
+            case FLOAT:
+                if (token == JsonToken.VALUE_NUMBER_FLOAT && !useBigDecimalForFloats) {
+                    return (float) parser.getDoubleValue();
+                }
+                if (token.isNumeric() || token == JsonToken.VALUE_STRING) {
+                    return Float.parseFloat(parser.getText().trim());
+                }
+                break;
+            case DOUBLE:
+                if (token.isNumeric()) {
+                    return parser.getDoubleValue();
+                }
+                if (token == JsonToken.VALUE_STRING) {
+                    return Double.parseDouble(parser.getText().trim());
+                }
+                break;
+            case DECIMAL:
+                if (token == JsonToken.VALUE_STRING || token == JsonToken.VALUE_NUMBER_INT) {
+                    return new BigDecimal(parser.getText());
+                }
+                break;
+            default:
+                break;
+        }
+        return UNCONVERTED;
+    }
+}
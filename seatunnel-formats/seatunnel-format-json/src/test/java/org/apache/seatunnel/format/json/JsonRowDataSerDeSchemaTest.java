@@ -474,6 +474,42 @@ public class JsonRowDataSerDeSchemaTest {
         assertEquals(actual.getMessage(), expected.getMessage());
     }
 
+    @Test
+    public void testStreamingDeserializationMatchesJsonNode() throws Exception {
+        SeaTunnelRowType schema =
+                new SeaTunnelRowType(
+                        new String[] {"id", "name", "score", "rate", "amount", "tags", "nested"},
+                        new SeaTunnelDataType[] {
+                            LONG_TYPE,
+                            STRING_TYPE,
+                            FLOAT_TYPE,
+                            DOUBLE_TYPE,
+                            new DecimalType(10, 2),
+                            STRING_ARRAY_TYPE,
+                            new SeaTunnelRowType(
+                                    new String[] {"f1"}, new SeaTunnelDataType[] {INT_TYPE})
+                        });
+        JsonDeserializationSchema deserializationSchema =
+                new JsonDeserializationSchema(false, false, schema);
+
+        String[] jsons =
+                new String[] {
+                    "{\"skipped\":{\"a\":[1,{\"b\":null}]},\"id\":\"12\",\"name\":true,"
+                            + "\"score\":1.1,\"rate\":3,\"amount\":12.30,\"tags\":[\"x\",\"y\"],"
+                            + "\"nested\":{\"f1\":\"7\"},\"other\":[1,2]}",
+                    "{\"id\":9223372036854775807,\"name\":12.50,\"score\":\"2.5\",\"rate\":\"1e3\","
+                            + "\"amount\":\"0.10\",\"tags\":null,\"nested\":null}",
+                    "{\"name\":\"only name\"}",
+                    "[7,\"positional\",1.5]"
+                };
+        for (String json : jsons) {
+            SeaTunnelRow expected =
+                    deserializationSchema.convertToRowData(
+                            deserializationSchema.deserializeToJsonNode(json.getBytes()));
+            assertEquals(expected, deserializationSchema.deserialize(json.getBytes()));
+        }
+    }
+
     @Test
     public void testMapConverterKeyType() throws JsonProcessingException {
         MapType<String, String> stringKeyMapType = new MapType<>(STRING_TYPE, STRING_TYPE);
@@ -20,6 +20,7 @@ package org.apache.seatunnel.transform.sql;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
 
+import java.util.ArrayList;
 import java.util.List;
 
 public interface SQLEngine {
@@ -33,5 +34,20 @@ public interface SQLEngine {
 
     SeaTunnelRow transformBySQL(SeaTunnelRow inputRow);
 
+    /**
+     * Transform a batch of rows, rows filtered out by the query are not part of the result. The
+     * default implementation falls back to {@link #transformBySQL(SeaTunnelRow)} row by row.
+     */
+    default List<SeaTunnelRow> transformBySQL(List<SeaTunnelRow> inputRows) {
+        List<SeaTunnelRow> outputRows = new ArrayList<>(inputRows.size());
+        for (SeaTunnelRow inputRow : inputRows) {
+            SeaTunnelRow outputRow = transformBySQL(inputRow);
+            if (outputRow != null) {
+                outputRows.add(outputRow);
+            }
+        }
+        return outputRows;
+    }
+
     default void close() {}
 }
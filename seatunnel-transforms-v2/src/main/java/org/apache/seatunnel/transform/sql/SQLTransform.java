@@ -30,6 +30,7 @@ import org.apache.seatunnel.api.table.catalog.TableSchema;
 import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.api.transform.SupportVectorizedTransform;
 import org.apache.seatunnel.transform.common.AbstractCatalogSupportTransform;
 import org.apache.seatunnel.transform.sql.SQLEngineFactory.EngineType;
 
@@ -44,7 +45,8 @@ import java.util.stream.Collectors;
 import static org.apache.seatunnel.transform.sql.SQLEngineFactory.EngineType.ZETA;
 
 @Slf4j
-public class SQLTransform extends AbstractCatalogSupportTransform {
+public class SQLTransform extends AbstractCatalogSupportTransform
+        implements SupportVectorizedTransform<SeaTunnelRow> {
     public static final String PLUGIN_NAME = "Sql";
 
     public static final Option<String> KEY_QUERY =
@@ -56,10 +58,20 @@ public class SQLTransform extends AbstractCatalogSupportTransform {
                     .defaultValue(ZETA.name())
                     .withDescription("The SQL engine type");
 
+    public static final Option<Boolean> KEY_VECTORIZED =
+            Options.key("vectorized")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether to run the query over the batches of rows handed over by the"
+                                    + " engine instead of row by row");
+
     private final String query;
 
     private final EngineType engineType;
 
+    private final boolean vectorized;
+
     private transient SQLEngine sqlEngine;
 
     private final String inputTableName;
@@ -72,6 +84,7 @@ public class SQLTransform extends AbstractCatalogSupportTransform {
         } else {
             this.engineType = ZETA;
         }
+        this.vectorized = config.get(KEY_VECTORIZED);
 
         List<String> sourceTableNames = config.get(CommonOptions.SOURCE_TABLE_NAME);
         if (sourceTableNames != null && !sourceTableNames.isEmpty()) {
@@ -108,6 +121,17 @@ public class SQLTransform extends AbstractCatalogSupportTransform {
         return sqlEngine.transformBySQL(inputRow);
     }
 
+    @Override
+    public boolean isVectorized() {
+        return vectorized;
+    }
+
+    @Override
+    public List<SeaTunnelRow> mapBatch(List<SeaTunnelRow> rows) {
+        tryOpen();
+        return sqlEngine.transformBySQL(rows);
+    }
+
     @Override
     protected TableSchema transformTableSchema() {
         tryOpen();
@@ -0,0 +1,152 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.transform.sql.zeta;
+
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.api.table.type.SqlType;
+
+import java.util.List;
+
+/**
+ * A batch of rows with a column-wise view. Primitive columns and null bitmaps are only
+ * materialized for the columns a vectorized evaluator actually reads.
+ */
+public class ZetaColumnarBatch {
+    private final SeaTunnelRowType rowType;
+    private final List<SeaTunnelRow> rows;
+    private final int size;
+
+    private final long[][] nullBitmaps;
+    private final long[][] longColumns;
+    private final double[][] doubleColumns;
+
+    public ZetaColumnarBatch(SeaTunnelRowType rowType, List<SeaTunnelRow> rows) {
+        this.rowType = rowType;
+        this.rows = rows;
+        this.size = rows.size();
+        int fieldCount = rowType.getTotalFields();
+        this.nullBitmaps = new long[fieldCount][];
+        this.longColumns = new long[fieldCount][];
+        this.doubleColumns = new double[fieldCount][];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public SeaTunnelRow row(int rowIndex) {
+        return rows.get(rowIndex);
+    }
+
+    public Object[] rowFields(int rowIndex) {
+        return rows.get(rowIndex).getFields();
+    }
+
+    public static boolean isIntegralType(SqlType sqlType) {
+        return sqlType == SqlType.TINYINT
+                || sqlType == SqlType.SMALLINT
+                || sqlType == SqlType.INT
+                || sqlType == SqlType.BIGINT;
+    }
+
+    public static boolean isFloatingType(SqlType sqlType) {
+        return sqlType == SqlType.FLOAT || sqlType == SqlType.DOUBLE;
+    }
+
+    /** Returns the null bitmap of the column, a set bit marks a null value. */
+    public long[] nullBitmap(int column) {
+        long[] bitmap = nullBitmaps[column];
+        if (bitmap == null) {
+            bitmap = newBitmap(size);
+            for (int i = 0; i < size; i++) {
+                if (rows.get(i).getField(column) == null) {
+                    bitmap[i >>> 6] |= 1L << i;
+                }
+            }
+            nullBitmaps[column] = bitmap;
+        }
+        return bitmap;
+    }
+
+    /** Returns an integral column as primitive longs, null values are read as 0. */
+    public long[] longColumn(int column) {
+        long[] values = longColumns[column];
+        if (values == null) {
+            checkColumnType(column, isIntegralType(rowType.getFieldType(column).getSqlType()));
+            values = new long[size];
+            for (int i = 0; i < size; i++) {
+                Object value = rows.get(i).getField(column);
+                if (value != null) {
+                    values[i] = ((Number) value).longValue();
+                }
+            }
+            longColumns[column] = values;
+        }
+        return values;
+    }
+
+    /** Returns a floating point column as primitive doubles, null values are read as 0. */
+    public double[] doubleColumn(int column) {
+        double[] values = doubleColumns[column];
+        if (values == null) {
+            checkColumnType(column, isFloatingType(rowType.getFieldType(column).getSqlType()));
+            values = new double[size];
+            for (int i = 0; i < size; i++) {
+                Object value = rows.get(i).getField(column);
+                if (value != null) {
+                    values[i] = ((Number) value).doubleValue();
+                }
+            }
+            doubleColumns[column] = values;
+        }
+        return values;
+    }
+
+    private void checkColumnType(int column, boolean matched) {
+        if (!matched) {
+            throw new IllegalArgumentException(
+                    String.format(
+                            "Column [%s] of type %s can't be read as a primitive column",
+                            rowType.getFieldName(column), rowType.getFieldType(column)));
+        }
+    }
+
+    public static long[] newBitmap(int size) {
+        return new long[(size + 63) >>> 6];
+    }
+
+    public static long[] fullBitmap(int size) {
+        long[] bitmap = newBitmap(size);
+        for (int i = 0; i < size >>> 6; i++) {
+            bitmap[i] = -1L;
+        }
+        if ((size & 63) != 0) {
+            bitmap[bitmap.length - 1] = (1L << size) - 1;
+        }
+        return bitmap;
+    }
+
+    public static boolean isSet(long[] bitmap, int index) {
+        return (bitmap[index >>> 6] & (1L << index)) != 0;
+    }
+
+    public static void set(long[] bitmap, int index) {
+        bitmap[index >>> 6] |= 1L << index;
+    }
+}
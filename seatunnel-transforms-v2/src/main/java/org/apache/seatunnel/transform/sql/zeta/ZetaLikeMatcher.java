@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.transform.sql.zeta;
+
+import org.apache.seatunnel.transform.sql.zeta.functions.PatternCache;
+
+import java.util.regex.Pattern;
+
+/**
+ * Matches a value against a LIKE pattern. The simple shapes {@code abc}, {@code abc%}, {@code
+ * %abc} and {@code %abc%} are answered with plain string operations, every other pattern is
+ * translated to a regular expression.
+ */
+public abstract class ZetaLikeMatcher {
+    private static final String LIKE_IDENT = "%";
+    private static final String SPECIAL_CHARS = "%_'\\.[]{}()*+?^$|";
+
+    public abstract boolean matches(String value);
+
+    /** Build a matcher for a constant pattern, regular expressions are compiled directly. */
+    public static ZetaLikeMatcher of(String likePattern) {
+        return create(likePattern, false);
+    }
+
+    /** Build a matcher for a pattern only known per row, regular expressions are cached. */
+    public static ZetaLikeMatcher ofCached(String likePattern) {
+        return create(likePattern, true);
+    }
+
+    private static ZetaLikeMatcher create(String likePattern, boolean cached) {
+        boolean leading = likePattern.startsWith(LIKE_IDENT);
+        String core = leading ? likePattern.substring(1) : likePattern;
+        boolean trailing = core.endsWith(LIKE_IDENT);
+        if (trailing) {
+            core = core.substring(0, core.length() - 1);
+        }
+        if (isPlain(core)) {
+            String literal = core;
+            if (leading && trailing) {
+                return new ZetaLikeMatcher() {
+                    @Override
+                    public boolean matches(String value) {
+                        return value.contains(literal);
+                    }
+                };
+            }
+            if (leading) {
+                return new ZetaLikeMatcher() {
+                    @Override
+                    public boolean matches(String value) {
+                        return value.endsWith(literal);
+                    }
+                };
+            }
+            if (trailing) {
+                return new ZetaLikeMatcher() {
+                    @Override
+                    public boolean matches(String value) {
+                        return value.startsWith(literal);
+                    }
+                };
+            }
+            return new ZetaLikeMatcher() {
+                @Override
+                public boolean matches(String value) {
+                    return value.equals(literal);
+                }
+            };
+        }
+        String regex = toRegex(likePattern);
+        Pattern pattern =
+                cached
+                        ? PatternCache.compile(regex, Pattern.DOTALL)
+                        : Pattern.compile(regex, Pattern.DOTALL);
+        return new ZetaLikeMatcher() {
+            @Override
+            public boolean matches(String value) {
+                return pattern.matcher(value).matches();
+            }
+        };
+    }
+
+    private static boolean isPlain(String literal) {
+        for (int i = 0; i < literal.length(); i++) {
+            if (SPECIAL_CHARS.indexOf(literal.charAt(i)) != -1) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String toRegex(String likePattern) {
+        String regex = likePattern;
+        if (regex.startsWith(LIKE_IDENT)) {
+            regex = regex.replaceFirst(LIKE_IDENT, ".*");
+        }
+        if (regex.endsWith(LIKE_IDENT)) {
+            regex = regex.substring(0, regex.length() - 1) + ".*";
+        }
+        if (regex.startsWith("_")) {
+            regex = regex.replaceFirst("_", ".");
+        }
+        if (regex.endsWith("_")) {
+            regex = regex.substring(0, regex.length() - 1) + ".";
+        }
+        if (regex.length() >= 3 && regex.substring(regex.length() - 3).endsWith("_.*")) {
+            regex = regex.substring(0, regex.length() - 3) + "..*";
+        }
+        if (regex.startsWith("'") && regex.endsWith("'")) {
+            regex = regex.substring(0, regex.length() - 1).substring(1);
+        }
+        return regex;
+    }
+}
@@ -0,0 +1,540 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.transform.sql.zeta;
+
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.common.exception.CommonErrorCodeDeprecated;
+import org.apache.seatunnel.transform.exception.TransformException;
+import org.apache.seatunnel.transform.sql.zeta.functions.StringFunction;
+import org.apache.seatunnel.transform.sql.zeta.functions.SystemFunction;
+
+import net.sf.jsqlparser.expression.BinaryExpression;
+import net.sf.jsqlparser.expression.CaseExpression;
+import net.sf.jsqlparser.expression.CastExpression;
+import net.sf.jsqlparser.expression.DoubleValue;
+import net.sf.jsqlparser.expression.Expression;
+import net.sf.jsqlparser.expression.ExtractExpression;
+import net.sf.jsqlparser.expression.Function;
+import net.sf.jsqlparser.expression.LongValue;
+import net.sf.jsqlparser.expression.NullValue;
+import net.sf.jsqlparser.expression.Parenthesis;
+import net.sf.jsqlparser.expression.SignedExpression;
+import net.sf.jsqlparser.expression.StringValue;
+import net.sf.jsqlparser.expression.TimeKeyExpression;
+import net.sf.jsqlparser.expression.WhenClause;
+import net.sf.jsqlparser.expression.operators.arithmetic.Addition;
+import net.sf.jsqlparser.expression.operators.arithmetic.Concat;
+import net.sf.jsqlparser.expression.operators.arithmetic.Division;
+import net.sf.jsqlparser.expression.operators.arithmetic.Modulo;
+import net.sf.jsqlparser.expression.operators.arithmetic.Multiplication;
+import net.sf.jsqlparser.expression.operators.arithmetic.Subtraction;
+import net.sf.jsqlparser.expression.operators.conditional.AndExpression;
+import net.sf.jsqlparser.expression.operators.conditional.OrExpression;
+import net.sf.jsqlparser.expression.operators.relational.EqualsTo;
+import net.sf.jsqlparser.expression.operators.relational.ExpressionList;
+import net.sf.jsqlparser.expression.operators.relational.GreaterThan;
+import net.sf.jsqlparser.expression.operators.relational.GreaterThanEquals;
+import net.sf.jsqlparser.expression.operators.relational.InExpression;
+import net.sf.jsqlparser.expression.operators.relational.IsNullExpression;
+import net.sf.jsqlparser.expression.operators.relational.LikeExpression;
+import net.sf.jsqlparser.expression.operators.relational.MinorThan;
+import net.sf.jsqlparser.expression.operators.relational.MinorThanEquals;
+import net.sf.jsqlparser.expression.operators.relational.NotEqualsTo;
+import net.sf.jsqlparser.schema.Column;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Lowers the SELECT list and WHERE clause into a tree of pre-bound evaluators, so that column
+ * indexes, result types, function names and constant regexp/LIKE patterns are resolved once in
+ * {@link ZetaSQLEngine#init} instead of for every row. Expressions without a dedicated evaluator
+ * fall back to {@link ZetaSQLFunction#computeForValue} and {@link ZetaSQLFilter#executeFilter}.
+ */
+public class ZetaSQLCompiler {
+
+    /** Evaluates a compiled value expression against the fields of one input row. */
+    @FunctionalInterface
+    public interface ValueEvaluator {
+        Object evaluate(Object[] inputFields);
+    }
+
+    /** Evaluates a compiled condition expression against the fields of one input row. */
+    @FunctionalInterface
+    public interface FilterEvaluator {
+        boolean test(Object[] inputFields);
+    }
+
+    private static final FilterEvaluator ALWAYS_TRUE = inputFields -> true;
+
+    private final SeaTunnelRowType inputRowType;
+    private final ZetaSQLFunction zetaSQLFunction;
+    private final ZetaSQLFilter zetaSQLFilter;
+    private final ZetaSQLType zetaSQLType;
+
+    public ZetaSQLCompiler(
+            SeaTunnelRowType inputRowType,
+            ZetaSQLFunction zetaSQLFunction,
+            ZetaSQLFilter zetaSQLFilter,
+            ZetaSQLType zetaSQLType) {
+        this.inputRowType = inputRowType;
+        this.zetaSQLFunction = zetaSQLFunction;
+        this.zetaSQLFilter = zetaSQLFilter;
+        this.zetaSQLType = zetaSQLType;
+    }
+
+    public ValueEvaluator compileValue(Expression expression) {
+        if (expression instanceof NullValue) {
+            return constant(null);
+        }
+        if (expression instanceof SignedExpression) {
+            return compileSigned((SignedExpression) expression);
+        }
+        if (expression instanceof DoubleValue) {
+            return constant(((DoubleValue) expression).getValue());
+        }
+        if (expression instanceof LongValue || expression instanceof StringValue) {
+            return constant(zetaSQLFunction.computeForValue(expression, null));
+        }
+        if (expression instanceof Column) {
+            return compileColumn((Column) expression);
+        }
+        if (expression instanceof Function) {
+            return compileFunction((Function) expression);
+        }
+        if (expression instanceof TimeKeyExpression) {
+            String timeKeyExpr = ((TimeKeyExpression) expression).getStringValue();
+            return inputFields -> zetaSQLFunction.executeTimeKeyExpr(timeKeyExpr);
+        }
+        if (expression instanceof ExtractExpression) {
+            ExtractExpression extract = (ExtractExpression) expression;
+            ValueEvaluator arg = compileValue(extract.getExpression());
+            String name = extract.getName();
+            return inputFields -> {
+                List<Object> functionArgs = new ArrayList<>(2);
+                functionArgs.add(arg.evaluate(inputFields));
+                functionArgs.add(name);
+                return zetaSQLFunction.executeFunctionExpr(
+                        ZetaSQLFunction.EXTRACT, functionArgs);
+            };
+        }
+        if (expression instanceof Parenthesis) {
+            return compileValue(((Parenthesis) expression).getExpression());
+        }
+        if (expression instanceof CaseExpression) {
+            return compileCase((CaseExpression) expression);
+        }
+        if (expression instanceof BinaryExpression) {
+            return compileBinary((BinaryExpression) expression);
+        }
+        if (expression instanceof CastExpression) {
+            return compileCast((CastExpression) expression);
+        }
+        return inputFields -> zetaSQLFunction.computeForValue(expression, inputFields);
+    }
+
+    public FilterEvaluator compileFilter(Expression whereExpr) {
+        if (whereExpr == null) {
+            return ALWAYS_TRUE;
+        }
+        if (whereExpr instanceof Function) {
+            ValueEvaluator function = compileValue(whereExpr);
+            return inputFields -> {
+                Boolean result = (Boolean) function.evaluate(inputFields);
+                return result != null && result;
+            };
+        }
+        if (whereExpr instanceof IsNullExpression) {
+            IsNullExpression isNullExpression = (IsNullExpression) whereExpr;
+            ValueEvaluator left = compileValue(isNullExpression.getLeftExpression());
+            if (isNullExpression.isNot()) {
+                return inputFields -> left.evaluate(inputFields) != null;
+            }
+            return inputFields -> left.evaluate(inputFields) == null;
+        }
+        if (whereExpr instanceof InExpression
+                && ((InExpression) whereExpr).getRightItemsList() instanceof ExpressionList) {
+            return compileIn((InExpression) whereExpr);
+        }
+        if (whereExpr instanceof LikeExpression) {
+            return compileLike((LikeExpression) whereExpr);
+        }
+        if (whereExpr instanceof EqualsTo) {
+            ValueEvaluator left = compileValue(((EqualsTo) whereExpr).getLeftExpression());
+            ValueEvaluator right = compileValue(((EqualsTo) whereExpr).getRightExpression());
+            return inputFields ->
+                    zetaSQLFilter.equalsToExpr(
+                            left.evaluate(inputFields), right.evaluate(inputFields));
+        }
+        if (whereExpr instanceof NotEqualsTo) {
+            ValueEvaluator left = compileValue(((NotEqualsTo) whereExpr).getLeftExpression());
+            ValueEvaluator right = compileValue(((NotEqualsTo) whereExpr).getRightExpression());
+            return inputFields ->
+                    zetaSQLFilter.notEqualsToExpr(
+                            left.evaluate(inputFields), right.evaluate(inputFields));
+        }
+        if (whereExpr instanceof GreaterThan) {
+            ValueEvaluator left = compileValue(((GreaterThan) whereExpr).getLeftExpression());
+            ValueEvaluator right = compileValue(((GreaterThan) whereExpr).getRightExpression());
+            return inputFields ->
+                    zetaSQLFilter.greaterThanExpr(
+                            left.evaluate(inputFields), right.evaluate(inputFields));
+        }
+        if (whereExpr instanceof GreaterThanEquals) {
+            GreaterThanEquals greaterThanEquals = (GreaterThanEquals) whereExpr;
+            ValueEvaluator left = compileValue(greaterThanEquals.getLeftExpression());
+            ValueEvaluator right = compileValue(greaterThanEquals.getRightExpression());
+            return inputFields ->
+                    zetaSQLFilter.greaterThanEqualsExpr(
+                            left.evaluate(inputFields), right.evaluate(inputFields));
+        }
+        if (whereExpr instanceof MinorThan) {
+            ValueEvaluator left = compileValue(((MinorThan) whereExpr).getLeftExpression());
+            ValueEvaluator right = compileValue(((MinorThan) whereExpr).getRightExpression());
+            return inputFields ->
+                    zetaSQLFilter.minorThanExpr(
+                            left.evaluate(inputFields), right.evaluate(inputFields));
+        }
+        if (whereExpr instanceof MinorThanEquals) {
+            MinorThanEquals minorThanEquals = (MinorThanEquals) whereExpr;
+            ValueEvaluator left = compileValue(minorThanEquals.getLeftExpression());
+            ValueEvaluator right = compileValue(minorThanEquals.getRightExpression());
+            return inputFields ->
+                    zetaSQLFilter.minorThanEqualsExpr(
+                            left.evaluate(inputFields), right.evaluate(inputFields));
+        }
+        if (whereExpr instanceof AndExpression) {
+            FilterEvaluator left = compileFilter(((AndExpression) whereExpr).getLeftExpression());
+            FilterEvaluator right =
+                    compileFilter(((AndExpression) whereExpr).getRightExpression());
+            return inputFields -> left.test(inputFields) && right.test(inputFields);
+        }
+        if (whereExpr instanceof OrExpression) {
+            FilterEvaluator left = compileFilter(((OrExpression) whereExpr).getLeftExpression());
+            FilterEvaluator right = compileFilter(((OrExpression) whereExpr).getRightExpression());
+            return inputFields -> left.test(inputFields) || right.test(inputFields);
+        }
+        if (whereExpr instanceof Parenthesis) {
+            return compileFilter(((Parenthesis) whereExpr).getExpression());
+        }
+        return inputFields -> zetaSQLFilter.executeFilter(whereExpr, inputFields);
+    }
+
+    private ValueEvaluator constant(Object value) {
+        return inputFields -> value;
+    }
+
+    private ValueEvaluator compileSigned(SignedExpression signedExpression) {
+        ValueEvaluator value = compileValue(signedExpression.getExpression());
+        if (signedExpression.getSign() != '-') {
+            return value;
+        }
+        return inputFields -> {
+            Object result = value.evaluate(inputFields);
+            if (result instanceof Integer) {
+                return -((Integer) result);
+            }
+            if (result instanceof Long) {
+                return -((Long) result);
+            }
+            if (result instanceof Double) {
+                return -((Double) result);
+            }
+            if (result instanceof Number) {
+                return -((Number) result).doubleValue();
+            }
+            throw new TransformException(
+                    CommonErrorCodeDeprecated.UNSUPPORTED_OPERATION,
+                    String.format("Unsupported SQL Expression: %s ", signedExpression));
+        };
+    }
+
+    private ValueEvaluator compileColumn(Column columnExp) {
+        String columnName = columnExp.getColumnName();
+        int index = inputRowType.indexOf(columnName, false);
+        if (index == -1
+                && columnName.startsWith(ZetaSQLEngine.ESCAPE_IDENTIFIER)
+                && columnName.endsWith(ZetaSQLEngine.ESCAPE_IDENTIFIER)) {
+            columnName = columnName.substring(1, columnName.length() - 1);
+            index = inputRowType.indexOf(columnName, false);
+        }
+        if (index == -1) {
+            // nested row and map fields are resolved by the interpreter
+            return inputFields -> zetaSQLFunction.computeForValue(columnExp, inputFields);
+        }
+        int fieldIndex = index;
+        return inputFields -> inputFields[fieldIndex];
+    }
+
+    private ValueEvaluator compileFunction(Function function) {
+        String functionName = function.getName();
+        ValueEvaluator[] args = compileValues(function.getParameters());
+        ValueEvaluator regexpFunction = compileConstantRegexp(function, args);
+        if (regexpFunction != null) {
+            return regexpFunction;
+        }
+        return inputFields ->
+                zetaSQLFunction.executeFunctionExpr(functionName, evaluateAll(args, inputFields));
+    }
+
+    /**
+     * Bind REGEXP_LIKE, REGEXP_REPLACE and REGEXP_SUBSTR to a pattern compiled once, when both the
+     * pattern and the regexp mode are literals.
+     */
+    private ValueEvaluator compileConstantRegexp(Function function, ValueEvaluator[] args) {
+        String functionName = function.getName().toUpperCase();
+        int modeIndex;
+        switch (functionName) {
+            case ZetaSQLFunction.REGEXP_LIKE:
+                modeIndex = 2;
+                break;
+            case ZetaSQLFunction.REGEXP_REPLACE:
+                if (args.length < 3) {
+                    return null;
+                }
+                modeIndex = 3;
+                break;
+            case ZetaSQLFunction.REGEXP_SUBSTR:
+                modeIndex = 4;
+                break;
+            default:
+                return null;
+        }
+        List<Expression> expressions = function.getParameters().getExpressions();
+        if (expressions.size() < 2 || !(expressions.get(1) instanceof StringValue)) {
+            return null;
+        }
+        String regexpMode = null;
+        if (expressions.size() > modeIndex) {
+            Expression modeExpr = expressions.get(modeIndex);
+            if (modeExpr instanceof StringValue) {
+                regexpMode = ((StringValue) modeExpr).getValue();
+            } else if (!(modeExpr instanceof NullValue)) {
+                return null;
+            }
+        }
+        Pattern pattern =
+                StringFunction.compileRegexp(
+                        ((StringValue) expressions.get(1)).getValue(), regexpMode);
+        ValueEvaluator input = args[0];
+        switch (functionName) {
+            case ZetaSQLFunction.REGEXP_LIKE:
+                return inputFields -> {
+                    String value = (String) input.evaluate(inputFields);
+                    return value == null ? null : StringFunction.regexpLike(value, pattern);
+                };
+            case ZetaSQLFunction.REGEXP_REPLACE:
+                ValueEvaluator replacement = args[2];
+                return inputFields -> {
+                    String value = (String) input.evaluate(inputFields);
+                    if (value == null) {
+                        return null;
+                    }
+                    return StringFunction.regexpReplace(
+                            value, pattern, (String) replacement.evaluate(inputFields), 1, 0);
+                };
+            default:
+                if (args.length == 2) {
+                    return inputFields -> {
+                        String value = (String) input.evaluate(inputFields);
+                        return value == null
+                                ? null
+                                : StringFunction.regexpSubstr(value, pattern, 0, 1, 0);
+                    };
+                }
+                if (args.length < 6) {
+                    return null;
+                }
+                return inputFields -> {
+                    String value = (String) input.evaluate(inputFields);
+                    if (value == null) {
+                        return null;
+                    }
+                    Number position = (Number) args[2].evaluate(inputFields);
+                    Number occurrence = (Number) args[3].evaluate(inputFields);
+                    Number subexpression = (Number) args[5].evaluate(inputFields);
+                    return StringFunction.regexpSubstr(
+                            value,
+                            pattern,
+                            position != null ? position.intValue() - 1 : 0,
+                            occurrence != null ? occurrence.intValue() : 1,
+                            subexpression != null ? subexpression.intValue() : 0);
+                };
+        }
+    }
+
+    private FilterEvaluator compileLike(LikeExpression likeExpression) {
+        ValueEvaluator left = compileValue(likeExpression.getLeftExpression());
+        Expression rightExpr = likeExpression.getRightExpression();
+        boolean isNot = likeExpression.isNot();
+        if (rightExpr instanceof StringValue) {
+            ZetaLikeMatcher matcher = ZetaLikeMatcher.of(((StringValue) rightExpr).getValue());
+            return inputFields -> {
+                Object leftVal = left.evaluate(inputFields);
+                if (leftVal == null) {
+                    return false;
+                }
+                return matcher.matches(leftVal.toString()) != isNot;
+            };
+        }
+        ValueEvaluator right = compileValue(rightExpr);
+        return inputFields -> {
+            Object leftVal = left.evaluate(inputFields);
+            if (leftVal == null) {
+                return false;
+            }
+            Object rightVal = right.evaluate(inputFields);
+            if (rightVal == null) {
+                return false;
+            }
+            return ZetaLikeMatcher.ofCached(rightVal.toString()).matches(leftVal.toString())
+                    != isNot;
+        };
+    }
+
+    private ValueEvaluator compileCase(CaseExpression caseExpression) {
+        Expression switchExpr = caseExpression.getSwitchExpression();
+        ValueEvaluator switchValue = switchExpr == null ? constant(null) : compileValue(switchExpr);
+        List<WhenClause> whenClauses = caseExpression.getWhenClauses();
+        ValueEvaluator[] whens = new ValueEvaluator[whenClauses.size()];
+        ValueEvaluator[] thens = new ValueEvaluator[whenClauses.size()];
+        for (int i = 0; i < whenClauses.size(); i++) {
+            Expression whenExpression = whenClauses.get(i).getWhenExpression();
+            if (zetaSQLFilter.isConditionExpr(whenExpression)) {
+                FilterEvaluator condition = compileFilter(whenExpression);
+                whens[i] = condition::test;
+            } else {
+                whens[i] = compileValue(whenExpression);
+            }
+            thens[i] = compileValue(whenClauses.get(i).getThenExpression());
+        }
+        Expression elseExpression = caseExpression.getElseExpression();
+        ValueEvaluator elseValue =
+                elseExpression == null ? constant(null) : compileValue(elseExpression);
+        SeaTunnelDataType<?> type = zetaSQLType.getExpressionType(caseExpression);
+        return inputFields -> {
+            Object switchResult = switchValue.evaluate(inputFields);
+            for (int i = 0; i < whens.length; i++) {
+                Object when = whens[i].evaluate(inputFields);
+                if (when instanceof Boolean && (boolean) when) {
+                    return SystemFunction.castAs(thens[i].evaluate(inputFields), type);
+                } else if (zetaSQLFilter.equalsToExpr(switchResult, when)) {
+                    return SystemFunction.castAs(thens[i].evaluate(inputFields), type);
+                }
+            }
+            return SystemFunction.castAs(elseValue.evaluate(inputFields), type);
+        };
+    }
+
+    private ValueEvaluator compileBinary(BinaryExpression binaryExpression) {
+        if (!(binaryExpression instanceof Concat
+                || binaryExpression instanceof Addition
+                || binaryExpression instanceof Subtraction
+                || binaryExpression instanceof Multiplication
+                || binaryExpression instanceof Division
+                || binaryExpression instanceof Modulo)) {
+            return inputFields -> zetaSQLFunction.computeForValue(binaryExpression, inputFields);
+        }
+        ValueEvaluator left = compileValue(binaryExpression.getLeftExpression());
+        ValueEvaluator right = compileValue(binaryExpression.getRightExpression());
+        if (binaryExpression instanceof Concat) {
+            return inputFields -> {
+                List<Object> args = new ArrayList<>(2);
+                args.add(left.evaluate(inputFields));
+                args.add(right.evaluate(inputFields));
+                return StringFunction.concat(args);
+            };
+        }
+        SeaTunnelDataType<?> resultType = zetaSQLType.getExpressionType(binaryExpression);
+        return inputFields -> {
+            Number leftValue = (Number) left.evaluate(inputFields);
+            Number rightValue = (Number) right.evaluate(inputFields);
+            if (leftValue == null || rightValue == null) {
+                return null;
+            }
+            return zetaSQLFunction.executeArithmeticExpr(
+                    binaryExpression, resultType, leftValue, rightValue);
+        };
+    }
+
+    private ValueEvaluator compileCast(CastExpression castExpression) {
+        ValueEvaluator left = compileValue(castExpression.getLeftExpression());
+        String dataType = castExpression.getType().getDataType().toUpperCase();
+        List<Object> castArgs = new ArrayList<>(3);
+        castArgs.add(dataType);
+        if (dataType.equals("DECIMAL")) {
+            List<String> ps = castExpression.getType().getArgumentsStringList();
+            castArgs.add(Integer.parseInt(ps.get(0)));
+            castArgs.add(Integer.parseInt(ps.get(1)));
+        }
+        return inputFields -> {
+            List<Object> args = new ArrayList<>(castArgs.size() + 1);
+            args.add(left.evaluate(inputFields));
+            args.addAll(castArgs);
+            return SystemFunction.castAs(args);
+        };
+    }
+
+    private FilterEvaluator compileIn(InExpression inExpression) {
+        ValueEvaluator left = compileValue(inExpression.getLeftExpression());
+        ValueEvaluator[] items = compileValues((ExpressionList) inExpression.getRightItemsList());
+        boolean isNot = inExpression.isNot();
+        return inputFields -> {
+            Object leftValue = left.evaluate(inputFields);
+            for (ValueEvaluator item : items) {
+                Object rightValue = item.evaluate(inputFields);
+                if (leftValue == null && rightValue == null) {
+                    return true;
+                }
+                if (leftValue == null) {
+                    return false;
+                }
+                if (leftValue instanceof Number && rightValue instanceof Number) {
+                    if (((Number) leftValue).doubleValue() == ((Number) rightValue).doubleValue()) {
+                        return !isNot;
+                    }
+                } else if (leftValue.equals(rightValue)) {
+                    return !isNot;
+                }
+            }
+            return isNot;
+        };
+    }
+
+    private ValueEvaluator[] compileValues(ExpressionList expressionList) {
+        if (expressionList == null || expressionList.getExpressions() == null) {
+            return new ValueEvaluator[0];
+        }
+        List<Expression> expressions = expressionList.getExpressions();
+        ValueEvaluator[] evaluators = new ValueEvaluator[expressions.size()];
+        for (int i = 0; i < expressions.size(); i++) {
+            evaluators[i] = compileValue(expressions.get(i));
+        }
+        return evaluators;
+    }
+
+    private static List<Object> evaluateAll(ValueEvaluator[] evaluators, Object[] inputFields) {
+        List<Object> values = new ArrayList<>(evaluators.length);
+        for (ValueEvaluator evaluator : evaluators) {
+            values.add(evaluator.evaluate(inputFields));
+        }
+        return values;
+    }
+}
@@ -63,6 +63,12 @@ public class ZetaSQLEngine implements SQLEngine {
     private ZetaSQLFilter zetaSQLFilter;
     private ZetaSQLType zetaSQLType;
 
+    private ZetaSQLCompiler.FilterEvaluator filterEvaluator;
+    private ZetaSQLCompiler.ValueEvaluator[] projectEvaluators;
+
+    private ZetaSQLVectorCompiler.VectorFilter vectorFilter;
+    private ZetaSQLVectorCompiler.VectorProjection[] vectorProjections;
+
     private Integer allColumnsCount = null;
 
     public ZetaSQLEngine() {}
@@ -87,6 +93,10 @@ public class ZetaSQLEngine implements SQLEngine {
         this.zetaSQLFilter = new ZetaSQLFilter(zetaSQLFunction, zetaSQLType);
 
         parseSQL();
+        ZetaSQLCompiler compiler =
+                new ZetaSQLCompiler(inputRowType, zetaSQLFunction, zetaSQLFilter, zetaSQLType);
+        compileSQL(compiler);
+        compileVectorizedSQL(new ZetaSQLVectorCompiler(inputRowType, compiler, zetaSQLType));
     }
 
     private void parseSQL() {
@@ -102,6 +112,35 @@ public class ZetaSQLEngine implements SQLEngine {
         }
     }
 
+    private void compileSQL(ZetaSQLCompiler compiler) {
+        this.filterEvaluator = compiler.compileFilter(selectBody.getWhere());
+
+        List<SelectItem> selectItems = selectBody.getSelectItems();
+        this.projectEvaluators = new ZetaSQLCompiler.ValueEvaluator[selectItems.size()];
+        for (int i = 0; i < selectItems.size(); i++) {
+            SelectItem selectItem = selectItems.get(i);
+            if (selectItem instanceof SelectExpressionItem) {
+                projectEvaluators[i] =
+                        compiler.compileValue(((SelectExpressionItem) selectItem).getExpression());
+            }
+        }
+    }
+
+    private void compileVectorizedSQL(ZetaSQLVectorCompiler compiler) {
+        this.vectorFilter = compiler.compileFilter(selectBody.getWhere());
+
+        List<SelectItem> selectItems = selectBody.getSelectItems();
+        this.vectorProjections = new ZetaSQLVectorCompiler.VectorProjection[selectItems.size()];
+        for (int i = 0; i < selectItems.size(); i++) {
+            SelectItem selectItem = selectItems.get(i);
+            if (selectItem instanceof SelectExpressionItem) {
+                vectorProjections[i] =
+                        compiler.compileProjection(
+                                ((SelectExpressionItem) selectItem).getExpression());
+            }
+        }
+    }
+
     private void validateSQL(Statement statement) {
         try {
             if (!(statement instanceof Select)) {
@@ -232,7 +271,7 @@ public class ZetaSQLEngine implements SQLEngine {
         Object[] inputFields = scanTable(inputRow);
 
         // Filter
-        boolean retain = zetaSQLFilter.executeFilter(selectBody.getWhere(), inputFields);
+        boolean retain = filterEvaluator.test(inputFields);
         if (!retain) {
             return null;
         }
@@ -246,6 +285,65 @@ public class ZetaSQLEngine implements SQLEngine {
         return seaTunnelRow;
     }
 
+    @Override
+    public List<SeaTunnelRow> transformBySQL(List<SeaTunnelRow> inputRows) {
+        // ------Vectorized Query Plan Execution------
+        // Scan Table
+        ZetaColumnarBatch batch = new ZetaColumnarBatch(inputRowType, inputRows);
+
+        // Filter
+        long[] selection = vectorFilter.filter(batch, ZetaColumnarBatch.fullBitmap(batch.size()));
+        int[] selected = selectedRows(selection);
+
+        // Project
+        List<SelectItem> selectItems = selectBody.getSelectItems();
+        Object[][] outputFields = new Object[selected.length][countColumnsSize(selectItems)];
+        int idx = 0;
+        for (int i = 0; i < selectItems.size(); i++) {
+            SelectItem selectItem = selectItems.get(i);
+            if (selectItem instanceof AllColumns) {
+                int fieldCount = inputRowType.getTotalFields();
+                for (int k = 0; k < selected.length; k++) {
+                    System.arraycopy(
+                            batch.rowFields(selected[k]), 0, outputFields[k], idx, fieldCount);
+                }
+                idx += fieldCount;
+            } else if (selectItem instanceof SelectExpressionItem) {
+                vectorProjections[i].project(batch, selected, outputFields, idx);
+                idx++;
+            } else {
+                idx++;
+            }
+        }
+
+        List<SeaTunnelRow> outputRows = new ArrayList<>(selected.length);
+        for (int k = 0; k < selected.length; k++) {
+            SeaTunnelRow inputRow = batch.row(selected[k]);
+            SeaTunnelRow seaTunnelRow = new SeaTunnelRow(outputFields[k]);
+            seaTunnelRow.setRowKind(inputRow.getRowKind());
+            seaTunnelRow.setTableId(inputRow.getTableId());
+            outputRows.add(seaTunnelRow);
+        }
+        return outputRows;
+    }
+
+    private static int[] selectedRows(long[] selection) {
+        int count = 0;
+        for (long word : selection) {
+            count += Long.bitCount(word);
+        }
+        int[] selected = new int[count];
+        int k = 0;
+        for (int word = 0; word < selection.length; word++) {
+            long bits = selection[word];
+            while (bits != 0) {
+                selected[k++] = (word << 6) + Long.numberOfTrailingZeros(bits);
+                bits &= bits - 1;
+            }
+        }
+        return selected;
+    }
+
     private Object[] scanTable(SeaTunnelRow inputRow) {
         // do nothing, only return the input fields
         return inputRow.getFields();
@@ -259,16 +357,13 @@ public class ZetaSQLEngine implements SQLEngine {
         Object[] fields = new Object[columnsSize];
 
         int idx = 0;
-        for (SelectItem selectItem : selectItems) {
+        for (int i = 0; i < selectItems.size(); i++) {
+            SelectItem selectItem = selectItems.get(i);
             if (selectItem instanceof AllColumns) {
-                for (Object inputField : inputFields) {
-                    fields[idx] = inputField;
-                    idx++;
-                }
+                System.arraycopy(inputFields, 0, fields, idx, inputFields.length);
+                idx += inputFields.length;
             } else if (selectItem instanceof SelectExpressionItem) {
-                SelectExpressionItem expressionItem = (SelectExpressionItem) selectItem;
-                Expression expression = expressionItem.getExpression();
-                fields[idx] = zetaSQLFunction.computeForValue(expression, inputFields);
+                fields[idx] = projectEvaluators[i].evaluate(inputFields);
                 idx++;
             } else {
                 idx++;
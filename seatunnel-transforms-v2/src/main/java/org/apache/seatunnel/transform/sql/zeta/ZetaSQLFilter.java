@@ -43,8 +43,6 @@ import net.sf.jsqlparser.expression.operators.relational.NotEqualsTo;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 public class ZetaSQLFilter {
     private final ZetaSQLFunction zetaSQLFunction;
@@ -87,22 +85,22 @@ public class ZetaSQLFilter {
             Pair<Object, Object> pair =
                     executeComparisonOperator((ComparisonOperator) whereExpr, inputFields);
             if (whereExpr instanceof EqualsTo) {
-                return equalsToExpr(pair);
+                return equalsToExpr(pair.getLeft(), pair.getRight());
             }
             if (whereExpr instanceof NotEqualsTo) {
-                return notEqualsToExpr(pair);
+                return notEqualsToExpr(pair.getLeft(), pair.getRight());
             }
             if (whereExpr instanceof GreaterThan) {
-                return greaterThanExpr(pair);
+                return greaterThanExpr(pair.getLeft(), pair.getRight());
             }
             if (whereExpr instanceof GreaterThanEquals) {
-                return greaterThanEqualsExpr(pair);
+                return greaterThanEqualsExpr(pair.getLeft(), pair.getRight());
             }
             if (whereExpr instanceof MinorThan) {
-                return minorThanExpr(pair);
+                return minorThanExpr(pair.getLeft(), pair.getRight());
             }
             if (whereExpr instanceof MinorThanEquals) {
-                return minorThanEqualsExpr(pair);
+                return minorThanEqualsExpr(pair.getLeft(), pair.getRight());
             }
         }
         if (whereExpr instanceof AndExpression) {
@@ -177,33 +175,10 @@ public class ZetaSQLFilter {
         }
         Expression rightExpr = likeExpression.getRightExpression();
         Object rightVal = zetaSQLFunction.computeForValue(rightExpr, inputFields);
-        String regex = rightVal.toString();
-        if (rightVal == null && regex.length() > 0) {
+        if (rightVal == null) {
             return false;
         }
-        String likeIdent = "%";
-        if (regex.startsWith(likeIdent)) {
-            regex = regex.replaceFirst(likeIdent, ".*");
-        }
-        if (regex.endsWith(likeIdent)) {
-            regex = regex.substring(0, regex.length() - 1) + ".*";
-        }
-        if (regex.startsWith("_")) {
-            regex = regex.replaceFirst("_", ".");
-        }
-        if (regex.endsWith("_")) {
-            regex = regex.substring(0, regex.length() - 1) + ".";
-        }
-        if (regex.length() >= 3 && regex.substring(regex.length() - 3).endsWith("_.*")) {
-            regex = regex.substring(0, regex.length() - 3) + "..*";
-        }
-        if (regex.startsWith("'") && regex.endsWith("'")) {
-            regex = regex.substring(0, regex.length() - 1).substring(1);
-        }
-        Pattern pattern = Pattern.compile(regex);
-        Matcher matcher = pattern.matcher(leftVal.toString());
-
-        return matcher.matches();
+        return ZetaLikeMatcher.ofCached(rightVal.toString()).matches(leftVal.toString());
     }
 
     /**
@@ -221,33 +196,10 @@ public class ZetaSQLFilter {
         }
         Expression rightExpr = likeExpression.getRightExpression();
         Object rightVal = zetaSQLFunction.computeForValue(rightExpr, inputFields);
-        String regex = rightVal.toString();
-        if (rightVal == null && regex.length() > 0) {
+        if (rightVal == null) {
             return false;
         }
-        String likeIdent = "%";
-        if (regex.startsWith(likeIdent)) {
-            regex = regex.replaceFirst(likeIdent, ".*");
-        }
-        if (regex.endsWith(likeIdent)) {
-            regex = regex.substring(0, regex.length() - 1) + ".*";
-        }
-        if (regex.startsWith("_")) {
-            regex = regex.replaceFirst("_", ".");
-        }
-        if (regex.endsWith("_")) {
-            regex = regex.substring(0, regex.length() - 1) + ".";
-        }
-        if (regex.length() >= 3 && regex.substring(regex.length() - 3).endsWith("_.*")) {
-            regex = regex.substring(0, regex.length() - 3) + "..*";
-        }
-        if (regex.startsWith("'") && regex.endsWith("'")) {
-            regex = regex.substring(0, regex.length() - 1).substring(1);
-        }
-        Pattern pattern = Pattern.compile(regex);
-        Matcher matcher = pattern.matcher(leftVal.toString());
-
-        return !matcher.matches();
+        return !ZetaLikeMatcher.ofCached(rightVal.toString()).matches(leftVal.toString());
     }
 
     private Pair<Object, Object> executeComparisonOperator(
@@ -260,8 +212,10 @@ public class ZetaSQLFilter {
     }
 
     boolean equalsToExpr(Pair<Object, Object> pair) {
-        Object leftVal = pair.getLeft();
-        Object rightVal = pair.getRight();
+        return equalsToExpr(pair.getLeft(), pair.getRight());
+    }
+
+    boolean equalsToExpr(Object leftVal, Object rightVal) {
         if (leftVal == null || rightVal == null) {
             return false;
         }
@@ -271,9 +225,7 @@ public class ZetaSQLFilter {
         return leftVal.equals(rightVal);
     }
 
-    private boolean notEqualsToExpr(Pair<Object, Object> pair) {
-        Object leftVal = pair.getLeft();
-        Object rightVal = pair.getRight();
+    boolean notEqualsToExpr(Object leftVal, Object rightVal) {
         if (leftVal == null) {
             return rightVal != null;
         }
@@ -283,9 +235,7 @@ public class ZetaSQLFilter {
         return !leftVal.equals(rightVal);
     }
 
-    private boolean greaterThanExpr(Pair<Object, Object> pair) {
-        Object leftVal = pair.getLeft();
-        Object rightVal = pair.getRight();
+    boolean greaterThanExpr(Object leftVal, Object rightVal) {
         if (leftVal == null || rightVal == null) {
             return false;
         }
@@ -311,9 +261,7 @@ public class ZetaSQLFilter {
                         leftVal.getClass().getSimpleName(), rightVal.getClass().getSimpleName()));
     }
 
-    private boolean greaterThanEqualsExpr(Pair<Object, Object> pair) {
-        Object leftVal = pair.getLeft();
-        Object rightVal = pair.getRight();
+    boolean greaterThanEqualsExpr(Object leftVal, Object rightVal) {
         if (leftVal == null || rightVal == null) {
             return false;
         }
@@ -341,9 +289,7 @@ public class ZetaSQLFilter {
                         leftVal.getClass().getSimpleName(), rightVal.getClass().getSimpleName()));
     }
 
-    private boolean minorThanExpr(Pair<Object, Object> pair) {
-        Object leftVal = pair.getLeft();
-        Object rightVal = pair.getRight();
+    boolean minorThanExpr(Object leftVal, Object rightVal) {
         if (leftVal == null || rightVal == null) {
             return false;
         }
@@ -369,9 +315,7 @@ public class ZetaSQLFilter {
                         leftVal.getClass().getSimpleName(), rightVal.getClass().getSimpleName()));
     }
 
-    private boolean minorThanEqualsExpr(Pair<Object, Object> pair) {
-        Object leftVal = pair.getLeft();
-        Object rightVal = pair.getRight();
+    boolean minorThanEqualsExpr(Object leftVal, Object rightVal) {
         if (leftVal == null || rightVal == null) {
             return false;
         }
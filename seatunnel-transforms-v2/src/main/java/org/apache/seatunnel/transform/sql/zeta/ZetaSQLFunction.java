@@ -579,6 +579,14 @@ public class ZetaSQLFunction {
             return null;
         }
         SeaTunnelDataType<?> resultType = zetaSQLType.getExpressionType(binaryExpression);
+        return executeArithmeticExpr(binaryExpression, resultType, leftValue, rightValue);
+    }
+
+    public Object executeArithmeticExpr(
+            BinaryExpression binaryExpression,
+            SeaTunnelDataType<?> resultType,
+            Number leftValue,
+            Number rightValue) {
         if (resultType.getSqlType() == SqlType.INT) {
             if (binaryExpression instanceof Addition) {
                 return leftValue.intValue() + rightValue.intValue();
@@ -0,0 +1,406 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.transform.sql.zeta;
+
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.api.table.type.SqlType;
+
+import net.sf.jsqlparser.expression.BinaryExpression;
+import net.sf.jsqlparser.expression.DoubleValue;
+import net.sf.jsqlparser.expression.Expression;
+import net.sf.jsqlparser.expression.LongValue;
+import net.sf.jsqlparser.expression.Parenthesis;
+import net.sf.jsqlparser.expression.SignedExpression;
+import net.sf.jsqlparser.expression.operators.arithmetic.Addition;
+import net.sf.jsqlparser.expression.operators.arithmetic.Multiplication;
+import net.sf.jsqlparser.expression.operators.arithmetic.Subtraction;
+import net.sf.jsqlparser.expression.operators.conditional.AndExpression;
+import net.sf.jsqlparser.expression.operators.conditional.OrExpression;
+import net.sf.jsqlparser.expression.operators.relational.ComparisonOperator;
+import net.sf.jsqlparser.expression.operators.relational.EqualsTo;
+import net.sf.jsqlparser.expression.operators.relational.GreaterThan;
+import net.sf.jsqlparser.expression.operators.relational.GreaterThanEquals;
+import net.sf.jsqlparser.expression.operators.relational.IsNullExpression;
+import net.sf.jsqlparser.expression.operators.relational.MinorThan;
+import net.sf.jsqlparser.expression.operators.relational.MinorThanEquals;
+import net.sf.jsqlparser.expression.operators.relational.NotEqualsTo;
+import net.sf.jsqlparser.schema.Column;
+
+/**
+ * Compiles the WHERE clause and SELECT items into evaluators that work on a whole {@link
+ * ZetaColumnarBatch}. Comparisons and arithmetic between a numeric column and a numeric literal
+ * run over primitive column arrays and null bitmaps; every other expression falls back to the
+ * row evaluators produced by {@link ZetaSQLCompiler}, applied to the selected rows only.
+ */
+public class ZetaSQLVectorCompiler {
+
+    /** Narrows a candidate row bitmap to the rows matching the compiled condition. */
+    @FunctionalInterface
+    public interface VectorFilter {
+        long[] filter(ZetaColumnarBatch batch, long[] candidates);
+    }
+
+    /** Writes the value of one output column for every selected row. */
+    @FunctionalInterface
+    public interface VectorProjection {
+        void project(
+                ZetaColumnarBatch batch, int[] selected, Object[][] outputFields, int outputIndex);
+    }
+
+    private enum CompareOp {
+        EQ,
+        NE,
+        GT,
+        GE,
+        LT,
+        LE;
+
+        private CompareOp flip() {
+            switch (this) {
+                case GT:
+                    return LT;
+                case GE:
+                    return LE;
+                case LT:
+                    return GT;
+                case LE:
+                    return GE;
+                default:
+                    return this;
+            }
+        }
+
+        private boolean test(double left, double right) {
+            switch (this) {
+                case EQ:
+                    return left == right;
+                case NE:
+                    return left != right;
+                case GT:
+                    return left > right;
+                case GE:
+                    return left >= right;
+                case LT:
+                    return left < right;
+                default:
+                    return left <= right;
+            }
+        }
+    }
+
+    private final SeaTunnelRowType inputRowType;
+    private final ZetaSQLCompiler rowCompiler;
+    private final ZetaSQLType zetaSQLType;
+
+    public ZetaSQLVectorCompiler(
+            SeaTunnelRowType inputRowType, ZetaSQLCompiler rowCompiler, ZetaSQLType zetaSQLType) {
+        this.inputRowType = inputRowType;
+        this.rowCompiler = rowCompiler;
+        this.zetaSQLType = zetaSQLType;
+    }
+
+    public VectorFilter compileFilter(Expression whereExpr) {
+        if (whereExpr == null) {
+            return (batch, candidates) -> candidates;
+        }
+        if (whereExpr instanceof Parenthesis) {
+            return compileFilter(((Parenthesis) whereExpr).getExpression());
+        }
+        if (whereExpr instanceof AndExpression) {
+            VectorFilter left = compileFilter(((AndExpression) whereExpr).getLeftExpression());
+            VectorFilter right = compileFilter(((AndExpression) whereExpr).getRightExpression());
+            return (batch, candidates) -> right.filter(batch, left.filter(batch, candidates));
+        }
+        if (whereExpr instanceof OrExpression) {
+            VectorFilter left = compileFilter(((OrExpression) whereExpr).getLeftExpression());
+            VectorFilter right = compileFilter(((OrExpression) whereExpr).getRightExpression());
+            return (batch, candidates) -> {
+                long[] leftResult = left.filter(batch, candidates);
+                long[] remaining = new long[candidates.length];
+                for (int i = 0; i < candidates.length; i++) {
+                    remaining[i] = candidates[i] & ~leftResult[i];
+                }
+                long[] rightResult = right.filter(batch, remaining);
+                long[] result = new long[candidates.length];
+                for (int i = 0; i < candidates.length; i++) {
+                    result[i] = leftResult[i] | rightResult[i];
+                }
+                return result;
+            };
+        }
+        VectorFilter vectorFilter = null;
+        if (whereExpr instanceof IsNullExpression) {
+            vectorFilter = compileIsNull((IsNullExpression) whereExpr);
+        } else if (whereExpr instanceof ComparisonOperator) {
+            vectorFilter = compileComparison((ComparisonOperator) whereExpr);
+        }
+        if (vectorFilter != null) {
+            return vectorFilter;
+        }
+        ZetaSQLCompiler.FilterEvaluator rowFilter = rowCompiler.compileFilter(whereExpr);
+        return (batch, candidates) -> {
+            long[] result = new long[candidates.length];
+            for (int word = 0; word < candidates.length; word++) {
+                long bits = candidates[word];
+                while (bits != 0) {
+                    int i = (word << 6) + Long.numberOfTrailingZeros(bits);
+                    bits &= bits - 1;
+                    if (rowFilter.test(batch.rowFields(i))) {
+                        result[word] |= 1L << i;
+                    }
+                }
+            }
+            return result;
+        };
+    }
+
+    public VectorProjection compileProjection(Expression expression) {
+        int columnIndex = columnIndex(expression);
+        if (columnIndex != -1) {
+            return (batch, selected, outputFields, outputIndex) -> {
+                for (int k = 0; k < selected.length; k++) {
+                    outputFields[k][outputIndex] = batch.rowFields(selected[k])[columnIndex];
+                }
+            };
+        }
+        if (expression instanceof Addition
+                || expression instanceof Subtraction
+                || expression instanceof Multiplication) {
+            VectorProjection arithmetic = compileArithmetic((BinaryExpression) expression);
+            if (arithmetic != null) {
+                return arithmetic;
+            }
+        }
+        ZetaSQLCompiler.ValueEvaluator rowValue = rowCompiler.compileValue(expression);
+        return (batch, selected, outputFields, outputIndex) -> {
+            for (int k = 0; k < selected.length; k++) {
+                outputFields[k][outputIndex] = rowValue.evaluate(batch.rowFields(selected[k]));
+            }
+        };
+    }
+
+    private VectorFilter compileIsNull(IsNullExpression isNullExpression) {
+        int column = columnIndex(isNullExpression.getLeftExpression());
+        if (column == -1) {
+            return null;
+        }
+        boolean isNot = isNullExpression.isNot();
+        return (batch, candidates) -> {
+            long[] nulls = batch.nullBitmap(column);
+            long[] result = new long[candidates.length];
+            for (int i = 0; i < candidates.length; i++) {
+                result[i] = candidates[i] & (isNot ? ~nulls[i] : nulls[i]);
+            }
+            return result;
+        };
+    }
+
+    private VectorFilter compileComparison(ComparisonOperator comparison) {
+        CompareOp op = compareOp(comparison);
+        if (op == null) {
+            return null;
+        }
+        Expression leftExpr = comparison.getLeftExpression();
+        Expression rightExpr = comparison.getRightExpression();
+        int column = numericColumnIndex(leftExpr);
+        Double literal = numericLiteral(rightExpr);
+        if (column == -1 || literal == null) {
+            column = numericColumnIndex(rightExpr);
+            literal = numericLiteral(leftExpr);
+            op = op.flip();
+        }
+        if (column == -1 || literal == null) {
+            return null;
+        }
+        int fieldIndex = column;
+        double value = literal;
+        CompareOp compareOp = op;
+        // a null column value only matches `<>` against a non-null literal
+        boolean nullMatches = compareOp == CompareOp.NE;
+        boolean integral =
+                ZetaColumnarBatch.isIntegralType(inputRowType.getFieldType(column).getSqlType());
+        return (batch, candidates) -> {
+            long[] nulls = batch.nullBitmap(fieldIndex);
+            long[] longValues = integral ? batch.longColumn(fieldIndex) : null;
+            double[] doubleValues = integral ? null : batch.doubleColumn(fieldIndex);
+            long[] result = new long[candidates.length];
+            for (int word = 0; word < candidates.length; word++) {
+                long bits = candidates[word];
+                long matched = 0;
+                while (bits != 0) {
+                    int bit = Long.numberOfTrailingZeros(bits);
+                    bits &= bits - 1;
+                    int i = (word << 6) + bit;
+                    boolean match;
+                    if ((nulls[word] & (1L << bit)) != 0) {
+                        match = nullMatches;
+                    } else {
+                        double fieldValue = integral ? longValues[i] : doubleValues[i];
+                        match = compareOp.test(fieldValue, value);
+                    }
+                    if (match) {
+                        matched |= 1L << bit;
+                    }
+                }
+                result[word] = matched;
+            }
+            return result;
+        };
+    }
+
+    private VectorProjection compileArithmetic(BinaryExpression binaryExpression) {
+        Expression leftExpr = binaryExpression.getLeftExpression();
+        Expression rightExpr = binaryExpression.getRightExpression();
+        boolean columnOnLeft = true;
+        int column = numericColumnIndex(leftExpr);
+        Double literal = numericLiteral(rightExpr);
+        if (column == -1 || literal == null) {
+            columnOnLeft = false;
+            column = numericColumnIndex(rightExpr);
+            literal = numericLiteral(leftExpr);
+        }
+        if (column == -1 || literal == null) {
+            return null;
+        }
+        SqlType resultType = zetaSQLType.getExpressionType(binaryExpression).getSqlType();
+        boolean integral =
+                ZetaColumnarBatch.isIntegralType(inputRowType.getFieldType(column).getSqlType());
+        if (!(resultType == SqlType.DOUBLE
+                || (integral && (resultType == SqlType.INT || resultType == SqlType.BIGINT)))) {
+            return null;
+        }
+        int fieldIndex = column;
+        double doubleLiteral = literal;
+        long longLiteral = literal.longValue();
+        boolean swapped = !columnOnLeft;
+        char operator =
+                binaryExpression instanceof Addition
+                        ? '+'
+                        : binaryExpression instanceof Subtraction ? '-' : '*';
+        return (batch, selected, outputFields, outputIndex) -> {
+            long[] nulls = batch.nullBitmap(fieldIndex);
+            long[] longValues = integral ? batch.longColumn(fieldIndex) : null;
+            double[] doubleValues = integral ? null : batch.doubleColumn(fieldIndex);
+            for (int k = 0; k < selected.length; k++) {
+                int i = selected[k];
+                if (ZetaColumnarBatch.isSet(nulls, i)) {
+                    outputFields[k][outputIndex] = null;
+                } else if (resultType == SqlType.DOUBLE) {
+                    double fieldValue = integral ? longValues[i] : doubleValues[i];
+                    outputFields[k][outputIndex] =
+                            swapped
+                                    ? apply(operator, doubleLiteral, fieldValue)
+                                    : apply(operator, fieldValue, doubleLiteral);
+                } else {
+                    long result =
+                            swapped
+                                    ? apply(operator, longLiteral, longValues[i])
+                                    : apply(operator, longValues[i], longLiteral);
+                    outputFields[k][outputIndex] =
+                            resultType == SqlType.INT ? Integer.valueOf((int) result) : result;
+                }
+            }
+        };
+    }
+
+    private static double apply(char operator, double left, double right) {
+        switch (operator) {
+            case '+':
+                return left + right;
+            case '-':
+                return left - right;
+            default:
+                return left * right;
+        }
+    }
+
+    private static long apply(char operator, long left, long right) {
+        switch (operator) {
+            case '+':
+                return left + right;
+            case '-':
+                return left - right;
+            default:
+                return left * right;
+        }
+    }
+
+    private static CompareOp compareOp(ComparisonOperator comparison) {
+        if (comparison instanceof EqualsTo) {
+            return CompareOp.EQ;
+        }
+        if (comparison instanceof NotEqualsTo) {
+            return CompareOp.NE;
+        }
+        if (comparison instanceof GreaterThan) {
+            return CompareOp.GT;
+        }
+        if (comparison instanceof GreaterThanEquals) {
+            return CompareOp.GE;
+        }
+        if (comparison instanceof MinorThan) {
+            return CompareOp.LT;
+        }
+        if (comparison instanceof MinorThanEquals) {
+            return CompareOp.LE;
+        }
+        return null;
+    }
+
+    private int columnIndex(Expression expression) {
+        if (!(expression instanceof Column)) {
+            return -1;
+        }
+        String columnName = ((Column) expression).getColumnName();
+        int index = inputRowType.indexOf(columnName, false);
+        if (index == -1
+                && columnName.startsWith(ZetaSQLEngine.ESCAPE_IDENTIFIER)
+                && columnName.endsWith(ZetaSQLEngine.ESCAPE_IDENTIFIER)) {
+            index = inputRowType.indexOf(columnName.substring(1, columnName.length() - 1), false);
+        }
+        return index;
+    }
+
+    private int numericColumnIndex(Expression expression) {
+        int index = columnIndex(expression);
+        if (index == -1) {
+            return -1;
+        }
+        SqlType sqlType = inputRowType.getFieldType(index).getSqlType();
+        if (ZetaColumnarBatch.isIntegralType(sqlType)
+                || ZetaColumnarBatch.isFloatingType(sqlType)) {
+            return index;
+        }
+        return -1;
+    }
+
+    private static Double numericLiteral(Expression expression) {
+        if (expression instanceof LongValue) {
+            return (double) ((LongValue) expression).getValue();
+        }
+        if (expression instanceof DoubleValue) {
+            return ((DoubleValue) expression).getValue();
+        }
+        if (expression instanceof SignedExpression
+                && ((SignedExpression) expression).getSign() == '-') {
+            Double value = numericLiteral(((SignedExpression) expression).getExpression());
+            return value == null ? null : -value;
+        }
+        return null;
+    }
+}
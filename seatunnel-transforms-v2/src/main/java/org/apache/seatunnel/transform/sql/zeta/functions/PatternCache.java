@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.transform.sql.zeta.functions;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.regex.Pattern;
+
+/**
+ * A bounded LRU cache of compiled regular expressions shared by the SQL functions, used for
+ * patterns that are only known per row. Constant patterns are compiled once when the query plan
+ * is built and don't go through the cache.
+ */
+public class PatternCache {
+    private static final int MAX_SIZE = 1024;
+
+    private static final Map<PatternKey, Pattern> CACHE =
+            new LinkedHashMap<PatternKey, Pattern>(64, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<PatternKey, Pattern> eldest) {
+                    return size() > MAX_SIZE;
+                }
+            };
+
+    private PatternCache() {}
+
+    public static Pattern compile(String regexp, int flags) {
+        PatternKey key = new PatternKey(regexp, flags);
+        synchronized (CACHE) {
+            Pattern pattern = CACHE.get(key);
+            if (pattern != null) {
+                return pattern;
+            }
+        }
+        Pattern pattern = Pattern.compile(regexp, flags);
+        synchronized (CACHE) {
+            CACHE.put(key, pattern);
+        }
+        return pattern;
+    }
+
+    private static final class PatternKey {
+        private final String regexp;
+        private final int flags;
+
+        private PatternKey(String regexp, int flags) {
+            this.regexp = regexp;
+            this.flags = flags;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof PatternKey)) {
+                return false;
+            }
+            PatternKey that = (PatternKey) o;
+            return flags == that.flags && regexp.equals(that.regexp);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(regexp, flags);
+        }
+    }
+}
@@ -360,19 +360,12 @@ public class StringFunction {
         if (args.size() >= 4) {
             regexpMode = (String) args.get(3);
         }
-        return regexpReplace(input, regexp, replacement, 1, 0, regexpMode);
+        return regexpReplace(input, cachedRegexp(regexp, regexpMode), replacement, 1, 0);
     }
 
-    private static String regexpReplace(
-            String input,
-            String regexp,
-            String replacement,
-            int position,
-            int occurrence,
-            String regexpMode) {
-        int flags = makeRegexpFlags(regexpMode, false);
-        Matcher matcher =
-                Pattern.compile(regexp, flags).matcher(input).region(position - 1, input.length());
+    public static String regexpReplace(
+            String input, Pattern pattern, String replacement, int position, int occurrence) {
+        Matcher matcher = pattern.matcher(input).region(position - 1, input.length());
         if (occurrence == 0) {
             return matcher.replaceAll(replacement);
         } else {
@@ -400,8 +393,20 @@ public class StringFunction {
         if (args.size() >= 3) {
             regexpMode = (String) args.get(2);
         }
-        int flags = makeRegexpFlags(regexpMode, false);
-        return Pattern.compile(regexp, flags).matcher(input).find();
+        return regexpLike(input, cachedRegexp(regexp, regexpMode));
+    }
+
+    public static Boolean regexpLike(String input, Pattern pattern) {
+        return pattern.matcher(input).find();
+    }
+
+    /** Compile a regexp without caching, used for constant patterns at plan time. */
+    public static Pattern compileRegexp(String regexp, String regexpMode) {
+        return Pattern.compile(regexp, makeRegexpFlags(regexpMode, false));
+    }
+
+    private static Pattern cachedRegexp(String regexp, String regexpMode) {
+        return PatternCache.compile(regexp, makeRegexpFlags(regexpMode, false));
     }
 
     private static int makeRegexpFlags(String stringFlags, boolean ignoreGlobalFlag) {
@@ -478,8 +483,17 @@ public class StringFunction {
         int position = positionArg != null ? positionArg - 1 : 0;
         int requestedOccurrence = occurrenceArg != null ? occurrenceArg : 1;
         int subexpression = subexpressionArg != null ? subexpressionArg : 0;
-        int flags = makeRegexpFlags(regexpMode, false);
-        Matcher m = Pattern.compile(regexp, flags).matcher(input);
+        Pattern pattern = cachedRegexp(regexp, regexpMode);
+        return regexpSubstr(input, pattern, position, requestedOccurrence, subexpression);
+    }
+
+    public static String regexpSubstr(
+            String input,
+            Pattern pattern,
+            int position,
+            int requestedOccurrence,
+            int subexpression) {
+        Matcher m = pattern.matcher(input);
 
         boolean found = m.find(position);
         for (int occurrence = 1; occurrence < requestedOccurrence && found; occurrence++) {
@@ -26,6 +26,7 @@ import org.apache.seatunnel.api.table.catalog.TableSchema;
 import org.apache.seatunnel.api.table.type.BasicType;
 import org.apache.seatunnel.api.table.type.LocalTimeType;
 import org.apache.seatunnel.api.table.type.MapType;
+import org.apache.seatunnel.api.table.type.RowKind;
 import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
@@ -34,8 +35,10 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Objects;
 
 public class SQLTransformTest {
@@ -280,4 +283,43 @@ public class SQLTransformTest {
                 BasicType.STRING_TYPE, tableSchema.getColumns().get(1).getDataType());
         Assertions.assertEquals("a", result.getField(1));
     }
+
+    @Test
+    public void testVectorized() {
+        CatalogTable table =
+                CatalogTableUtil.getCatalogTable(
+                        "test",
+                        new SeaTunnelRowType(
+                                new String[] {"id", "name"},
+                                new SeaTunnelDataType[] {
+                                    BasicType.INT_TYPE, BasicType.STRING_TYPE
+                                }));
+        String query = "select id + 1 as id, name from test where id > 1";
+        SQLTransform sqlTransform =
+                new SQLTransform(
+                        ReadonlyConfig.fromMap(Collections.singletonMap("query", query)), table);
+        Assertions.assertFalse(sqlTransform.isVectorized());
+
+        HashMap<String, Object> options = new HashMap<>();
+        options.put("query", query);
+        options.put("vectorized", true);
+        sqlTransform = new SQLTransform(ReadonlyConfig.fromMap(options), table);
+        Assertions.assertTrue(sqlTransform.isVectorized());
+
+        SeaTunnelRow deleted = new SeaTunnelRow(new Object[] {3, "c"});
+        deleted.setRowKind(RowKind.DELETE);
+        deleted.setTableId("test");
+        List<SeaTunnelRow> rows =
+                Arrays.asList(
+                        new SeaTunnelRow(new Object[] {1, "a"}),
+                        new SeaTunnelRow(new Object[] {2, "b"}),
+                        deleted);
+        List<SeaTunnelRow> result = sqlTransform.mapBatch(rows);
+        Assertions.assertEquals(2, result.size());
+        Assertions.assertEquals(sqlTransform.map(rows.get(1)), result.get(0));
+        Assertions.assertEquals(sqlTransform.map(rows.get(2)), result.get(1));
+        Assertions.assertEquals("b", result.get(0).getField(1));
+        Assertions.assertEquals(RowKind.DELETE, result.get(1).getRowKind());
+        Assertions.assertEquals("test", result.get(1).getTableId());
+    }
 }
@@ -0,0 +1,161 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.transform.sql.zeta;
+
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.transform.sql.SQLEngine;
+import org.apache.seatunnel.transform.sql.SQLEngineFactory;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class ZetaSQLCompilerTest {
+
+    private static final SeaTunnelRowType ROW_TYPE =
+            new SeaTunnelRowType(
+                    new String[] {"id", "name", "age"},
+                    new SeaTunnelDataType[] {
+                        BasicType.INT_TYPE, BasicType.STRING_TYPE, BasicType.INT_TYPE
+                    });
+
+    @Test
+    public void testCompiledProjectionAndFilter() {
+        SQLEngine sqlEngine = SQLEngineFactory.getSQLEngine(SQLEngineFactory.EngineType.ZETA);
+        sqlEngine.init(
+                "test",
+                null,
+                ROW_TYPE,
+                "select id, age + 1 as next_age, name || '_x' as tag, "
+                        + "case when age > 18 then 'adult' else 'minor' end as stage "
+                        + "from test where (age >= 10 and name is not null) or id in (100, 200)");
+
+        SeaTunnelRow outRow = sqlEngine.transformBySQL(new SeaTunnelRow(new Object[] {1, "a", 20}));
+        Assertions.assertNotNull(outRow);
+        Assertions.assertEquals(1, outRow.getField(0));
+        Assertions.assertEquals(21, outRow.getField(1));
+        Assertions.assertEquals("a_x", outRow.getField(2));
+        Assertions.assertEquals("adult", outRow.getField(3));
+
+        Assertions.assertNull(sqlEngine.transformBySQL(new SeaTunnelRow(new Object[] {2, "b", 5})));
+
+        SeaTunnelRow inRow =
+                sqlEngine.transformBySQL(new SeaTunnelRow(new Object[] {200, null, 5}));
+        Assertions.assertNotNull(inRow);
+        Assertions.assertEquals("minor", inRow.getField(3));
+    }
+
+    @Test
+    public void testCompiledFunctionAndAllColumns() {
+        SQLEngine sqlEngine = SQLEngineFactory.getSQLEngine(SQLEngineFactory.EngineType.ZETA);
+        sqlEngine.init(
+                "test",
+                null,
+                ROW_TYPE,
+                "select *, upper(name) as upper_name, -age as neg_age from test where age <> 0");
+
+        SeaTunnelRow outRow =
+                sqlEngine.transformBySQL(new SeaTunnelRow(new Object[] {3, "abc", 7}));
+        Assertions.assertEquals(5, outRow.getArity());
+        Assertions.assertEquals(3, outRow.getField(0));
+        Assertions.assertEquals("abc", outRow.getField(1));
+        Assertions.assertEquals(7, outRow.getField(2));
+        Assertions.assertEquals("ABC", outRow.getField(3));
+        Assertions.assertEquals(-7, outRow.getField(4));
+
+        Assertions.assertNull(sqlEngine.transformBySQL(new SeaTunnelRow(new Object[] {4, "d", 0})));
+    }
+
+    @Test
+    public void testBatchMatchesRowPath() {
+        List<SeaTunnelRow> inputRows = new ArrayList<>();
+        for (int i = 0; i < 150; i++) {
+            inputRows.add(
+                    new SeaTunnelRow(
+                            new Object[] {i, i % 7 == 0 ? null : "n" + i, i % 5 == 0 ? null : i}));
+        }
+        String[] queries = {
+            "select id, age * 2 as double_age from test where age > 40 and id <> 99",
+            "select *, lower(name) as lower_name from test where 100 > age or name is null",
+            "select id, age - 1 as prev_age from test where (age >= 10 and age <= 20) or id = 3"
+        };
+        for (String query : queries) {
+            SQLEngine sqlEngine = SQLEngineFactory.getSQLEngine(SQLEngineFactory.EngineType.ZETA);
+            sqlEngine.init("test", null, ROW_TYPE, query);
+
+            List<SeaTunnelRow> expected = new ArrayList<>();
+            for (SeaTunnelRow inputRow : inputRows) {
+                SeaTunnelRow outputRow = sqlEngine.transformBySQL(inputRow);
+                if (outputRow != null) {
+                    expected.add(outputRow);
+                }
+            }
+            List<SeaTunnelRow> actual = sqlEngine.transformBySQL(inputRows);
+
+            Assertions.assertEquals(expected.size(), actual.size(), query);
+            for (int i = 0; i < expected.size(); i++) {
+                Assertions.assertEquals(
+                        Arrays.asList(expected.get(i).getFields()),
+                        Arrays.asList(actual.get(i).getFields()),
+                        query);
+            }
+        }
+    }
+
+    @Test
+    public void testLikeMatcherShapes() {
+        Assertions.assertTrue(ZetaLikeMatcher.of("abc%").matches("abcdef"));
+        Assertions.assertFalse(ZetaLikeMatcher.of("abc%").matches("xabc"));
+        Assertions.assertTrue(ZetaLikeMatcher.of("%def").matches("abcdef"));
+        Assertions.assertTrue(ZetaLikeMatcher.of("%cd%").matches("abcdef"));
+        Assertions.assertFalse(ZetaLikeMatcher.of("%xy%").matches("abcdef"));
+        Assertions.assertTrue(ZetaLikeMatcher.of("abc").matches("abc"));
+        Assertions.assertTrue(ZetaLikeMatcher.of("%").matches(""));
+        Assertions.assertTrue(ZetaLikeMatcher.of("_bc%").matches("abcdef"));
+        Assertions.assertTrue(ZetaLikeMatcher.ofCached("a.c%").matches("abcd"));
+    }
+
+    @Test
+    public void testConstantPatternFunctions() {
+        SQLEngine sqlEngine = SQLEngineFactory.getSQLEngine(SQLEngineFactory.EngineType.ZETA);
+        sqlEngine.init(
+                "test",
+                null,
+                ROW_TYPE,
+                "select regexp_replace(name, '[0-9]+', '#') as masked, "
+                        + "regexp_substr(name, '[0-9]+') as digits from test "
+                        + "where name like 'user%' and regexp_like(name, 'R[0-9]', 'i')");
+
+        SeaTunnelRow outRow =
+                sqlEngine.transformBySQL(new SeaTunnelRow(new Object[] {1, "user_r42", 3}));
+        Assertions.assertNotNull(outRow);
+        Assertions.assertEquals("user_r#", outRow.getField(0));
+        Assertions.assertEquals("42", outRow.getField(1));
+
+        Assertions.assertNull(
+                sqlEngine.transformBySQL(new SeaTunnelRow(new Object[] {2, "admin_r42", 3})));
+        Assertions.assertNull(
+                sqlEngine.transformBySQL(new SeaTunnelRow(new Object[] {3, "user_x", 3})));
+    }
+}